@@ -0,0 +1,87 @@
+package com.stock.trade.websocket;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실시간 체결가 파싱 벤치마크 (기존 split 방식 vs RealtimeFrame)
+ * 실행: ./gradlew jmh -Pjmh.includes=RealtimeFrameBenchmark (프레임당 할당량은 gc.alloc.rate.norm)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RealtimeFrameBenchmark {
+
+    // H0UNCNT0 체결가 1건 (실제 프레임과 같은 46개 필드)
+    private static final String PAYLOAD = "0|H0UNCNT0|001|005930^093015^71500^2^500^0.70^71000^71200^71800^70900"
+            + "^71500^71400^120^8123456^580123456789^4521^3987^-534^88.15^1.02^0.98^3^0.54^72.30^1^0.31^0.12"
+            + "^090000^5^-500^090512^2^500^093001^5^-300^20240521^20^N^65432^78901^1234567^2345678^0.12^7123456^99.87";
+
+    private final RealtimeFrame frame = new RealtimeFrame();
+
+    @Benchmark
+    public void split(Blackhole blackhole) {
+        String[] parts = PAYLOAD.split("\\|");
+        String trId = parts[1];
+        String[] fields = parts[3].split("\\^");
+
+        blackhole.consume(trId);
+        blackhole.consume(fields[0]);
+        blackhole.consume(parseLong(fields[2]));
+        blackhole.consume(parseLong(fields[4]));
+        blackhole.consume(parseDouble(fields[5]));
+        blackhole.consume(parseLong(fields[7]));
+        blackhole.consume(parseLong(fields[8]));
+        blackhole.consume(parseLong(fields[9]));
+        blackhole.consume(parseLong(fields[12]));
+        blackhole.consume(parseLong(fields[13]));
+        blackhole.consume(parseLong(fields[14]));
+    }
+
+    @Benchmark
+    public void frame(Blackhole blackhole) {
+        frame.reset(PAYLOAD);
+
+        blackhole.consume(frame.trId());
+        blackhole.consume(frame.field(0));
+        blackhole.consume(frame.longField(2));
+        blackhole.consume(frame.longField(4));
+        blackhole.consume(frame.doubleField(5));
+        blackhole.consume(frame.longField(7));
+        blackhole.consume(frame.longField(8));
+        blackhole.consume(frame.longField(9));
+        blackhole.consume(frame.longField(12));
+        blackhole.consume(frame.longField(13));
+        blackhole.consume(frame.longField(14));
+    }
+
+    // StockPriceListener 의 기존 파싱과 동일
+    private static long parseLong(String value) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    private static double parseDouble(String value) {
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            return 0.0;
+        }
+    }
+}
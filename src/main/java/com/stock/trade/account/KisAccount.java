@@ -0,0 +1,67 @@
+package com.stock.trade.account;
+
+import com.stock.trade.config.KisMode;
+
+/**
+ * KIS 계좌 (불변)
+ * 인증 정보와 계좌번호를 묶어 토큰/속도 제한 예산/스케줄을 계좌별로 분리하는 단위
+ * 서비스 메서드에 호출마다 전달하는 거래 컨텍스트 (모드, 인증 정보, 계좌번호, TR ID 변형)
+ *
+ * @param id                 계좌 ID (속도 제한 예산, 토큰 캐시, 스냅샷 키)
+ * @param mode               투자 모드
+ * @param appKey             App Key
+ * @param appSecret          App Secret
+ * @param accountNumber      계좌번호 (앞 8자리)
+ * @param accountProductCode 계좌상품코드 (뒤 2자리)
+ * @param htsId              HTS ID (체결통보 구독 키, 없으면 null)
+ */
+public record KisAccount(
+        String id,
+        KisMode mode,
+        String appKey,
+        String appSecret,
+        String accountNumber,
+        String accountProductCode,
+        String htsId
+) {
+
+    /**
+     * WebClient 요청 attribute 키 (요청 계좌 → 서버/속도 제한 예산 결정)
+     */
+    public static final String ATTRIBUTE = KisAccount.class.getName();
+
+    /**
+     * 모드별 기본 계좌 ID (external.kis 의 실전/모의 인증 정보)
+     */
+    public static String primaryId(KisMode mode) {
+        return mode.name().toLowerCase();
+    }
+
+    public boolean isDemo() {
+        return mode.isDemo();
+    }
+
+    /**
+     * 계좌 모드에 맞는 TR ID (모의투자면 앞자리를 V로)
+     * 예: TTTT1002U -> VTTT1002U
+     *
+     * @param realTrId 실전투자 TR ID
+     */
+    public String trId(String realTrId) {
+        return isDemo() ? "V" + realTrId.substring(1) : realTrId;
+    }
+
+    /**
+     * 계좌번호/상품코드 설정 여부
+     */
+    public boolean hasAccountNumber() {
+        return accountNumber != null && !accountNumber.isBlank()
+                && accountProductCode != null && !accountProductCode.isBlank();
+    }
+
+    // 인증 정보는 로그에 남기지 않음
+    @Override
+    public String toString() {
+        return "KisAccount[" + id + ", " + mode.getDescription() + "]";
+    }
+}
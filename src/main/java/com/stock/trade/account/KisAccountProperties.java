@@ -0,0 +1,55 @@
+package com.stock.trade.account;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 추가 KIS 계좌 설정
+ * external.kis 의 실전/모의 인증 정보는 기본 계좌(real/demo)로 자동 등록되고, 여기에는 그 외 계좌를 나열
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "external.kis")
+public class KisAccountProperties {
+
+    /**
+     * 추가 계좌 목록
+     */
+    private List<AccountConfig> accounts = new ArrayList<>();
+
+    /**
+     * 개별 계좌 설정
+     */
+    @Getter
+    @Setter
+    public static class AccountConfig {
+        /**
+         * 계좌 ID (real/demo 제외, 속도 제한/정기 매수 설정에서 이 ID로 참조)
+         */
+        private String id;
+
+        /**
+         * 활성화 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 모의투자 계좌 여부
+         */
+        private boolean demoMode = false;
+
+        private String appKey;
+        private String appSecret;
+        private String accountNumber;
+        private String accountProductCode;
+
+        /**
+         * HTS ID (체결통보 구독 키)
+         */
+        private String htsId;
+    }
+}
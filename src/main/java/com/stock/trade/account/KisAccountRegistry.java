@@ -0,0 +1,131 @@
+package com.stock.trade.account;
+
+import com.stock.trade.config.KisMode;
+import com.stock.trade.config.KisProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * KIS 계좌 목록
+ *
+ * - external.kis 의 실전/모의 인증 정보를 기본 계좌 real/demo 로 등록
+ * - external.kis.accounts 의 추가 계좌 등록 (ID 중복 시 기동 실패)
+ * - 매매 대상 계좌: 현재 모드의 기본 계좌 + 활성화된 추가 계좌
+ */
+@Slf4j
+@Component
+public class KisAccountRegistry {
+
+    private final KisProperties kisProperties;
+    private final Map<String, KisAccount> accounts;
+    private final List<KisAccount> tradingAccounts;
+
+    public KisAccountRegistry(KisProperties kisProperties, KisAccountProperties accountProperties) {
+        this.kisProperties = kisProperties;
+
+        Map<String, KisAccount> registered = new LinkedHashMap<>();
+        registered.put(KisAccount.primaryId(KisMode.REAL), new KisAccount(KisAccount.primaryId(KisMode.REAL),
+                KisMode.REAL, kisProperties.getAppKey(), kisProperties.getAppSecret(),
+                kisProperties.getAccountNumber(), kisProperties.getAccountProductCode(), kisProperties.getHtsId()));
+        registered.put(KisAccount.primaryId(KisMode.DEMO), new KisAccount(KisAccount.primaryId(KisMode.DEMO),
+                KisMode.DEMO, kisProperties.getDemoAppKey(), kisProperties.getDemoAppSecret(),
+                kisProperties.getDemoAccountNumber(), kisProperties.getDemoAccountProductCode(), kisProperties.getHtsId()));
+
+        List<KisAccount> trading = new ArrayList<>();
+        trading.add(registered.get(KisAccount.primaryId(KisMode.of(kisProperties.isDemoMode()))));
+
+        for (KisAccountProperties.AccountConfig config : accountProperties.getAccounts()) {
+            if (!config.isEnabled()) {
+                continue;
+            }
+            String id = config.getId();
+            if (id == null || id.isBlank()) {
+                throw new KisAccountException("external.kis.accounts 의 계좌 ID가 비어 있습니다");
+            }
+            if (registered.containsKey(id)) {
+                throw new KisAccountException("중복된 계좌 ID: " + id);
+            }
+            KisAccount account = new KisAccount(id, KisMode.of(config.isDemoMode()), config.getAppKey(),
+                    config.getAppSecret(), config.getAccountNumber(), config.getAccountProductCode(), config.getHtsId());
+            registered.put(id, account);
+            trading.add(account);
+        }
+
+        this.accounts = Collections.unmodifiableMap(registered);
+        this.tradingAccounts = List.copyOf(trading);
+        log.info("KIS 계좌 등록 완료 - 매매 대상: {}", tradingAccounts);
+    }
+
+    /**
+     * 현재 모드(external.kis.demo-mode)의 기본 계좌
+     */
+    public KisAccount getDefault() {
+        return getPrimary(KisMode.of(kisProperties.isDemoMode()));
+    }
+
+    /**
+     * 모드별 기본 계좌
+     */
+    public KisAccount getPrimary(KisMode mode) {
+        return accounts.get(KisAccount.primaryId(mode));
+    }
+
+    /**
+     * 계좌 조회
+     *
+     * @throws KisAccountException 등록되지 않은 ID
+     */
+    public KisAccount get(String id) {
+        return find(id).orElseThrow(() -> new KisAccountException("등록되지 않은 계좌: " + id));
+    }
+
+    /**
+     * 요청 파라미터의 계좌 조회 (비어 있으면 현재 모드의 기본 계좌)
+     *
+     * @throws KisAccountException 등록되지 않은 ID
+     */
+    public KisAccount resolve(String id) {
+        return id == null || id.isBlank() ? getDefault() : get(id);
+    }
+
+    public Optional<KisAccount> find(String id) {
+        return Optional.ofNullable(accounts.get(id));
+    }
+
+    /**
+     * 매매 대상 계좌 (기본 계좌 먼저, 이후 설정 순서)
+     */
+    public List<KisAccount> getTradingAccounts() {
+        return tradingAccounts;
+    }
+
+    /**
+     * 추가 계좌가 설정되어 있는지 여부
+     */
+    public boolean isMultiAccount() {
+        return tradingAccounts.size() > 1;
+    }
+
+    /**
+     * 등록된 전체 계좌 (모드별 기본 계좌 포함)
+     */
+    public Collection<KisAccount> getAll() {
+        return accounts.values();
+    }
+
+    // ==================== Exception ====================
+
+    public static class KisAccountException extends RuntimeException {
+        public KisAccountException(String message) {
+            super(message);
+        }
+    }
+}
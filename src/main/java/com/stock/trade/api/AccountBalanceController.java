@@ -1,17 +1,23 @@
 package com.stock.trade.api;
 
-import com.stock.trade.config.KisProperties;
+import com.stock.trade.account.KisAccount;
+import com.stock.trade.account.KisAccountRegistry;
 import com.stock.trade.overseas.ForeignMargin;
+import com.stock.trade.overseas.OverseasPortfolio;
+import com.stock.trade.overseas.OverseasPortfolioAggregator;
 import com.stock.trade.overseas.OverseasStockBalance;
 import com.stock.trade.overseas.OverseasStockService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * 계좌 잔고 조회 API 컨트롤러
@@ -24,27 +30,28 @@ import java.util.Map;
 public class AccountBalanceController {
 
     private final OverseasStockService overseasStockService;
-    private final KisProperties kisProperties;
+    private final OverseasPortfolioAggregator portfolioAggregator;
+    private final KisAccountRegistry accountRegistry;
 
     /**
      * 해외주식 보유 종목 조회
      *
      * @param exchangeCode 거래소코드 (기본값: NASD - 미국 전체)
      * @param currency 통화코드 (기본값: USD)
+     * @param account 계좌 ID (생략 시 기본 계좌)
      * @return 보유 종목 목록
      */
     @GetMapping("/balance")
     public ResponseEntity<List<OverseasStockBalance>> getBalance(
             @RequestParam(defaultValue = "NASD") String exchangeCode,
-            @RequestParam(defaultValue = "USD") String currency
+            @RequestParam(defaultValue = "USD") String currency,
+            @RequestParam(required = false) String account
     ) {
-        log.info("계좌 잔고 조회 API 호출 - 거래소: {}, 통화: {}, 모드: {}",
-                exchangeCode, currency, kisProperties.isDemoMode() ? "모의투자" : "실전투자");
+        KisAccount kisAccount = accountRegistry.resolve(account);
+        log.info("계좌 잔고 조회 API 호출 - 거래소: {}, 통화: {}, 계좌: {}",
+                exchangeCode, currency, kisAccount);
 
-        // 모의투자/실전투자 모드 설정
-        overseasStockService.setDemoMode(kisProperties.isDemoMode());
-
-        List<OverseasStockBalance> balances = overseasStockService.getBalance(exchangeCode, currency);
+        List<OverseasStockBalance> balances = overseasStockService.getBalance(kisAccount, exchangeCode, currency);
         return ResponseEntity.ok(balances);
     }
 
@@ -52,17 +59,17 @@ public class AccountBalanceController {
      * 특정 종목 보유 여부 조회
      *
      * @param symbol 종목코드 (예: AAPL, QQQ)
+     * @param account 계좌 ID (생략 시 기본 계좌)
      * @return 보유 정보
      */
     @GetMapping("/balance/{symbol}")
-    public ResponseEntity<OverseasStockBalance> getBalanceBySymbol(@PathVariable String symbol) {
-        log.info("종목 보유 여부 조회 API 호출 - 종목: {}, 모드: {}",
-                symbol, kisProperties.isDemoMode() ? "모의투자" : "실전투자");
-
-        // 모의투자/실전투자 모드 설정
-        overseasStockService.setDemoMode(kisProperties.isDemoMode());
+    public ResponseEntity<OverseasStockBalance> getBalanceBySymbol(@PathVariable String symbol,
+                                                                   @RequestParam(required = false) String account) {
+        KisAccount kisAccount = accountRegistry.resolve(account);
+        log.info("종목 보유 여부 조회 API 호출 - 종목: {}, 계좌: {}",
+                symbol, kisAccount);
 
-        OverseasStockBalance balance = overseasStockService.getBalanceBySymbol(symbol);
+        OverseasStockBalance balance = overseasStockService.getBalanceBySymbol(kisAccount, symbol);
         if (balance != null) {
             return ResponseEntity.ok(balance);
         } else {
@@ -73,47 +80,54 @@ public class AccountBalanceController {
     /**
      * 통화별 예수금/출금가능금액 조회
      *
+     * @param account 계좌 ID (생략 시 기본 계좌)
      * @return 통화별 증거금 정보 (KRW, USD 등)
      */
     @GetMapping("/margin")
-    public ResponseEntity<List<ForeignMargin>> getForeignMargin() {
-        log.info("통화별 증거금 조회 API 호출 - 모드: {}",
-                kisProperties.isDemoMode() ? "모의투자" : "실전투자");
-
-        // 모의투자/실전투자 모드 설정
-        overseasStockService.setDemoMode(kisProperties.isDemoMode());
+    public ResponseEntity<List<ForeignMargin>> getForeignMargin(@RequestParam(required = false) String account) {
+        KisAccount kisAccount = accountRegistry.resolve(account);
+        log.info("통화별 증거금 조회 API 호출 - 계좌: {}", kisAccount);
 
-        List<ForeignMargin> margins = overseasStockService.getForeignMargin();
+        List<ForeignMargin> margins = overseasStockService.getForeignMargin(kisAccount);
         return ResponseEntity.ok(margins);
     }
 
     /**
      * 계좌 전체 요약 정보
+     * 전체 거래소 잔고를 동시에 조회해 원화로 합산 (일부 거래소 실패 시 partial=true, errors 에 사유)
      *
+     * @param account 계좌 ID (생략 시 기본 계좌)
      * @return 보유 종목, 평가금액, 예수금 등 종합 정보
      */
     @GetMapping("/summary")
-    public ResponseEntity<Map<String, Object>> getAccountSummary() {
-        log.info("계좌 요약 정보 조회 API 호출 - 모드: {}",
-                kisProperties.isDemoMode() ? "모의투자" : "실전투자");
-
-        // 모의투자/실전투자 모드 설정
-        overseasStockService.setDemoMode(kisProperties.isDemoMode());
-
-        // 보유 종목 조회
-        List<OverseasStockBalance> balances = overseasStockService.getBalance();
+    public Mono<ResponseEntity<Map<String, Object>>> getAccountSummary(
+            @RequestParam(required = false) String account) {
+        KisAccount kisAccount = accountRegistry.resolve(account);
+        log.info("계좌 요약 정보 조회 API 호출 - 계좌: {}", kisAccount);
+
+        // 전체 거래소 보유 종목(원화 환산)과 통화별 증거금을 동시에 조회
+        return Mono.zip(portfolioAggregator.getPortfolioAsync(kisAccount),
+                        overseasStockService.getForeignMarginAsync(kisAccount))
+                .map(tuple -> ResponseEntity.ok(toSummary(tuple.getT1(), tuple.getT2())));
+    }
 
-        // 통화별 증거금 조회
-        List<ForeignMargin> margins = overseasStockService.getForeignMargin();
+    private Map<String, Object> toSummary(OverseasPortfolio portfolio, List<ForeignMargin> margins) {
+        List<OverseasStockBalance> balances = portfolio.holdings().stream()
+                .map(OverseasPortfolio.Holding::balance)
+                .toList();
 
-        // 총 평가금액 계산
+        // 총 평가금액 계산 (USD 종목)
         BigDecimal totalEvalAmount = balances.stream()
+                .filter(balance -> "USD".equals(balance.currency()))
                 .map(OverseasStockBalance::evalAmount)
+                .filter(Objects::nonNull)
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
 
-        // 총 손익금액 계산
+        // 총 손익금액 계산 (USD 종목)
         BigDecimal totalProfitLoss = balances.stream()
+                .filter(balance -> "USD".equals(balance.currency()))
                 .map(OverseasStockBalance::profitLossAmount)
+                .filter(Objects::nonNull)
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
 
         // 수익 종목 수
@@ -126,14 +140,19 @@ public class AccountBalanceController {
                 .filter(OverseasStockBalance::isLoss)
                 .count();
 
-        return ResponseEntity.ok(Map.of(
-                "holdings", balances,
-                "margins", margins,
-                "totalEvalAmount", totalEvalAmount,
-                "totalProfitLoss", totalProfitLoss,
-                "totalStocksCount", balances.size(),
-                "profitStocksCount", profitStocksCount,
-                "lossStocksCount", lossStocksCount
-        ));
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("holdings", balances);
+        summary.put("margins", margins);
+        summary.put("totalEvalAmount", totalEvalAmount);
+        summary.put("totalProfitLoss", totalProfitLoss);
+        summary.put("totalEvalAmountKrw", portfolio.totalEvalAmountKrw());
+        summary.put("totalProfitLossKrw", portfolio.totalProfitLossKrw());
+        summary.put("fxRates", portfolio.fxRates());
+        summary.put("totalStocksCount", balances.size());
+        summary.put("profitStocksCount", profitStocksCount);
+        summary.put("lossStocksCount", lossStocksCount);
+        summary.put("partial", portfolio.isPartial());
+        summary.put("errors", portfolio.errors());
+        return summary;
     }
 }
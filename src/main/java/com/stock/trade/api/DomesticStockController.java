@@ -1,6 +1,7 @@
 package com.stock.trade.api;
 
-import com.stock.trade.config.KisProperties;
+import com.stock.trade.account.KisAccount;
+import com.stock.trade.account.KisAccountRegistry;
 import com.stock.trade.domestic.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,7 +24,7 @@ public class DomesticStockController {
 
     private final DomesticStockService domesticStockService;
     private final DomesticOrderService domesticOrderService;
-    private final KisProperties kisProperties;
+    private final KisAccountRegistry accountRegistry;
 
     // ==================== 조회 API ====================
 
@@ -44,17 +45,15 @@ public class DomesticStockController {
     /**
      * 국내주식 보유 종목 조회
      *
+     * @param account 계좌 ID (생략 시 기본 계좌)
      * @return 보유 종목 목록
      */
     @GetMapping("/balance")
-    public ResponseEntity<List<DomesticStockBalance>> getBalance() {
-        log.info("국내주식 잔고 조회 API 호출 - 모드: {}",
-                kisProperties.isDemoMode() ? "모의투자" : "실전투자");
+    public ResponseEntity<List<DomesticStockBalance>> getBalance(@RequestParam(required = false) String account) {
+        KisAccount kisAccount = accountRegistry.resolve(account);
+        log.info("국내주식 잔고 조회 API 호출 - 계좌: {}", kisAccount);
 
-        // 모의투자/실전투자 모드 설정
-        domesticStockService.setDemoMode(kisProperties.isDemoMode());
-
-        List<DomesticStockBalance> balances = domesticStockService.getBalance();
+        List<DomesticStockBalance> balances = domesticStockService.getBalance(kisAccount);
         return ResponseEntity.ok(balances);
     }
 
@@ -62,17 +61,17 @@ public class DomesticStockController {
      * 특정 종목 보유 여부 조회
      *
      * @param stockCode 종목코드 (예: 005930)
+     * @param account   계좌 ID (생략 시 기본 계좌)
      * @return 보유 정보
      */
     @GetMapping("/balance/{stockCode}")
-    public ResponseEntity<DomesticStockBalance> getBalanceByStockCode(@PathVariable String stockCode) {
-        log.info("국내주식 종목 보유 여부 조회 API 호출 - 종목: {}, 모드: {}",
-                stockCode, kisProperties.isDemoMode() ? "모의투자" : "실전투자");
-
-        // 모의투자/실전투자 모드 설정
-        domesticStockService.setDemoMode(kisProperties.isDemoMode());
+    public ResponseEntity<DomesticStockBalance> getBalanceByStockCode(@PathVariable String stockCode,
+                                                                      @RequestParam(required = false) String account) {
+        KisAccount kisAccount = accountRegistry.resolve(account);
+        log.info("국내주식 종목 보유 여부 조회 API 호출 - 종목: {}, 계좌: {}",
+                stockCode, kisAccount);
 
-        DomesticStockBalance balance = domesticStockService.getBalanceByStockCode(stockCode);
+        DomesticStockBalance balance = domesticStockService.getBalanceByStockCode(kisAccount, stockCode);
         if (balance != null) {
             return ResponseEntity.ok(balance);
         } else {
@@ -85,38 +84,36 @@ public class DomesticStockController {
      *
      * @param stockCode 종목코드 (예: 005930)
      * @param price     주문단가 (옵션, 기본값: 0 - 현재가 기준)
+     * @param account   계좌 ID (생략 시 기본 계좌)
      * @return 매수가능금액 정보
      */
     @GetMapping("/purchasable")
     public ResponseEntity<DomesticPurchasableAmount> getPurchasableAmount(
             @RequestParam String stockCode,
-            @RequestParam(defaultValue = "0") BigDecimal price
+            @RequestParam(defaultValue = "0") BigDecimal price,
+            @RequestParam(required = false) String account
     ) {
-        log.info("국내주식 매수가능금액 조회 API 호출 - 종목: {}, 가격: {}, 모드: {}",
-                stockCode, price, kisProperties.isDemoMode() ? "모의투자" : "실전투자");
+        KisAccount kisAccount = accountRegistry.resolve(account);
+        log.info("국내주식 매수가능금액 조회 API 호출 - 종목: {}, 가격: {}, 계좌: {}",
+                stockCode, price, kisAccount);
 
-        // 모의투자/실전투자 모드 설정
-        domesticStockService.setDemoMode(kisProperties.isDemoMode());
-
-        DomesticPurchasableAmount amount = domesticStockService.getPurchasableAmount(stockCode, price);
+        DomesticPurchasableAmount amount = domesticStockService.getPurchasableAmount(kisAccount, stockCode, price);
         return ResponseEntity.ok(amount);
     }
 
     /**
      * 계좌 전체 요약 정보
      *
+     * @param account 계좌 ID (생략 시 기본 계좌)
      * @return 보유 종목, 평가금액, 손익 등 종합 정보
      */
     @GetMapping("/summary")
-    public ResponseEntity<Map<String, Object>> getAccountSummary() {
-        log.info("국내주식 계좌 요약 정보 조회 API 호출 - 모드: {}",
-                kisProperties.isDemoMode() ? "모의투자" : "실전투자");
-
-        // 모의투자/실전투자 모드 설정
-        domesticStockService.setDemoMode(kisProperties.isDemoMode());
+    public ResponseEntity<Map<String, Object>> getAccountSummary(@RequestParam(required = false) String account) {
+        KisAccount kisAccount = accountRegistry.resolve(account);
+        log.info("국내주식 계좌 요약 정보 조회 API 호출 - 계좌: {}", kisAccount);
 
         // 보유 종목 조회
-        List<DomesticStockBalance> balances = domesticStockService.getBalance();
+        List<DomesticStockBalance> balances = domesticStockService.getBalance(kisAccount);
 
         // 총 평가금액 계산
         BigDecimal totalEvalAmount = balances.stream()
@@ -163,16 +160,16 @@ public class DomesticStockController {
      * 매수 주문
      *
      * @param request 주문 요청
+     * @param account 계좌 ID (생략 시 기본 계좌)
      * @return 주문 결과
      */
     @PostMapping("/order/buy")
-    public ResponseEntity<DomesticOrderResult> buy(@RequestBody DomesticOrderRequestDto request) {
-        log.info("국내주식 매수 주문 API 호출 - 종목: {}, 수량: {}, 가격: {}, 주문유형: {}, 모드: {}",
+    public ResponseEntity<DomesticOrderResult> buy(@RequestBody DomesticOrderRequestDto request,
+                                                   @RequestParam(required = false) String account) {
+        KisAccount kisAccount = accountRegistry.resolve(account);
+        log.info("국내주식 매수 주문 API 호출 - 종목: {}, 수량: {}, 가격: {}, 주문유형: {}, 계좌: {}",
                 request.getStockCode(), request.getQuantity(), request.getPrice(),
-                request.getOrderType(), kisProperties.isDemoMode() ? "모의투자" : "실전투자");
-
-        // 모의투자/실전투자 모드 설정
-        domesticOrderService.setDemoMode(kisProperties.isDemoMode());
+                request.getOrderType(), kisAccount);
 
         DomesticOrderRequest orderRequest = DomesticOrderRequest.builder()
                 .stockCode(request.getStockCode())
@@ -181,7 +178,7 @@ public class DomesticStockController {
                 .orderType(request.getOrderType() != null ? request.getOrderType() : DomesticOrderType.LIMIT)
                 .build();
 
-        DomesticOrderResult result = domesticOrderService.buy(orderRequest);
+        DomesticOrderResult result = domesticOrderService.buy(kisAccount, orderRequest);
         return ResponseEntity.ok(result);
     }
 
@@ -189,16 +186,16 @@ public class DomesticStockController {
      * 매도 주문
      *
      * @param request 주문 요청
+     * @param account 계좌 ID (생략 시 기본 계좌)
      * @return 주문 결과
      */
     @PostMapping("/order/sell")
-    public ResponseEntity<DomesticOrderResult> sell(@RequestBody DomesticOrderRequestDto request) {
-        log.info("국내주식 매도 주문 API 호출 - 종목: {}, 수량: {}, 가격: {}, 주문유형: {}, 모드: {}",
+    public ResponseEntity<DomesticOrderResult> sell(@RequestBody DomesticOrderRequestDto request,
+                                                    @RequestParam(required = false) String account) {
+        KisAccount kisAccount = accountRegistry.resolve(account);
+        log.info("국내주식 매도 주문 API 호출 - 종목: {}, 수량: {}, 가격: {}, 주문유형: {}, 계좌: {}",
                 request.getStockCode(), request.getQuantity(), request.getPrice(),
-                request.getOrderType(), kisProperties.isDemoMode() ? "모의투자" : "실전투자");
-
-        // 모의투자/실전투자 모드 설정
-        domesticOrderService.setDemoMode(kisProperties.isDemoMode());
+                request.getOrderType(), kisAccount);
 
         DomesticOrderRequest orderRequest = DomesticOrderRequest.builder()
                 .stockCode(request.getStockCode())
@@ -207,24 +204,22 @@ public class DomesticStockController {
                 .orderType(request.getOrderType() != null ? request.getOrderType() : DomesticOrderType.LIMIT)
                 .build();
 
-        DomesticOrderResult result = domesticOrderService.sell(orderRequest);
+        DomesticOrderResult result = domesticOrderService.sell(kisAccount, orderRequest);
         return ResponseEntity.ok(result);
     }
 
     /**
      * 미체결 주문 조회
      *
+     * @param account 계좌 ID (생략 시 기본 계좌)
      * @return 미체결 주문 목록
      */
     @GetMapping("/order/unfilled")
-    public ResponseEntity<List<DomesticUnfilledOrder>> getUnfilledOrders() {
-        log.info("국내주식 미체결 조회 API 호출 - 모드: {}",
-                kisProperties.isDemoMode() ? "모의투자" : "실전투자");
+    public ResponseEntity<List<DomesticUnfilledOrder>> getUnfilledOrders(@RequestParam(required = false) String account) {
+        KisAccount kisAccount = accountRegistry.resolve(account);
+        log.info("국내주식 미체결 조회 API 호출 - 계좌: {}", kisAccount);
 
-        // 모의투자/실전투자 모드 설정
-        domesticOrderService.setDemoMode(kisProperties.isDemoMode());
-
-        List<DomesticUnfilledOrder> orders = domesticOrderService.getUnfilledOrders();
+        List<DomesticUnfilledOrder> orders = domesticOrderService.getUnfilledOrders(kisAccount);
         return ResponseEntity.ok(orders);
     }
 
@@ -232,22 +227,48 @@ public class DomesticStockController {
      * 주문 취소
      *
      * @param request 취소 요청
+     * @param account 계좌 ID (생략 시 기본 계좌)
      * @return 취소 결과
      */
     @PostMapping("/order/cancel")
-    public ResponseEntity<DomesticOrderResult> cancelOrder(@RequestBody DomesticCancelRequestDto request) {
-        log.info("국내주식 주문 취소 API 호출 - 주문번호: {}, 수량: {}, 모드: {}",
+    public ResponseEntity<DomesticOrderResult> cancelOrder(@RequestBody DomesticCancelRequestDto request,
+                                                           @RequestParam(required = false) String account) {
+        KisAccount kisAccount = accountRegistry.resolve(account);
+        log.info("국내주식 주문 취소 API 호출 - 주문번호: {}, 수량: {}, 계좌: {}",
                 request.getOrderNumber(), request.getQuantity(),
-                kisProperties.isDemoMode() ? "모의투자" : "실전투자");
-
-        // 모의투자/실전투자 모드 설정
-        domesticOrderService.setDemoMode(kisProperties.isDemoMode());
+                kisAccount);
 
         DomesticOrderResult result = domesticOrderService.cancelOrder(
+                kisAccount,
                 request.getOrderNumber(),
                 request.getQuantity() != null ? request.getQuantity() : 0
         );
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * 주문 정정 (가격/주문구분)
+     *
+     * @param request 정정 요청
+     * @param account 계좌 ID (생략 시 기본 계좌)
+     * @return 정정 결과
+     */
+    @PostMapping("/order/amend")
+    public ResponseEntity<DomesticOrderResult> amendOrder(@RequestBody DomesticAmendRequestDto request,
+                                                          @RequestParam(required = false) String account) {
+        KisAccount kisAccount = accountRegistry.resolve(account);
+        log.info("국내주식 주문 정정 API 호출 - 주문번호: {}, 수량: {}, 유형: {}, 가격: {}, 계좌: {}",
+                request.getOrderNumber(), request.getQuantity(), request.getOrderType(), request.getPrice(),
+                kisAccount);
+
+        DomesticOrderResult result = domesticOrderService.amendOrder(
+                kisAccount,
+                request.getOrderNumber(),
+                request.getQuantity() != null ? request.getQuantity() : 0,
+                request.getOrderType() != null ? request.getOrderType() : DomesticOrderType.LIMIT,
+                request.getPrice()
+        );
+        return ResponseEntity.ok(result);
+    }
+
 }
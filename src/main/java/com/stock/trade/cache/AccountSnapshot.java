@@ -0,0 +1,49 @@
+package com.stock.trade.cache;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 계좌 조회 결과 스냅샷 (불변)
+ *
+ * @param version      조회 시작 시점의 캐시 버전 (주문/체결 시 증가)
+ * @param items        조회 결과 목록
+ * @param index        종목코드(또는 통화코드) 색인
+ * @param fetchedNanos 조회 완료 시각 (System.nanoTime)
+ */
+public record AccountSnapshot<T>(
+        long version,
+        List<T> items,
+        Map<String, T> index,
+        long fetchedNanos
+) {
+    /**
+     * 스냅샷 생성 (키 추출 함수로 색인 구성, 키가 null 인 항목은 색인 제외)
+     */
+    public static <T> AccountSnapshot<T> of(long version, List<T> items, Function<T, String> keyFunction) {
+        Map<String, T> index = new LinkedHashMap<>();
+        if (keyFunction != null) {
+            for (T item : items) {
+                String key = keyFunction.apply(item);
+                if (key != null) {
+                    index.putIfAbsent(key, item);
+                }
+            }
+        }
+        return new AccountSnapshot<>(version, Collections.unmodifiableList(items),
+                Collections.unmodifiableMap(index), System.nanoTime());
+    }
+
+    /**
+     * 색인 조회
+     *
+     * @param key 종목코드 또는 통화코드
+     * @return 항목 (없으면 null)
+     */
+    public T find(String key) {
+        return index.get(key);
+    }
+}
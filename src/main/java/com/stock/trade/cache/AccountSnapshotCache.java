@@ -0,0 +1,138 @@
+package com.stock.trade.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 계좌 잔고 스냅샷 캐시
+ *
+ * - 잔고/증거금 조회 결과를 짧은 TTL 동안 스냅샷으로 보관, 종목코드 색인 제공
+ * - 주문 제출/취소, 실시간 체결통보 수신 시 invalidate() 로 전체 무효화 (버전 증가)
+ * - 조회 도중 무효화되면 그 결과는 호출자에게만 반환하고 저장하지 않음 (체결 이전 잔고 재사용 방지)
+ */
+@Slf4j
+@Component
+public class AccountSnapshotCache {
+
+    private final AccountSnapshotCacheProperties properties;
+    private final ConcurrentMap<String, AccountSnapshot<?>> snapshots = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter invalidationCounter;
+
+    public AccountSnapshotCache(AccountSnapshotCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.hitCounter = requestCounter(meterRegistry, "hit");
+        this.missCounter = requestCounter(meterRegistry, "miss");
+        this.invalidationCounter = Counter.builder("account.snapshot.invalidations")
+                .description("주문/체결통보로 인한 잔고 스냅샷 무효화 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 스냅샷 조회, 없거나 만료/무효화되었으면 loader 로 조회 후 저장
+     *
+     * @param key         스냅샷 키 (조회 종류 + 파라미터 + 모드)
+     * @param loader      REST 조회
+     * @param keyFunction 색인 키 추출 함수 (null 이면 색인 없음)
+     * @return 스냅샷
+     */
+    public <T> AccountSnapshot<T> get(String key, Supplier<List<T>> loader, Function<T, String> keyFunction) {
+        long currentVersion = version.get();
+        AccountSnapshot<T> cached = lookup(key, currentVersion);
+        if (cached != null) {
+            return cached;
+        }
+
+        missCounter.increment();
+        return store(key, AccountSnapshot.of(currentVersion, loader.get(), keyFunction));
+    }
+
+    /**
+     * 스냅샷 조회 (비동기), 없거나 만료/무효화되었으면 loader 구독 후 저장
+     *
+     * @param key         스냅샷 키 (조회 종류 + 파라미터 + 모드)
+     * @param loader      REST 조회 (구독 시 호출)
+     * @param keyFunction 색인 키 추출 함수 (null 이면 색인 없음)
+     * @return 스냅샷
+     */
+    public <T> Mono<AccountSnapshot<T>> getAsync(String key, Supplier<Mono<List<T>>> loader,
+                                                 Function<T, String> keyFunction) {
+        return Mono.defer(() -> {
+            long currentVersion = version.get();
+            AccountSnapshot<T> cached = lookup(key, currentVersion);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+
+            missCounter.increment();
+            return loader.get()
+                    .defaultIfEmpty(List.of())
+                    .map(items -> store(key, AccountSnapshot.of(currentVersion, items, keyFunction)));
+        });
+    }
+
+    /**
+     * 전체 스냅샷 무효화 (주문 제출/취소, 체결통보)
+     *
+     * @param reason 무효화 사유 (로그용)
+     */
+    public void invalidate(String reason) {
+        long newVersion = version.incrementAndGet();
+        snapshots.clear();
+        invalidationCounter.increment();
+        log.debug("잔고 스냅샷 무효화 - 사유: {}, 버전: {}", reason, newVersion);
+    }
+
+    /**
+     * 현재 버전
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    // ==================== Private Methods ====================
+
+    @SuppressWarnings("unchecked")
+    private <T> AccountSnapshot<T> lookup(String key, long currentVersion) {
+        if (!properties.isEnabled()) {
+            return null;
+        }
+        AccountSnapshot<T> cached = (AccountSnapshot<T>) snapshots.get(key);
+        if (cached != null && cached.version() == currentVersion && !isExpired(cached)) {
+            hitCounter.increment();
+            return cached;
+        }
+        return null;
+    }
+
+    private <T> AccountSnapshot<T> store(String key, AccountSnapshot<T> loaded) {
+        if (properties.isEnabled() && version.get() == loaded.version()) {
+            snapshots.put(key, loaded);
+        }
+        return loaded;
+    }
+
+    private boolean isExpired(AccountSnapshot<?> snapshot) {
+        return System.nanoTime() - snapshot.fetchedNanos() > properties.getTtl().toNanos();
+    }
+
+    private Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("account.snapshot.requests")
+                .description("잔고 스냅샷 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,26 @@
+package com.stock.trade.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 계좌 잔고 스냅샷 캐시 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cache.account")
+public class AccountSnapshotCacheProperties {
+
+    /**
+     * 잔고 스냅샷 캐시 활성화 여부 (비활성화 시 항상 REST 조회)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 스냅샷 TTL (주문/체결통보 시에는 즉시 무효화)
+     */
+    private Duration ttl = Duration.ofSeconds(10);
+}
@@ -0,0 +1,136 @@
+package com.stock.trade.cache;
+
+import com.stock.trade.config.KisMode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * KIS 조회 요청 병합 (single-flight)
+ *
+ * - 동일한 (모드, TR ID, 파라미터) 조회가 동시에 들어오면 첫 요청만 KIS 호출
+ * - 나머지 호출자는 진행 중인 호출의 결과(또는 예외)를 공유
+ * - 호출이 끝나면 즉시 제거되므로 결과를 캐시하지 않음 (완료 후 요청은 새로 호출)
+ * - 공유 결과는 여러 호출자가 함께 사용하므로 읽기 전용으로 취급해야 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KisRequestCoalescer {
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 동일 요청이 진행 중이면 그 결과를 기다리고, 없으면 직접 호출
+     *
+     * @param mode   투자 모드
+     * @param trId   TR ID
+     * @param params 요청 파라미터 (키 구성용)
+     * @param call   실제 KIS 호출
+     * @return 호출 결과
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(KisMode mode, String trId, String params, Supplier<T> call) {
+        String key = mode.name() + ":" + trId + ":" + params;
+        totalCounter(trId).increment();
+
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            coalescedCounter(trId).increment();
+            log.debug("진행 중인 KIS 요청 결과 공유 - {}", key);
+            return (T) join(existing);
+        }
+
+        try {
+            T result = call.get();
+            future.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * 동일 요청이 진행 중이면 그 결과를 구독하고, 없으면 직접 호출 (비동기)
+     * 호출은 첫 구독자와 분리되어 진행되므로 한 구독자가 취소해도 다른 구독자에게는 결과가 전달됨
+     *
+     * @param mode   투자 모드
+     * @param trId   TR ID
+     * @param params 요청 파라미터 (키 구성용)
+     * @param call   실제 KIS 호출 (구독 시 한 번만 호출)
+     * @return 호출 결과
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> executeAsync(KisMode mode, String trId, String params, Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            String key = mode.name() + ":" + trId + ":" + params;
+            totalCounter(trId).increment();
+
+            CompletableFuture<Object> future = new CompletableFuture<>();
+            CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+            if (existing != null) {
+                coalescedCounter(trId).increment();
+                log.debug("진행 중인 KIS 요청 결과 공유 - {}", key);
+                return Mono.fromFuture(existing, true).map(result -> (T) result);
+            }
+
+            future.whenComplete((result, error) -> inFlight.remove(key, future));
+            Mono<T> source;
+            try {
+                source = call.get();
+            } catch (RuntimeException e) {
+                source = Mono.error(e);
+            }
+            source.subscribe(future::complete, future::completeExceptionally, () -> future.complete(null));
+            return Mono.fromFuture(future, true).map(result -> (T) result);
+        });
+    }
+
+    /**
+     * 현재 진행 중인 요청 수
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    // ==================== Private Methods ====================
+
+    private Object join(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private Counter totalCounter(String trId) {
+        return Counter.builder("kis.request.total")
+                .description("병합 대상 KIS 조회 요청 수")
+                .tag("tr_id", trId)
+                .register(meterRegistry);
+    }
+
+    private Counter coalescedCounter(String trId) {
+        return Counter.builder("kis.request.coalesced")
+                .description("진행 중인 동일 요청에 병합된 KIS 조회 수")
+                .tag("tr_id", trId)
+                .register(meterRegistry);
+    }
+}
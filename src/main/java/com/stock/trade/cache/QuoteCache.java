@@ -0,0 +1,225 @@
+package com.stock.trade.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * 시세 캐시 (현재가 조회 앞단)
+ *
+ * - 실시간 체결(WebSocket) 수신 시 갱신, REST 조회는 캐시 미스/만료 시에만 수행
+ * - 시장별 TTL, 호출별 최대 허용 지연(maxStaleness) 지정 가능
+ * - 최대 종목 수 초과 시 LRU 제거
+ * - 지표: quote.cache.requests (market, result=hit/miss/stale), quote.cache.age, quote.cache.size
+ */
+@Slf4j
+@Component
+public class QuoteCache {
+
+    private static final String DOMESTIC_PREFIX = "KR:";
+    private static final String OVERSEAS_PREFIX = "OV:";
+
+    private final QuoteCacheProperties properties;
+    private final Map<String, Entry> entries;
+
+    private final Map<QuoteMarket, Counter> hitCounters = new EnumMap<>(QuoteMarket.class);
+    private final Map<QuoteMarket, Counter> missCounters = new EnumMap<>(QuoteMarket.class);
+    private final Map<QuoteMarket, Counter> staleCounters = new EnumMap<>(QuoteMarket.class);
+    private final Map<QuoteMarket, DistributionSummary> ageSummaries = new EnumMap<>(QuoteMarket.class);
+    private final Counter evictionCounter;
+
+    public QuoteCache(QuoteCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.evictionCounter = Counter.builder("quote.cache.evictions")
+                .description("최대 크기 초과로 제거된 시세 수")
+                .register(meterRegistry);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                boolean evict = size() > properties.getMaxSize();
+                if (evict) {
+                    evictionCounter.increment();
+                }
+                return evict;
+            }
+        };
+
+        for (QuoteMarket market : QuoteMarket.values()) {
+            String marketTag = market.name().toLowerCase();
+            hitCounters.put(market, requestCounter(meterRegistry, marketTag, "hit"));
+            missCounters.put(market, requestCounter(meterRegistry, marketTag, "miss"));
+            staleCounters.put(market, requestCounter(meterRegistry, marketTag, "stale"));
+            ageSummaries.put(market, DistributionSummary.builder("quote.cache.age")
+                    .description("캐시 적중 시 시세 경과 시간")
+                    .baseUnit("milliseconds")
+                    .tag("market", marketTag)
+                    .register(meterRegistry));
+        }
+        Gauge.builder("quote.cache.size", this, QuoteCache::size)
+                .description("캐시된 시세 종목 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 국내주식 캐시 키
+     */
+    public static String domesticKey(String stockCode) {
+        return DOMESTIC_PREFIX + stockCode;
+    }
+
+    /**
+     * 해외주식 캐시 키 (거래소별, 실시간 tr_key DNASAAPL 과 같은 단위)
+     *
+     * @param exchangeCode 거래소코드 (예: "NAS")
+     * @param symbol       종목코드 (예: "AAPL")
+     */
+    public static String overseasKey(String exchangeCode, String symbol) {
+        return OVERSEAS_PREFIX + exchangeCode + ":" + symbol;
+    }
+
+    /**
+     * 캐시 조회, 없거나 허용 지연을 넘었으면 loader 로 조회 후 저장
+     *
+     * @param key          캐시 키
+     * @param market       시장 (TTL 및 지표 구분)
+     * @param type         시세 타입
+     * @param maxStaleness 최대 허용 지연 (null 이면 시장별 TTL, ZERO 면 항상 조회)
+     * @param loader       REST 조회
+     * @return 시세
+     */
+    public <T> T get(String key, QuoteMarket market, Class<T> type, Duration maxStaleness, Supplier<T> loader) {
+        if (!properties.isEnabled()) {
+            return loader.get();
+        }
+
+        T cached = lookup(key, market, type, maxStaleness);
+        if (cached != null) {
+            return cached;
+        }
+
+        T loaded = loader.get();
+        if (loaded != null) {
+            put(key, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * 캐시 조회 (비동기), 없거나 허용 지연을 넘었으면 loader 구독 후 저장
+     *
+     * @param key          캐시 키
+     * @param market       시장 (TTL 및 지표 구분)
+     * @param type         시세 타입
+     * @param maxStaleness 최대 허용 지연 (null 이면 시장별 TTL, ZERO 면 항상 조회)
+     * @param loader       REST 조회 (구독 시 호출)
+     * @return 시세
+     */
+    public <T> Mono<T> getAsync(String key, QuoteMarket market, Class<T> type, Duration maxStaleness,
+                                Supplier<Mono<T>> loader) {
+        return Mono.defer(() -> {
+            if (!properties.isEnabled()) {
+                return loader.get();
+            }
+
+            T cached = lookup(key, market, type, maxStaleness);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+            return loader.get().doOnNext(loaded -> put(key, loaded));
+        });
+    }
+
+    /**
+     * 시세 저장
+     */
+    public void put(String key, Object value) {
+        synchronized (entries) {
+            entries.put(key, new Entry(value, System.nanoTime()));
+        }
+    }
+
+    /**
+     * 기존 시세에 실시간 체결 반영 (기존 값이 없거나 타입이 다르면 null 전달)
+     *
+     * @param key    캐시 키
+     * @param type   시세 타입
+     * @param merger 기존 시세 → 갱신된 시세
+     */
+    public <T> void update(String key, Class<T> type, UnaryOperator<T> merger) {
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            T previous = entry != null && type.isInstance(entry.value()) ? type.cast(entry.value()) : null;
+            T updated = merger.apply(previous);
+            if (updated != null) {
+                entries.put(key, new Entry(updated, System.nanoTime()));
+            }
+        }
+    }
+
+    /**
+     * 캐시 제거
+     */
+    public void evict(String key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    /**
+     * 캐시된 종목 수
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    // ==================== Private Methods ====================
+
+    /**
+     * 허용 지연 이내의 캐시 시세 (없거나 만료면 null), 조회 결과 지표 기록
+     */
+    private <T> T lookup(String key, QuoteMarket market, Class<T> type, Duration maxStaleness) {
+        Duration limit = maxStaleness != null ? maxStaleness : properties.getTtl(market);
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+
+        if (entry != null && type.isInstance(entry.value())) {
+            long ageNanos = System.nanoTime() - entry.updatedNanos();
+            if (ageNanos <= limit.toNanos()) {
+                hitCounters.get(market).increment();
+                ageSummaries.get(market).record(Duration.ofNanos(ageNanos).toMillis());
+                return type.cast(entry.value());
+            }
+            staleCounters.get(market).increment();
+            log.debug("시세 캐시 만료 - {}, 경과: {}ms, 허용: {}", key, Duration.ofNanos(ageNanos).toMillis(), limit);
+        } else {
+            missCounters.get(market).increment();
+        }
+        return null;
+    }
+
+    private Counter requestCounter(MeterRegistry meterRegistry, String marketTag, String result) {
+        return Counter.builder("quote.cache.requests")
+                .description("시세 캐시 조회 결과")
+                .tag("market", marketTag)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record Entry(Object value, long updatedNanos) {
+    }
+}
@@ -0,0 +1,47 @@
+package com.stock.trade.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 시세 캐시 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cache.quote")
+public class QuoteCacheProperties {
+
+    /**
+     * 시세 캐시 활성화 여부 (비활성화 시 항상 REST 조회)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 최대 캐시 종목 수 (초과 시 가장 오래 사용하지 않은 종목부터 제거)
+     */
+    private int maxSize = 1000;
+
+    /**
+     * 기본 TTL (시장별 설정이 없을 때 사용)
+     */
+    private Duration defaultTtl = Duration.ofSeconds(5);
+
+    /**
+     * 시장별 TTL
+     * 예: domestic: 2s, us: 5s
+     */
+    private Map<QuoteMarket, Duration> ttl = new EnumMap<>(QuoteMarket.class);
+
+    /**
+     * 시장별 TTL 조회
+     */
+    public Duration getTtl(QuoteMarket market) {
+        Duration marketTtl = ttl.get(market);
+        return marketTtl != null ? marketTtl : defaultTtl;
+    }
+}
@@ -0,0 +1,41 @@
+package com.stock.trade.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 시세 캐시 시장 구분 (시장별 TTL 적용 단위)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum QuoteMarket {
+
+    DOMESTIC("국내"),
+    US("미국"),
+    HONG_KONG("홍콩"),
+    CHINA("중국"),
+    JAPAN("일본"),
+    VIETNAM("베트남");
+
+    private final String description;
+
+    /**
+     * 해외 거래소코드로 시장 판별
+     * 시세 API 코드(NAS, HKS 등)와 주문/잔고 API 코드(NASD, SEHK 등) 모두 지원
+     *
+     * @param exchangeCode 거래소코드
+     * @return 시장 (알 수 없는 코드면 US)
+     */
+    public static QuoteMarket fromExchangeCode(String exchangeCode) {
+        if (exchangeCode == null) {
+            return US;
+        }
+        return switch (exchangeCode.toUpperCase()) {
+            case "HKS", "SEHK" -> HONG_KONG;
+            case "SHS", "SZS", "SHI", "SZI", "SHAA", "SZAA" -> CHINA;
+            case "TSE", "TKSE" -> JAPAN;
+            case "HSX", "HNX", "VNSE", "HASE" -> VIETNAM;
+            default -> US;
+        };
+    }
+}
@@ -0,0 +1,70 @@
+package com.stock.trade.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+
+/**
+ * KIS 연결 워밍업
+ *
+ * - 시작 시 연결 풀에 TCP/TLS 연결을 미리 열어 첫 주문의 핸드셰이크 지연 제거
+ * - 속도 제한 필터를 거치지 않는 Netty 클라이언트로 직접 요청 (응답 상태는 무시)
+ * - 유휴 연결은 maxIdleTime 이후 정리되므로 장 시작 직전에는 warmUp() 을 다시 호출해야 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KisConnectionWarmer {
+
+    private final KisProperties kisProperties;
+    private final KisHttpProperties httpProperties;
+    private final HttpClient kisNettyHttpClient;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!httpProperties.getWarmup().isEnabled()) {
+            return;
+        }
+        warmUp().subscribe();
+    }
+
+    /**
+     * 설정된 수만큼 연결을 동시에 열기
+     *
+     * @return 연결에 성공한 요청 수
+     */
+    public Mono<Integer> warmUp() {
+        return warmUp(httpProperties.getWarmup().getConnections());
+    }
+
+    /**
+     * 지정한 수만큼 연결을 동시에 열기 (동시 요청이어야 서로 다른 연결이 생성됨)
+     *
+     * @param connections 열어둘 연결 수
+     * @return 연결에 성공한 요청 수
+     */
+    public Mono<Integer> warmUp(int connections) {
+        String url = kisProperties.getEffectiveBaseUrl() + httpProperties.getWarmup().getPath();
+        long startedNanos = System.nanoTime();
+
+        return kisNettyHttpClient.warmup()
+                .thenMany(Flux.range(0, connections)
+                        .flatMap(i -> kisNettyHttpClient.get()
+                                .uri(url)
+                                .responseSingle((response, body) -> body.asByteArray()
+                                        .then(Mono.just(response.status().code())))
+                                .map(status -> 1)
+                                .onErrorResume(e -> {
+                                    log.warn("KIS 연결 워밍업 요청 실패: {}", e.getMessage());
+                                    return Mono.just(0);
+                                }), connections))
+                .reduce(0, Integer::sum)
+                .doOnNext(opened -> log.info("KIS 연결 워밍업 완료 - {}/{}개, {}ms",
+                        opened, connections, (System.nanoTime() - startedNanos) / 1_000_000));
+    }
+}
@@ -0,0 +1,53 @@
+package com.stock.trade.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * KIS 블로킹 호출 실행기 설정
+ *
+ * - spring.threads.virtual.enabled=true: MVC 요청/@Scheduled 작업과 함께 KIS 호출도 가상 스레드에서 실행
+ * - false: 고정 크기 플랫폼 스레드 풀
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class KisExecutorConfig {
+
+    private final KisExecutorProperties executorProperties;
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService kisCallExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (virtualThreads) {
+            log.info("KIS 호출 실행기 - 가상 스레드");
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("kis-call-", 0).factory());
+        }
+
+        log.info("KIS 호출 실행기 - 플랫폼 스레드 {}개", executorProperties.getPlatformPoolSize());
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "kis-call-" + sequence.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return Executors.newFixedThreadPool(executorProperties.getPlatformPoolSize(), threadFactory);
+    }
+
+    /**
+     * kisCallExecutor 기반 Reactor 스케줄러 (Mono 체인 안에서 블로킹 작업 실행용)
+     */
+    @Bean
+    public Scheduler kisCallScheduler(ExecutorService kisCallExecutor) {
+        return Schedulers.fromExecutorService(kisCallExecutor, "kis-call");
+    }
+}
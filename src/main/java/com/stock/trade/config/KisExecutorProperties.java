@@ -0,0 +1,27 @@
+package com.stock.trade.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * KIS 호출 전용 실행기 설정
+ * 가상 스레드 모드(spring.threads.virtual.enabled=true)에서는 작업마다 가상 스레드를 사용하고 풀 크기는 무시
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "external.kis.executor")
+public class KisExecutorProperties {
+
+    /**
+     * 플랫폼 스레드 모드의 스레드 풀 크기
+     */
+    private int platformPoolSize = 16;
+
+    /**
+     * 가상 스레드 고정(pinning) 감지 임계값 (이 시간 이상 캐리어 스레드를 점유하면 경고)
+     */
+    private Duration pinnedThreshold = Duration.ofMillis(20);
+}
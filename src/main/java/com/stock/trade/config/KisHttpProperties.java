@@ -0,0 +1,111 @@
+package com.stock.trade.config;
+
+import com.stock.trade.ratelimit.KisRequestPriority;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * KIS WebClient HTTP 연결 설정 (Reactor Netty 연결 풀, 타임아웃, TLS, 워밍업)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "external.kis.http")
+public class KisHttpProperties {
+
+    // ==================== 연결 풀 ====================
+
+    /**
+     * 최대 연결 수
+     */
+    private int maxConnections = 20;
+
+    /**
+     * 연결 획득 대기열 최대 길이
+     */
+    private int pendingAcquireMaxCount = 100;
+
+    /**
+     * 연결 획득 최대 대기 시간
+     */
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(10);
+
+    /**
+     * 유휴 연결 최대 유지 시간 (서버가 먼저 끊기 전에 정리)
+     */
+    private Duration maxIdleTime = Duration.ofSeconds(50);
+
+    /**
+     * 연결 최대 수명
+     */
+    private Duration maxLifeTime = Duration.ofMinutes(10);
+
+    /**
+     * 유휴/수명 초과 연결 백그라운드 정리 주기
+     */
+    private Duration evictInBackground = Duration.ofSeconds(30);
+
+    // ==================== 타임아웃 ====================
+
+    /**
+     * TCP 연결 타임아웃
+     */
+    private Duration connectTimeout = Duration.ofSeconds(3);
+
+    /**
+     * 기본 응답 타임아웃 (요청 전송 후 응답 헤더 수신까지)
+     */
+    private Duration responseTimeout = Duration.ofSeconds(5);
+
+    /**
+     * 우선순위별 응답 타임아웃 (미설정 시 responseTimeout)
+     */
+    private Map<KisRequestPriority, Duration> responseTimeouts = new EnumMap<>(KisRequestPriority.class);
+
+    // ==================== TLS ====================
+
+    /**
+     * TLS 핸드셰이크 타임아웃
+     */
+    private Duration tlsHandshakeTimeout = Duration.ofSeconds(5);
+
+    /**
+     * TLS 세션 재사용 유지 시간 (재연결 시 전체 핸드셰이크 생략)
+     */
+    private Duration tlsSessionTimeout = Duration.ofHours(1);
+
+    // ==================== 워밍업 ====================
+
+    private Warmup warmup = new Warmup();
+
+    /**
+     * 우선순위별 응답 타임아웃
+     */
+    public Duration getResponseTimeout(KisRequestPriority priority) {
+        return priority != null ? responseTimeouts.getOrDefault(priority, responseTimeout) : responseTimeout;
+    }
+
+    @Getter
+    @Setter
+    public static class Warmup {
+
+        /**
+         * 애플리케이션 시작 시 연결 미리 열기
+         */
+        private boolean enabled = true;
+
+        /**
+         * 미리 열어둘 연결 수
+         */
+        private int connections = 4;
+
+        /**
+         * 워밍업 요청 경로 (응답 상태와 무관하게 TCP/TLS 연결만 목적)
+         */
+        private String path = "/";
+    }
+}
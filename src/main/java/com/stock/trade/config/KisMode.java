@@ -0,0 +1,25 @@
+package com.stock.trade.config;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * KIS 투자 모드 (실전/모의)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum KisMode {
+
+    REAL("실전투자"),
+    DEMO("모의투자");
+
+    private final String description;
+
+    public static KisMode of(boolean demoMode) {
+        return demoMode ? DEMO : REAL;
+    }
+
+    public boolean isDemo() {
+        return this == DEMO;
+    }
+}
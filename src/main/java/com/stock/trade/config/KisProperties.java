@@ -47,6 +47,11 @@ public class KisProperties {
     private String demoAccountNumber;
     private String demoAccountProductCode;
 
+    /**
+     * HTS ID (실시간 체결통보 구독 키)
+     */
+    private String htsId;
+
     /**
      * 현재 모드에 맞는 REST API URL 반환
      */
@@ -54,6 +59,13 @@ public class KisProperties {
         return demoMode ? demoBaseUrl : baseUrl;
     }
 
+    /**
+     * 모드별 REST API URL 반환
+     */
+    public String resolveBaseUrl(KisMode mode) {
+        return mode.isDemo() ? demoBaseUrl : baseUrl;
+    }
+
     /**
      * 현재 모드에 맞는 WebSocket URL 반환
      */
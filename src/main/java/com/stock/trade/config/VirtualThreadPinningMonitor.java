@@ -0,0 +1,87 @@
+package com.stock.trade.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 고정(pinning) 감지
+ *
+ * - JFR jdk.VirtualThreadPinned 이벤트를 구독해 임계값 이상 캐리어 스레드를 점유한 경우 경고 로그와 지표 기록
+ * - synchronized 블록 안의 블로킹 I/O, 네이티브 호출 등이 대상 (KisWebSocketClient 연결, 토큰 발급 경로 점검용)
+ * - 지표: jvm.threads.virtual.pinned
+ * - 가상 스레드 모드(spring.threads.virtual.enabled=true)에서만 동작
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final KisExecutorProperties executorProperties;
+    private final Counter pinnedCounter;
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(KisExecutorProperties executorProperties, MeterRegistry meterRegistry) {
+        this.executorProperties = executorProperties;
+        this.pinnedCounter = Counter.builder("jvm.threads.virtual.pinned")
+                .description("임계값 이상 캐리어 스레드를 점유한 가상 스레드 고정 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        try {
+            recordingStream = new RecordingStream();
+            recordingStream.enable(PINNED_EVENT)
+                    .withThreshold(executorProperties.getPinnedThreshold())
+                    .withStackTrace();
+            recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+            recordingStream.startAsync();
+            log.info("가상 스레드 고정 감지 시작 - 임계값: {}", executorProperties.getPinnedThreshold());
+        } catch (RuntimeException e) {
+            // JFR 미지원 런타임이어도 애플리케이션은 계속 실행
+            log.warn("가상 스레드 고정 감지 시작 실패: {}", e.getMessage());
+            recordingStream = null;
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCounter.increment();
+        log.warn("가상 스레드 고정 감지 - 스레드: {}, 점유 시간: {}ms, 위치: {}",
+                event.getThread() != null ? event.getThread().getJavaName() : "unknown",
+                event.getDuration().toMillis(),
+                describeStack(event));
+    }
+
+    private String describeStack(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "-";
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        return frames.stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining(" <- "));
+    }
+}
@@ -1,12 +1,28 @@
 package com.stock.trade.config;
 
+import com.stock.trade.account.KisAccount;
+import com.stock.trade.ratelimit.KisRateLimitFilter;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.HttpClientRequest;
+import reactor.netty.resources.ConnectionProvider;
+
+import javax.net.ssl.SSLException;
+import java.net.URI;
+import java.time.Duration;
 
 @Slf4j
 @Configuration
@@ -14,16 +30,103 @@ import org.springframework.web.reactive.function.client.WebClient;
 public class WebClientConfig {
 
     private final KisProperties kisProperties;
+    private final KisHttpProperties httpProperties;
+    private final KisRateLimitFilter kisRateLimitFilter;
 
     @Bean
-    public WebClient kisWebClient() {
+    public WebClient kisWebClient(HttpClient kisNettyHttpClient) {
         String baseUrl = kisProperties.getEffectiveBaseUrl();
         log.info("KIS API 모드: {}, URL: {}",
                 kisProperties.isDemoMode() ? "모의투자" : "실전투자", baseUrl);
 
         return WebClient.builder()
                 .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(kisNettyHttpClient))
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .filter(accountRoutingFilter())
+                .filter(kisRateLimitFilter)
+                .filter(responseTimeoutFilter())
+                .build();
+    }
+
+    /**
+     * KIS 전용 연결 풀
+     * 지표: reactor.netty.connection.provider.* (name=kis, active/idle/pending 연결 수)
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider kisConnectionProvider() {
+        return ConnectionProvider.builder("kis")
+                .maxConnections(httpProperties.getMaxConnections())
+                .pendingAcquireMaxCount(httpProperties.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(httpProperties.getPendingAcquireTimeout())
+                .maxIdleTime(httpProperties.getMaxIdleTime())
+                .maxLifeTime(httpProperties.getMaxLifeTime())
+                .evictInBackground(httpProperties.getEvictInBackground())
+                .lifo()
+                .metrics(true)
                 .build();
     }
+
+    @Bean
+    public HttpClient kisNettyHttpClient(ConnectionProvider kisConnectionProvider) {
+        SslContext sslContext = buildSslContext();
+        return HttpClient.create(kisConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) httpProperties.getConnectTimeout().toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(true)
+                .responseTimeout(httpProperties.getResponseTimeout())
+                .secure(spec -> spec.sslContext(sslContext)
+                        .handshakeTimeout(httpProperties.getTlsHandshakeTimeout()));
+    }
+
+    /**
+     * 요청 계좌(KisAccount.ATTRIBUTE)의 모드가 기본 모드와 다르면 해당 모드 서버로 요청 주소 변경
+     * (실전 배포에서 모의투자 계좌 호출 등)
+     */
+    ExchangeFilterFunction accountRoutingFilter() {
+        return (request, next) -> {
+            Object attribute = request.attribute(KisAccount.ATTRIBUTE).orElse(null);
+            if (!(attribute instanceof KisAccount account) || account.isDemo() == kisProperties.isDemoMode()) {
+                return next.exchange(request);
+            }
+            URI target = URI.create(kisProperties.resolveBaseUrl(account.mode()));
+            URI url = UriComponentsBuilder.fromUri(request.url())
+                    .scheme(target.getScheme())
+                    .host(target.getHost())
+                    .port(target.getPort())
+                    .build(true)
+                    .toUri();
+            return next.exchange(ClientRequest.from(request).url(url).build());
+        };
+    }
+
+    /**
+     * 우선순위(주문/계좌/시세)별 응답 타임아웃 적용
+     */
+    private ExchangeFilterFunction responseTimeoutFilter() {
+        return (request, next) -> {
+            String trId = request.headers().getFirst("tr_id");
+            Duration timeout = httpProperties.getResponseTimeout(kisRateLimitFilter.resolvePriority(request, trId));
+            ClientRequest timed = ClientRequest.from(request)
+                    .httpRequest(httpRequest -> {
+                        HttpClientRequest nativeRequest = httpRequest.getNativeRequest();
+                        nativeRequest.responseTimeout(timeout);
+                    })
+                    .build();
+            return next.exchange(timed);
+        };
+    }
+
+    /**
+     * 클라이언트 TLS 세션 캐시를 공유하는 SslContext (재연결 시 세션 재개로 핸드셰이크 단축)
+     */
+    private SslContext buildSslContext() {
+        try {
+            return SslContextBuilder.forClient()
+                    .sessionTimeout(httpProperties.getTlsSessionTimeout().toSeconds())
+                    .build();
+        } catch (SSLException e) {
+            throw new IllegalStateException("KIS TLS 설정 실패: " + e.getMessage(), e);
+        }
+    }
 }
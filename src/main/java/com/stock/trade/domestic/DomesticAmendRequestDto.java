@@ -0,0 +1,19 @@
+package com.stock.trade.domestic;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * 국내주식 주문 정정 요청 DTO (API용)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DomesticAmendRequestDto {
+    private String orderNumber;
+    private Integer quantity;   // null이면 잔량 전부 정정
+    private DomesticOrderType orderType; // null이면 지정가
+    private BigDecimal price;   // 지정가 정정 시 필수
+}
@@ -1,7 +1,9 @@
 package com.stock.trade.domestic;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.stock.trade.config.KisProperties;
+import com.stock.trade.account.KisAccount;
+import com.stock.trade.account.KisAccountRegistry;
+import com.stock.trade.cache.AccountSnapshotCache;
 import com.stock.trade.token.KisTokenManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -9,6 +11,7 @@ import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
 import java.util.Collections;
@@ -25,9 +28,10 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class DomesticOrderService {
 
-    private final KisProperties kisProperties;
+    private final KisAccountRegistry accountRegistry;
     private final KisTokenManager tokenManager;
     private final WebClient kisWebClient;
+    private final AccountSnapshotCache accountSnapshotCache;
 
     private static final String ORDER_API_PATH = "/uapi/domestic-stock/v1/trading/order-cash";
     private static final String UNFILLED_API_PATH = "/uapi/domestic-stock/v1/trading/inquire-psbl-order";
@@ -40,37 +44,57 @@ public class DomesticOrderService {
     private static final String TR_CANCEL = "TTTC0803U";
 
     /**
-     * 모의투자 여부 (true: 모의투자, false: 실전투자)
+     * KisAccount 를 받지 않는 메서드의 주문 계좌 (external.kis.demo-mode 의 기본 계좌)
      */
-    private boolean demoMode = false;
+    private KisAccount currentAccount() {
+        return accountRegistry.getDefault();
+    }
+
+    // ==================== 매수 주문 ====================
 
     /**
-     * 모의투자 모드 설정
+     * 국내주식 매수 주문
+     *
+     * @param request 주문 요청
+     * @return 주문 결과
      */
-    public void setDemoMode(boolean demoMode) {
-        this.demoMode = demoMode;
-        log.info("국내주식 주문 모드 변경: {}", demoMode ? "모의투자" : "실전투자");
+    public DomesticOrderResult buy(DomesticOrderRequest request) {
+        return buyAsync(request).block();
     }
 
     /**
-     * 모의투자 모드 여부
+     * 국내주식 매수 주문 (비동기)
+     *
+     * @param request 주문 요청
+     * @return 주문 결과
      */
-    public boolean isDemoMode() {
-        return demoMode;
+    public Mono<DomesticOrderResult> buyAsync(DomesticOrderRequest request) {
+        return buyAsync(currentAccount(), request);
     }
 
-    // ==================== 매수 주문 ====================
+    /**
+     * 국내주식 매수 주문 (계좌 지정)
+     *
+     * @param account 주문 계좌
+     * @param request 주문 요청
+     * @return 주문 결과
+     */
+    public DomesticOrderResult buy(KisAccount account, DomesticOrderRequest request) {
+        return buyAsync(account, request).block();
+    }
 
     /**
-     * 국내주식 매수 주문
+     * 국내주식 매수 주문 (비동기, 계좌 지정)
      *
+     * @param account 주문 계좌
      * @param request 주문 요청
      * @return 주문 결과
      */
-    public DomesticOrderResult buy(DomesticOrderRequest request) {
-        request.validate();
-        String trId = applyDemoMode(TR_BUY);
-        return executeOrder(request, trId, false);
+    public Mono<DomesticOrderResult> buyAsync(KisAccount account, DomesticOrderRequest request) {
+        return Mono.defer(() -> {
+            request.validate();
+            return executeOrder(account, request, account.trId(TR_BUY), false);
+        });
     }
 
     /**
@@ -105,9 +129,42 @@ public class DomesticOrderService {
      * @return 주문 결과
      */
     public DomesticOrderResult sell(DomesticOrderRequest request) {
-        request.validate();
-        String trId = applyDemoMode(TR_SELL);
-        return executeOrder(request, trId, true);
+        return sellAsync(request).block();
+    }
+
+    /**
+     * 국내주식 매도 주문 (비동기)
+     *
+     * @param request 주문 요청
+     * @return 주문 결과
+     */
+    public Mono<DomesticOrderResult> sellAsync(DomesticOrderRequest request) {
+        return sellAsync(currentAccount(), request);
+    }
+
+    /**
+     * 국내주식 매도 주문 (계좌 지정)
+     *
+     * @param account 주문 계좌
+     * @param request 주문 요청
+     * @return 주문 결과
+     */
+    public DomesticOrderResult sell(KisAccount account, DomesticOrderRequest request) {
+        return sellAsync(account, request).block();
+    }
+
+    /**
+     * 국내주식 매도 주문 (비동기, 계좌 지정)
+     *
+     * @param account 주문 계좌
+     * @param request 주문 요청
+     * @return 주문 결과
+     */
+    public Mono<DomesticOrderResult> sellAsync(KisAccount account, DomesticOrderRequest request) {
+        return Mono.defer(() -> {
+            request.validate();
+            return executeOrder(account, request, account.trId(TR_SELL), true);
+        });
     }
 
     /**
@@ -141,54 +198,76 @@ public class DomesticOrderService {
      * @return 미체결 주문 목록
      */
     public List<DomesticUnfilledOrder> getUnfilledOrders() {
-        log.info("국내주식 미체결 조회");
-
-        validateAccountInfo();
-
-        String trId = applyDemoMode(TR_UNFILLED);
-
-        try {
-            UnfilledResponse response = kisWebClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path(UNFILLED_API_PATH)
-                            .queryParam("CANO", kisProperties.getEffectiveAccountNumber())
-                            .queryParam("ACNT_PRDT_CD", kisProperties.getEffectiveAccountProductCode())
-                            .queryParam("INQR_DVSN_1", "0")            // 조회구분1 (0:전체, 1:매도, 2:매수)
-                            .queryParam("INQR_DVSN_2", "0")            // 조회구분2 (0:전체)
-                            .queryParam("CTX_AREA_FK100", "")
-                            .queryParam("CTX_AREA_NK100", "")
-                            .build())
-                    .header("authorization", tokenManager.getAuthorizationHeader())
-                    .header("appkey", kisProperties.getEffectiveAppKey())
-                    .header("appsecret", kisProperties.getEffectiveAppSecret())
-                    .header("tr_id", trId)
-                    .accept(MediaType.APPLICATION_JSON)
-                    .retrieve()
-                    .bodyToMono(UnfilledResponse.class)
-                    .block();
-
-            if (response != null && response.isSuccess()) {
-                List<DomesticUnfilledOrder> orders = response.output() != null
-                        ? response.output()
-                        : Collections.emptyList();
-                log.info("국내주식 미체결 조회 완료 - {}건", orders.size());
-                return orders;
-            } else {
-                String errorMsg = response != null ? response.message() : "응답 없음";
-                log.error("국내주식 미체결 조회 실패 - 오류: {}", errorMsg);
-                throw new DomesticOrderException("국내주식 미체결 조회 실패: " + errorMsg);
-            }
-        } catch (WebClientResponseException e) {
-            log.error("국내주식 미체결 조회 API 오류 - 상태코드: {}, 응답: {}",
-                    e.getStatusCode(), e.getResponseBodyAsString());
-            throw new DomesticOrderException("국내주식 미체결 조회 API 오류: " + e.getMessage(), e);
-        } catch (Exception e) {
-            if (e instanceof DomesticOrderException) {
-                throw e;
-            }
-            log.error("국내주식 미체결 조회 중 예외 발생", e);
-            throw new DomesticOrderException("국내주식 미체결 조회 중 오류: " + e.getMessage(), e);
-        }
+        return getUnfilledOrdersAsync().block();
+    }
+
+    /**
+     * 국내주식 미체결 내역 조회 (비동기)
+     *
+     * @return 미체결 주문 목록
+     */
+    public Mono<List<DomesticUnfilledOrder>> getUnfilledOrdersAsync() {
+        return getUnfilledOrdersAsync(currentAccount());
+    }
+
+    /**
+     * 국내주식 미체결 내역 조회 (계좌 지정)
+     *
+     * @param account 조회 계좌
+     * @return 미체결 주문 목록
+     */
+    public List<DomesticUnfilledOrder> getUnfilledOrders(KisAccount account) {
+        return getUnfilledOrdersAsync(account).block();
+    }
+
+    /**
+     * 국내주식 미체결 내역 조회 (비동기, 계좌 지정)
+     *
+     * @param account 조회 계좌
+     * @return 미체결 주문 목록
+     */
+    public Mono<List<DomesticUnfilledOrder>> getUnfilledOrdersAsync(KisAccount account) {
+        return Mono.defer(() -> {
+            log.info("국내주식 미체결 조회 - 계좌: {}", account);
+
+            validateAccountInfo(account);
+
+            String trId = account.trId(TR_UNFILLED);
+
+            return tokenManager.getAuthorizationHeaderAsync(account)
+                    .flatMap(authorization -> kisWebClient.get()
+                            .uri(uriBuilder -> uriBuilder
+                                    .path(UNFILLED_API_PATH)
+                                    .queryParam("CANO", account.accountNumber())
+                                    .queryParam("ACNT_PRDT_CD", account.accountProductCode())
+                                    .queryParam("INQR_DVSN_1", "0")            // 조회구분1 (0:전체, 1:매도, 2:매수)
+                                    .queryParam("INQR_DVSN_2", "0")            // 조회구분2 (0:전체)
+                                    .queryParam("CTX_AREA_FK100", "")
+                                    .queryParam("CTX_AREA_NK100", "")
+                                    .build())
+                            .attribute(KisAccount.ATTRIBUTE, account)
+                            .header("authorization", authorization)
+                            .header("appkey", account.appKey())
+                            .header("appsecret", account.appSecret())
+                            .header("tr_id", trId)
+                            .accept(MediaType.APPLICATION_JSON)
+                            .retrieve()
+                            .bodyToMono(UnfilledResponse.class))
+                    .flatMap(response -> {
+                        if (response.isSuccess()) {
+                            List<DomesticUnfilledOrder> orders = response.output() != null
+                                    ? response.output()
+                                    : Collections.emptyList();
+                            log.info("국내주식 미체결 조회 완료 - {}건", orders.size());
+                            return Mono.just(orders);
+                        }
+                        log.error("국내주식 미체결 조회 실패 - 오류: {}", response.message());
+                        return Mono.<List<DomesticUnfilledOrder>>error(
+                                new DomesticOrderException("국내주식 미체결 조회 실패: " + response.message()));
+                    })
+                    .switchIfEmpty(Mono.error(() -> new DomesticOrderException("국내주식 미체결 조회 실패: 응답 없음")))
+                    .onErrorMap(e -> !(e instanceof DomesticOrderException), e -> toOrderException("국내주식 미체결 조회", e));
+        });
     }
 
     /**
@@ -198,7 +277,18 @@ public class DomesticOrderService {
      * @return 해당 종목의 미체결 주문 목록
      */
     public List<DomesticUnfilledOrder> getUnfilledOrdersByStockCode(String stockCode) {
-        return getUnfilledOrders().stream()
+        return getUnfilledOrdersByStockCode(currentAccount(), stockCode);
+    }
+
+    /**
+     * 특정 종목의 미체결 주문 조회 (계좌 지정)
+     *
+     * @param account   조회 계좌
+     * @param stockCode 종목코드
+     * @return 해당 종목의 미체결 주문 목록
+     */
+    public List<DomesticUnfilledOrder> getUnfilledOrdersByStockCode(KisAccount account, String stockCode) {
+        return getUnfilledOrders(account).stream()
                 .filter(order -> stockCode.equals(order.stockCode()))
                 .toList();
     }
@@ -213,55 +303,62 @@ public class DomesticOrderService {
      * @return 취소 결과
      */
     public DomesticOrderResult cancelOrder(String orderNumber, int quantity) {
-        log.info("국내주식 주문 취소 - 주문번호: {}, 수량: {}", orderNumber, quantity);
+        return cancelOrderAsync(orderNumber, quantity).block();
+    }
 
-        validateAccountInfo();
+    /**
+     * 국내주식 주문 취소 (비동기)
+     *
+     * @param orderNumber 원주문번호
+     * @param quantity    취소수량 (전량 취소 시 0)
+     * @return 취소 결과
+     */
+    public Mono<DomesticOrderResult> cancelOrderAsync(String orderNumber, int quantity) {
+        return cancelOrderAsync(currentAccount(), orderNumber, quantity);
+    }
 
-        String trId = applyDemoMode(TR_CANCEL);
+    /**
+     * 국내주식 주문 취소 (계좌 지정)
+     *
+     * @param account     주문 계좌
+     * @param orderNumber 원주문번호
+     * @param quantity    취소수량 (전량 취소 시 0)
+     * @return 취소 결과
+     */
+    public DomesticOrderResult cancelOrder(KisAccount account, String orderNumber, int quantity) {
+        return cancelOrderAsync(account, orderNumber, quantity).block();
+    }
 
-        Map<String, String> body = new HashMap<>();
-        body.put("CANO", kisProperties.getEffectiveAccountNumber());
-        body.put("ACNT_PRDT_CD", kisProperties.getEffectiveAccountProductCode());
-        body.put("KRX_FWDG_ORD_ORGNO", "");
-        body.put("ORGN_ODNO", orderNumber);
-        body.put("ORD_DVSN", "00");                    // 주문구분 (취소 시 00)
-        body.put("RVSE_CNCL_DVSN_CD", "02");          // 정정취소구분 (02:취소)
-        body.put("ORD_QTY", String.valueOf(quantity)); // 0이면 전량취소
-        body.put("ORD_UNPR", "0");                     // 취소 시 0
-        body.put("QTY_ALL_ORD_YN", quantity == 0 ? "Y" : "N"); // 전량주문여부
-
-        try {
-            OrderResponse response = kisWebClient.post()
-                    .uri(CANCEL_API_PATH)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .header("authorization", tokenManager.getAuthorizationHeader())
-                    .header("appkey", kisProperties.getEffectiveAppKey())
-                    .header("appsecret", kisProperties.getEffectiveAppSecret())
-                    .header("tr_id", trId)
-                    .bodyValue(body)
-                    .retrieve()
-                    .bodyToMono(OrderResponse.class)
-                    .block();
-
-            if (response != null && response.isSuccess()) {
-                log.info("국내주식 주문 취소 성공 - 주문번호: {}", response.output().orderNumber());
-                return response.output();
-            } else {
-                String errorMsg = response != null ? response.message() : "응답 없음";
-                log.error("국내주식 주문 취소 실패 - 오류: {}", errorMsg);
-                throw new DomesticOrderException("국내주식 주문 취소 실패: " + errorMsg);
-            }
-        } catch (WebClientResponseException e) {
-            log.error("국내주식 주문 취소 API 오류 - 상태코드: {}, 응답: {}",
-                    e.getStatusCode(), e.getResponseBodyAsString());
-            throw new DomesticOrderException("국내주식 주문 취소 API 오류: " + e.getMessage(), e);
-        } catch (Exception e) {
-            if (e instanceof DomesticOrderException) {
-                throw e;
-            }
-            log.error("국내주식 주문 취소 중 예외 발생", e);
-            throw new DomesticOrderException("국내주식 주문 취소 중 오류: " + e.getMessage(), e);
-        }
+    /**
+     * 국내주식 주문 취소 (비동기, 계좌 지정)
+     *
+     * @param account     주문 계좌
+     * @param orderNumber 원주문번호
+     * @param quantity    취소수량 (전량 취소 시 0)
+     * @return 취소 결과
+     */
+    public Mono<DomesticOrderResult> cancelOrderAsync(KisAccount account, String orderNumber, int quantity) {
+        return Mono.defer(() -> {
+            log.info("국내주식 주문 취소 - 주문번호: {}, 수량: {}, 계좌: {}", orderNumber, quantity, account);
+
+            validateAccountInfo(account);
+
+            String trId = account.trId(TR_CANCEL);
+
+            Map<String, String> body = new HashMap<>();
+            body.put("CANO", account.accountNumber());
+            body.put("ACNT_PRDT_CD", account.accountProductCode());
+            body.put("KRX_FWDG_ORD_ORGNO", "");
+            body.put("ORGN_ODNO", orderNumber);
+            body.put("ORD_DVSN", "00");                    // 주문구분 (취소 시 00)
+            body.put("RVSE_CNCL_DVSN_CD", "02");          // 정정취소구분 (02:취소)
+            body.put("ORD_QTY", String.valueOf(quantity)); // 0이면 전량취소
+            body.put("ORD_UNPR", "0");                     // 취소 시 0
+            body.put("QTY_ALL_ORD_YN", quantity == 0 ? "Y" : "N"); // 전량주문여부
+
+            return postOrder(account, CANCEL_API_PATH, trId, body, "국내주식 주문 취소")
+                    .doOnNext(result -> log.info("국내주식 주문 취소 성공 - 주문번호: {}", result.orderNumber()));
+        });
     }
 
     /**
@@ -271,87 +368,227 @@ public class DomesticOrderService {
      * @return 취소 결과
      */
     public DomesticOrderResult cancelOrder(DomesticUnfilledOrder unfilledOrder) {
-        return cancelOrder(
+        return cancelOrderAsync(unfilledOrder).block();
+    }
+
+    /**
+     * 미체결 주문 취소 (비동기)
+     *
+     * @param unfilledOrder 미체결 주문
+     * @return 취소 결과
+     */
+    public Mono<DomesticOrderResult> cancelOrderAsync(DomesticUnfilledOrder unfilledOrder) {
+        return cancelOrderAsync(currentAccount(), unfilledOrder);
+    }
+
+    /**
+     * 미체결 주문 취소 (비동기, 계좌 지정)
+     *
+     * @param account       주문 계좌
+     * @param unfilledOrder 미체결 주문
+     * @return 취소 결과
+     */
+    public Mono<DomesticOrderResult> cancelOrderAsync(KisAccount account, DomesticUnfilledOrder unfilledOrder) {
+        return Mono.defer(() -> cancelOrderAsync(
+                account,
                 unfilledOrder.orderNumber(),
                 unfilledOrder.unfilledQuantity().intValue()
-        );
+        ));
+    }
+
+    // ==================== 주문 정정 ====================
+
+    /**
+     * 국내주식 주문 정정 (가격/주문구분)
+     * 지정가 → 시장가 전환도 정정으로 처리 (취소 후 재주문 불필요)
+     *
+     * @param orderNumber 원주문번호
+     * @param quantity    정정수량 (잔량 전부 정정 시 0)
+     * @param orderType   정정 주문구분
+     * @param price       정정단가 (시장가 등 가격 없는 주문은 null)
+     * @return 정정 결과 (새 주문번호)
+     */
+    public DomesticOrderResult amendOrder(String orderNumber, int quantity,
+                                          DomesticOrderType orderType, BigDecimal price) {
+        return amendOrderAsync(orderNumber, quantity, orderType, price).block();
+    }
+
+    /**
+     * 국내주식 주문 정정 (가격/주문구분, 비동기)
+     *
+     * @param orderNumber 원주문번호
+     * @param quantity    정정수량 (잔량 전부 정정 시 0)
+     * @param orderType   정정 주문구분
+     * @param price       정정단가 (시장가 등 가격 없는 주문은 null)
+     * @return 정정 결과 (새 주문번호)
+     */
+    public Mono<DomesticOrderResult> amendOrderAsync(String orderNumber, int quantity,
+                                                     DomesticOrderType orderType, BigDecimal price) {
+        return amendOrderAsync(currentAccount(), orderNumber, quantity, orderType, price);
+    }
+
+    /**
+     * 국내주식 주문 정정 (가격/주문구분, 계좌 지정)
+     *
+     * @param account     주문 계좌
+     * @param orderNumber 원주문번호
+     * @param quantity    정정수량 (잔량 전부 정정 시 0)
+     * @param orderType   정정 주문구분
+     * @param price       정정단가 (시장가 등 가격 없는 주문은 null)
+     * @return 정정 결과 (새 주문번호)
+     */
+    public DomesticOrderResult amendOrder(KisAccount account, String orderNumber, int quantity,
+                                          DomesticOrderType orderType, BigDecimal price) {
+        return amendOrderAsync(account, orderNumber, quantity, orderType, price).block();
+    }
+
+    /**
+     * 국내주식 주문 정정 (가격/주문구분, 비동기, 계좌 지정)
+     *
+     * @param account     주문 계좌
+     * @param orderNumber 원주문번호
+     * @param quantity    정정수량 (잔량 전부 정정 시 0)
+     * @param orderType   정정 주문구분
+     * @param price       정정단가 (시장가 등 가격 없는 주문은 null)
+     * @return 정정 결과 (새 주문번호)
+     */
+    public Mono<DomesticOrderResult> amendOrderAsync(KisAccount account, String orderNumber, int quantity,
+                                                     DomesticOrderType orderType, BigDecimal price) {
+        return Mono.defer(() -> {
+            log.info("국내주식 주문 정정 - 주문번호: {}, 수량: {}, 유형: {}, 가격: {}, 계좌: {}",
+                    orderNumber, quantity, orderType.getDescription(), price, account);
+
+            if (orderNumber == null || orderNumber.isBlank()) {
+                return Mono.error(new DomesticOrderException("정정할 원주문번호가 없습니다"));
+            }
+            if (orderType == DomesticOrderType.LIMIT && (price == null || price.compareTo(BigDecimal.ZERO) <= 0)) {
+                return Mono.error(new DomesticOrderException("지정가 정정은 단가가 필요합니다"));
+            }
+
+            validateAccountInfo(account);
+
+            String trId = account.trId(TR_CANCEL);
+
+            Map<String, String> body = new HashMap<>();
+            body.put("CANO", account.accountNumber());
+            body.put("ACNT_PRDT_CD", account.accountProductCode());
+            body.put("KRX_FWDG_ORD_ORGNO", "");
+            body.put("ORGN_ODNO", orderNumber);
+            body.put("ORD_DVSN", orderType.getCode());
+            body.put("RVSE_CNCL_DVSN_CD", "01");          // 정정취소구분 (01:정정)
+            body.put("ORD_QTY", String.valueOf(quantity)); // 0이면 잔량 전부
+            body.put("ORD_UNPR", price != null ? price.toPlainString() : "0");
+            body.put("QTY_ALL_ORD_YN", quantity == 0 ? "Y" : "N"); // 전량주문여부
+
+            return postOrder(account, CANCEL_API_PATH, trId, body, "국내주식 주문 정정")
+                    .doOnNext(result -> log.info("국내주식 주문 정정 성공 - 주문번호: {}", result.orderNumber()));
+        });
+    }
+
+    /**
+     * 미체결 주문 정정 (잔량 전부)
+     *
+     * @param unfilledOrder 미체결 주문
+     * @param orderType     정정 주문구분
+     * @param price         정정단가 (시장가 등 가격 없는 주문은 null)
+     * @return 정정 결과 (새 주문번호)
+     */
+    public DomesticOrderResult amendOrder(DomesticUnfilledOrder unfilledOrder,
+                                          DomesticOrderType orderType, BigDecimal price) {
+        return amendOrderAsync(unfilledOrder.orderNumber(), 0, orderType, price).block();
+    }
+
+    /**
+     * 미체결 주문 정정 (잔량 전부, 비동기, 계좌 지정)
+     *
+     * @param account       주문 계좌
+     * @param unfilledOrder 미체결 주문
+     * @param orderType     정정 주문구분
+     * @param price         정정단가 (시장가 등 가격 없는 주문은 null)
+     * @return 정정 결과 (새 주문번호)
+     */
+    public Mono<DomesticOrderResult> amendOrderAsync(KisAccount account, DomesticUnfilledOrder unfilledOrder,
+                                                     DomesticOrderType orderType, BigDecimal price) {
+        return amendOrderAsync(account, unfilledOrder.orderNumber(), 0, orderType, price);
     }
 
     // ==================== Private Methods ====================
 
-    private DomesticOrderResult executeOrder(DomesticOrderRequest request, String trId, boolean isSell) {
-        log.info("국내주식 {} 주문 - 종목: {}, 수량: {}, 가격: {}, 유형: {}",
+    private Mono<DomesticOrderResult> executeOrder(KisAccount account, DomesticOrderRequest request,
+                                                   String trId, boolean isSell) {
+        log.info("국내주식 {} 주문 - 종목: {}, 수량: {}, 가격: {}, 유형: {}, 계좌: {}",
                 isSell ? "매도" : "매수",
                 request.getStockCode(),
                 request.getQuantity(),
                 request.getPrice(),
-                request.getOrderType().getDescription());
+                request.getOrderType().getDescription(),
+                account);
 
         // 계좌 정보 확인
-        validateAccountInfo();
+        validateAccountInfo(account);
 
         // 요청 바디 생성
         Map<String, String> body = new HashMap<>();
-        body.put("CANO", kisProperties.getEffectiveAccountNumber());
-        body.put("ACNT_PRDT_CD", kisProperties.getEffectiveAccountProductCode());
+        body.put("CANO", account.accountNumber());
+        body.put("ACNT_PRDT_CD", account.accountProductCode());
         body.put("PDNO", request.getStockCode());
         body.put("ORD_DVSN", request.getOrderType().getCode());
         body.put("ORD_QTY", String.valueOf(request.getQuantity()));
         body.put("ORD_UNPR", request.getPrice().toPlainString());
 
-        try {
-            OrderResponse response = kisWebClient.post()
-                    .uri(ORDER_API_PATH)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .header("authorization", tokenManager.getAuthorizationHeader())
-                    .header("appkey", kisProperties.getEffectiveAppKey())
-                    .header("appsecret", kisProperties.getEffectiveAppSecret())
-                    .header("tr_id", trId)
-                    .bodyValue(body)
-                    .retrieve()
-                    .bodyToMono(OrderResponse.class)
-                    .block();
-
-            if (response != null && response.isSuccess()) {
-                log.info("국내주식 주문 성공 - 주문번호: {}, 시각: {}",
-                        response.output().orderNumber(), response.output().orderTime());
-                return response.output();
-            } else {
-                String errorMsg = response != null ? response.message() : "응답 없음";
-                log.error("국내주식 주문 실패 - 오류: {}", errorMsg);
-                throw new DomesticOrderException("국내주식 주문 실패: " + errorMsg);
-            }
-        } catch (WebClientResponseException e) {
-            log.error("국내주식 주문 API 오류 - 상태코드: {}, 응답: {}",
-                    e.getStatusCode(), e.getResponseBodyAsString());
-            throw new DomesticOrderException("국내주식 주문 API 오류: " + e.getMessage(), e);
-        } catch (Exception e) {
-            if (e instanceof DomesticOrderException) {
-                throw e;
-            }
-            log.error("국내주식 주문 중 예외 발생", e);
-            throw new DomesticOrderException("국내주식 주문 중 오류: " + e.getMessage(), e);
-        }
+        return postOrder(account, ORDER_API_PATH, trId, body, "국내주식 주문")
+                .doOnNext(result -> log.info("국내주식 주문 성공 - 주문번호: {}, 시각: {}",
+                        result.orderNumber(), result.orderTime()));
     }
 
-    private void validateAccountInfo() {
-        if (kisProperties.getEffectiveAccountNumber() == null || kisProperties.getEffectiveAccountNumber().isBlank()) {
-            throw new DomesticOrderException("계좌번호가 설정되지 않았습니다. external.kis.account-number 설정 필요");
-        }
-        if (kisProperties.getEffectiveAccountProductCode() == null || kisProperties.getEffectiveAccountProductCode().isBlank()) {
-            throw new DomesticOrderException("계좌상품코드가 설정되지 않았습니다. external.kis.account-product-code 설정 필요");
+    /**
+     * 주문/정정취소 POST 요청
+     * 종료(성공/실패/취소) 시 항상 잔고 스냅샷 무효화
+     *
+     * @param action 주문 이름 (로그/메시지 접두어)
+     */
+    private Mono<DomesticOrderResult> postOrder(KisAccount account, String path, String trId,
+                                                Map<String, String> body, String action) {
+        return tokenManager.getAuthorizationHeaderAsync(account)
+                .flatMap(authorization -> kisWebClient.post()
+                        .uri(path)
+                        .attribute(KisAccount.ATTRIBUTE, account)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("authorization", authorization)
+                        .header("appkey", account.appKey())
+                        .header("appsecret", account.appSecret())
+                        .header("tr_id", trId)
+                        .bodyValue(body)
+                        .retrieve()
+                        .bodyToMono(OrderResponse.class))
+                .flatMap(response -> {
+                    if (response.isSuccess() && response.output() != null) {
+                        return Mono.just(response.output());
+                    }
+                    log.error("{} 실패 - 오류: {}", action, response.message());
+                    return Mono.<DomesticOrderResult>error(new DomesticOrderException(action + " 실패: " + response.message()));
+                })
+                .switchIfEmpty(Mono.error(() -> new DomesticOrderException(action + " 실패: 응답 없음")))
+                .onErrorMap(e -> !(e instanceof DomesticOrderException), e -> toOrderException(action, e))
+                .doFinally(signal -> accountSnapshotCache.invalidate(action));
+    }
+
+    private DomesticOrderException toOrderException(String action, Throwable e) {
+        if (e instanceof WebClientResponseException we) {
+            log.error("{} API 오류 - 상태코드: {}, 응답: {}", action, we.getStatusCode(), we.getResponseBodyAsString());
+            return new DomesticOrderException(action + " API 오류: " + e.getMessage(), e);
         }
+        log.error("{} 중 예외 발생", action, e);
+        return new DomesticOrderException(action + " 중 오류: " + e.getMessage(), e);
     }
 
-    /**
-     * 모의투자 모드면 TR ID 앞에 V를 붙임
-     * 예: TTTC0802U -> VTTC0802U
-     */
-    private String applyDemoMode(String trId) {
-        if (demoMode) {
-            return "V" + trId.substring(1);
+    private void validateAccountInfo(KisAccount account) {
+        if (account.accountNumber() == null || account.accountNumber().isBlank()) {
+            throw new DomesticOrderException("계좌번호가 설정되지 않았습니다 (" + account.id() + "). external.kis.account-number 설정 필요");
+        }
+        if (account.accountProductCode() == null || account.accountProductCode().isBlank()) {
+            throw new DomesticOrderException("계좌상품코드가 설정되지 않았습니다 (" + account.id() + "). external.kis.account-product-code 설정 필요");
         }
-        return trId;
     }
 
     // ==================== Response Records ====================
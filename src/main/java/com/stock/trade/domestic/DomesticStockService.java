@@ -1,7 +1,12 @@
 package com.stock.trade.domestic;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.stock.trade.config.KisProperties;
+import com.stock.trade.account.KisAccount;
+import com.stock.trade.account.KisAccountRegistry;
+import com.stock.trade.cache.AccountSnapshot;
+import com.stock.trade.cache.AccountSnapshotCache;
+import com.stock.trade.cache.QuoteCache;
+import com.stock.trade.cache.QuoteMarket;
 import com.stock.trade.token.KisTokenManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -9,22 +14,28 @@ import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 
 /**
  * 국내주식 조회 서비스
+ * 현재가는 QuoteCache(실시간 체결로 갱신)를 먼저 확인하고 미스/만료 시에만 REST 조회
+ * 잔고는 AccountSnapshotCache 스냅샷으로 제공 (주문/체결통보 시 무효화)
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class DomesticStockService {
 
-    private final KisProperties kisProperties;
+    private final KisAccountRegistry accountRegistry;
     private final KisTokenManager tokenManager;
     private final WebClient kisWebClient;
+    private final QuoteCache quoteCache;
+    private final AccountSnapshotCache accountSnapshotCache;
 
     private static final String PRICE_API_PATH = "/uapi/domestic-stock/v1/quotations/inquire-price";
     private static final String BALANCE_API_PATH = "/uapi/domestic-stock/v1/trading/inquire-balance";
@@ -35,16 +46,10 @@ public class DomesticStockService {
     private static final String TR_ID_PSAMOUNT = "TTTC8908R";
 
     /**
-     * 모의투자 여부
+     * KisAccount 를 받지 않는 메서드의 조회 계좌 (external.kis.demo-mode 의 기본 계좌)
      */
-    private boolean demoMode = false;
-
-    public void setDemoMode(boolean demoMode) {
-        this.demoMode = demoMode;
-    }
-
-    public boolean isDemoMode() {
-        return demoMode;
+    private KisAccount currentAccount() {
+        return accountRegistry.getDefault();
     }
 
     /**
@@ -54,42 +59,73 @@ public class DomesticStockService {
      * @return 현재가 정보
      */
     public DomesticStockPrice getPrice(String stockCode) {
+        return getPrice(stockCode, null);
+    }
+
+    /**
+     * 국내주식 현재가 조회 (최대 허용 지연 지정)
+     *
+     * @param stockCode    종목코드 (예: "005930")
+     * @param maxStaleness 캐시 시세 최대 허용 지연 (null 이면 시장별 TTL, ZERO 면 항상 REST 조회)
+     * @return 현재가 정보
+     */
+    public DomesticStockPrice getPrice(String stockCode, Duration maxStaleness) {
+        return getPriceAsync(stockCode, maxStaleness).block();
+    }
+
+    /**
+     * 국내주식 현재가 조회 (비동기)
+     *
+     * @param stockCode    종목코드 (예: "005930")
+     * @param maxStaleness 캐시 시세 최대 허용 지연 (null 이면 시장별 TTL, ZERO 면 항상 REST 조회)
+     * @return 현재가 정보
+     */
+    public Mono<DomesticStockPrice> getPriceAsync(String stockCode, Duration maxStaleness) {
+        return getPriceAsync(currentAccount(), stockCode, maxStaleness);
+    }
+
+    /**
+     * 국내주식 현재가 조회 (비동기, 계좌 지정)
+     * 캐시는 계좌와 무관하게 공유하고, 캐시 미스 시 REST 조회만 계좌의 인증 정보/예산으로 수행
+     *
+     * @param account      조회 계좌
+     * @param stockCode    종목코드 (예: "005930")
+     * @param maxStaleness 캐시 시세 최대 허용 지연 (null 이면 시장별 TTL, ZERO 면 항상 REST 조회)
+     * @return 현재가 정보
+     */
+    public Mono<DomesticStockPrice> getPriceAsync(KisAccount account, String stockCode, Duration maxStaleness) {
+        return quoteCache.getAsync(QuoteCache.domesticKey(stockCode), QuoteMarket.DOMESTIC,
+                DomesticStockPrice.class, maxStaleness, () -> fetchPrice(account, stockCode));
+    }
+
+    private Mono<DomesticStockPrice> fetchPrice(KisAccount account, String stockCode) {
         log.info("국내주식 현재가 조회 - 종목: {}", stockCode);
 
-        try {
-            PriceResponse response = kisWebClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path(PRICE_API_PATH)
-                            .queryParam("FID_COND_MRKT_DIV_CODE", "J")  // J: 주식, ETF, ETN
-                            .queryParam("FID_INPUT_ISCD", stockCode)
-                            .build())
-                    .header("authorization", tokenManager.getAuthorizationHeader())
-                    .header("appkey", kisProperties.getEffectiveAppKey())
-                    .header("appsecret", kisProperties.getEffectiveAppSecret())
-                    .header("tr_id", TR_ID_PRICE)
-                    .accept(MediaType.APPLICATION_JSON)
-                    .retrieve()
-                    .bodyToMono(PriceResponse.class)
-                    .block();
-
-            if (response != null && response.isSuccess()) {
-                log.info("국내주식 현재가 조회 완료 - 종목: {}, 현재가: {}", stockCode, response.output().currentPrice());
-                return response.output();
-            } else {
-                String errorMsg = response != null ? response.message() : "응답 없음";
-                log.error("국내주식 현재가 조회 실패 - 종목: {}, 오류: {}", stockCode, errorMsg);
-                throw new DomesticStockException("국내주식 현재가 조회 실패: " + errorMsg);
-            }
-        } catch (WebClientResponseException e) {
-            log.error("국내주식 현재가 조회 API 오류 - 상태코드: {}, 응답: {}", e.getStatusCode(), e.getResponseBodyAsString());
-            throw new DomesticStockException("국내주식 현재가 조회 API 오류: " + e.getMessage(), e);
-        } catch (Exception e) {
-            if (e instanceof DomesticStockException) {
-                throw e;
-            }
-            log.error("국내주식 현재가 조회 중 예외 발생", e);
-            throw new DomesticStockException("국내주식 현재가 조회 중 오류: " + e.getMessage(), e);
-        }
+        return tokenManager.getAuthorizationHeaderAsync(account)
+                .flatMap(authorization -> kisWebClient.get()
+                        .uri(uriBuilder -> uriBuilder
+                                .path(PRICE_API_PATH)
+                                .queryParam("FID_COND_MRKT_DIV_CODE", "J")  // J: 주식, ETF, ETN
+                                .queryParam("FID_INPUT_ISCD", stockCode)
+                                .build())
+                        .attribute(KisAccount.ATTRIBUTE, account)
+                        .header("authorization", authorization)
+                        .header("appkey", account.appKey())
+                        .header("appsecret", account.appSecret())
+                        .header("tr_id", TR_ID_PRICE)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .retrieve()
+                        .bodyToMono(PriceResponse.class))
+                .flatMap(response -> {
+                    if (response.isSuccess() && response.output() != null) {
+                        log.info("국내주식 현재가 조회 완료 - 종목: {}, 현재가: {}", stockCode, response.output().currentPrice());
+                        return Mono.just(response.output());
+                    }
+                    log.error("국내주식 현재가 조회 실패 - 종목: {}, 오류: {}", stockCode, response.message());
+                    return Mono.<DomesticStockPrice>error(new DomesticStockException("국내주식 현재가 조회 실패: " + response.message()));
+                })
+                .switchIfEmpty(Mono.error(() -> new DomesticStockException("국내주식 현재가 조회 실패: 응답 없음")))
+                .onErrorMap(e -> !(e instanceof DomesticStockException), e -> toStockException("국내주식 현재가 조회", e));
     }
 
     // ==================== 잔고 조회 ====================
@@ -100,63 +136,115 @@ public class DomesticStockService {
      * @return 보유 종목 목록
      */
     public List<DomesticStockBalance> getBalance() {
-        log.info("국내주식 잔고 조회 - 모드: {}", demoMode ? "모의투자" : "실전투자");
+        return getBalanceAsync().block();
+    }
 
-        // 계좌 정보 확인
-        if (kisProperties.getEffectiveAccountNumber() == null || kisProperties.getEffectiveAccountNumber().isBlank()) {
-            throw new DomesticStockException("계좌번호가 설정되지 않았습니다");
-        }
+    /**
+     * 국내주식 잔고 조회 (계좌 지정)
+     *
+     * @param account 조회 계좌
+     * @return 보유 종목 목록
+     */
+    public List<DomesticStockBalance> getBalance(KisAccount account) {
+        return getBalanceAsync(account).block();
+    }
+
+    /**
+     * 국내주식 잔고 조회 (비동기)
+     *
+     * @return 보유 종목 목록
+     */
+    public Mono<List<DomesticStockBalance>> getBalanceAsync() {
+        return getBalanceAsync(currentAccount());
+    }
+
+    /**
+     * 국내주식 잔고 조회 (비동기, 계좌 지정)
+     *
+     * @param account 조회 계좌
+     * @return 보유 종목 목록
+     */
+    public Mono<List<DomesticStockBalance>> getBalanceAsync(KisAccount account) {
+        return getBalanceSnapshotAsync(account).map(AccountSnapshot::items);
+    }
+
+    /**
+     * 국내주식 잔고 스냅샷 조회 (종목코드 색인 포함)
+     *
+     * @return 잔고 스냅샷
+     */
+    public AccountSnapshot<DomesticStockBalance> getBalanceSnapshot() {
+        return getBalanceSnapshotAsync().block();
+    }
 
-        // 모의투자 모드면 TR ID 앞에 V를 붙임
-        String trId = demoMode ? "V" + TR_ID_BALANCE.substring(1) : TR_ID_BALANCE;
-
-        try {
-            BalanceResponse response = kisWebClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path(BALANCE_API_PATH)
-                            .queryParam("CANO", kisProperties.getEffectiveAccountNumber())
-                            .queryParam("ACNT_PRDT_CD", kisProperties.getEffectiveAccountProductCode())
-                            .queryParam("AFHR_FLPR_YN", "N")           // 시간외단일가여부
-                            .queryParam("OFL_YN", "")                  // 오프라인여부
-                            .queryParam("INQR_DVSN", "02")             // 조회구분 (01:대출일별, 02:종목별)
-                            .queryParam("UNPR_DVSN", "01")             // 단가구분 (01:기본값)
-                            .queryParam("FUND_STTL_ICLD_YN", "N")      // 펀드결제분포함여부
-                            .queryParam("FNCG_AMT_AUTO_RDPT_YN", "N")  // 융자금액자동상환여부
-                            .queryParam("PRCS_DVSN", "00")             // 처리구분 (00:전일매매포함, 01:전일매매미포함)
-                            .queryParam("CTX_AREA_FK100", "")
-                            .queryParam("CTX_AREA_NK100", "")
-                            .build())
-                    .header("authorization", tokenManager.getAuthorizationHeader())
-                    .header("appkey", kisProperties.getEffectiveAppKey())
-                    .header("appsecret", kisProperties.getEffectiveAppSecret())
-                    .header("tr_id", trId)
-                    .accept(MediaType.APPLICATION_JSON)
-                    .retrieve()
-                    .bodyToMono(BalanceResponse.class)
-                    .block();
-
-            if (response != null && response.isSuccess()) {
-                List<DomesticStockBalance> balances = response.output1() != null
-                        ? response.output1()
-                        : Collections.emptyList();
-                log.info("국내주식 잔고 조회 완료 - 보유 종목 수: {}", balances.size());
-                return balances;
-            } else {
-                String errorMsg = response != null ? response.message() : "응답 없음";
-                log.error("국내주식 잔고 조회 실패 - 오류: {}", errorMsg);
-                throw new DomesticStockException("국내주식 잔고 조회 실패: " + errorMsg);
-            }
-        } catch (WebClientResponseException e) {
-            log.error("국내주식 잔고 조회 API 오류 - 상태코드: {}, 응답: {}",
-                    e.getStatusCode(), e.getResponseBodyAsString());
-            throw new DomesticStockException("국내주식 잔고 조회 API 오류: " + e.getMessage(), e);
-        } catch (Exception e) {
-            if (e instanceof DomesticStockException) {
-                throw e;
-            }
-            log.error("국내주식 잔고 조회 중 예외 발생", e);
-            throw new DomesticStockException("국내주식 잔고 조회 중 오류: " + e.getMessage(), e);
+    /**
+     * 국내주식 잔고 스냅샷 조회 (비동기)
+     *
+     * @return 잔고 스냅샷
+     */
+    public Mono<AccountSnapshot<DomesticStockBalance>> getBalanceSnapshotAsync() {
+        return getBalanceSnapshotAsync(currentAccount());
+    }
+
+    /**
+     * 국내주식 잔고 스냅샷 조회 (비동기, 계좌 지정)
+     * 스냅샷은 계좌 ID 별로 캐시
+     *
+     * @param account 조회 계좌
+     * @return 잔고 스냅샷
+     */
+    public Mono<AccountSnapshot<DomesticStockBalance>> getBalanceSnapshotAsync(KisAccount account) {
+        return accountSnapshotCache.getAsync("domestic-balance:" + account.id(),
+                () -> fetchBalance(account), DomesticStockBalance::stockCode);
+    }
+
+    private Mono<List<DomesticStockBalance>> fetchBalance(KisAccount account) {
+        log.info("국내주식 잔고 조회 - 계좌: {}", account);
+
+        if (!account.hasAccountNumber()) {
+            return Mono.error(new DomesticStockException("계좌번호가 설정되지 않았습니다 (" + account.id() + ")"));
         }
+
+        String trId = account.trId(TR_ID_BALANCE);
+
+        return tokenManager.getAuthorizationHeaderAsync(account)
+                .flatMap(authorization -> kisWebClient.get()
+                        .uri(uriBuilder -> uriBuilder
+                                .path(BALANCE_API_PATH)
+                                .queryParam("CANO", account.accountNumber())
+                                .queryParam("ACNT_PRDT_CD", account.accountProductCode())
+                                .queryParam("AFHR_FLPR_YN", "N")           // 시간외단일가여부
+                                .queryParam("OFL_YN", "")                  // 오프라인여부
+                                .queryParam("INQR_DVSN", "02")             // 조회구분 (01:대출일별, 02:종목별)
+                                .queryParam("UNPR_DVSN", "01")             // 단가구분 (01:기본값)
+                                .queryParam("FUND_STTL_ICLD_YN", "N")      // 펀드결제분포함여부
+                                .queryParam("FNCG_AMT_AUTO_RDPT_YN", "N")  // 융자금액자동상환여부
+                                .queryParam("PRCS_DVSN", "00")             // 처리구분 (00:전일매매포함, 01:전일매매미포함)
+                                .queryParam("CTX_AREA_FK100", "")
+                                .queryParam("CTX_AREA_NK100", "")
+                                .build())
+                        .attribute(KisAccount.ATTRIBUTE, account)
+                        .header("authorization", authorization)
+                        .header("appkey", account.appKey())
+                        .header("appsecret", account.appSecret())
+                        .header("tr_id", trId)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .retrieve()
+                        .bodyToMono(BalanceResponse.class))
+                .flatMap(response -> {
+                    if (response.isSuccess()) {
+                        List<DomesticStockBalance> balances = response.output1() != null
+                                ? response.output1()
+                                : Collections.emptyList();
+                        log.info("국내주식 잔고 조회 완료 - 보유 종목 수: {}", balances.size());
+                        return Mono.just(balances);
+                    }
+                    log.error("국내주식 잔고 조회 실패 - 오류: {}", response.message());
+                    return Mono.<List<DomesticStockBalance>>error(
+                            new DomesticStockException("국내주식 잔고 조회 실패: " + response.message()));
+                })
+                .switchIfEmpty(Mono.error(() -> new DomesticStockException("국내주식 잔고 조회 실패: 응답 없음")))
+                .onErrorMap(e -> !(e instanceof DomesticStockException), e -> toStockException("국내주식 잔고 조회", e));
     }
 
     /**
@@ -166,10 +254,19 @@ public class DomesticStockService {
      * @return 보유 정보 (없으면 null)
      */
     public DomesticStockBalance getBalanceByStockCode(String stockCode) {
-        return getBalance().stream()
-                .filter(b -> stockCode.equals(b.stockCode()))
-                .findFirst()
-                .orElse(null);
+        return getBalanceSnapshot().find(stockCode);
+    }
+
+    /**
+     * 특정 종목 보유 여부 확인 (계좌 지정)
+     *
+     * @param account   조회 계좌
+     * @param stockCode 종목코드
+     * @return 보유 정보 (없으면 null)
+     */
+    public DomesticStockBalance getBalanceByStockCode(KisAccount account, String stockCode) {
+        AccountSnapshot<DomesticStockBalance> snapshot = getBalanceSnapshotAsync(account).block();
+        return snapshot != null ? snapshot.find(stockCode) : null;
     }
 
     // ==================== 매수가능금액 조회 ====================
@@ -182,55 +279,96 @@ public class DomesticStockService {
      * @return 매수가능금액 정보
      */
     public DomesticPurchasableAmount getPurchasableAmount(String stockCode, BigDecimal price) {
-        log.info("국내주식 매수가능금액 조회 - 종목: {}, 가격: {}", stockCode, price);
+        return getPurchasableAmountAsync(stockCode, price).block();
+    }
+
+    /**
+     * 국내주식 매수가능금액 조회 (계좌 지정)
+     *
+     * @param account   조회 계좌
+     * @param stockCode 종목코드
+     * @param price     주문단가 (0이면 현재가 기준)
+     * @return 매수가능금액 정보
+     */
+    public DomesticPurchasableAmount getPurchasableAmount(KisAccount account, String stockCode, BigDecimal price) {
+        return getPurchasableAmountAsync(account, stockCode, price).block();
+    }
+
+    /**
+     * 국내주식 매수가능금액 조회 (비동기)
+     *
+     * @param stockCode 종목코드
+     * @param price     주문단가 (0이면 현재가 기준)
+     * @return 매수가능금액 정보
+     */
+    public Mono<DomesticPurchasableAmount> getPurchasableAmountAsync(String stockCode, BigDecimal price) {
+        return getPurchasableAmountAsync(currentAccount(), stockCode, price);
+    }
 
-        if (kisProperties.getEffectiveAccountNumber() == null || kisProperties.getEffectiveAccountNumber().isBlank()) {
-            throw new DomesticStockException("계좌번호가 설정되지 않았습니다");
+    /**
+     * 국내주식 매수가능금액 조회 (비동기, 계좌 지정)
+     *
+     * @param account   조회 계좌
+     * @param stockCode 종목코드
+     * @param price     주문단가 (0이면 현재가 기준)
+     * @return 매수가능금액 정보
+     */
+    public Mono<DomesticPurchasableAmount> getPurchasableAmountAsync(KisAccount account, String stockCode,
+                                                                     BigDecimal price) {
+        log.info("국내주식 매수가능금액 조회 - 종목: {}, 가격: {}, 계좌: {}", stockCode, price, account);
+
+        if (!account.hasAccountNumber()) {
+            return Mono.error(new DomesticStockException("계좌번호가 설정되지 않았습니다 (" + account.id() + ")"));
         }
 
-        String trId = demoMode ? "V" + TR_ID_PSAMOUNT.substring(1) : TR_ID_PSAMOUNT;
-
-        try {
-            PurchasableAmountResponse response = kisWebClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path(PSAMOUNT_API_PATH)
-                            .queryParam("CANO", kisProperties.getEffectiveAccountNumber())
-                            .queryParam("ACNT_PRDT_CD", kisProperties.getEffectiveAccountProductCode())
-                            .queryParam("PDNO", stockCode)
-                            .queryParam("ORD_UNPR", price.toPlainString())
-                            .queryParam("ORD_DVSN", "00")              // 주문구분 (00:지정가)
-                            .queryParam("CMA_EVLU_AMT_ICLD_YN", "Y")   // CMA평가금액포함여부
-                            .queryParam("OVRS_ICLD_YN", "N")           // 해외포함여부
-                            .build())
-                    .header("authorization", tokenManager.getAuthorizationHeader())
-                    .header("appkey", kisProperties.getEffectiveAppKey())
-                    .header("appsecret", kisProperties.getEffectiveAppSecret())
-                    .header("tr_id", trId)
-                    .accept(MediaType.APPLICATION_JSON)
-                    .retrieve()
-                    .bodyToMono(PurchasableAmountResponse.class)
-                    .block();
-
-            if (response != null && response.isSuccess()) {
-                log.info("국내주식 매수가능금액 조회 완료 - 종목: {}, 매수가능수량: {}",
-                        stockCode, response.output().maxBuyQuantity());
-                return response.output();
-            } else {
-                String errorMsg = response != null ? response.message() : "응답 없음";
-                log.error("국내주식 매수가능금액 조회 실패 - 오류: {}", errorMsg);
-                throw new DomesticStockException("국내주식 매수가능금액 조회 실패: " + errorMsg);
-            }
-        } catch (WebClientResponseException e) {
-            log.error("국내주식 매수가능금액 조회 API 오류 - 상태코드: {}, 응답: {}",
-                    e.getStatusCode(), e.getResponseBodyAsString());
-            throw new DomesticStockException("국내주식 매수가능금액 조회 API 오류: " + e.getMessage(), e);
-        } catch (Exception e) {
-            if (e instanceof DomesticStockException) {
-                throw e;
-            }
-            log.error("국내주식 매수가능금액 조회 중 예외 발생", e);
-            throw new DomesticStockException("국내주식 매수가능금액 조회 중 오류: " + e.getMessage(), e);
+        String trId = account.trId(TR_ID_PSAMOUNT);
+
+        return tokenManager.getAuthorizationHeaderAsync(account)
+                .flatMap(authorization -> kisWebClient.get()
+                        .uri(uriBuilder -> uriBuilder
+                                .path(PSAMOUNT_API_PATH)
+                                .queryParam("CANO", account.accountNumber())
+                                .queryParam("ACNT_PRDT_CD", account.accountProductCode())
+                                .queryParam("PDNO", stockCode)
+                                .queryParam("ORD_UNPR", price.toPlainString())
+                                .queryParam("ORD_DVSN", "00")              // 주문구분 (00:지정가)
+                                .queryParam("CMA_EVLU_AMT_ICLD_YN", "Y")   // CMA평가금액포함여부
+                                .queryParam("OVRS_ICLD_YN", "N")           // 해외포함여부
+                                .build())
+                        .attribute(KisAccount.ATTRIBUTE, account)
+                        .header("authorization", authorization)
+                        .header("appkey", account.appKey())
+                        .header("appsecret", account.appSecret())
+                        .header("tr_id", trId)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .retrieve()
+                        .bodyToMono(PurchasableAmountResponse.class))
+                .flatMap(response -> {
+                    if (response.isSuccess() && response.output() != null) {
+                        log.info("국내주식 매수가능금액 조회 완료 - 종목: {}, 매수가능수량: {}",
+                                stockCode, response.output().maxBuyQuantity());
+                        return Mono.just(response.output());
+                    }
+                    log.error("국내주식 매수가능금액 조회 실패 - 오류: {}", response.message());
+                    return Mono.<DomesticPurchasableAmount>error(
+                            new DomesticStockException("국내주식 매수가능금액 조회 실패: " + response.message()));
+                })
+                .switchIfEmpty(Mono.error(() -> new DomesticStockException("국내주식 매수가능금액 조회 실패: 응답 없음")))
+                .onErrorMap(e -> !(e instanceof DomesticStockException), e -> toStockException("국내주식 매수가능금액 조회", e));
+    }
+
+    /**
+     * WebClient/역직렬화 예외를 조회 예외로 변환
+     *
+     * @param action 조회 이름 (로그/메시지 접두어)
+     */
+    private DomesticStockException toStockException(String action, Throwable e) {
+        if (e instanceof WebClientResponseException we) {
+            log.error("{} API 오류 - 상태코드: {}, 응답: {}", action, we.getStatusCode(), we.getResponseBodyAsString());
+            return new DomesticStockException(action + " API 오류: " + e.getMessage(), e);
         }
+        log.error("{} 중 예외 발생", action, e);
+        return new DomesticStockException(action + " 중 오류: " + e.getMessage(), e);
     }
 
     // ==================== Response Records ====================
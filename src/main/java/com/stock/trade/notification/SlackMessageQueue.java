@@ -0,0 +1,258 @@
+package com.stock.trade.notification;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.util.retry.Retry;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Slack 비동기 전송 큐
+ *
+ * - enqueue 는 큐에 넣고 즉시 반환 (매매 스레드는 Slack 응답을 기다리지 않음)
+ * - 전용 스레드가 flushInterval 마다 쌓인 알림을 한 메시지로 합쳐 전송, 실패 시 지수 백오프 재시도
+ * - maxMessageLength 보다 긴 알림은 줄 단위로 나눠 전송
+ * - 종료 시 남은 알림을 shutdownTimeout 안에서 전송 (못 보낸 알림은 폐기)
+ * 지표: slack.notifications.dropped (reason: queue_full, send_failed, shutdown), slack.notifications.delay (큐 대기 ~ 전송 완료)
+ */
+@Slf4j
+@Component
+public class SlackMessageQueue {
+
+    private static final String SEPARATOR = "\n\n";
+
+    // 주기 전송은 마감 없음 (재시도 포함 응답까지 기다림)
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    private final SlackProperties slackProperties;
+    private final WebClient webClient;
+    private final BlockingQueue<QueuedMessage> queue;
+    private final ScheduledExecutorService sender;
+
+    private final Counter droppedQueueFull;
+    private final Counter droppedSendFailed;
+    private final Counter droppedShutdown;
+    private final Timer deliveryDelay;
+
+    public SlackMessageQueue(SlackProperties slackProperties, MeterRegistry meterRegistry) {
+        this.slackProperties = slackProperties;
+        this.webClient = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create()
+                        .responseTimeout(slackProperties.getQueue().getResponseTimeout())))
+                .build();
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, slackProperties.getQueue().getCapacity()));
+        this.sender = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "slack-sender");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.droppedQueueFull = Counter.builder("slack.notifications.dropped")
+                .tag("reason", "queue_full")
+                .register(meterRegistry);
+        this.droppedSendFailed = Counter.builder("slack.notifications.dropped")
+                .tag("reason", "send_failed")
+                .register(meterRegistry);
+        this.droppedShutdown = Counter.builder("slack.notifications.dropped")
+                .tag("reason", "shutdown")
+                .register(meterRegistry);
+        this.deliveryDelay = Timer.builder("slack.notifications.delay")
+                .description("Slack 알림 큐 대기부터 전송 완료까지")
+                .register(meterRegistry);
+        meterRegistry.gauge("slack.notifications.queue.size", queue, BlockingQueue::size);
+    }
+
+    @PostConstruct
+    public void start() {
+        long intervalMillis = slackProperties.getQueue().getFlushInterval().toMillis();
+        sender.scheduleWithFixedDelay(this::flushSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 알림 추가 (대기 없음, 큐가 가득 차면 폐기)
+     *
+     * @return 큐 추가 여부
+     */
+    public boolean enqueue(String text) {
+        if (queue.offer(new QueuedMessage(text, System.nanoTime()))) {
+            return true;
+        }
+        droppedQueueFull.increment();
+        log.warn("Slack 전송 큐 가득 참 ({}건) - 알림 폐기", queue.size());
+        return false;
+    }
+
+    /**
+     * 대기 중인 알림 수
+     */
+    public int size() {
+        return queue.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        long deadlineNanos = System.nanoTime() + slackProperties.getQueue().getShutdownTimeout().toNanos();
+        sender.shutdown();
+        try {
+            if (!sender.awaitTermination(remainingNanos(deadlineNanos), TimeUnit.NANOSECONDS)) {
+                sender.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (!queue.isEmpty()) {
+            log.info("종료 전 Slack 알림 {}건 전송", queue.size());
+            try {
+                flush(deadlineNanos);
+            } catch (Exception e) {
+                log.error("Slack 알림 전송 중 오류", e);
+            }
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush(NO_DEADLINE);
+        } catch (Exception e) {
+            log.error("Slack 알림 전송 중 오류", e);
+        }
+    }
+
+    /**
+     * 쌓인 알림을 maxMessageLength 단위로 합쳐 전송
+     *
+     * @param deadlineNanos 전송 마감 시각 (System.nanoTime 기준, 종료 시에만 지정, 넘으면 남은 알림 폐기)
+     */
+    private void flush(long deadlineNanos) {
+        List<QueuedMessage> pending = new ArrayList<>();
+        queue.drainTo(pending);
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        int maxLength = Math.max(1, slackProperties.getQueue().getMaxMessageLength());
+        List<List<QueuedMessage>> batches = new ArrayList<>();
+        List<QueuedMessage> batch = new ArrayList<>();
+        int batchLength = 0;
+
+        for (QueuedMessage message : split(pending, maxLength)) {
+            int length = message.text().length() + (batch.isEmpty() ? 0 : SEPARATOR.length());
+            if (!batch.isEmpty() && batchLength + length > maxLength) {
+                batches.add(batch);
+                batch = new ArrayList<>();
+                length = message.text().length();
+                batchLength = 0;
+            }
+            batch.add(message);
+            batchLength += length;
+        }
+        batches.add(batch);
+
+        for (int i = 0; i < batches.size(); i++) {
+            if (deadlineNanos != NO_DEADLINE && remainingNanos(deadlineNanos) <= 0) {
+                int dropped = batches.subList(i, batches.size()).stream().mapToInt(List::size).sum();
+                droppedShutdown.increment(dropped);
+                log.warn("종료 대기 시간 초과 - Slack 알림 {}건 폐기", dropped);
+                return;
+            }
+            send(batches.get(i), deadlineNanos);
+        }
+    }
+
+    private void send(List<QueuedMessage> batch, long deadlineNanos) {
+        String text = String.join(SEPARATOR, batch.stream().map(QueuedMessage::text).toList());
+        SlackProperties.Queue queueProperties = slackProperties.getQueue();
+
+        try {
+            Mono<String> request = webClient.post()
+                    .uri(slackProperties.getWebhookUrl())
+                    .contentType(new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_8))
+                    .bodyValue(payload(text))
+                    .retrieve()
+                    .bodyToMono(String.class)
+                    .retryWhen(Retry.backoff(queueProperties.getMaxRetries(), queueProperties.getInitialBackoff())
+                            .doBeforeRetry(signal -> log.warn("Slack 알림 재전송 {}회차 - {}",
+                                    signal.totalRetries() + 1, signal.failure().getMessage())));
+            if (deadlineNanos != NO_DEADLINE) {
+                request = request.timeout(Duration.ofNanos(remainingNanos(deadlineNanos)));
+            }
+            String response = request.block();
+
+            long now = System.nanoTime();
+            batch.forEach(message -> deliveryDelay.record(now - message.enqueuedNanos(), TimeUnit.NANOSECONDS));
+            log.info("Slack 알림 전송 완료 ({}건): {}", batch.size(), response);
+        } catch (Exception e) {
+            if (deadlineNanos != NO_DEADLINE && e.getCause() instanceof TimeoutException) {
+                droppedShutdown.increment(batch.size());
+                log.warn("종료 대기 시간 초과 - Slack 알림 {}건 폐기", batch.size());
+                return;
+            }
+            droppedSendFailed.increment(batch.size());
+            log.error("Slack 알림 전송 실패 ({}건 폐기): {}", batch.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * maxMessageLength 보다 긴 알림을 줄 단위로 나눔 (줄 하나가 더 길면 길이로 자름, 대기 시각은 원래 알림 기준)
+     */
+    static List<QueuedMessage> split(List<QueuedMessage> messages, int maxLength) {
+        List<QueuedMessage> result = new ArrayList<>(messages.size());
+        for (QueuedMessage message : messages) {
+            String text = message.text();
+            int start = 0;
+            while (text.length() - start > maxLength) {
+                int end = text.lastIndexOf('\n', start + maxLength);
+                if (end <= start) {
+                    end = start + maxLength;
+                    if (Character.isHighSurrogate(text.charAt(end - 1)) && end - 1 > start) {
+                        end--;
+                    }
+                }
+                result.add(new QueuedMessage(text.substring(start, end), message.enqueuedNanos()));
+                start = text.charAt(end) == '\n' ? end + 1 : end;
+            }
+            result.add(start == 0 ? message : new QueuedMessage(text.substring(start), message.enqueuedNanos()));
+        }
+        return result;
+    }
+
+    private static long remainingNanos(long deadlineNanos) {
+        return Math.max(0, deadlineNanos - System.nanoTime());
+    }
+
+    private Map<String, Object> payload(String text) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("text", text);
+        payload.put("username", slackProperties.getUsername());
+        payload.put("icon_emoji", slackProperties.getIconEmoji());
+
+        if (slackProperties.getChannel() != null && !slackProperties.getChannel().isBlank()) {
+            payload.put("channel", slackProperties.getChannel());
+        }
+        return payload;
+    }
+
+    record QueuedMessage(String text, long enqueuedNanos) {}
+}
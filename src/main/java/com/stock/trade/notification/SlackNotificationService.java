@@ -3,19 +3,15 @@ package com.stock.trade.notification;
 import com.stock.trade.scheduler.AbstractPurchaseScheduler.PurchaseResult;
 import com.stock.trade.scheduler.MarketFallbackScheduler.MarketFallbackResult;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
 
-import java.nio.charset.StandardCharsets;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.Objects;
 
 /**
  * Slack 알림 서비스
@@ -25,11 +21,11 @@ import java.util.Map;
 public class SlackNotificationService {
 
     private final SlackProperties slackProperties;
-    private final WebClient webClient;
+    private final SlackMessageQueue messageQueue;
 
-    public SlackNotificationService(SlackProperties slackProperties) {
+    public SlackNotificationService(SlackProperties slackProperties, SlackMessageQueue messageQueue) {
         this.slackProperties = slackProperties;
-        this.webClient = WebClient.create();
+        this.messageQueue = messageQueue;
     }
 
     private static final ZoneId SEOUL_ZONE = ZoneId.of("Asia/Seoul");
@@ -46,17 +42,22 @@ public class SlackNotificationService {
         long successCount = results.stream().filter(PurchaseResult::success).count();
         String emoji = successCount == results.size() ? ":white_check_mark:" : ":warning:";
 
+        // 여러 계좌 매수 결과면 종목 앞에 계좌 ID 표시
+        boolean multiAccount = results.stream().map(PurchaseResult::accountId)
+                .filter(Objects::nonNull).distinct().count() > 1;
+
         StringBuilder message = new StringBuilder();
         message.append(emoji).append(" *주간 정기 매수 완료*\n");
         message.append("시각: ").append(LocalDateTime.now(SEOUL_ZONE).format(TIME_FORMAT)).append("\n\n");
 
         for (PurchaseResult result : results) {
+            String label = multiAccount ? "[" + result.accountId() + "] " + result.symbol() : result.symbol();
             if (result.success()) {
-                message.append(":moneybag: *").append(result.symbol()).append("* - 성공\n");
+                message.append(":moneybag: *").append(label).append("* - 성공\n");
                 message.append("   주문번호: `").append(result.orderNumber()).append("`\n");
                 message.append("   가격: $").append(result.price()).append(" x ").append(result.quantity()).append("주\n");
             } else {
-                message.append(":x: *").append(result.symbol()).append("* - 실패\n");
+                message.append(":x: *").append(label).append("* - 실패\n");
                 message.append("   사유: ").append(result.errorMessage()).append("\n");
             }
         }
@@ -200,35 +201,13 @@ public class SlackNotificationService {
     }
 
     /**
-     * Slack으로 메시지 전송
+     * Slack으로 메시지 전송 (전송 큐에 넣고 즉시 반환)
      */
     private void sendMessage(String text) {
         if (slackProperties.getWebhookUrl() == null || slackProperties.getWebhookUrl().isBlank()) {
             log.warn("Slack webhook URL이 설정되지 않았습니다");
             return;
         }
-
-        Map<String, Object> payload = new HashMap<>();
-        payload.put("text", text);
-        payload.put("username", slackProperties.getUsername());
-        payload.put("icon_emoji", slackProperties.getIconEmoji());
-
-        if (slackProperties.getChannel() != null && !slackProperties.getChannel().isBlank()) {
-            payload.put("channel", slackProperties.getChannel());
-        }
-
-        try {
-            String response = webClient.post()
-                    .uri(slackProperties.getWebhookUrl())
-                    .contentType(new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_8))
-                    .bodyValue(payload)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();  // 동기 방식으로 전송
-
-            log.info("Slack 알림 전송 완료: {}", response);
-        } catch (Exception e) {
-            log.error("Slack 알림 전송 실패: {}", e.getMessage());
-        }
+        messageQueue.enqueue(text);
     }
 }
@@ -4,6 +4,8 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+
 @Getter
 @Setter
 @ConfigurationProperties(prefix = "notification.slack")
@@ -33,4 +35,52 @@ public class SlackProperties {
      * 봇 아이콘 이모지
      */
     private String iconEmoji = ":chart_with_upwards_trend:";
+
+    /**
+     * 전송 큐 설정
+     */
+    private Queue queue = new Queue();
+
+    /**
+     * 전송 큐 설정
+     * 알림은 큐에 넣고 즉시 반환, 백그라운드 전송기가 주기마다 모아 한 메시지로 전송
+     */
+    @Getter
+    @Setter
+    public static class Queue {
+        /**
+         * 큐 최대 크기 (초과 시 새 알림 폐기)
+         */
+        private int capacity = 100;
+
+        /**
+         * 전송 주기 (주기 안에 쌓인 알림은 한 메시지로 합침)
+         */
+        private Duration flushInterval = Duration.ofSeconds(2);
+
+        /**
+         * 합친 메시지 최대 길이 (초과분은 다음 메시지로, 한 알림이 이보다 길면 줄 단위로 나눠 전송)
+         */
+        private int maxMessageLength = 30000;
+
+        /**
+         * Slack 응답 대기 시간 (전송 시도마다 적용)
+         */
+        private Duration responseTimeout = Duration.ofSeconds(5);
+
+        /**
+         * 전송 실패 시 최대 재시도 횟수
+         */
+        private int maxRetries = 3;
+
+        /**
+         * 첫 재시도 대기 시간 (지수 증가)
+         */
+        private Duration initialBackoff = Duration.ofSeconds(1);
+
+        /**
+         * 종료 시 남은 알림 전송 최대 대기 시간 (초과분은 폐기)
+         */
+        private Duration shutdownTimeout = Duration.ofSeconds(10);
+    }
 }
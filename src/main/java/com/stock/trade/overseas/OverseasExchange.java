@@ -11,31 +11,56 @@ import lombok.RequiredArgsConstructor;
 public enum OverseasExchange {
 
     // 미국
-    NASDAQ("NAS", "나스닥"),
-    NYSE("NYS", "뉴욕"),
-    AMEX("AMS", "아멕스"),
+    NASDAQ("NAS", "나스닥", "USD"),
+    NYSE("NYS", "뉴욕", "USD"),
+    AMEX("AMS", "아멕스", "USD"),
 
     // 미국 주간거래
-    NASDAQ_DAY("BAQ", "나스닥(주간)"),
-    NYSE_DAY("BAY", "뉴욕(주간)"),
-    AMEX_DAY("BAA", "아멕스(주간)"),
+    NASDAQ_DAY("BAQ", "나스닥(주간)", "USD"),
+    NYSE_DAY("BAY", "뉴욕(주간)", "USD"),
+    AMEX_DAY("BAA", "아멕스(주간)", "USD"),
 
     // 아시아
-    HONG_KONG("HKS", "홍콩"),
-    TOKYO("TSE", "도쿄"),
-    SHANGHAI("SHS", "상해"),
-    SHENZHEN("SZS", "심천"),
+    HONG_KONG("HKS", "홍콩", "HKD"),
+    TOKYO("TSE", "도쿄", "JPY"),
+    SHANGHAI("SHS", "상해", "CNY"),
+    SHENZHEN("SZS", "심천", "CNY"),
 
     // 지수
-    SHANGHAI_INDEX("SHI", "상해지수"),
-    SHENZHEN_INDEX("SZI", "심천지수"),
+    SHANGHAI_INDEX("SHI", "상해지수", "CNY"),
+    SHENZHEN_INDEX("SZI", "심천지수", "CNY"),
 
     // 베트남
-    HO_CHI_MINH("HSX", "호치민"),
-    HANOI("HNX", "하노이");
+    HO_CHI_MINH("HSX", "호치민", "VND"),
+    HANOI("HNX", "하노이", "VND");
 
     private final String code;
     private final String description;
+    private final String currency;
+
+    /**
+     * 주문/잔고/미체결 API 거래소 코드 (주간거래, 지수는 본 거래소 코드 사용)
+     */
+    public String getApiExchangeCode() {
+        return switch (this) {
+            case NASDAQ, NASDAQ_DAY -> "NASD";
+            case NYSE, NYSE_DAY -> "NYSE";
+            case AMEX, AMEX_DAY -> "AMEX";
+            case HONG_KONG -> "SEHK";
+            case SHANGHAI, SHANGHAI_INDEX -> "SHAA";
+            case SHENZHEN, SHENZHEN_INDEX -> "SZAA";
+            case TOKYO -> "TKSE";
+            case HO_CHI_MINH -> "VNSE";
+            case HANOI -> "HASE";
+        };
+    }
+
+    /**
+     * 잔고 조회 거래소 코드 (미국은 NASD 한 번으로 전체 거래소 조회)
+     */
+    public String getBalanceExchangeCode() {
+        return "USD".equals(currency) ? "NASD" : getApiExchangeCode();
+    }
 
     /**
      * 거래소 코드로 Enum 찾기
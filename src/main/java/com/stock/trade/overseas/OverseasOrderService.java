@@ -1,17 +1,21 @@
 package com.stock.trade.overseas;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.stock.trade.config.KisProperties;
+import com.stock.trade.account.KisAccount;
+import com.stock.trade.account.KisAccountRegistry;
+import com.stock.trade.cache.AccountSnapshotCache;
 import com.stock.trade.token.KisTokenManager;
+import com.stock.trade.util.KisPage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -19,15 +23,17 @@ import java.util.Map;
 /**
  * 해외주식 주문 서비스
  * API: /uapi/overseas-stock/v1/trading/order
+ * KisAccount 를 받는 메서드는 해당 계좌로 주문 (그 외는 현재 모드의 기본 계좌)
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class OverseasOrderService {
 
-    private final KisProperties kisProperties;
+    private final KisAccountRegistry accountRegistry;
     private final KisTokenManager tokenManager;
     private final WebClient kisWebClient;
+    private final AccountSnapshotCache accountSnapshotCache;
 
     private static final String ORDER_API_PATH = "/uapi/overseas-stock/v1/trading/order";
     private static final String UNFILLED_API_PATH = "/uapi/overseas-stock/v1/trading/inquire-nccs";
@@ -40,23 +46,10 @@ public class OverseasOrderService {
     private static final String TR_CANCEL = "TTTT1004U";
 
     /**
-     * 모의투자 여부 (true: 모의투자, false: 실전투자)
+     * KisAccount 를 받지 않는 메서드의 주문 계좌 (external.kis.demo-mode 의 기본 계좌)
      */
-    private boolean demoMode = false;
-
-    /**
-     * 모의투자 모드 설정
-     */
-    public void setDemoMode(boolean demoMode) {
-        this.demoMode = demoMode;
-        log.info("주문 모드 변경: {}", demoMode ? "모의투자" : "실전투자");
-    }
-
-    /**
-     * 모의투자 모드 여부
-     */
-    public boolean isDemoMode() {
-        return demoMode;
+    private KisAccount currentAccount() {
+        return accountRegistry.getDefault();
     }
 
     // ==================== TR ID 상수 ====================
@@ -94,9 +87,32 @@ public class OverseasOrderService {
      * @return 주문 결과
      */
     public OverseasOrderResult buy(OverseasOrderRequest request) {
-        request.validate();
-        String trId = applyDemoMode(getBuyTrId(request.getExchange()));
-        return executeOrder(request, trId, false);
+        return buyAsync(request).block();
+    }
+
+    /**
+     * 해외주식 매수 주문 (비동기)
+     *
+     * @param request 주문 요청
+     * @return 주문 결과
+     */
+    public Mono<OverseasOrderResult> buyAsync(OverseasOrderRequest request) {
+        return buyAsync(currentAccount(), request);
+    }
+
+    /**
+     * 해외주식 매수 주문 (비동기, 계좌 지정)
+     *
+     * @param account 주문 계좌
+     * @param request 주문 요청
+     * @return 주문 결과
+     */
+    public Mono<OverseasOrderResult> buyAsync(KisAccount account, OverseasOrderRequest request) {
+        return Mono.defer(() -> {
+            request.validate();
+            String trId = account.trId(getBuyTrId(request.getExchange()));
+            return executeOrder(account, request, trId, false);
+        });
     }
 
     /**
@@ -121,9 +137,32 @@ public class OverseasOrderService {
      * @return 주문 결과
      */
     public OverseasOrderResult sell(OverseasOrderRequest request) {
-        request.validate();
-        String trId = applyDemoMode(getSellTrId(request.getExchange()));
-        return executeOrder(request, trId, true);
+        return sellAsync(request).block();
+    }
+
+    /**
+     * 해외주식 매도 주문 (비동기)
+     *
+     * @param request 주문 요청
+     * @return 주문 결과
+     */
+    public Mono<OverseasOrderResult> sellAsync(OverseasOrderRequest request) {
+        return sellAsync(currentAccount(), request);
+    }
+
+    /**
+     * 해외주식 매도 주문 (비동기, 계좌 지정)
+     *
+     * @param account 주문 계좌
+     * @param request 주문 요청
+     * @return 주문 결과
+     */
+    public Mono<OverseasOrderResult> sellAsync(KisAccount account, OverseasOrderRequest request) {
+        return Mono.defer(() -> {
+            request.validate();
+            String trId = account.trId(getSellTrId(request.getExchange()));
+            return executeOrder(account, request, trId, true);
+        });
     }
 
     /**
@@ -148,7 +187,7 @@ public class OverseasOrderService {
      * @return 미체결 주문 목록
      */
     public List<OverseasUnfilledOrder> getUnfilledOrders(OverseasExchange exchange) {
-        return getUnfilledOrders(getApiExchangeCode(exchange));
+        return getUnfilledOrders(exchange.getApiExchangeCode());
     }
 
     /**
@@ -158,54 +197,119 @@ public class OverseasOrderService {
      * @return 미체결 주문 목록
      */
     public List<OverseasUnfilledOrder> getUnfilledOrders(String exchangeCode) {
-        log.info("해외주식 미체결 조회 - 거래소: {}", exchangeCode);
+        return getUnfilledOrdersAsync(exchangeCode).block();
+    }
 
-        validateAccountInfo();
+    /**
+     * 해외주식 미체결 내역 조회 (비동기)
+     *
+     * @param exchange 거래소 (NASD로 조회하면 미국 전체)
+     * @return 미체결 주문 목록
+     */
+    public Mono<List<OverseasUnfilledOrder>> getUnfilledOrdersAsync(OverseasExchange exchange) {
+        return getUnfilledOrdersAsync(exchange.getApiExchangeCode());
+    }
 
-        String trId = applyDemoMode(TR_UNFILLED);
+    /**
+     * 해외주식 미체결 내역 조회 (비동기)
+     *
+     * @param exchangeCode 거래소 코드 (NASD, NYSE, AMEX 등)
+     * @return 미체결 주문 목록
+     */
+    public Mono<List<OverseasUnfilledOrder>> getUnfilledOrdersAsync(String exchangeCode) {
+        return getUnfilledOrdersAsync(currentAccount(), exchangeCode);
+    }
 
+    /**
+     * 해외주식 미체결 내역 조회 (비동기, 계좌 지정)
+     *
+     * @param account  조회 계좌
+     * @param exchange 거래소 (NASD로 조회하면 미국 전체)
+     * @return 미체결 주문 목록
+     */
+    public Mono<List<OverseasUnfilledOrder>> getUnfilledOrdersAsync(KisAccount account, OverseasExchange exchange) {
+        return getUnfilledOrdersAsync(account, exchange.getApiExchangeCode());
+    }
+
+    /**
+     * 해외주식 미체결 내역 조회 (비동기, 계좌 지정)
+     *
+     * @param account      조회 계좌
+     * @param exchangeCode 거래소 코드 (NASD, NYSE, AMEX 등)
+     * @return 미체결 주문 목록
+     */
+    public Mono<List<OverseasUnfilledOrder>> getUnfilledOrdersAsync(KisAccount account, String exchangeCode) {
+        log.info("해외주식 미체결 조회 - 계좌: {}, 거래소: {}", account, exchangeCode);
+
+        return streamUnfilledOrders(account, exchangeCode)
+                .collectList()
+                .doOnNext(orders -> log.info("해외주식 미체결 조회 완료 - {}건", orders.size()));
+    }
+
+    /**
+     * 해외주식 미체결 내역 스트리밍 조회 (연속조회)
+     * tr_cont 와 연속조회키를 따라 다음 페이지를 필요할 때 조회
+     *
+     * @param exchangeCode 거래소 코드 (NASD, NYSE, AMEX 등)
+     * @return 미체결 주문 (페이지 순서대로)
+     */
+    public Flux<OverseasUnfilledOrder> streamUnfilledOrders(String exchangeCode) {
+        return streamUnfilledOrders(currentAccount(), exchangeCode);
+    }
+
+    /**
+     * 해외주식 미체결 내역 스트리밍 조회 (연속조회, 계좌 지정)
+     *
+     * @param account      조회 계좌
+     * @param exchangeCode 거래소 코드 (NASD, NYSE, AMEX 등)
+     * @return 미체결 주문 (페이지 순서대로)
+     */
+    public Flux<OverseasUnfilledOrder> streamUnfilledOrders(KisAccount account, String exchangeCode) {
         try {
-            UnfilledResponse response = kisWebClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path(UNFILLED_API_PATH)
-                            .queryParam("CANO", kisProperties.getEffectiveAccountNumber())
-                            .queryParam("ACNT_PRDT_CD", kisProperties.getEffectiveAccountProductCode())
-                            .queryParam("OVRS_EXCG_CD", exchangeCode)
-                            .queryParam("SORT_SQN", "DS")
-                            .queryParam("CTX_AREA_FK200", "")
-                            .queryParam("CTX_AREA_NK200", "")
-                            .build())
-                    .header("authorization", tokenManager.getAuthorizationHeader())
-                    .header("appkey", kisProperties.getEffectiveAppKey())
-                    .header("appsecret", kisProperties.getEffectiveAppSecret())
-                    .header("tr_id", trId)
-                    .accept(MediaType.APPLICATION_JSON)
-                    .retrieve()
-                    .bodyToMono(UnfilledResponse.class)
-                    .block();
-
-            if (response != null && response.isSuccess()) {
-                List<OverseasUnfilledOrder> orders = response.output() != null
-                        ? response.output()
-                        : Collections.emptyList();
-                log.info("해외주식 미체결 조회 완료 - {}건", orders.size());
-                return orders;
-            } else {
-                String errorMsg = response != null ? response.message() : "응답 없음";
-                log.error("해외주식 미체결 조회 실패 - 오류: {}", errorMsg);
-                throw new OverseasOrderException("해외주식 미체결 조회 실패: " + errorMsg);
-            }
-        } catch (WebClientResponseException e) {
-            log.error("해외주식 미체결 조회 API 오류 - 상태코드: {}, 응답: {}",
-                    e.getStatusCode(), e.getResponseBodyAsString());
-            throw new OverseasOrderException("해외주식 미체결 조회 API 오류: " + e.getMessage(), e);
-        } catch (Exception e) {
-            if (e instanceof OverseasOrderException) {
-                throw e;
-            }
-            log.error("해외주식 미체결 조회 중 예외 발생", e);
-            throw new OverseasOrderException("해외주식 미체결 조회 중 오류: " + e.getMessage(), e);
+            validateAccountInfo(account);
+        } catch (OverseasOrderException e) {
+            return Flux.error(e);
         }
+
+        String trId = account.trId(TR_UNFILLED);
+
+        return KisPage.<OverseasUnfilledOrder>stream(previous -> fetchUnfilledPage(account, exchangeCode, trId, previous))
+                .onErrorMap(e -> !(e instanceof OverseasOrderException), e -> toOrderException("해외주식 미체결 조회", e));
+    }
+
+    private Mono<KisPage<OverseasUnfilledOrder>> fetchUnfilledPage(KisAccount account, String exchangeCode, String trId,
+                                                                   KisPage<OverseasUnfilledOrder> previous) {
+        return tokenManager.getAuthorizationHeaderAsync(account)
+                .flatMap(authorization -> kisWebClient.get()
+                        .uri(uriBuilder -> uriBuilder
+                                .path(UNFILLED_API_PATH)
+                                .queryParam("CANO", account.accountNumber())
+                                .queryParam("ACNT_PRDT_CD", account.accountProductCode())
+                                .queryParam("OVRS_EXCG_CD", exchangeCode)
+                                .queryParam("SORT_SQN", "DS")
+                                .queryParam("CTX_AREA_FK200", KisPage.ctxAreaFk(previous))
+                                .queryParam("CTX_AREA_NK200", KisPage.ctxAreaNk(previous))
+                                .build())
+                        .header("authorization", authorization)
+                        .header("appkey", account.appKey())
+                        .header("appsecret", account.appSecret())
+                        .header("tr_id", trId)
+                        .header(KisPage.TR_CONT_HEADER, KisPage.trCont(previous))
+                        .accept(MediaType.APPLICATION_JSON)
+                        .attribute(KisAccount.ATTRIBUTE, account)
+                        .retrieve()
+                        .toEntity(UnfilledResponse.class))
+                .flatMap(entity -> {
+                    UnfilledResponse response = entity.getBody();
+                    if (response == null || !response.isSuccess()) {
+                        String errorMsg = response != null ? response.message() : "응답 없음";
+                        log.error("해외주식 미체결 조회 실패 - 오류: {}", errorMsg);
+                        return Mono.error(new OverseasOrderException("해외주식 미체결 조회 실패: " + errorMsg));
+                    }
+                    return Mono.just(new KisPage<>(response.output(),
+                            entity.getHeaders().getFirst(KisPage.TR_CONT_HEADER),
+                            response.ctxAreaFk200(), response.ctxAreaNk200()));
+                });
     }
 
     /**
@@ -234,57 +338,58 @@ public class OverseasOrderService {
      */
     public OverseasOrderResult cancelOrder(OverseasExchange exchange, String symbol,
                                            String orderNumber, int quantity) {
-        log.info("해외주식 주문 취소 - 거래소: {}, 종목: {}, 주문번호: {}, 수량: {}",
-                exchange.getCode(), symbol, orderNumber, quantity);
-
-        validateAccountInfo();
-
-        String trId = applyDemoMode(TR_CANCEL);
+        return cancelOrderAsync(exchange, symbol, orderNumber, quantity).block();
+    }
 
-        Map<String, String> body = new HashMap<>();
-        body.put("CANO", kisProperties.getEffectiveAccountNumber());
-        body.put("ACNT_PRDT_CD", kisProperties.getEffectiveAccountProductCode());
-        body.put("OVRS_EXCG_CD", getApiExchangeCode(exchange));
-        body.put("PDNO", symbol);
-        body.put("ORGN_ODNO", orderNumber);
-        body.put("RVSE_CNCL_DVSN_CD", "02");  // 02: 취소
-        body.put("ORD_QTY", String.valueOf(quantity));
-        body.put("OVRS_ORD_UNPR", "0");  // 취소 시 0
-        body.put("MGCO_APTM_ODNO", "");
-        body.put("ORD_SVR_DVSN_CD", "0");
+    /**
+     * 해외주식 주문 취소 (비동기)
+     *
+     * @param exchange    거래소
+     * @param symbol      종목코드
+     * @param orderNumber 원주문번호
+     * @param quantity    취소수량
+     * @return 취소 결과
+     */
+    public Mono<OverseasOrderResult> cancelOrderAsync(OverseasExchange exchange, String symbol,
+                                                      String orderNumber, int quantity) {
+        return cancelOrderAsync(currentAccount(), exchange, symbol, orderNumber, quantity);
+    }
 
-        try {
-            OrderResponse response = kisWebClient.post()
-                    .uri(CANCEL_API_PATH)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .header("authorization", tokenManager.getAuthorizationHeader())
-                    .header("appkey", kisProperties.getEffectiveAppKey())
-                    .header("appsecret", kisProperties.getEffectiveAppSecret())
-                    .header("tr_id", trId)
-                    .bodyValue(body)
-                    .retrieve()
-                    .bodyToMono(OrderResponse.class)
-                    .block();
-
-            if (response != null && response.isSuccess()) {
-                log.info("해외주식 주문 취소 성공 - 주문번호: {}", response.output().orderNumber());
-                return response.output();
-            } else {
-                String errorMsg = response != null ? response.message() : "응답 없음";
-                log.error("해외주식 주문 취소 실패 - 오류: {}", errorMsg);
-                throw new OverseasOrderException("해외주식 주문 취소 실패: " + errorMsg);
-            }
-        } catch (WebClientResponseException e) {
-            log.error("해외주식 주문 취소 API 오류 - 상태코드: {}, 응답: {}",
-                    e.getStatusCode(), e.getResponseBodyAsString());
-            throw new OverseasOrderException("해외주식 주문 취소 API 오류: " + e.getMessage(), e);
-        } catch (Exception e) {
-            if (e instanceof OverseasOrderException) {
-                throw e;
-            }
-            log.error("해외주식 주문 취소 중 예외 발생", e);
-            throw new OverseasOrderException("해외주식 주문 취소 중 오류: " + e.getMessage(), e);
-        }
+    /**
+     * 해외주식 주문 취소 (비동기, 계좌 지정)
+     *
+     * @param account     주문 계좌
+     * @param exchange    거래소
+     * @param symbol      종목코드
+     * @param orderNumber 원주문번호
+     * @param quantity    취소수량
+     * @return 취소 결과
+     */
+    public Mono<OverseasOrderResult> cancelOrderAsync(KisAccount account, OverseasExchange exchange, String symbol,
+                                                      String orderNumber, int quantity) {
+        return Mono.defer(() -> {
+            log.info("해외주식 주문 취소 - 계좌: {}, 거래소: {}, 종목: {}, 주문번호: {}, 수량: {}",
+                    account, exchange.getCode(), symbol, orderNumber, quantity);
+
+            validateAccountInfo(account);
+
+            String trId = account.trId(TR_CANCEL);
+
+            Map<String, String> body = new HashMap<>();
+            body.put("CANO", account.accountNumber());
+            body.put("ACNT_PRDT_CD", account.accountProductCode());
+            body.put("OVRS_EXCG_CD", exchange.getApiExchangeCode());
+            body.put("PDNO", symbol);
+            body.put("ORGN_ODNO", orderNumber);
+            body.put("RVSE_CNCL_DVSN_CD", "02");  // 02: 취소
+            body.put("ORD_QTY", String.valueOf(quantity));
+            body.put("OVRS_ORD_UNPR", "0");  // 취소 시 0
+            body.put("MGCO_APTM_ODNO", "");
+            body.put("ORD_SVR_DVSN_CD", "0");
+
+            return postOrder(account, CANCEL_API_PATH, trId, body, "해외주식 주문 취소")
+                    .doOnNext(result -> log.info("해외주식 주문 취소 성공 - 주문번호: {}", result.orderNumber()));
+        });
     }
 
     /**
@@ -294,33 +399,190 @@ public class OverseasOrderService {
      * @return 취소 결과
      */
     public OverseasOrderResult cancelOrder(OverseasUnfilledOrder unfilledOrder) {
-        OverseasExchange exchange = parseExchangeCode(unfilledOrder.exchangeCode());
-        return cancelOrder(
-                exchange,
+        return cancelOrderAsync(unfilledOrder).block();
+    }
+
+    /**
+     * 미체결 주문 취소 (비동기)
+     *
+     * @param unfilledOrder 미체결 주문
+     * @return 취소 결과
+     */
+    public Mono<OverseasOrderResult> cancelOrderAsync(OverseasUnfilledOrder unfilledOrder) {
+        return cancelOrderAsync(currentAccount(), unfilledOrder);
+    }
+
+    /**
+     * 미체결 주문 취소 (비동기, 계좌 지정)
+     *
+     * @param account       주문 계좌
+     * @param unfilledOrder 미체결 주문
+     * @return 취소 결과
+     */
+    public Mono<OverseasOrderResult> cancelOrderAsync(KisAccount account, OverseasUnfilledOrder unfilledOrder) {
+        return Mono.defer(() -> cancelOrderAsync(
+                account,
+                parseExchangeCode(unfilledOrder.exchangeCode()),
                 unfilledOrder.symbol(),
                 unfilledOrder.orderNumber(),
                 unfilledOrder.unfilledQuantity().intValue()
-        );
+        ));
+    }
+
+    // ==================== 주문 정정 ====================
+
+    /**
+     * 정정 주문 지원 여부
+     * 후강퉁/선강퉁(상해/심천)은 정정 불가, 취소 후 재주문 필요
+     * 주문구분(지정가 → MOC 등)은 정정으로 바꿀 수 없음
+     */
+    public boolean supportsAmend(OverseasExchange exchange) {
+        return switch (exchange) {
+            case SHANGHAI, SHENZHEN, SHANGHAI_INDEX, SHENZHEN_INDEX -> false;
+            default -> true;
+        };
+    }
+
+    /**
+     * 해외주식 주문 정정 (가격)
+     *
+     * @param exchange    거래소
+     * @param symbol      종목코드
+     * @param orderNumber 원주문번호
+     * @param quantity    정정수량 (원주문 잔량)
+     * @param price       정정단가
+     * @return 정정 결과 (새 주문번호)
+     */
+    public OverseasOrderResult amendOrder(OverseasExchange exchange, String symbol,
+                                          String orderNumber, int quantity, BigDecimal price) {
+        return amendOrderAsync(exchange, symbol, orderNumber, quantity, price).block();
+    }
+
+    /**
+     * 해외주식 주문 정정 (가격, 비동기)
+     *
+     * @param exchange    거래소
+     * @param symbol      종목코드
+     * @param orderNumber 원주문번호
+     * @param quantity    정정수량 (원주문 잔량)
+     * @param price       정정단가
+     * @return 정정 결과 (새 주문번호)
+     */
+    public Mono<OverseasOrderResult> amendOrderAsync(OverseasExchange exchange, String symbol,
+                                                     String orderNumber, int quantity, BigDecimal price) {
+        return amendOrderAsync(currentAccount(), exchange, symbol, orderNumber, quantity, price);
+    }
+
+    /**
+     * 해외주식 주문 정정 (가격, 비동기, 계좌 지정)
+     *
+     * @param account     주문 계좌
+     * @param exchange    거래소
+     * @param symbol      종목코드
+     * @param orderNumber 원주문번호
+     * @param quantity    정정수량 (원주문 잔량)
+     * @param price       정정단가
+     * @return 정정 결과 (새 주문번호)
+     */
+    public Mono<OverseasOrderResult> amendOrderAsync(KisAccount account, OverseasExchange exchange, String symbol,
+                                                     String orderNumber, int quantity, BigDecimal price) {
+        return Mono.defer(() -> {
+            log.info("해외주식 주문 정정 - 계좌: {}, 거래소: {}, 종목: {}, 주문번호: {}, 수량: {}, 가격: {}",
+                    account, exchange.getCode(), symbol, orderNumber, quantity, price);
+
+            if (orderNumber == null || orderNumber.isBlank()) {
+                return Mono.error(new OverseasOrderException("정정할 원주문번호가 없습니다"));
+            }
+            if (!supportsAmend(exchange)) {
+                return Mono.error(new OverseasOrderException(exchange.getDescription() + " 거래소는 정정 주문을 지원하지 않습니다"));
+            }
+            if (price == null || price.compareTo(BigDecimal.ZERO) <= 0) {
+                return Mono.error(new OverseasOrderException("정정단가는 0보다 커야 합니다"));
+            }
+
+            validateAccountInfo(account);
+
+            String trId = account.trId(TR_CANCEL);
+
+            Map<String, String> body = new HashMap<>();
+            body.put("CANO", account.accountNumber());
+            body.put("ACNT_PRDT_CD", account.accountProductCode());
+            body.put("OVRS_EXCG_CD", exchange.getApiExchangeCode());
+            body.put("PDNO", symbol);
+            body.put("ORGN_ODNO", orderNumber);
+            body.put("RVSE_CNCL_DVSN_CD", "01");  // 01: 정정
+            body.put("ORD_QTY", String.valueOf(quantity));
+            body.put("OVRS_ORD_UNPR", price.toPlainString());
+            body.put("MGCO_APTM_ODNO", "");
+            body.put("ORD_SVR_DVSN_CD", "0");
+
+            return postOrder(account, CANCEL_API_PATH, trId, body, "해외주식 주문 정정")
+                    .doOnNext(result -> log.info("해외주식 주문 정정 성공 - 주문번호: {}", result.orderNumber()));
+        });
+    }
+
+    /**
+     * 미체결 주문 정정 (잔량 전체, 가격)
+     *
+     * @param unfilledOrder 미체결 주문
+     * @param price         정정단가
+     * @return 정정 결과 (새 주문번호)
+     */
+    public OverseasOrderResult amendOrder(OverseasUnfilledOrder unfilledOrder, BigDecimal price) {
+        return amendOrderAsync(unfilledOrder, price).block();
+    }
+
+    /**
+     * 미체결 주문 정정 (잔량 전체, 가격, 비동기)
+     *
+     * @param unfilledOrder 미체결 주문
+     * @param price         정정단가
+     * @return 정정 결과 (새 주문번호)
+     */
+    public Mono<OverseasOrderResult> amendOrderAsync(OverseasUnfilledOrder unfilledOrder, BigDecimal price) {
+        return amendOrderAsync(currentAccount(), unfilledOrder, price);
+    }
+
+    /**
+     * 미체결 주문 정정 (잔량 전체, 가격, 비동기, 계좌 지정)
+     *
+     * @param account       주문 계좌
+     * @param unfilledOrder 미체결 주문
+     * @param price         정정단가
+     * @return 정정 결과 (새 주문번호)
+     */
+    public Mono<OverseasOrderResult> amendOrderAsync(KisAccount account, OverseasUnfilledOrder unfilledOrder,
+                                                     BigDecimal price) {
+        return Mono.defer(() -> amendOrderAsync(
+                account,
+                parseExchangeCode(unfilledOrder.exchangeCode()),
+                unfilledOrder.symbol(),
+                unfilledOrder.orderNumber(),
+                unfilledOrder.unfilledQuantity().intValue(),
+                price
+        ));
     }
 
     // ==================== Private Methods ====================
 
-    private OverseasOrderResult executeOrder(OverseasOrderRequest request, String trId, boolean isSell) {
-        log.info("해외주식 {} 주문 - 거래소: {}, 종목: {}, 수량: {}, 가격: {}",
+    private Mono<OverseasOrderResult> executeOrder(KisAccount account, OverseasOrderRequest request,
+                                                   String trId, boolean isSell) {
+        log.info("해외주식 {} 주문 - 계좌: {}, 거래소: {}, 종목: {}, 수량: {}, 가격: {}",
                 isSell ? "매도" : "매수",
+                account,
                 request.getExchange().getCode(),
                 request.getSymbol(),
                 request.getQuantity(),
                 request.getPrice());
 
         // 계좌 정보 확인
-        validateAccountInfo();
+        validateAccountInfo(account);
 
         // 요청 바디 생성
         Map<String, String> body = new HashMap<>();
-        body.put("CANO", kisProperties.getEffectiveAccountNumber());
-        body.put("ACNT_PRDT_CD", kisProperties.getEffectiveAccountProductCode());
-        body.put("OVRS_EXCG_CD", getApiExchangeCode(request.getExchange()));
+        body.put("CANO", account.accountNumber());
+        body.put("ACNT_PRDT_CD", account.accountProductCode());
+        body.put("OVRS_EXCG_CD", request.getExchange().getApiExchangeCode());
         body.put("PDNO", request.getSymbol());
         body.put("ORD_QTY", String.valueOf(request.getQuantity()));
         body.put("OVRS_ORD_UNPR", request.getPrice().toPlainString());
@@ -330,47 +592,63 @@ public class OverseasOrderService {
         body.put("ORD_SVR_DVSN_CD", "0");
         body.put("ORD_DVSN", request.getOrderType().getCode());
 
-        try {
-            OrderResponse response = kisWebClient.post()
-                    .uri(ORDER_API_PATH)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .header("authorization", tokenManager.getAuthorizationHeader())
-                    .header("appkey", kisProperties.getEffectiveAppKey())
-                    .header("appsecret", kisProperties.getEffectiveAppSecret())
-                    .header("tr_id", trId)
-                    .bodyValue(body)
-                    .retrieve()
-                    .bodyToMono(OrderResponse.class)
-                    .block();
-
-            if (response != null && response.isSuccess()) {
-                log.info("해외주식 주문 성공 - 주문번호: {}, 시각: {}",
-                        response.output().orderNumber(), response.output().orderTime());
-                return response.output();
-            } else {
-                String errorMsg = response != null ? response.message() : "응답 없음";
-                log.error("해외주식 주문 실패 - 오류: {}", errorMsg);
-                throw new OverseasOrderException("해외주식 주문 실패: " + errorMsg);
-            }
-        } catch (WebClientResponseException e) {
-            log.error("해외주식 주문 API 오류 - 상태코드: {}, 응답: {}",
-                    e.getStatusCode(), e.getResponseBodyAsString());
-            throw new OverseasOrderException("해외주식 주문 API 오류: " + e.getMessage(), e);
-        } catch (Exception e) {
-            if (e instanceof OverseasOrderException) {
-                throw e;
-            }
-            log.error("해외주식 주문 중 예외 발생", e);
-            throw new OverseasOrderException("해외주식 주문 중 오류: " + e.getMessage(), e);
+        return postOrder(account, ORDER_API_PATH, trId, body, "해외주식 주문")
+                .doOnNext(result -> log.info("해외주식 주문 성공 - 주문번호: {}, 시각: {}",
+                        result.orderNumber(), result.orderTime()));
+    }
+
+    /**
+     * 주문/정정취소 POST 요청
+     * 실패 응답이어도 접수되었을 수 있으므로 종료(성공/실패/취소) 시 항상 잔고 스냅샷 무효화
+     *
+     * @param action 주문 이름 (로그/메시지 접두어)
+     */
+    private Mono<OverseasOrderResult> postOrder(KisAccount account, String path, String trId,
+                                                Map<String, String> body, String action) {
+        return tokenManager.getAuthorizationHeaderAsync(account)
+                .flatMap(authorization -> kisWebClient.post()
+                        .uri(path)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("authorization", authorization)
+                        .header("appkey", account.appKey())
+                        .header("appsecret", account.appSecret())
+                        .header("tr_id", trId)
+                        .bodyValue(body)
+                        .attribute(KisAccount.ATTRIBUTE, account)
+                        .retrieve()
+                        .bodyToMono(OrderResponse.class))
+                .flatMap(response -> {
+                    if (response.isSuccess() && response.output() != null) {
+                        return Mono.just(response.output());
+                    }
+                    log.error("{} 실패 - 오류: {}", action, response.message());
+                    return Mono.<OverseasOrderResult>error(new OverseasOrderException(action + " 실패: " + response.message()));
+                })
+                .switchIfEmpty(Mono.error(() -> new OverseasOrderException(action + " 실패: 응답 없음")))
+                .onErrorMap(e -> !(e instanceof OverseasOrderException), e -> toOrderException(action, e))
+                .doFinally(signal -> accountSnapshotCache.invalidate(action));
+    }
+
+    /**
+     * WebClient/역직렬화 예외를 주문 예외로 변환
+     *
+     * @param action 주문/조회 이름 (로그/메시지 접두어)
+     */
+    private OverseasOrderException toOrderException(String action, Throwable e) {
+        if (e instanceof WebClientResponseException we) {
+            log.error("{} API 오류 - 상태코드: {}, 응답: {}", action, we.getStatusCode(), we.getResponseBodyAsString());
+            return new OverseasOrderException(action + " API 오류: " + e.getMessage(), e);
         }
+        log.error("{} 중 예외 발생", action, e);
+        return new OverseasOrderException(action + " 중 오류: " + e.getMessage(), e);
     }
 
-    private void validateAccountInfo() {
-        if (kisProperties.getEffectiveAccountNumber() == null || kisProperties.getEffectiveAccountNumber().isBlank()) {
-            throw new OverseasOrderException("계좌번호가 설정되지 않았습니다. external.kis.account-number 설정 필요");
+    private void validateAccountInfo(KisAccount account) {
+        if (account.accountNumber() == null || account.accountNumber().isBlank()) {
+            throw new OverseasOrderException("계좌번호가 설정되지 않았습니다 (" + account.id() + "). external.kis.account-number 설정 필요");
         }
-        if (kisProperties.getEffectiveAccountProductCode() == null || kisProperties.getEffectiveAccountProductCode().isBlank()) {
-            throw new OverseasOrderException("계좌상품코드가 설정되지 않았습니다. external.kis.account-product-code 설정 필요");
+        if (account.accountProductCode() == null || account.accountProductCode().isBlank()) {
+            throw new OverseasOrderException("계좌상품코드가 설정되지 않았습니다 (" + account.id() + "). external.kis.account-product-code 설정 필요");
         }
     }
 
@@ -396,32 +674,6 @@ public class OverseasOrderService {
         };
     }
 
-    /**
-     * 모의투자 모드면 TR ID 앞에 V를 붙임
-     * 예: TTTT1002U -> VTTT1002U
-     */
-    private String applyDemoMode(String trId) {
-        if (demoMode) {
-            return "V" + trId.substring(1);
-        }
-        return trId;
-    }
-
-    private String getApiExchangeCode(OverseasExchange exchange) {
-        // API에서 사용하는 거래소 코드
-        return switch (exchange) {
-            case NASDAQ, NASDAQ_DAY -> "NASD";
-            case NYSE, NYSE_DAY -> "NYSE";
-            case AMEX, AMEX_DAY -> "AMEX";
-            case HONG_KONG -> "SEHK";
-            case SHANGHAI, SHANGHAI_INDEX -> "SHAA";
-            case SHENZHEN, SHENZHEN_INDEX -> "SZAA";
-            case TOKYO -> "TKSE";
-            case HO_CHI_MINH -> "VNSE";
-            case HANOI -> "HASE";
-        };
-    }
-
     private OverseasExchange parseExchangeCode(String apiExchangeCode) {
         return switch (apiExchangeCode) {
             case "NASD" -> OverseasExchange.NASDAQ;
@@ -454,6 +706,8 @@ public class OverseasOrderService {
             @JsonProperty("rt_cd") String returnCode,
             @JsonProperty("msg_cd") String messageCode,
             @JsonProperty("msg1") String message,
+            @JsonProperty("ctx_area_fk200") String ctxAreaFk200,
+            @JsonProperty("ctx_area_nk200") String ctxAreaNk200,
             @JsonProperty("output") List<OverseasUnfilledOrder> output
     ) {
         boolean isSuccess() {
@@ -37,4 +37,11 @@ public enum OverseasOrderType {
 
     private final String code;
     private final String description;
+
+    /**
+     * 가격 없이 체결되는 시장가 주문 여부 (MOO/MOC)
+     */
+    public boolean isMarket() {
+        return this == MARKET_ON_OPEN || this == MARKET_ON_CLOSE;
+    }
 }
@@ -0,0 +1,59 @@
+package com.stock.trade.overseas;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 해외주식 전체 거래소 통합 포트폴리오
+ *
+ * @param holdings           보유 종목 (전체 거래소)
+ * @param fxRates            통화별 원화 환율 (1통화 단위 기준)
+ * @param totalEvalAmountKrw 총 평가금액 (원화 환산, 환율 없는 종목 제외)
+ * @param totalProfitLossKrw 총 평가손익 (원화 환산, 환율 없는 종목 제외)
+ * @param errors             조회 실패한 거래소 목록 (비어 있지 않으면 부분 결과)
+ */
+public record OverseasPortfolio(
+        List<Holding> holdings,
+        Map<String, BigDecimal> fxRates,
+        BigDecimal totalEvalAmountKrw,
+        BigDecimal totalProfitLossKrw,
+        List<ExchangeError> errors
+) {
+    /**
+     * 일부 거래소 조회 실패 여부
+     */
+    public boolean isPartial() {
+        return !errors.isEmpty();
+    }
+
+    /**
+     * 원화 환산 보유 종목
+     *
+     * @param balance         잔고 (현지 통화)
+     * @param fxRate          적용 환율 (없으면 null)
+     * @param evalAmountKrw   평가금액 (원화, 환율 없으면 null)
+     * @param profitLossKrw   평가손익 (원화, 환율 없으면 null)
+     */
+    public record Holding(
+            OverseasStockBalance balance,
+            BigDecimal fxRate,
+            BigDecimal evalAmountKrw,
+            BigDecimal profitLossKrw
+    ) {
+    }
+
+    /**
+     * 거래소별 조회 오류
+     *
+     * @param exchangeCode 거래소코드 (NASD, SEHK 등)
+     * @param currency     통화코드
+     * @param message      오류 메시지
+     */
+    public record ExchangeError(
+            String exchangeCode,
+            String currency,
+            String message
+    ) {
+    }
+}
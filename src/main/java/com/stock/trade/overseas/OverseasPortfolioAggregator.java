@@ -0,0 +1,223 @@
+package com.stock.trade.overseas;
+
+import com.stock.trade.account.KisAccount;
+import com.stock.trade.account.KisAccountRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 해외주식 전체 거래소 포트폴리오 집계
+ *
+ * - 모든 거래소/통화 잔고를 동시에 조회 (공용 속도 제한기를 거치므로 별도 제한 불필요)
+ * - 해외증거금 API 환율을 캐시해 원화로 환산 (환율은 계좌와 무관하므로 캐시 공유)
+ * - 일부 거래소 조회가 실패해도 나머지 결과와 거래소별 오류를 함께 반환
+ * - 전체 소요 시간은 가장 느린 거래소 조회 시간에 가까움
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OverseasPortfolioAggregator {
+
+    /**
+     * 잔고 조회 대상 (OverseasExchange 의 잔고 조회 거래소코드/통화, 미국은 NASD 하나로 합침)
+     */
+    private static final List<BalanceQuery> BALANCE_QUERIES = balanceQueries();
+
+    /**
+     * 100 단위로 고시되는 통화 (원/100엔, 원/100동)
+     */
+    private static final Map<String, BigDecimal> RATE_UNITS = Map.of(
+            "JPY", BigDecimal.valueOf(100),
+            "VND", BigDecimal.valueOf(100)
+    );
+
+    private static final Duration EXCHANGE_TIMEOUT = Duration.ofSeconds(15);
+    private static final Duration FX_RATE_TTL = Duration.ofMinutes(10);
+
+    private final OverseasStockService stockService;
+    private final KisAccountRegistry accountRegistry;
+
+    private final AtomicReference<FxRates> fxRatesCache = new AtomicReference<>();
+
+    /**
+     * 전체 거래소 포트폴리오 조회
+     *
+     * @return 원화 환산 통합 포트폴리오 (부분 실패 시 errors 포함)
+     */
+    public OverseasPortfolio getPortfolio() {
+        return getPortfolioAsync().block();
+    }
+
+    /**
+     * 전체 거래소 포트폴리오 조회 (비동기)
+     *
+     * @return 원화 환산 통합 포트폴리오 (부분 실패 시 errors 포함)
+     */
+    public Mono<OverseasPortfolio> getPortfolioAsync() {
+        return getPortfolioAsync(accountRegistry.getDefault());
+    }
+
+    /**
+     * 계좌의 전체 거래소 포트폴리오 조회 (비동기)
+     *
+     * @param account 조회 계좌
+     * @return 원화 환산 통합 포트폴리오 (부분 실패 시 errors 포함)
+     */
+    public Mono<OverseasPortfolio> getPortfolioAsync(KisAccount account) {
+        Mono<List<ExchangeResult>> balances = Flux.fromIterable(BALANCE_QUERIES)
+                .flatMap(query -> fetchExchange(account, query.exchangeCode(), query.currency()))
+                .collectList();
+        Mono<Map<String, BigDecimal>> fxRates = getFxRatesAsync(account)
+                .onErrorResume(e -> {
+                    log.warn("환율 조회 실패 - 원화 환산 생략: {}", e.getMessage());
+                    return Mono.just(Collections.<String, BigDecimal>emptyMap());
+                });
+
+        return Mono.zip(balances, fxRates)
+                .map(tuple -> aggregate(tuple.getT1(), tuple.getT2()));
+    }
+
+    /**
+     * 통화별 원화 환율 (캐시, 1통화 단위 기준)
+     */
+    public Mono<Map<String, BigDecimal>> getFxRatesAsync() {
+        return getFxRatesAsync(accountRegistry.getDefault());
+    }
+
+    /**
+     * 통화별 원화 환율 (캐시 만료 시 지정 계좌로 해외증거금 조회)
+     *
+     * @param account 캐시 미스 시 조회 계좌
+     */
+    public Mono<Map<String, BigDecimal>> getFxRatesAsync(KisAccount account) {
+        return Mono.defer(() -> {
+            FxRates cached = fxRatesCache.get();
+            if (cached != null && !cached.isExpired()) {
+                return Mono.just(cached.rates());
+            }
+            return stockService.getForeignMarginAsync(account).map(this::cacheFxRates);
+        });
+    }
+
+    // ==================== Private Methods ====================
+
+    private static List<BalanceQuery> balanceQueries() {
+        Map<String, BalanceQuery> queries = new LinkedHashMap<>();
+        for (OverseasExchange exchange : OverseasExchange.values()) {
+            String exchangeCode = exchange.getBalanceExchangeCode();
+            queries.putIfAbsent(exchangeCode, new BalanceQuery(exchangeCode, exchange.getCurrency()));
+        }
+        return List.copyOf(queries.values());
+    }
+
+    private Map<String, BigDecimal> cacheFxRates(List<ForeignMargin> margins) {
+        Map<String, BigDecimal> rates = new HashMap<>();
+        rates.put("KRW", BigDecimal.ONE);
+        for (ForeignMargin margin : margins) {
+            if (margin.currencyCode() == null || margin.exchangeRate() == null
+                    || margin.exchangeRate().signum() <= 0) {
+                continue;
+            }
+            BigDecimal unit = RATE_UNITS.getOrDefault(margin.currencyCode(), BigDecimal.ONE);
+            rates.put(margin.currencyCode(), margin.exchangeRate().divide(unit, 8, RoundingMode.HALF_UP));
+        }
+
+        Map<String, BigDecimal> immutableRates = Map.copyOf(rates);
+        fxRatesCache.set(new FxRates(immutableRates, System.nanoTime()));
+        log.info("환율 캐시 갱신 - {}", immutableRates);
+        return immutableRates;
+    }
+
+    private Mono<ExchangeResult> fetchExchange(KisAccount account, String exchangeCode, String currency) {
+        return stockService.getBalanceAsync(account, exchangeCode, currency)
+                .timeout(EXCHANGE_TIMEOUT)
+                .map(balances -> new ExchangeResult(exchangeCode, currency, balances, null))
+                .onErrorResume(e -> {
+                    log.warn("거래소 잔고 조회 실패 - 거래소: {}, 통화: {}, 오류: {}", exchangeCode, currency, e.getMessage());
+                    return Mono.just(new ExchangeResult(exchangeCode, currency, List.of(),
+                            new OverseasPortfolio.ExchangeError(exchangeCode, currency, e.getMessage())));
+                });
+    }
+
+    private OverseasPortfolio aggregate(List<ExchangeResult> results, Map<String, BigDecimal> fxRates) {
+        List<OverseasPortfolio.Holding> holdings = new ArrayList<>();
+        List<OverseasPortfolio.ExchangeError> errors = new ArrayList<>();
+        BigDecimal totalEvalAmountKrw = BigDecimal.ZERO;
+        BigDecimal totalProfitLossKrw = BigDecimal.ZERO;
+
+        // 거래소 순서 고정 (동시 조회라 완료 순서는 매번 다름)
+        results.sort((a, b) -> Integer.compare(indexOf(a.exchangeCode()), indexOf(b.exchangeCode())));
+
+        for (ExchangeResult result : results) {
+            if (result.error() != null) {
+                errors.add(result.error());
+                continue;
+            }
+            for (OverseasStockBalance balance : result.balances()) {
+                String currency = balance.currency() != null ? balance.currency() : result.currency();
+                BigDecimal fxRate = fxRates.get(currency);
+                BigDecimal evalAmountKrw = toKrw(balance.evalAmount(), fxRate);
+                BigDecimal profitLossKrw = toKrw(balance.profitLossAmount(), fxRate);
+
+                holdings.add(new OverseasPortfolio.Holding(balance, fxRate, evalAmountKrw, profitLossKrw));
+                if (evalAmountKrw != null) {
+                    totalEvalAmountKrw = totalEvalAmountKrw.add(evalAmountKrw);
+                }
+                if (profitLossKrw != null) {
+                    totalProfitLossKrw = totalProfitLossKrw.add(profitLossKrw);
+                }
+            }
+        }
+
+        log.info("해외 포트폴리오 집계 완료 - 보유 종목: {}, 총 평가금액: {}원, 실패 거래소: {}",
+                holdings.size(), totalEvalAmountKrw, errors.size());
+        return new OverseasPortfolio(holdings, fxRates, totalEvalAmountKrw, totalProfitLossKrw, errors);
+    }
+
+    private BigDecimal toKrw(BigDecimal amount, BigDecimal fxRate) {
+        if (amount == null || fxRate == null) {
+            return null;
+        }
+        return amount.multiply(fxRate).setScale(0, RoundingMode.HALF_UP);
+    }
+
+    private int indexOf(String exchangeCode) {
+        for (int i = 0; i < BALANCE_QUERIES.size(); i++) {
+            if (BALANCE_QUERIES.get(i).exchangeCode().equals(exchangeCode)) {
+                return i;
+            }
+        }
+        return BALANCE_QUERIES.size();
+    }
+
+    private record BalanceQuery(String exchangeCode, String currency) {
+    }
+
+    private record ExchangeResult(
+            String exchangeCode,
+            String currency,
+            List<OverseasStockBalance> balances,
+            OverseasPortfolio.ExchangeError error
+    ) {
+    }
+
+    private record FxRates(Map<String, BigDecimal> rates, long fetchedNanos) {
+        boolean isExpired() {
+            return System.nanoTime() - fetchedNanos > FX_RATE_TTL.toNanos();
+        }
+    }
+}
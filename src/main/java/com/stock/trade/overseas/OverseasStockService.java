@@ -1,29 +1,45 @@
 package com.stock.trade.overseas;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.stock.trade.config.KisProperties;
+import com.stock.trade.account.KisAccount;
+import com.stock.trade.account.KisAccountRegistry;
+import com.stock.trade.cache.AccountSnapshot;
+import com.stock.trade.cache.AccountSnapshotCache;
+import com.stock.trade.cache.KisRequestCoalescer;
+import com.stock.trade.cache.QuoteCache;
+import com.stock.trade.cache.QuoteMarket;
 import com.stock.trade.token.KisTokenManager;
+import com.stock.trade.util.KisPage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
-import java.util.Collections;
+import java.time.Duration;
 import java.util.List;
 
 /**
  * 해외주식 조회 서비스
+ * 현재가/잔고/해외증거금 조회는 동시에 들어온 동일 요청을 KisRequestCoalescer 로 병합
+ * 현재가는 QuoteCache(실시간 체결로 갱신)를 먼저 확인하고 미스/만료 시에만 REST 조회
+ * 잔고/해외증거금은 AccountSnapshotCache 스냅샷으로 제공 (주문/체결통보 시 무효화)
+ * KisAccount 를 받는 메서드는 해당 계좌의 인증 정보/계좌번호로 조회 (그 외는 현재 모드의 기본 계좌)
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class OverseasStockService {
 
-    private final KisProperties kisProperties;
+    private final KisAccountRegistry accountRegistry;
     private final KisTokenManager tokenManager;
     private final WebClient kisWebClient;
+    private final KisRequestCoalescer requestCoalescer;
+    private final QuoteCache quoteCache;
+    private final AccountSnapshotCache accountSnapshotCache;
 
     private static final String PRICE_API_PATH = "/uapi/overseas-price/v1/quotations/price";
     private static final String BALANCE_API_PATH = "/uapi/overseas-stock/v1/trading/inquire-balance";
@@ -36,16 +52,10 @@ public class OverseasStockService {
     private static final String TR_ID_FOREIGN_MARGIN = "TTTC2101R";
 
     /**
-     * 모의투자 여부
+     * KisAccount 를 받지 않는 메서드의 조회 계좌 (external.kis.demo-mode 의 기본 계좌)
      */
-    private boolean demoMode = false;
-
-    public void setDemoMode(boolean demoMode) {
-        this.demoMode = demoMode;
-    }
-
-    public boolean isDemoMode() {
-        return demoMode;
+    private KisAccount currentAccount() {
+        return accountRegistry.getDefault();
     }
 
     /**
@@ -59,6 +69,18 @@ public class OverseasStockService {
         return getPrice(exchange.getCode(), symbol);
     }
 
+    /**
+     * 해외주식 현재가 조회 (최대 허용 지연 지정)
+     *
+     * @param exchange     거래소
+     * @param symbol       종목코드
+     * @param maxStaleness 캐시 시세 최대 허용 지연 (ZERO 면 항상 REST 조회)
+     * @return 현재가 정보
+     */
+    public OverseasStockPrice getPrice(OverseasExchange exchange, String symbol, Duration maxStaleness) {
+        return getPrice(exchange.getCode(), symbol, maxStaleness);
+    }
+
     /**
      * 해외주식 현재가 조회
      *
@@ -67,43 +89,81 @@ public class OverseasStockService {
      * @return 현재가 정보
      */
     public OverseasStockPrice getPrice(String exchangeCode, String symbol) {
+        return getPrice(exchangeCode, symbol, null);
+    }
+
+    /**
+     * 해외주식 현재가 조회 (최대 허용 지연 지정)
+     *
+     * @param exchangeCode 거래소코드 (예: "NAS")
+     * @param symbol       종목코드 (예: "AAPL")
+     * @param maxStaleness 캐시 시세 최대 허용 지연 (null 이면 시장별 TTL, ZERO 면 항상 REST 조회)
+     * @return 현재가 정보
+     */
+    public OverseasStockPrice getPrice(String exchangeCode, String symbol, Duration maxStaleness) {
+        return getPriceAsync(exchangeCode, symbol, maxStaleness).block();
+    }
+
+    /**
+     * 해외주식 현재가 조회 (비동기)
+     *
+     * @param exchangeCode 거래소코드 (예: "NAS")
+     * @param symbol       종목코드 (예: "AAPL")
+     * @param maxStaleness 캐시 시세 최대 허용 지연 (null 이면 시장별 TTL, ZERO 면 항상 REST 조회)
+     * @return 현재가 정보
+     */
+    public Mono<OverseasStockPrice> getPriceAsync(String exchangeCode, String symbol, Duration maxStaleness) {
+        return getPriceAsync(currentAccount(), exchangeCode, symbol, maxStaleness);
+    }
+
+    /**
+     * 해외주식 현재가 조회 (비동기, 계좌 지정)
+     * 시세는 계좌와 무관하므로 캐시/병합은 모드 단위로 공유하고, REST 조회만 계좌의 인증 정보와 예산 사용
+     *
+     * @param account      조회 계좌
+     * @param exchangeCode 거래소코드 (예: "NAS")
+     * @param symbol       종목코드 (예: "AAPL")
+     * @param maxStaleness 캐시 시세 최대 허용 지연 (null 이면 시장별 TTL, ZERO 면 항상 REST 조회)
+     * @return 현재가 정보
+     */
+    public Mono<OverseasStockPrice> getPriceAsync(KisAccount account, String exchangeCode, String symbol,
+                                                  Duration maxStaleness) {
+        return quoteCache.getAsync(QuoteCache.overseasKey(exchangeCode, symbol),
+                QuoteMarket.fromExchangeCode(exchangeCode), OverseasStockPrice.class, maxStaleness,
+                () -> requestCoalescer.executeAsync(account.mode(), TR_ID_PRICE, exchangeCode + ":" + symbol,
+                        () -> fetchPrice(account, exchangeCode, symbol)));
+    }
+
+    private Mono<OverseasStockPrice> fetchPrice(KisAccount account, String exchangeCode, String symbol) {
         log.info("해외주식 현재가 조회 - 거래소: {}, 종목: {}", exchangeCode, symbol);
 
-        try {
-            PriceResponse response = kisWebClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path(PRICE_API_PATH)
-                            .queryParam("AUTH", "")
-                            .queryParam("EXCD", exchangeCode)
-                            .queryParam("SYMB", symbol)
-                            .build())
-                    .header("authorization", tokenManager.getAuthorizationHeader())
-                    .header("appkey", kisProperties.getEffectiveAppKey())
-                    .header("appsecret", kisProperties.getEffectiveAppSecret())
-                    .header("tr_id", TR_ID_PRICE)
-                    .accept(MediaType.APPLICATION_JSON)
-                    .retrieve()
-                    .bodyToMono(PriceResponse.class)
-                    .block();
-
-            if (response != null && response.isSuccess()) {
-                log.info("해외주식 현재가 조회 완료 - 종목: {}, 현재가: {}", symbol, response.output().currentPrice());
-                return response.output();
-            } else {
-                String errorMsg = response != null ? response.message() : "응답 없음";
-                log.error("해외주식 현재가 조회 실패 - 종목: {}, 오류: {}", symbol, errorMsg);
-                throw new OverseasStockException("해외주식 현재가 조회 실패: " + errorMsg);
-            }
-        } catch (WebClientResponseException e) {
-            log.error("해외주식 현재가 조회 API 오류 - 상태코드: {}, 응답: {}", e.getStatusCode(), e.getResponseBodyAsString());
-            throw new OverseasStockException("해외주식 현재가 조회 API 오류: " + e.getMessage(), e);
-        } catch (Exception e) {
-            if (e instanceof OverseasStockException) {
-                throw e;
-            }
-            log.error("해외주식 현재가 조회 중 예외 발생", e);
-            throw new OverseasStockException("해외주식 현재가 조회 중 오류: " + e.getMessage(), e);
-        }
+        return tokenManager.getAuthorizationHeaderAsync(account)
+                .flatMap(authorization -> kisWebClient.get()
+                        .uri(uriBuilder -> uriBuilder
+                                .path(PRICE_API_PATH)
+                                .queryParam("AUTH", "")
+                                .queryParam("EXCD", exchangeCode)
+                                .queryParam("SYMB", symbol)
+                                .build())
+                        .header("authorization", authorization)
+                        .header("appkey", account.appKey())
+                        .header("appsecret", account.appSecret())
+                        .header("tr_id", TR_ID_PRICE)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .attribute(KisAccount.ATTRIBUTE, account)
+                        .retrieve()
+                        .bodyToMono(PriceResponse.class))
+                .flatMap(response -> {
+                    if (response.isSuccess() && response.output() != null) {
+                        log.info("해외주식 현재가 조회 완료 - 종목: {}, 현재가: {}", symbol, response.output().currentPrice());
+                        return Mono.just(response.output());
+                    }
+                    String errorMsg = response.message();
+                    log.error("해외주식 현재가 조회 실패 - 종목: {}, 오류: {}", symbol, errorMsg);
+                    return Mono.<OverseasStockPrice>error(new OverseasStockException("해외주식 현재가 조회 실패: " + errorMsg));
+                })
+                .switchIfEmpty(Mono.error(() -> new OverseasStockException("해외주식 현재가 조회 실패: 응답 없음")))
+                .onErrorMap(e -> !(e instanceof OverseasStockException), e -> toStockException("해외주식 현재가 조회", e));
     }
 
     // ==================== 잔고 조회 ====================
@@ -125,58 +185,156 @@ public class OverseasStockService {
      * @return 보유 종목 목록
      */
     public List<OverseasStockBalance> getBalance(String exchangeCode, String currency) {
-        log.info("해외주식 잔고 조회 - 거래소: {}, 통화: {}, 모드: {}", exchangeCode, currency, demoMode ? "모의투자" : "실전투자");
+        return getBalanceAsync(exchangeCode, currency).block();
+    }
 
+    /**
+     * 해외주식 잔고 조회 (비동기)
+     *
+     * @param exchangeCode 거래소코드 (NASD: 미국전체, SEHK: 홍콩 등)
+     * @param currency     통화코드 (USD, HKD, CNY, JPY, VND)
+     * @return 보유 종목 목록
+     */
+    public Mono<List<OverseasStockBalance>> getBalanceAsync(String exchangeCode, String currency) {
+        return getBalanceSnapshotAsync(exchangeCode, currency).map(AccountSnapshot::items);
+    }
+
+    /**
+     * 해외주식 잔고 조회 (계좌 지정)
+     *
+     * @param account      조회 계좌
+     * @param exchangeCode 거래소코드 (NASD: 미국전체, SEHK: 홍콩 등)
+     * @param currency     통화코드 (USD, HKD, CNY, JPY, VND)
+     * @return 보유 종목 목록
+     */
+    public List<OverseasStockBalance> getBalance(KisAccount account, String exchangeCode, String currency) {
+        return getBalanceAsync(account, exchangeCode, currency).block();
+    }
+
+    /**
+     * 해외주식 잔고 조회 (비동기, 계좌 지정)
+     *
+     * @param account      조회 계좌
+     * @param exchangeCode 거래소코드 (NASD: 미국전체, SEHK: 홍콩 등)
+     * @param currency     통화코드 (USD, HKD, CNY, JPY, VND)
+     * @return 보유 종목 목록
+     */
+    public Mono<List<OverseasStockBalance>> getBalanceAsync(KisAccount account, String exchangeCode, String currency) {
+        return getBalanceSnapshotAsync(account, exchangeCode, currency).map(AccountSnapshot::items);
+    }
+
+    /**
+     * 해외주식 잔고 스냅샷 조회 (종목코드 색인 포함)
+     *
+     * @param exchangeCode 거래소코드 (NASD: 미국전체, SEHK: 홍콩 등)
+     * @param currency     통화코드 (USD, HKD, CNY, JPY, VND)
+     * @return 잔고 스냅샷
+     */
+    public AccountSnapshot<OverseasStockBalance> getBalanceSnapshot(String exchangeCode, String currency) {
+        return getBalanceSnapshotAsync(exchangeCode, currency).block();
+    }
+
+    /**
+     * 해외주식 잔고 스냅샷 조회 (비동기)
+     *
+     * @param exchangeCode 거래소코드 (NASD: 미국전체, SEHK: 홍콩 등)
+     * @param currency     통화코드 (USD, HKD, CNY, JPY, VND)
+     * @return 잔고 스냅샷
+     */
+    public Mono<AccountSnapshot<OverseasStockBalance>> getBalanceSnapshotAsync(String exchangeCode, String currency) {
+        return getBalanceSnapshotAsync(currentAccount(), exchangeCode, currency);
+    }
+
+    /**
+     * 해외주식 잔고 스냅샷 조회 (비동기, 계좌 지정)
+     *
+     * @param account      조회 계좌
+     * @param exchangeCode 거래소코드 (NASD: 미국전체, SEHK: 홍콩 등)
+     * @param currency     통화코드 (USD, HKD, CNY, JPY, VND)
+     * @return 잔고 스냅샷
+     */
+    public Mono<AccountSnapshot<OverseasStockBalance>> getBalanceSnapshotAsync(KisAccount account, String exchangeCode,
+                                                                              String currency) {
+        String params = account.id() + ":" + exchangeCode + ":" + currency;
+        return accountSnapshotCache.getAsync("overseas-balance:" + params,
+                () -> requestCoalescer.executeAsync(account.mode(), TR_ID_BALANCE, params,
+                        () -> fetchBalance(account, exchangeCode, currency)),
+                OverseasStockBalance::symbol);
+    }
+
+    private Mono<List<OverseasStockBalance>> fetchBalance(KisAccount account, String exchangeCode, String currency) {
+        log.info("해외주식 잔고 조회 - 거래소: {}, 통화: {}, 계좌: {}", exchangeCode, currency, account);
+
+        return streamBalance(account, exchangeCode, currency)
+                .collectList()
+                .doOnNext(balances -> log.info("해외주식 잔고 조회 완료 - 보유 종목 수: {}", balances.size()));
+    }
+
+    /**
+     * 해외주식 잔고 스트리밍 조회 (연속조회)
+     * tr_cont 와 연속조회키를 따라 다음 페이지를 필요할 때 조회하며, 캐시를 거치지 않음
+     *
+     * @param exchangeCode 거래소코드 (NASD: 미국전체, SEHK: 홍콩 등)
+     * @param currency     통화코드 (USD, HKD, CNY, JPY, VND)
+     * @return 보유 종목 (페이지 순서대로)
+     */
+    public Flux<OverseasStockBalance> streamBalance(String exchangeCode, String currency) {
+        return streamBalance(currentAccount(), exchangeCode, currency);
+    }
+
+    /**
+     * 해외주식 잔고 스트리밍 조회 (연속조회, 계좌 지정)
+     *
+     * @param account      조회 계좌
+     * @param exchangeCode 거래소코드 (NASD: 미국전체, SEHK: 홍콩 등)
+     * @param currency     통화코드 (USD, HKD, CNY, JPY, VND)
+     * @return 보유 종목 (페이지 순서대로)
+     */
+    public Flux<OverseasStockBalance> streamBalance(KisAccount account, String exchangeCode, String currency) {
         // 계좌 정보 확인
-        if (kisProperties.getEffectiveAccountNumber() == null || kisProperties.getEffectiveAccountNumber().isBlank()) {
-            throw new OverseasStockException("계좌번호가 설정되지 않았습니다");
+        if (!account.hasAccountNumber()) {
+            return Flux.error(new OverseasStockException("계좌번호가 설정되지 않았습니다: " + account.id()));
         }
 
-        // 모의투자 모드면 TR ID 앞에 V를 붙임
-        String trId = demoMode ? "V" + TR_ID_BALANCE.substring(1) : TR_ID_BALANCE;
-
-        try {
-            BalanceResponse response = kisWebClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path(BALANCE_API_PATH)
-                            .queryParam("CANO", kisProperties.getEffectiveAccountNumber())
-                            .queryParam("ACNT_PRDT_CD", kisProperties.getEffectiveAccountProductCode())
-                            .queryParam("OVRS_EXCG_CD", exchangeCode)
-                            .queryParam("TR_CRCY_CD", currency)
-                            .queryParam("CTX_AREA_FK200", "")
-                            .queryParam("CTX_AREA_NK200", "")
-                            .build())
-                    .header("authorization", tokenManager.getAuthorizationHeader())
-                    .header("appkey", kisProperties.getEffectiveAppKey())
-                    .header("appsecret", kisProperties.getEffectiveAppSecret())
-                    .header("tr_id", trId)
-                    .accept(MediaType.APPLICATION_JSON)
-                    .retrieve()
-                    .bodyToMono(BalanceResponse.class)
-                    .block();
-
-            if (response != null && response.isSuccess()) {
-                List<OverseasStockBalance> balances = response.output1() != null
-                        ? response.output1()
-                        : Collections.emptyList();
-                log.info("해외주식 잔고 조회 완료 - 보유 종목 수: {}", balances.size());
-                return balances;
-            } else {
-                String errorMsg = response != null ? response.message() : "응답 없음";
-                log.error("해외주식 잔고 조회 실패 - 오류: {}", errorMsg);
-                throw new OverseasStockException("해외주식 잔고 조회 실패: " + errorMsg);
-            }
-        } catch (WebClientResponseException e) {
-            log.error("해외주식 잔고 조회 API 오류 - 상태코드: {}, 응답: {}",
-                    e.getStatusCode(), e.getResponseBodyAsString());
-            throw new OverseasStockException("해외주식 잔고 조회 API 오류: " + e.getMessage(), e);
-        } catch (Exception e) {
-            if (e instanceof OverseasStockException) {
-                throw e;
-            }
-            log.error("해외주식 잔고 조회 중 예외 발생", e);
-            throw new OverseasStockException("해외주식 잔고 조회 중 오류: " + e.getMessage(), e);
-        }
+        String trId = account.trId(TR_ID_BALANCE);
+
+        return KisPage.<OverseasStockBalance>stream(previous -> fetchBalancePage(account, exchangeCode, currency, trId, previous))
+                .onErrorMap(e -> !(e instanceof OverseasStockException), e -> toStockException("해외주식 잔고 조회", e));
+    }
+
+    private Mono<KisPage<OverseasStockBalance>> fetchBalancePage(KisAccount account, String exchangeCode, String currency,
+                                                                 String trId, KisPage<OverseasStockBalance> previous) {
+        return tokenManager.getAuthorizationHeaderAsync(account)
+                .flatMap(authorization -> kisWebClient.get()
+                        .uri(uriBuilder -> uriBuilder
+                                .path(BALANCE_API_PATH)
+                                .queryParam("CANO", account.accountNumber())
+                                .queryParam("ACNT_PRDT_CD", account.accountProductCode())
+                                .queryParam("OVRS_EXCG_CD", exchangeCode)
+                                .queryParam("TR_CRCY_CD", currency)
+                                .queryParam("CTX_AREA_FK200", KisPage.ctxAreaFk(previous))
+                                .queryParam("CTX_AREA_NK200", KisPage.ctxAreaNk(previous))
+                                .build())
+                        .header("authorization", authorization)
+                        .header("appkey", account.appKey())
+                        .header("appsecret", account.appSecret())
+                        .header("tr_id", trId)
+                        .header(KisPage.TR_CONT_HEADER, KisPage.trCont(previous))
+                        .accept(MediaType.APPLICATION_JSON)
+                        .attribute(KisAccount.ATTRIBUTE, account)
+                        .retrieve()
+                        .toEntity(BalanceResponse.class))
+                .flatMap(entity -> {
+                    BalanceResponse response = entity.getBody();
+                    if (response == null || !response.isSuccess()) {
+                        String errorMsg = response != null ? response.message() : "응답 없음";
+                        log.error("해외주식 잔고 조회 실패 - 오류: {}", errorMsg);
+                        return Mono.error(new OverseasStockException("해외주식 잔고 조회 실패: " + errorMsg));
+                    }
+                    return Mono.just(new KisPage<>(response.output1(),
+                            entity.getHeaders().getFirst(KisPage.TR_CONT_HEADER),
+                            response.ctxAreaFk200(), response.ctxAreaNk200()));
+                });
     }
 
     /**
@@ -186,10 +344,19 @@ public class OverseasStockService {
      * @return 보유 정보 (없으면 null)
      */
     public OverseasStockBalance getBalanceBySymbol(String symbol) {
-        return getBalance().stream()
-                .filter(b -> symbol.equals(b.symbol()))
-                .findFirst()
-                .orElse(null);
+        return getBalanceSnapshot("NASD", "USD").find(symbol);
+    }
+
+    /**
+     * 특정 종목 보유 여부 확인 (계좌 지정)
+     *
+     * @param account 조회 계좌
+     * @param symbol  종목코드
+     * @return 보유 정보 (없으면 null)
+     */
+    public OverseasStockBalance getBalanceBySymbol(KisAccount account, String symbol) {
+        AccountSnapshot<OverseasStockBalance> snapshot = getBalanceSnapshotAsync(account, "NASD", "USD").block();
+        return snapshot != null ? snapshot.find(symbol) : null;
     }
 
     // ==================== 매수가능금액 조회 ====================
@@ -203,7 +370,7 @@ public class OverseasStockService {
      * @return 매수가능금액 정보
      */
     public OverseasPurchasableAmount getPurchasableAmount(OverseasExchange exchange, String symbol, java.math.BigDecimal price) {
-        return getPurchasableAmount(getApiExchangeCode(exchange), symbol, price);
+        return getPurchasableAmount(exchange.getApiExchangeCode(), symbol, price);
     }
 
     /**
@@ -215,53 +382,86 @@ public class OverseasStockService {
      * @return 매수가능금액 정보
      */
     public OverseasPurchasableAmount getPurchasableAmount(String exchangeCode, String symbol, java.math.BigDecimal price) {
-        log.info("해외주식 매수가능금액 조회 - 거래소: {}, 종목: {}, 가격: {}", exchangeCode, symbol, price);
+        return getPurchasableAmountAsync(exchangeCode, symbol, price).block();
+    }
 
-        if (kisProperties.getEffectiveAccountNumber() == null || kisProperties.getEffectiveAccountNumber().isBlank()) {
-            throw new OverseasStockException("계좌번호가 설정되지 않았습니다");
-        }
+    /**
+     * 해외주식 매수가능금액 조회 (비동기)
+     *
+     * @param exchangeCode 거래소코드 (NASD, NYSE 등)
+     * @param symbol       종목코드
+     * @param price        주문단가
+     * @return 매수가능금액 정보
+     */
+    public Mono<OverseasPurchasableAmount> getPurchasableAmountAsync(String exchangeCode, String symbol,
+                                                                    java.math.BigDecimal price) {
+        return getPurchasableAmountAsync(currentAccount(), exchangeCode, symbol, price);
+    }
+
+    /**
+     * 해외주식 매수가능금액 조회 (비동기, 계좌 지정)
+     *
+     * @param account  조회 계좌
+     * @param exchange 거래소
+     * @param symbol   종목코드
+     * @param price    주문단가
+     * @return 매수가능금액 정보
+     */
+    public Mono<OverseasPurchasableAmount> getPurchasableAmountAsync(KisAccount account, OverseasExchange exchange,
+                                                                    String symbol, java.math.BigDecimal price) {
+        return getPurchasableAmountAsync(account, exchange.getApiExchangeCode(), symbol, price);
+    }
+
+    /**
+     * 해외주식 매수가능금액 조회 (비동기, 계좌 지정)
+     *
+     * @param account      조회 계좌
+     * @param exchangeCode 거래소코드 (NASD, NYSE 등)
+     * @param symbol       종목코드
+     * @param price        주문단가
+     * @return 매수가능금액 정보
+     */
+    public Mono<OverseasPurchasableAmount> getPurchasableAmountAsync(KisAccount account, String exchangeCode,
+                                                                    String symbol, java.math.BigDecimal price) {
+        log.info("해외주식 매수가능금액 조회 - 계좌: {}, 거래소: {}, 종목: {}, 가격: {}", account, exchangeCode, symbol, price);
 
-        String trId = demoMode ? "V" + TR_ID_PSAMOUNT.substring(1) : TR_ID_PSAMOUNT;
-
-        try {
-            PurchasableAmountResponse response = kisWebClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path(PSAMOUNT_API_PATH)
-                            .queryParam("CANO", kisProperties.getEffectiveAccountNumber())
-                            .queryParam("ACNT_PRDT_CD", kisProperties.getEffectiveAccountProductCode())
-                            .queryParam("OVRS_EXCG_CD", exchangeCode)
-                            .queryParam("OVRS_ORD_UNPR", price.toPlainString())
-                            .queryParam("ITEM_CD", symbol)
-                            .build())
-                    .header("authorization", tokenManager.getAuthorizationHeader())
-                    .header("appkey", kisProperties.getEffectiveAppKey())
-                    .header("appsecret", kisProperties.getEffectiveAppSecret())
-                    .header("tr_id", trId)
-                    .accept(MediaType.APPLICATION_JSON)
-                    .retrieve()
-                    .bodyToMono(PurchasableAmountResponse.class)
-                    .block();
-
-            if (response != null && response.isSuccess()) {
-                log.info("해외주식 매수가능금액 조회 완료 - 종목: {}, 매수가능수량: {}, 외화잔액: {}",
-                        symbol, response.output().purchasableQuantity(), response.output().availableAmount());
-                return response.output();
-            } else {
-                String errorMsg = response != null ? response.message() : "응답 없음";
-                log.error("해외주식 매수가능금액 조회 실패 - 오류: {}", errorMsg);
-                throw new OverseasStockException("해외주식 매수가능금액 조회 실패: " + errorMsg);
-            }
-        } catch (WebClientResponseException e) {
-            log.error("해외주식 매수가능금액 조회 API 오류 - 상태코드: {}, 응답: {}",
-                    e.getStatusCode(), e.getResponseBodyAsString());
-            throw new OverseasStockException("해외주식 매수가능금액 조회 API 오류: " + e.getMessage(), e);
-        } catch (Exception e) {
-            if (e instanceof OverseasStockException) {
-                throw e;
-            }
-            log.error("해외주식 매수가능금액 조회 중 예외 발생", e);
-            throw new OverseasStockException("해외주식 매수가능금액 조회 중 오류: " + e.getMessage(), e);
+        if (!account.hasAccountNumber()) {
+            return Mono.error(new OverseasStockException("계좌번호가 설정되지 않았습니다: " + account.id()));
         }
+
+        String trId = account.trId(TR_ID_PSAMOUNT);
+
+        return tokenManager.getAuthorizationHeaderAsync(account)
+                .flatMap(authorization -> kisWebClient.get()
+                        .uri(uriBuilder -> uriBuilder
+                                .path(PSAMOUNT_API_PATH)
+                                .queryParam("CANO", account.accountNumber())
+                                .queryParam("ACNT_PRDT_CD", account.accountProductCode())
+                                .queryParam("OVRS_EXCG_CD", exchangeCode)
+                                .queryParam("OVRS_ORD_UNPR", price.toPlainString())
+                                .queryParam("ITEM_CD", symbol)
+                                .build())
+                        .header("authorization", authorization)
+                        .header("appkey", account.appKey())
+                        .header("appsecret", account.appSecret())
+                        .header("tr_id", trId)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .attribute(KisAccount.ATTRIBUTE, account)
+                        .retrieve()
+                        .bodyToMono(PurchasableAmountResponse.class))
+                .flatMap(response -> {
+                    if (response.isSuccess() && response.output() != null) {
+                        log.info("해외주식 매수가능금액 조회 완료 - 종목: {}, 매수가능수량: {}, 외화잔액: {}",
+                                symbol, response.output().purchasableQuantity(), response.output().availableAmount());
+                        return Mono.just(response.output());
+                    }
+                    String errorMsg = response.message();
+                    log.error("해외주식 매수가능금액 조회 실패 - 오류: {}", errorMsg);
+                    return Mono.<OverseasPurchasableAmount>error(
+                            new OverseasStockException("해외주식 매수가능금액 조회 실패: " + errorMsg));
+                })
+                .switchIfEmpty(Mono.error(() -> new OverseasStockException("해외주식 매수가능금액 조회 실패: 응답 없음")))
+                .onErrorMap(e -> !(e instanceof OverseasStockException), e -> toStockException("해외주식 매수가능금액 조회", e));
     }
 
     /**
@@ -270,61 +470,89 @@ public class OverseasStockService {
      * @return 통화별 증거금 목록
      */
     public List<ForeignMargin> getForeignMargin() {
-        log.info("해외증거금 통화별 조회");
+        return getForeignMarginAsync().block();
+    }
 
-        if (kisProperties.getEffectiveAccountNumber() == null || kisProperties.getEffectiveAccountNumber().isBlank()) {
-            throw new OverseasStockException("계좌번호가 설정되지 않았습니다");
-        }
+    /**
+     * 해외증거금 통화별 조회 (계좌 지정)
+     *
+     * @param account 조회 계좌
+     * @return 통화별 증거금 목록
+     */
+    public List<ForeignMargin> getForeignMargin(KisAccount account) {
+        return getForeignMarginAsync(account).block();
+    }
+
+    /**
+     * 해외증거금 통화별 조회 (비동기)
+     *
+     * @return 통화별 증거금 목록
+     */
+    public Mono<List<ForeignMargin>> getForeignMarginAsync() {
+        return getForeignMarginAsync(currentAccount());
+    }
+
+    /**
+     * 해외증거금 통화별 조회 (비동기, 계좌 지정)
+     *
+     * @param account 조회 계좌
+     * @return 통화별 증거금 목록
+     */
+    public Mono<List<ForeignMargin>> getForeignMarginAsync(KisAccount account) {
+        return accountSnapshotCache.getAsync("overseas-margin:" + account.id(),
+                () -> requestCoalescer.executeAsync(account.mode(), TR_ID_FOREIGN_MARGIN, account.id(),
+                        () -> fetchForeignMargin(account)),
+                ForeignMargin::currencyCode).map(AccountSnapshot::items);
+    }
+
+    private Mono<List<ForeignMargin>> fetchForeignMargin(KisAccount account) {
+        log.info("해외증거금 통화별 조회 - 계좌: {}", account);
 
-        try {
-            ForeignMarginResponse response = kisWebClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path(FOREIGN_MARGIN_API_PATH)
-                            .queryParam("CANO", kisProperties.getEffectiveAccountNumber())
-                            .queryParam("ACNT_PRDT_CD", kisProperties.getEffectiveAccountProductCode())
-                            .build())
-                    .header("authorization", tokenManager.getAuthorizationHeader())
-                    .header("appkey", kisProperties.getEffectiveAppKey())
-                    .header("appsecret", kisProperties.getEffectiveAppSecret())
-                    .header("tr_id", TR_ID_FOREIGN_MARGIN)
-                    .accept(MediaType.APPLICATION_JSON)
-                    .retrieve()
-                    .bodyToMono(ForeignMarginResponse.class)
-                    .block();
-
-            if (response != null && response.isSuccess()) {
-                log.info("해외증거금 통화별 조회 완료 - {}건", response.output().size());
-                return response.output();
-            } else {
-                String errorMsg = response != null ? response.message() : "응답 없음";
-                log.error("해외증거금 통화별 조회 실패 - 오류: {}", errorMsg);
-                throw new OverseasStockException("해외증거금 통화별 조회 실패: " + errorMsg);
-            }
-        } catch (WebClientResponseException e) {
-            log.error("해외증거금 통화별 조회 API 오류 - 상태코드: {}, 응답: {}",
-                    e.getStatusCode(), e.getResponseBodyAsString());
-            throw new OverseasStockException("해외증거금 통화별 조회 API 오류: " + e.getMessage(), e);
-        } catch (Exception e) {
-            if (e instanceof OverseasStockException) {
-                throw e;
-            }
-            log.error("해외증거금 통화별 조회 중 예외 발생", e);
-            throw new OverseasStockException("해외증거금 통화별 조회 중 오류: " + e.getMessage(), e);
+        if (!account.hasAccountNumber()) {
+            return Mono.error(new OverseasStockException("계좌번호가 설정되지 않았습니다: " + account.id()));
         }
+
+        return tokenManager.getAuthorizationHeaderAsync(account)
+                .flatMap(authorization -> kisWebClient.get()
+                        .uri(uriBuilder -> uriBuilder
+                                .path(FOREIGN_MARGIN_API_PATH)
+                                .queryParam("CANO", account.accountNumber())
+                                .queryParam("ACNT_PRDT_CD", account.accountProductCode())
+                                .build())
+                        .header("authorization", authorization)
+                        .header("appkey", account.appKey())
+                        .header("appsecret", account.appSecret())
+                        .header("tr_id", TR_ID_FOREIGN_MARGIN)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .attribute(KisAccount.ATTRIBUTE, account)
+                        .retrieve()
+                        .bodyToMono(ForeignMarginResponse.class))
+                .flatMap(response -> {
+                    if (response.isSuccess()) {
+                        List<ForeignMargin> margins = response.output() != null ? response.output() : List.of();
+                        log.info("해외증거금 통화별 조회 완료 - {}건", margins.size());
+                        return Mono.just(margins);
+                    }
+                    String errorMsg = response.message();
+                    log.error("해외증거금 통화별 조회 실패 - 오류: {}", errorMsg);
+                    return Mono.<List<ForeignMargin>>error(new OverseasStockException("해외증거금 통화별 조회 실패: " + errorMsg));
+                })
+                .switchIfEmpty(Mono.error(() -> new OverseasStockException("해외증거금 통화별 조회 실패: 응답 없음")))
+                .onErrorMap(e -> !(e instanceof OverseasStockException), e -> toStockException("해외증거금 통화별 조회", e));
     }
 
-    private String getApiExchangeCode(OverseasExchange exchange) {
-        return switch (exchange) {
-            case NASDAQ, NASDAQ_DAY -> "NASD";
-            case NYSE, NYSE_DAY -> "NYSE";
-            case AMEX, AMEX_DAY -> "AMEX";
-            case HONG_KONG -> "SEHK";
-            case SHANGHAI, SHANGHAI_INDEX -> "SHAA";
-            case SHENZHEN, SHENZHEN_INDEX -> "SZAA";
-            case TOKYO -> "TKSE";
-            case HO_CHI_MINH -> "VNSE";
-            case HANOI -> "HASE";
-        };
+    /**
+     * WebClient/역직렬화 예외를 조회 예외로 변환
+     *
+     * @param action 조회 이름 (로그/메시지 접두어)
+     */
+    private OverseasStockException toStockException(String action, Throwable e) {
+        if (e instanceof WebClientResponseException we) {
+            log.error("{} API 오류 - 상태코드: {}, 응답: {}", action, we.getStatusCode(), we.getResponseBodyAsString());
+            return new OverseasStockException(action + " API 오류: " + e.getMessage(), e);
+        }
+        log.error("{} 중 예외 발생", action, e);
+        return new OverseasStockException(action + " 중 오류: " + e.getMessage(), e);
     }
 
     // ==================== Response Records ====================
@@ -350,6 +578,8 @@ public class OverseasStockService {
             @JsonProperty("rt_cd") String returnCode,
             @JsonProperty("msg_cd") String messageCode,
             @JsonProperty("msg1") String message,
+            @JsonProperty("ctx_area_fk200") String ctxAreaFk200,      // 연속조회검색조건
+            @JsonProperty("ctx_area_nk200") String ctxAreaNk200,      // 연속조회키
             @JsonProperty("output1") List<OverseasStockBalance> output1  // 보유 종목 목록
     ) {
         boolean isSuccess() {
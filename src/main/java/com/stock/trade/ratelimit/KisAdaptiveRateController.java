@@ -0,0 +1,208 @@
+package com.stock.trade.ratelimit;
+
+import com.stock.trade.account.KisAccount;
+import com.stock.trade.config.KisMode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * KIS API 적응형 속도 제어 (AIMD)
+ *
+ * - 성공 응답마다 충전 속도를 additiveIncrease 만큼 증가 (상한 maxPermitsPerSecond)
+ * - 유량 제한 응답(EGW00201, HTTP 429, 연속 5xx) 시 multiplicativeDecrease 비율로 감소 (하한 minPermitsPerSecond)
+ * - 동시에 실패한 요청들로 여러 번 감소하지 않도록 decreaseCooldown 동안 추가 감소 무시
+ * - 증가/감소는 버킷 lock 안에서 읽고 바꾸므로 동시 성공 응답이 감소를 덮어쓰지 않음
+ * - 학습된 속도는 계좌별로 KisRateLimiter 버킷에 반영 (모드만 지정하면 모드의 기본 계좌)
+ */
+@Slf4j
+@Component
+public class KisAdaptiveRateController {
+
+    private final KisRateLimitProperties properties;
+    private final KisRateLimiter rateLimiter;
+    private final MeterRegistry meterRegistry;
+
+    // 계좌 ID -> 상태
+    private final Map<String, BudgetState> states = new ConcurrentHashMap<>();
+
+    public KisAdaptiveRateController(KisRateLimitProperties properties,
+                                     KisRateLimiter rateLimiter,
+                                     MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.rateLimiter = rateLimiter;
+        this.meterRegistry = meterRegistry;
+
+        for (KisMode mode : KisMode.values()) {
+            state(KisAccount.primaryId(mode), mode);
+        }
+    }
+
+    /**
+     * 정상 응답 수신 (가산 증가)
+     */
+    public void onSuccess(KisMode mode) {
+        onSuccess(state(KisAccount.primaryId(mode), mode));
+    }
+
+    public void onSuccess(KisAccount account) {
+        onSuccess(state(account.id(), account.mode()));
+    }
+
+    /**
+     * 유량 제한 응답 수신 (EGW00201, HTTP 429) - 승산 감소
+     */
+    public void onThrottled(KisMode mode, String reason) {
+        onThrottled(state(KisAccount.primaryId(mode), mode), reason);
+    }
+
+    public void onThrottled(KisAccount account, String reason) {
+        onThrottled(state(account.id(), account.mode()), reason);
+    }
+
+    /**
+     * 서버 오류 수신 (연속 serverErrorBurst 회 이상이면 유량 제한으로 간주)
+     */
+    public void onServerError(KisMode mode, int status) {
+        onServerError(state(KisAccount.primaryId(mode), mode), status);
+    }
+
+    public void onServerError(KisAccount account, int status) {
+        onServerError(state(account.id(), account.mode()), status);
+    }
+
+    /**
+     * 모드의 기본 계좌 상태 (actuator 노출용)
+     */
+    public Map<String, Object> getStatus(KisMode mode) {
+        return getStatus(state(KisAccount.primaryId(mode), mode));
+    }
+
+    /**
+     * 계좌별 현재 상태 (actuator 노출용)
+     */
+    public Map<String, Object> getStatus(KisAccount account) {
+        return getStatus(state(account.id(), account.mode()));
+    }
+
+    // ==================== Private Methods ====================
+
+    private BudgetState state(String accountId, KisMode mode) {
+        return states.computeIfAbsent(accountId, id -> {
+            BudgetState state = new BudgetState(id, mode);
+            Gauge.builder("kis.ratelimit.permits", rateLimiter, limiter -> limiter.getPermitsPerSecond(id, mode))
+                    .description("KIS API 학습된 초당 허용 건수")
+                    .tag("mode", mode.name().toLowerCase())
+                    .tag("account", id)
+                    .register(meterRegistry);
+            state.throttledCounter = Counter.builder("kis.ratelimit.throttled")
+                    .description("KIS 유량 제한 응답 수")
+                    .tag("mode", mode.name().toLowerCase())
+                    .tag("account", id)
+                    .register(meterRegistry);
+            return state;
+        });
+    }
+
+    private void onSuccess(BudgetState state) {
+        synchronized (state) {
+            state.consecutiveServerErrors = 0;
+        }
+        if (!properties.getAdaptive().isEnabled()) {
+            return;
+        }
+
+        double max = state.budget().getEffectiveMaxPermitsPerSecond();
+        double increase = properties.getAdaptive().getAdditiveIncrease();
+        rateLimiter.adjustPermitsPerSecond(state.accountId, state.mode,
+                current -> current >= max ? current : Math.min(max, current + increase));
+    }
+
+    private void onThrottled(BudgetState state, String reason) {
+        state.throttledCounter.increment();
+        decrease(state, reason);
+    }
+
+    private void onServerError(BudgetState state, int status) {
+        boolean burst;
+        synchronized (state) {
+            state.consecutiveServerErrors++;
+            burst = state.consecutiveServerErrors >= properties.getAdaptive().getServerErrorBurst();
+            if (burst) {
+                state.consecutiveServerErrors = 0;
+            }
+        }
+        if (burst) {
+            onThrottled(state, "연속 HTTP " + status);
+        }
+    }
+
+    private Map<String, Object> getStatus(BudgetState state) {
+        KisRateLimitProperties.Budget budget = state.budget();
+
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("mode", state.mode.name().toLowerCase());
+        status.put("adaptive", properties.getAdaptive().isEnabled());
+        status.put("permitsPerSecond", rateLimiter.getPermitsPerSecond(state.accountId, state.mode));
+        status.put("initialPermitsPerSecond", budget.getPermitsPerSecond());
+        status.put("minPermitsPerSecond", budget.getEffectiveMinPermitsPerSecond());
+        status.put("maxPermitsPerSecond", budget.getEffectiveMaxPermitsPerSecond());
+        status.put("queueDepth", rateLimiter.getQueueDepth(state.accountId, state.mode));
+        status.put("throttledCount", (long) state.throttledCounter.count());
+        synchronized (state) {
+            status.put("lastDecreaseReason", state.lastDecreaseReason);
+        }
+        return status;
+    }
+
+    private void decrease(BudgetState state, String reason) {
+        if (!properties.getAdaptive().isEnabled()) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        synchronized (state) {
+            long cooldownNanos = properties.getAdaptive().getDecreaseCooldown().toNanos();
+            if (state.lastDecreaseNanos != 0 && now - state.lastDecreaseNanos < cooldownNanos) {
+                return;
+            }
+            state.lastDecreaseNanos = now;
+            state.lastDecreaseReason = reason;
+        }
+
+        double min = state.budget().getEffectiveMinPermitsPerSecond();
+        double factor = properties.getAdaptive().getMultiplicativeDecrease();
+        double[] previous = new double[1];
+        double next = rateLimiter.adjustPermitsPerSecond(state.accountId, state.mode, current -> {
+            previous[0] = current;
+            return Math.max(min, current * factor);
+        });
+
+        log.warn("KIS 유량 제한 감지 ({}, {}): 초당 {} → {}건",
+                state.accountId, reason, String.format("%.2f", previous[0]), String.format("%.2f", next));
+    }
+
+    private final class BudgetState {
+        private final String accountId;
+        private final KisMode mode;
+        private Counter throttledCounter;
+        private int consecutiveServerErrors;
+        private long lastDecreaseNanos;
+        private String lastDecreaseReason;
+
+        private BudgetState(String accountId, KisMode mode) {
+            this.accountId = accountId;
+            this.mode = mode;
+        }
+
+        KisRateLimitProperties.Budget budget() {
+            return properties.getBudget(accountId, mode.isDemo());
+        }
+    }
+}
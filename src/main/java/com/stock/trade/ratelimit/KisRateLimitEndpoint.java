@@ -0,0 +1,33 @@
+package com.stock.trade.ratelimit;
+
+import com.stock.trade.account.KisAccount;
+import com.stock.trade.account.KisAccountRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * KIS 속도 제한 상태 actuator 엔드포인트
+ * GET /actuator/kisratelimit - 계좌별 학습된 초당 허용 건수, 대기열 길이 등
+ */
+@Component
+@Endpoint(id = "kisratelimit")
+@RequiredArgsConstructor
+public class KisRateLimitEndpoint {
+
+    private final KisAdaptiveRateController adaptiveRateController;
+    private final KisAccountRegistry accountRegistry;
+
+    @ReadOperation
+    public Map<String, Object> rateLimits() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (KisAccount account : accountRegistry.getAll()) {
+            result.put(account.id(), adaptiveRateController.getStatus(account));
+        }
+        return result;
+    }
+}
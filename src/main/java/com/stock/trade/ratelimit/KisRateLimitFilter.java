@@ -0,0 +1,114 @@
+package com.stock.trade.ratelimit;
+
+import com.stock.trade.account.KisAccount;
+import com.stock.trade.account.KisAccountRegistry;
+import com.stock.trade.config.KisMode;
+import com.stock.trade.config.KisProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+
+/**
+ * KIS WebClient 속도 제한 필터
+ * 모든 KIS REST 호출(조회/주문/토큰 발급)이 KisRateLimiter를 거치도록 함
+ * 예산은 요청 attribute(KisAccount.ATTRIBUTE)의 계좌, 없으면 요청 서버 모드의 기본 계좌 기준
+ * 우선순위는 요청 attribute(KisRequestPriority.ATTRIBUTE) → TR ID 순으로 결정
+ * 응답 상태는 KisAdaptiveRateController 에 전달해 초당 허용 건수 학습
+ */
+@Component
+@RequiredArgsConstructor
+public class KisRateLimitFilter implements ExchangeFilterFunction {
+
+    static final String TR_ID_HEADER = "tr_id";
+
+    /**
+     * KIS 초당 거래건수 초과 오류 코드 (HTTP 500 으로 응답)
+     */
+    static final String RATE_EXCEEDED_CODE = "EGW00201";
+
+    private final KisRateLimiter rateLimiter;
+    private final KisProperties kisProperties;
+    private final KisAccountRegistry accountRegistry;
+    private final KisRateLimitProperties rateLimitProperties;
+    private final KisAdaptiveRateController adaptiveRateController;
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        KisAccount account = resolveAccount(request);
+        String trId = request.headers().getFirst(TR_ID_HEADER);
+        KisRequestPriority priority = resolvePriority(request, trId);
+
+        return rateLimiter.acquire(account, trId, priority)
+                .then(Mono.defer(() -> next.exchange(request)))
+                .flatMap(response -> observe(account, response));
+    }
+
+    /**
+     * 응답 상태로 유량 제한 여부 판별
+     * 5xx 는 본문의 EGW00201 확인을 위해 본문을 읽은 뒤 동일한 본문으로 응답 재구성
+     */
+    private Mono<ClientResponse> observe(KisAccount account, ClientResponse response) {
+        HttpStatusCode status = response.statusCode();
+        if (status.is2xxSuccessful()) {
+            adaptiveRateController.onSuccess(account);
+            return Mono.just(response);
+        }
+        if (status.value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+            adaptiveRateController.onThrottled(account, "HTTP 429");
+            return Mono.just(response);
+        }
+        if (!status.is5xxServerError()) {
+            return Mono.just(response);
+        }
+
+        return response.bodyToMono(String.class)
+                .defaultIfEmpty("")
+                .map(body -> {
+                    if (body.contains(RATE_EXCEEDED_CODE)) {
+                        adaptiveRateController.onThrottled(account, RATE_EXCEEDED_CODE);
+                    } else {
+                        adaptiveRateController.onServerError(account, status.value());
+                    }
+                    return response.mutate().body(body).build();
+                });
+    }
+
+    /**
+     * 요청 우선순위 판별 (attribute 명시 값 우선)
+     */
+    public KisRequestPriority resolvePriority(ClientRequest request, String trId) {
+        return request.attribute(KisRequestPriority.ATTRIBUTE)
+                .filter(KisRequestPriority.class::isInstance)
+                .map(KisRequestPriority.class::cast)
+                .orElseGet(() -> rateLimitProperties.getPriority(trId));
+    }
+
+    /**
+     * 요청 계좌 판별 (attribute 명시 값 우선)
+     */
+    KisAccount resolveAccount(ClientRequest request) {
+        return request.attribute(KisAccount.ATTRIBUTE)
+                .filter(KisAccount.class::isInstance)
+                .map(KisAccount.class::cast)
+                .orElseGet(() -> accountRegistry.getPrimary(resolveMode(request.url())));
+    }
+
+    /**
+     * 요청 대상 서버로 모드 판별 (모의투자 서버면 DEMO)
+     */
+    KisMode resolveMode(URI url) {
+        URI demoUri = URI.create(kisProperties.getDemoBaseUrl());
+        boolean demo = demoUri.getHost() != null
+                && demoUri.getHost().equalsIgnoreCase(url.getHost())
+                && demoUri.getPort() == url.getPort();
+        return KisMode.of(demo);
+    }
+}
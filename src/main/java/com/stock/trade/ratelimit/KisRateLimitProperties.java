@@ -0,0 +1,253 @@
+package com.stock.trade.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * KIS API 호출 속도 제한 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "external.kis.rate-limit")
+public class KisRateLimitProperties {
+
+    /**
+     * 속도 제한 활성화 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 실전투자 예산 (KIS 제한: 초당 20건)
+     */
+    private Budget real = new Budget(18, 18, 3, 2, 20);
+
+    /**
+     * 모의투자 예산 (KIS 제한: 초당 2건)
+     */
+    private Budget demo = new Budget(2, 2, 1, 0.5, 2);
+
+    /**
+     * 계좌별 예산 (external.kis.accounts 의 계좌 ID 기준, 미설정 계좌는 모드별 예산 사용)
+     * KIS 초당 제한은 App Key 단위이므로 계좌마다 독립된 버킷으로 관리
+     */
+    private Map<String, Budget> accounts = new HashMap<>();
+
+    /**
+     * 대기열 최대 길이 (초과 시 즉시 실패)
+     * lanes 에 우선순위별 값이 없으면 이 값 사용
+     */
+    private int maxQueueSize = 200;
+
+    /**
+     * 대기열 최대 대기 시간 (초과 시 실패)
+     * lanes 에 우선순위별 값이 없으면 이 값 사용
+     */
+    private Duration maxWait = Duration.ofSeconds(30);
+
+    /**
+     * 우선순위별 대기열 설정
+     * 예: quote: { max-queue-size: 20, max-wait: 3s }
+     */
+    private Map<KisRequestPriority, Lane> lanes = new EnumMap<>(KisRequestPriority.class);
+
+    /**
+     * TR ID별 우선순위 (미설정 시 TR ID 형태로 자동 분류)
+     */
+    private Map<String, KisRequestPriority> trIdPriorities = new HashMap<>();
+
+    /**
+     * TR ID별 가중치 (미설정 시 1)
+     * 예: TTTS3012R: 2
+     */
+    private Map<String, Integer> trIdWeights = new HashMap<>();
+
+    /**
+     * 적응형(AIMD) 속도 제어 설정
+     */
+    private Adaptive adaptive = new Adaptive();
+
+    /**
+     * TR ID 가중치 조회
+     * 모의투자 TR ID(V로 시작)는 실전 TR ID(T로 시작) 설정도 함께 확인
+     */
+    public int getWeight(String trId) {
+        if (trId == null || trId.isBlank()) {
+            return 1;
+        }
+        Integer weight = trIdWeights.get(trId);
+        if (weight == null && trId.startsWith("V")) {
+            weight = trIdWeights.get("T" + trId.substring(1));
+        }
+        return weight != null && weight > 0 ? weight : 1;
+    }
+
+    /**
+     * TR ID 우선순위 조회
+     */
+    public KisRequestPriority getPriority(String trId) {
+        if (trId != null) {
+            KisRequestPriority priority = trIdPriorities.get(trId);
+            if (priority == null && trId.startsWith("V")) {
+                priority = trIdPriorities.get("T" + trId.substring(1));
+            }
+            if (priority != null) {
+                return priority;
+            }
+        }
+        return KisRequestPriority.classify(trId);
+    }
+
+    /**
+     * 우선순위별 대기열 최대 길이
+     */
+    public int getMaxQueueSize(KisRequestPriority priority) {
+        Lane lane = lanes.get(priority);
+        return lane != null && lane.getMaxQueueSize() != null ? lane.getMaxQueueSize() : maxQueueSize;
+    }
+
+    /**
+     * 우선순위별 최대 대기 시간
+     */
+    public Duration getMaxWait(KisRequestPriority priority) {
+        Lane lane = lanes.get(priority);
+        return lane != null && lane.getMaxWait() != null ? lane.getMaxWait() : maxWait;
+    }
+
+    /**
+     * 모드별 예산 조회
+     */
+    public Budget getBudget(boolean demoMode) {
+        return demoMode ? demo : real;
+    }
+
+    /**
+     * 계좌별 예산 조회 (계좌 설정이 없으면 모드별 예산)
+     */
+    public Budget getBudget(String accountId, boolean demoMode) {
+        Budget budget = accounts.get(accountId);
+        return budget != null ? budget : getBudget(demoMode);
+    }
+
+    /**
+     * 토큰 버킷 예산
+     */
+    @Getter
+    @Setter
+    public static class Budget {
+        /**
+         * 초당 허용 건수 (토큰 충전 속도)
+         */
+        private double permitsPerSecond;
+
+        /**
+         * 순간 최대 허용 건수 (버킷 용량)
+         */
+        private int burst;
+
+        /**
+         * 주문(ORDER) 전용 예약 토큰 수
+         * 조회 요청은 버킷에 이 값보다 많은 토큰이 남아 있을 때만 허가
+         */
+        private int orderReserve;
+
+        /**
+         * 적응형 제어 하한 (초당 건수)
+         */
+        private double minPermitsPerSecond;
+
+        /**
+         * 적응형 제어 상한 (초당 건수)
+         */
+        private double maxPermitsPerSecond;
+
+        public Budget() {
+        }
+
+        public Budget(double permitsPerSecond, int burst) {
+            this(permitsPerSecond, burst, 0);
+        }
+
+        public Budget(double permitsPerSecond, int burst, int orderReserve) {
+            this(permitsPerSecond, burst, orderReserve, permitsPerSecond, permitsPerSecond);
+        }
+
+        public Budget(double permitsPerSecond, int burst, int orderReserve,
+                      double minPermitsPerSecond, double maxPermitsPerSecond) {
+            this.permitsPerSecond = permitsPerSecond;
+            this.burst = burst;
+            this.orderReserve = orderReserve;
+            this.minPermitsPerSecond = minPermitsPerSecond;
+            this.maxPermitsPerSecond = maxPermitsPerSecond;
+        }
+
+        /**
+         * 적응형 제어 하한 (미설정 시 초기 속도)
+         */
+        public double getEffectiveMinPermitsPerSecond() {
+            return minPermitsPerSecond > 0 ? Math.min(minPermitsPerSecond, permitsPerSecond) : permitsPerSecond;
+        }
+
+        /**
+         * 적응형 제어 상한 (미설정 시 초기 속도)
+         */
+        public double getEffectiveMaxPermitsPerSecond() {
+            return maxPermitsPerSecond > 0 ? Math.max(maxPermitsPerSecond, permitsPerSecond) : permitsPerSecond;
+        }
+    }
+
+    /**
+     * 적응형(AIMD) 속도 제어 설정
+     * 성공 시 가산 증가, 유량 제한 응답(EGW00201, HTTP 429, 연속 5xx) 시 승산 감소
+     */
+    @Getter
+    @Setter
+    public static class Adaptive {
+        /**
+         * 적응형 제어 활성화 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 성공 응답 1건당 증가량 (초당 건수)
+         */
+        private double additiveIncrease = 0.05;
+
+        /**
+         * 유량 제한 감지 시 곱할 비율
+         */
+        private double multiplicativeDecrease = 0.5;
+
+        /**
+         * 감소 후 재감소까지 최소 간격 (동시에 실패한 요청들로 연속 감소 방지)
+         */
+        private Duration decreaseCooldown = Duration.ofSeconds(1);
+
+        /**
+         * 유량 제한으로 간주할 연속 5xx 응답 수 (EGW00201 외 서버 오류)
+         */
+        private int serverErrorBurst = 3;
+    }
+
+    /**
+     * 우선순위별 대기열 설정
+     */
+    @Getter
+    @Setter
+    public static class Lane {
+        /**
+         * 대기열 최대 길이 (초과 시 폐기)
+         */
+        private Integer maxQueueSize;
+
+        /**
+         * 최대 대기 시간 (초과 시 폐기)
+         */
+        private Duration maxWait;
+    }
+}
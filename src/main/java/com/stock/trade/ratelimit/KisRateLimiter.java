@@ -0,0 +1,440 @@
+package com.stock.trade.ratelimit;
+
+import com.stock.trade.account.KisAccount;
+import com.stock.trade.config.KisMode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * KIS API 공용 속도 제한기 (토큰 버킷)
+ *
+ * - 계좌(App Key)별 독립 예산 (한 계좌의 유량 제한이 다른 계좌 호출을 늦추지 않음)
+ *   모드만 지정한 호출은 해당 모드의 기본 계좌(real/demo) 예산 사용
+ * - TR ID별 가중치만큼 토큰 차감
+ * - 토큰 부족 시 즉시 실패하지 않고 우선순위별 FIFO 대기열에서 대기
+ * - 우선순위: ORDER > ACCOUNT > QUOTE (높은 대기열이 비어야 낮은 대기열 허가)
+ * - ORDER 외 요청은 orderReserve 만큼의 토큰을 남겨둬야 허가 (주문은 조회 폭주 중에도 즉시 허가)
+ * - 대기열이 가득 차거나 최대 대기 시간을 넘기면 KisRateLimitException (저우선순위는 짧게 설정해 폐기)
+ * - 충전 속도는 KisAdaptiveRateController 가 실행 중 조정 (버킷 용량도 속도에 맞춰 축소)
+ */
+@Slf4j
+@Component
+public class KisRateLimiter {
+
+    private final KisRateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    // 계좌 ID -> 버킷
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService drainScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "kis-rate-limiter");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public KisRateLimiter(KisRateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        for (KisMode mode : KisMode.values()) {
+            bucket(KisAccount.primaryId(mode), mode);
+        }
+    }
+
+    /**
+     * 호출 허가 획득 (TR ID로 우선순위 결정)
+     */
+    public Mono<Void> acquire(KisMode mode, String trId) {
+        return acquire(mode, trId, properties.getPriority(trId));
+    }
+
+    /**
+     * 호출 허가 획득 (모드의 기본 계좌 예산)
+     *
+     * @param mode     투자 모드
+     * @param trId     TR ID (가중치 결정, null 가능)
+     * @param priority 요청 우선순위
+     */
+    public Mono<Void> acquire(KisMode mode, String trId, KisRequestPriority priority) {
+        return acquire(primaryBucket(mode), trId, priority);
+    }
+
+    /**
+     * 호출 허가 획득
+     * 토큰이 있으면 즉시, 없으면 우선순위 대기열 순서대로 완료되는 Mono 반환
+     *
+     * @param account  호출 계좌 (계좌별 예산)
+     * @param trId     TR ID (가중치 결정, null 가능)
+     * @param priority 요청 우선순위
+     */
+    public Mono<Void> acquire(KisAccount account, String trId, KisRequestPriority priority) {
+        return acquire(bucket(account.id(), account.mode()), trId, priority);
+    }
+
+    private Mono<Void> acquire(Bucket bucket, String trId, KisRequestPriority priority) {
+        if (!properties.isEnabled()) {
+            return Mono.empty();
+        }
+        int weight = properties.getWeight(trId);
+        return Mono.create(sink -> bucket.enqueue(new Waiter(weight, priority, sink, System.nanoTime())));
+    }
+
+    /**
+     * 현재 대기열 길이 (전체 우선순위 합계)
+     */
+    public int getQueueDepth(KisMode mode) {
+        return primaryBucket(mode).queueDepth();
+    }
+
+    /**
+     * 현재 대기열 길이 (우선순위별)
+     */
+    public int getQueueDepth(KisMode mode, KisRequestPriority priority) {
+        return primaryBucket(mode).queueDepth(priority);
+    }
+
+    /**
+     * 현재 충전 속도 (초당 허용 건수)
+     */
+    public double getPermitsPerSecond(KisMode mode) {
+        return primaryBucket(mode).getPermitsPerSecond();
+    }
+
+    /**
+     * 충전 속도 변경 (적응형 제어용)
+     */
+    public void updatePermitsPerSecond(KisMode mode, double permitsPerSecond) {
+        primaryBucket(mode).updatePermitsPerSecond(permitsPerSecond);
+    }
+
+    /**
+     * 현재 충전 속도 기준으로 변경 (버킷 lock 안에서 읽고 바꾸므로 동시 변경이 서로 덮어쓰지 않음)
+     *
+     * @return 변경 후 충전 속도
+     */
+    public double adjustPermitsPerSecond(KisMode mode, DoubleUnaryOperator adjuster) {
+        return primaryBucket(mode).adjustPermitsPerSecond(adjuster);
+    }
+
+    // 계좌 ID 기준 조회/변경 (적응형 제어용)
+
+    int getQueueDepth(String accountId, KisMode mode) {
+        return bucket(accountId, mode).queueDepth();
+    }
+
+    double getPermitsPerSecond(String accountId, KisMode mode) {
+        return bucket(accountId, mode).getPermitsPerSecond();
+    }
+
+    void updatePermitsPerSecond(String accountId, KisMode mode, double permitsPerSecond) {
+        bucket(accountId, mode).updatePermitsPerSecond(permitsPerSecond);
+    }
+
+    double adjustPermitsPerSecond(String accountId, KisMode mode, DoubleUnaryOperator adjuster) {
+        return bucket(accountId, mode).adjustPermitsPerSecond(adjuster);
+    }
+
+    private Bucket primaryBucket(KisMode mode) {
+        return bucket(KisAccount.primaryId(mode), mode);
+    }
+
+    private Bucket bucket(String accountId, KisMode mode) {
+        return buckets.computeIfAbsent(accountId, id ->
+                new Bucket(id, mode, properties.getBudget(id, mode.isDemo()), meterRegistry));
+    }
+
+    @PreDestroy
+    public void destroy() {
+        drainScheduler.shutdownNow();
+    }
+
+    // ==================== Token Bucket ====================
+
+    private final class Bucket {
+
+        private final String accountId;
+        private final KisMode mode;
+        private final KisRateLimitProperties.Budget budget;
+        private final Map<KisRequestPriority, ArrayDeque<Waiter>> lanes = new EnumMap<>(KisRequestPriority.class);
+        private final Map<KisRequestPriority, Timer> waitTimers = new EnumMap<>(KisRequestPriority.class);
+        private final Map<KisRequestPriority, Counter> rejectedCounters = new EnumMap<>(KisRequestPriority.class);
+
+        private double permitsPerSecond;
+        private double tokens;
+        private long lastRefillNanos = System.nanoTime();
+        private boolean drainScheduled = false;
+
+        Bucket(String accountId, KisMode mode, KisRateLimitProperties.Budget budget, MeterRegistry meterRegistry) {
+            this.accountId = accountId;
+            this.mode = mode;
+            this.budget = budget;
+            this.permitsPerSecond = budget.getPermitsPerSecond();
+            this.tokens = budget.getBurst();
+
+            String modeTag = mode.name().toLowerCase();
+            for (KisRequestPriority priority : KisRequestPriority.values()) {
+                lanes.put(priority, new ArrayDeque<>());
+                String priorityTag = priority.name().toLowerCase();
+
+                Gauge.builder("kis.ratelimit.queue.depth", this, bucket -> bucket.queueDepth(priority))
+                        .description("KIS API 호출 대기열 길이")
+                        .tag("mode", modeTag)
+                        .tag("account", accountId)
+                        .tag("priority", priorityTag)
+                        .register(meterRegistry);
+                waitTimers.put(priority, Timer.builder("kis.ratelimit.wait")
+                        .description("KIS API 호출 허가 대기 시간")
+                        .tag("mode", modeTag)
+                        .tag("account", accountId)
+                        .tag("priority", priorityTag)
+                        .register(meterRegistry));
+                rejectedCounters.put(priority, Counter.builder("kis.ratelimit.rejected")
+                        .description("대기열 초과/대기 시간 초과로 거절된 호출 수")
+                        .tag("mode", modeTag)
+                        .tag("account", accountId)
+                        .tag("priority", priorityTag)
+                        .register(meterRegistry));
+            }
+        }
+
+        void enqueue(Waiter waiter) {
+            boolean granted = false;
+            boolean rejected = false;
+
+            synchronized (this) {
+                refill();
+                ArrayDeque<Waiter> lane = lanes.get(waiter.priority);
+                if (!hasWaitersAtLeast(waiter.priority) && canConsume(waiter)) {
+                    tokens -= effectiveWeight(waiter);
+                    granted = true;
+                } else if (lane.size() >= properties.getMaxQueueSize(waiter.priority)) {
+                    rejected = true;
+                } else {
+                    lane.addLast(waiter);
+                    waiter.sink.onCancel(() -> cancel(waiter));
+                    scheduleDrain();
+                }
+            }
+
+            if (granted) {
+                complete(waiter);
+            } else if (rejected) {
+                reject(waiter, "KIS API 호출 대기열 초과 (" + accountId + ", "
+                        + waiter.priority.getDescription() + ")");
+            }
+        }
+
+        private void drain() {
+            List<Waiter> granted = new ArrayList<>();
+            List<Waiter> expired = new ArrayList<>();
+
+            synchronized (this) {
+                drainScheduled = false;
+                refill();
+                removeExpired(expired);
+
+                Waiter head;
+                while ((head = nextWaiter()) != null && canConsume(head)) {
+                    // 엄격한 우선순위: 상위 대기열 선두가 허가되기 전까지 하위 대기열은 대기
+                    tokens -= effectiveWeight(head);
+                    lanes.get(head.priority).pollFirst();
+                    granted.add(head);
+                }
+
+                scheduleDrain();
+            }
+
+            granted.forEach(this::complete);
+            for (Waiter waiter : expired) {
+                reject(waiter, "KIS API 호출 대기 시간 초과 (" + accountId + ", "
+                        + waiter.priority.getDescription() + ", "
+                        + properties.getMaxWait(waiter.priority) + ")");
+            }
+        }
+
+        private void removeExpired(List<Waiter> expired) {
+            long now = System.nanoTime();
+            for (Map.Entry<KisRequestPriority, ArrayDeque<Waiter>> entry : lanes.entrySet()) {
+                long maxWaitNanos = properties.getMaxWait(entry.getKey()).toNanos();
+                Iterator<Waiter> it = entry.getValue().iterator();
+                while (it.hasNext()) {
+                    Waiter waiter = it.next();
+                    if (waiter.cancelled) {
+                        it.remove();
+                    } else if (now - waiter.enqueuedNanos > maxWaitNanos) {
+                        it.remove();
+                        expired.add(waiter);
+                    }
+                }
+            }
+        }
+
+        /**
+         * 가장 높은 우선순위 대기열의 선두 요청
+         */
+        private Waiter nextWaiter() {
+            for (ArrayDeque<Waiter> lane : lanes.values()) {
+                Waiter head = lane.peekFirst();
+                if (head != null) {
+                    return head;
+                }
+            }
+            return null;
+        }
+
+        private boolean hasWaitersAtLeast(KisRequestPriority priority) {
+            for (Map.Entry<KisRequestPriority, ArrayDeque<Waiter>> entry : lanes.entrySet()) {
+                if (entry.getKey().isAtLeast(priority) && !entry.getValue().isEmpty()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean canConsume(Waiter waiter) {
+            return tokens >= requiredTokens(waiter);
+        }
+
+        /**
+         * 허가에 필요한 토큰 수 (ORDER 외 요청은 예약분까지 남아 있어야 함)
+         */
+        private double requiredTokens(Waiter waiter) {
+            int weight = effectiveWeight(waiter);
+            if (waiter.priority == KisRequestPriority.ORDER) {
+                return weight;
+            }
+            int reserve = Math.max(0, Math.min(budget.getOrderReserve(), capacity() - weight));
+            return weight + reserve;
+        }
+
+        private void complete(Waiter waiter) {
+            waitTimers.get(waiter.priority).record(Duration.ofNanos(System.nanoTime() - waiter.enqueuedNanos));
+            waiter.sink.success();
+        }
+
+        private void reject(Waiter waiter, String message) {
+            rejectedCounters.get(waiter.priority).increment();
+            log.warn("{}", message);
+            waiter.sink.error(new KisRateLimitException(message));
+        }
+
+        private synchronized void cancel(Waiter waiter) {
+            waiter.cancelled = true;
+            lanes.get(waiter.priority).remove(waiter);
+        }
+
+        /**
+         * 다음 토큰이 충전되는 시점에 대기열 처리 예약 (호출자는 lock 보유)
+         */
+        private void scheduleDrain() {
+            Waiter head = nextWaiter();
+            if (drainScheduled || head == null) {
+                return;
+            }
+            double missing = Math.max(0, requiredTokens(head) - tokens);
+            long delayNanos = (long) (missing / permitsPerSecond * TimeUnit.SECONDS.toNanos(1));
+            drainScheduled = true;
+            drainScheduler.schedule(this::drain, Math.max(delayNanos, TimeUnit.MILLISECONDS.toNanos(1)), TimeUnit.NANOSECONDS);
+        }
+
+        private void refill() {
+            long now = System.nanoTime();
+            double elapsedSeconds = (now - lastRefillNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+            tokens = Math.min(capacity(), tokens + elapsedSeconds * permitsPerSecond);
+            lastRefillNanos = now;
+        }
+
+        /**
+         * 버킷 용량 (충전 속도가 낮아지면 순간 허용 건수도 함께 축소)
+         */
+        private int capacity() {
+            return Math.max(1, Math.min(budget.getBurst(), (int) Math.ceil(permitsPerSecond)));
+        }
+
+        synchronized double getPermitsPerSecond() {
+            return permitsPerSecond;
+        }
+
+        synchronized void updatePermitsPerSecond(double permitsPerSecond) {
+            if (permitsPerSecond <= 0) {
+                return;
+            }
+            refill();
+            this.permitsPerSecond = permitsPerSecond;
+            tokens = Math.min(tokens, capacity());
+        }
+
+        synchronized double adjustPermitsPerSecond(DoubleUnaryOperator adjuster) {
+            double next = adjuster.applyAsDouble(permitsPerSecond);
+            if (next != permitsPerSecond) {
+                updatePermitsPerSecond(next);
+            }
+            return permitsPerSecond;
+        }
+
+        /**
+         * 버킷 용량을 넘는 가중치는 영원히 대기하므로 용량으로 제한
+         */
+        private int effectiveWeight(Waiter waiter) {
+            return Math.min(waiter.weight, capacity());
+        }
+
+        synchronized int queueDepth() {
+            int depth = 0;
+            for (ArrayDeque<Waiter> lane : lanes.values()) {
+                depth += lane.size();
+            }
+            return depth;
+        }
+
+        synchronized int queueDepth(KisRequestPriority priority) {
+            return lanes.get(priority).size();
+        }
+    }
+
+    private static final class Waiter {
+        private final int weight;
+        private final KisRequestPriority priority;
+        private final MonoSink<Void> sink;
+        private final long enqueuedNanos;
+        private volatile boolean cancelled;
+
+        private Waiter(int weight, KisRequestPriority priority, MonoSink<Void> sink, long enqueuedNanos) {
+            this.weight = weight;
+            this.priority = priority;
+            this.sink = sink;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+    }
+
+    // ==================== Exception ====================
+
+    /**
+     * 속도 제한 대기 실패 예외
+     */
+    public static class KisRateLimitException extends RuntimeException {
+        public KisRateLimitException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.stock.trade.ratelimit;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * KIS API 요청 우선순위
+ * 속도 제한 대기 시 높은 우선순위(ORDER)부터 허가
+ */
+@Getter
+@RequiredArgsConstructor
+public enum KisRequestPriority {
+
+    /**
+     * 주문/정정/취소, 토큰 발급 (최우선)
+     */
+    ORDER("주문"),
+
+    /**
+     * 잔고/매수가능금액/미체결 등 계좌 조회
+     */
+    ACCOUNT("계좌조회"),
+
+    /**
+     * 현재가 등 시세 조회 (가장 낮음, 부하 시 지연/폐기)
+     */
+    QUOTE("시세조회");
+
+    /**
+     * WebClient 요청 attribute 키 (명시적으로 우선순위를 지정할 때 사용)
+     */
+    public static final String ATTRIBUTE = KisRequestPriority.class.getName();
+
+    private final String description;
+
+    /**
+     * TR ID로 우선순위 분류
+     * - TR ID 없음: 토큰/접속키 발급 → ORDER
+     * - U로 끝남: 주문/정정/취소 → ORDER
+     * - T/V로 시작 (계좌 TR): ACCOUNT
+     * - 그 외 (HHDFS, FHKST 등 시세 TR): QUOTE
+     */
+    public static KisRequestPriority classify(String trId) {
+        if (trId == null || trId.isBlank()) {
+            return ORDER;
+        }
+        if (trId.endsWith("U")) {
+            return ORDER;
+        }
+        if (trId.startsWith("T") || trId.startsWith("V")) {
+            return ACCOUNT;
+        }
+        return QUOTE;
+    }
+
+    /**
+     * 이 우선순위가 other 보다 높거나 같은지 여부
+     */
+    public boolean isAtLeast(KisRequestPriority other) {
+        return ordinal() <= other.ordinal();
+    }
+}
@@ -1,36 +1,53 @@
 package com.stock.trade.scheduler;
 
+import com.stock.trade.account.KisAccount;
+import com.stock.trade.account.KisAccountRegistry;
 import com.stock.trade.config.KisProperties;
 import com.stock.trade.overseas.*;
 import com.stock.trade.scheduler.ScheduledPurchaseProperties.StockPurchaseConfig;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.BiFunction;
 
 /**
  * 정기 매수 스케줄러 공통 기능
+ * 매매 대상 계좌(KisAccountRegistry)마다 종목 목록을 구해 한 번에 동시 실행 (계좌별 토큰/속도 제한 예산 사용)
  */
 @Slf4j
 public abstract class AbstractPurchaseScheduler {
 
     protected final ScheduledPurchaseProperties properties;
     protected final KisProperties kisProperties;
+    protected final KisAccountRegistry accountRegistry;
     protected final OverseasOrderService orderService;
     protected final OverseasStockService stockService;
+    protected final Scheduler kisCallScheduler;
+    protected final PurchaseCashLedger cashLedger;
 
     protected AbstractPurchaseScheduler(ScheduledPurchaseProperties properties,
                                         KisProperties kisProperties,
+                                        KisAccountRegistry accountRegistry,
                                         OverseasOrderService orderService,
-                                        OverseasStockService stockService) {
+                                        OverseasStockService stockService,
+                                        Scheduler kisCallScheduler,
+                                        PurchaseCashLedger cashLedger) {
         this.properties = properties;
         this.kisProperties = kisProperties;
+        this.accountRegistry = accountRegistry;
         this.orderService = orderService;
         this.stockService = stockService;
+        this.kisCallScheduler = kisCallScheduler;
+        this.cashLedger = cashLedger;
     }
 
     /**
@@ -43,6 +60,27 @@ public abstract class AbstractPurchaseScheduler {
      */
     protected abstract List<StockPurchaseConfig> getStockConfigs();
 
+    /**
+     * 계좌별 매수할 종목 목록 (기본: 현재 모드의 기본 계좌만 getStockConfigs())
+     */
+    protected List<StockPurchaseConfig> getStockConfigs(KisAccount account) {
+        return account.equals(accountRegistry.getDefault()) ? getStockConfigs() : List.of();
+    }
+
+    /**
+     * 종목 매수 (기본: 지정 수량 매수)
+     */
+    protected PurchaseResult purchase(KisAccount account, StockPurchaseConfig config) {
+        return executeSinglePurchase(account, config);
+    }
+
+    /**
+     * 매수 시점 현재가 최대 허용 지연 (null 이면 시장별 TTL)
+     */
+    protected Duration getPriceMaxStaleness() {
+        return null;
+    }
+
     /**
      * 정기 매수 실행
      */
@@ -52,8 +90,13 @@ public abstract class AbstractPurchaseScheduler {
             return List.of();
         }
 
-        List<StockPurchaseConfig> stocks = getStockConfigs();
-        if (stocks.isEmpty()) {
+        List<PurchaseTask> tasks = new ArrayList<>();
+        for (KisAccount account : accountRegistry.getTradingAccounts()) {
+            for (StockPurchaseConfig config : getStockConfigs(account)) {
+                tasks.add(new PurchaseTask(account, config));
+            }
+        }
+        if (tasks.isEmpty()) {
             log.debug("{} 매수 종목이 없습니다", getScheduleType());
             return List.of();
         }
@@ -62,36 +105,66 @@ public abstract class AbstractPurchaseScheduler {
         log.info("실행 시각: {}", LocalDateTime.now(ZoneId.of("Asia/Seoul")));
         log.info("모드: {}", kisProperties.isDemoMode() ? "모의투자" : "실전투자");
 
-        orderService.setDemoMode(kisProperties.isDemoMode());
+        List<PurchaseResult> results = executeInParallel(tasks, this::purchase);
 
-        List<PurchaseResult> results = new ArrayList<>();
+        logPurchaseSummary(results);
+        return results;
+    }
 
-        for (StockPurchaseConfig config : stocks) {
-            if (!config.isEnabled()) {
-                log.info("[{}] 종목 {} 스킵 (비활성화)", getScheduleType(), config.getSymbol());
+    /**
+     * 활성화된 종목을 동시에 매수 (결과는 계좌/설정 순서 유지)
+     * 동시 실행 수는 계좌마다 concurrency 개 (계좌별 속도 제한 예산이 분리되어 있으므로 서로 기다리지 않음)
+     * 종목별 제한 시간은 purchase 안의 주문 전 조회에만 적용 (awaitBeforeOrder), 주문 전송 중인 종목은 응답까지 기다림
+     */
+    protected List<PurchaseResult> executeInParallel(List<PurchaseTask> tasks,
+                                                     BiFunction<KisAccount, StockPurchaseConfig, PurchaseResult> purchase) {
+        List<PurchaseTask> enabled = new ArrayList<>();
+        for (PurchaseTask task : tasks) {
+            if (!task.config().isEnabled()) {
+                log.info("[{}] {} 종목 {} 스킵 (비활성화)", getScheduleType(), task.account().id(), task.config().getSymbol());
                 continue;
             }
+            enabled.add(task);
+        }
 
-            PurchaseResult result = executeSinglePurchase(config);
-            results.add(result);
+        if (enabled.isEmpty()) {
+            return new ArrayList<>();
         }
 
-        logPurchaseSummary(results);
-        return results;
+        long accountCount = enabled.stream().map(PurchaseTask::account).distinct().count();
+        int concurrency = Math.max(1, properties.getConcurrency()) * (int) accountCount;
+
+        List<PurchaseResult> results = Flux.fromIterable(enabled)
+                .flatMapSequential(task -> Mono.fromCallable(() -> purchase.apply(task.account(), task.config()))
+                        .subscribeOn(kisCallScheduler)
+                        .onErrorResume(e -> Mono.just(toFailure(task.config(), e)))
+                        .map(result -> result.withAccount(task.account().id())), concurrency)
+                .collectList()
+                .block();
+
+        return results != null ? new ArrayList<>(results) : new ArrayList<>();
+    }
+
+    private PurchaseResult toFailure(StockPurchaseConfig config, Throwable e) {
+        log.error("{} 매수 실패: {}", config.getSymbol(), e.getMessage());
+        return new PurchaseResult(config.getSymbol(), false, null, null, config.getQuantity(), e.getMessage());
     }
 
     /**
-     * 단일 종목 매수 실행
+     * 단일 종목 매수 실행 (지정 수량, 계좌 매수가능 달러가 부족하면 가능한 수량만)
      */
-    protected PurchaseResult executeSinglePurchase(StockPurchaseConfig config) {
+    protected PurchaseResult executeSinglePurchase(KisAccount account, StockPurchaseConfig config) {
         String symbol = config.getSymbol();
-        log.info("----- {} 매수 시작 -----", symbol);
+        log.info("----- [{}] {} 매수 시작 -----", account.id(), symbol);
 
+        long deadlineNanos = preOrderDeadline();
+        BigDecimal reservedUsd = BigDecimal.ZERO;
         try {
             OverseasExchange exchange = parseExchange(config.getExchange());
 
             // 현재가 조회
-            OverseasStockPrice price = stockService.getPrice(exchange, symbol);
+            OverseasStockPrice price = awaitBeforeOrder(stockService.getPriceAsync(account, exchange.getCode(), symbol,
+                    getPriceMaxStaleness()), deadlineNanos);
             BigDecimal currentPrice = price.currentPrice();
 
             // 현재가 null 체크 (장외시간 또는 API 오류)
@@ -108,28 +181,75 @@ public abstract class AbstractPurchaseScheduler {
             log.info("{} 주문가격: ${} (할인율: {}%)",
                     symbol, orderPrice, config.getDiscountRate().multiply(BigDecimal.valueOf(100)));
 
-            // 주문 실행
+            // 계좌 매수가능 달러에서 수량 예약 (시장가 주문은 현재가 기준)
+            BigDecimal reservePrice = orderPrice.compareTo(BigDecimal.ZERO) > 0 ? orderPrice : currentPrice;
+            awaitBeforeOrder(openCashLedger(account, exchange, symbol, currentPrice), deadlineNanos);
+            int quantity = cashLedger.reserve(account,
+                    reservePrice.multiply(BigDecimal.valueOf(config.getQuantity())), reservePrice);
+            reservedUsd = reservePrice.multiply(BigDecimal.valueOf(quantity));
+            if (quantity <= 0) {
+                log.warn("{} 매수가능 달러 부족 (잔액: ${})", symbol, cashLedger.remaining(account));
+                return new PurchaseResult(symbol, false, null, orderPrice, config.getQuantity(),
+                        "매수가능 달러 부족 (잔액: $" + cashLedger.remaining(account) + ")");
+            }
+            if (quantity < config.getQuantity()) {
+                log.warn("{} 매수가능 달러 부족으로 {}주 → {}주 매수", symbol, config.getQuantity(), quantity);
+            }
+
+            // 주문 실행 (제한 시간 없음: 전송된 주문은 결과를 받을 때까지 기다림)
             OverseasOrderRequest request = OverseasOrderRequest.builder()
                     .exchange(exchange)
                     .symbol(symbol)
-                    .quantity(config.getQuantity())
+                    .quantity(quantity)
                     .price(orderPrice)
                     .orderType(parseOrderType(config.getOrderType()))
                     .build();
 
-            OverseasOrderResult orderResult = orderService.buy(request);
+            OverseasOrderResult orderResult = orderService.buyAsync(account, request).block();
 
             log.info("{} 매수 주문 성공 - 주문번호: {}", symbol, orderResult.orderNumber());
 
             return new PurchaseResult(symbol, true, orderResult.orderNumber(),
-                    orderPrice, config.getQuantity(), null);
+                    orderPrice, quantity, null);
 
         } catch (Exception e) {
+            cashLedger.release(account, reservedUsd);
             log.error("{} 매수 실패: {}", symbol, e.getMessage());
             return new PurchaseResult(symbol, false, null, null, config.getQuantity(), e.getMessage());
         }
     }
 
+    /**
+     * 종목 주문 전 조회 마감 시각 (System.nanoTime 기준, 지금 + symbol-timeout)
+     */
+    protected long preOrderDeadline() {
+        return System.nanoTime() + properties.getSymbolTimeout().toNanos();
+    }
+
+    /**
+     * 주문 전 조회 대기 (마감 시각까지, 초과 시 PurchaseTimeoutException: 주문은 보내지 않음)
+     * 주문 전송에는 사용하지 않음 - 응답 전에 포기하면 주문이 나갔는지 알 수 없음
+     */
+    protected <T> T awaitBeforeOrder(Mono<T> call, long deadlineNanos) {
+        Duration remaining = Duration.ofNanos(Math.max(0, deadlineNanos - System.nanoTime()));
+        return call.timeout(remaining, Mono.error(() -> new PurchaseTimeoutException(
+                "매수 제한 시간(" + properties.getSymbolTimeout().toSeconds() + "초) 초과 - 주문 미전송")))
+                .block();
+    }
+
+    /**
+     * 계좌 매수가능 달러 기준이 없으면 조회해 장부에 기록 (있으면 조회 생략)
+     */
+    protected Mono<Void> openCashLedger(KisAccount account, OverseasExchange exchange, String symbol,
+                                        BigDecimal currentPrice) {
+        if (cashLedger.isOpen(account)) {
+            return Mono.empty();
+        }
+        return stockService.getPurchasableAmountAsync(account, exchange, symbol, currentPrice)
+                .doOnNext(purchasable -> cashLedger.open(account, purchasable.availableAmount()))
+                .then();
+    }
+
     /**
      * 주문가격 계산
      */
@@ -178,18 +298,25 @@ public abstract class AbstractPurchaseScheduler {
 
         for (PurchaseResult result : results) {
             if (result.success()) {
-                log.info("  [성공] {} - 주문번호: {}, 가격: ${}, 수량: {}주",
-                        result.symbol(), result.orderNumber(), result.price(), result.quantity());
+                log.info("  [성공] {} - 계좌: {}, 주문번호: {}, 가격: ${}, 수량: {}주",
+                        result.symbol(), result.accountId(), result.orderNumber(), result.price(), result.quantity());
             } else {
-                log.info("  [실패] {} - 사유: {}", result.symbol(), result.errorMessage());
+                log.info("  [실패] {} - 계좌: {}, 사유: {}", result.symbol(), result.accountId(), result.errorMessage());
             }
         }
 
         log.info("==========================================");
     }
 
+    /**
+     * 계좌별 매수 대상 종목
+     */
+    protected record PurchaseTask(KisAccount account, StockPurchaseConfig config) {}
+
     /**
      * 매수 결과
+     *
+     * @param accountId 주문 계좌 ID (계좌 구분 없는 결과는 null)
      */
     public record PurchaseResult(
             String symbol,
@@ -197,6 +324,25 @@ public abstract class AbstractPurchaseScheduler {
             String orderNumber,
             BigDecimal price,
             int quantity,
-            String errorMessage
-    ) {}
+            String errorMessage,
+            String accountId
+    ) {
+        public PurchaseResult(String symbol, boolean success, String orderNumber, BigDecimal price,
+                              int quantity, String errorMessage) {
+            this(symbol, success, orderNumber, price, quantity, errorMessage, null);
+        }
+
+        public PurchaseResult withAccount(String accountId) {
+            return new PurchaseResult(symbol, success, orderNumber, price, quantity, errorMessage, accountId);
+        }
+    }
+
+    /**
+     * 주문 전 조회 제한 시간 초과
+     */
+    public static class PurchaseTimeoutException extends RuntimeException {
+        public PurchaseTimeoutException(String message) {
+            super(message);
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package com.stock.trade.scheduler;
 
-import com.stock.trade.config.KisProperties;
+import com.stock.trade.account.KisAccount;
+import com.stock.trade.account.KisAccountRegistry;
 import com.stock.trade.notification.SlackNotificationService;
 import com.stock.trade.overseas.OverseasExchange;
 import com.stock.trade.overseas.OverseasPurchasableAmount;
@@ -25,7 +26,7 @@ public class BalanceNotificationScheduler {
 
     private final OverseasStockService stockService;
     private final SlackNotificationService slackNotificationService;
-    private final KisProperties kisProperties;
+    private final KisAccountRegistry accountRegistry;
     private final ScheduledPurchaseProperties properties;
 
     /**
@@ -51,14 +52,13 @@ public class BalanceNotificationScheduler {
     private void sendBalanceNotification() {
         log.info("========== 잔액 알림 스케줄러 시작 ==========");
         log.info("실행 시각: {}", LocalDateTime.now(ZoneId.of("Asia/Seoul")));
-        log.info("모드: {}", kisProperties.isDemoMode() ? "모의투자" : "실전투자");
-
-        stockService.setDemoMode(kisProperties.isDemoMode());
+        KisAccount account = accountRegistry.getDefault();
+        log.info("계좌: {}", account);
 
         try {
             // 매수가능금액 조회 API 사용 (QQQ 기준 $1로 조회)
-            OverseasPurchasableAmount purchasable = stockService.getPurchasableAmount(
-                    OverseasExchange.NASDAQ, "QQQ", BigDecimal.ONE);
+            OverseasPurchasableAmount purchasable = stockService.getPurchasableAmountAsync(
+                    account, OverseasExchange.NASDAQ, "QQQ", BigDecimal.ONE).block();
 
             BigDecimal usdBalance = purchasable.availableAmount() != null
                     ? purchasable.availableAmount() : BigDecimal.ZERO;
@@ -1,6 +1,7 @@
 package com.stock.trade.scheduler;
 
-import com.stock.trade.config.KisProperties;
+import com.stock.trade.account.KisAccount;
+import com.stock.trade.account.KisAccountRegistry;
 import com.stock.trade.notification.SlackNotificationService;
 import com.stock.trade.overseas.*;
 import com.stock.trade.scheduler.ScheduledPurchaseProperties.StockPurchaseConfig;
@@ -8,16 +9,25 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * 미체결 주문 시장가 전환 스케줄러
  * 장마감 1시간 전 미체결 주문을 시장가로 전환
+ * (실시간 미체결 모니터 활성화 시 모니터가 감시하는 기본 계좌는 제외하고 나머지 매매 계좌만 점검)
+ * 미체결 조회는 계좌/거래소당 1회 (종목 수와 무관)
  */
 @Slf4j
 @Service
@@ -25,7 +35,7 @@ import java.util.List;
 public class MarketFallbackScheduler {
 
     private final ScheduledPurchaseProperties properties;
-    private final KisProperties kisProperties;
+    private final KisAccountRegistry accountRegistry;
     private final OverseasOrderService orderService;
     private final SlackNotificationService slackNotificationService;
 
@@ -43,20 +53,16 @@ public class MarketFallbackScheduler {
             return;
         }
 
+        List<KisAccount> accounts = getUnmonitoredAccounts();
+        if (accounts.isEmpty()) {
+            log.debug("실시간 미체결 모니터가 모든 매매 계좌를 감시하여 일일 점검을 생략합니다");
+            return;
+        }
+
         log.info("========== 미체결 주문 시장가 전환 체크 시작 ==========");
         log.info("실행 시각: {}", LocalDateTime.now(ZoneId.of("Asia/Seoul")));
 
-        orderService.setDemoMode(kisProperties.isDemoMode());
-
-        List<StockPurchaseConfig> allStocks = getAllMarketFallbackStocks();
-        List<MarketFallbackResult> results = new ArrayList<>();
-
-        for (StockPurchaseConfig config : allStocks) {
-            MarketFallbackResult result = checkAndConvertToMarket(config);
-            if (result != null) {
-                results.add(result);
-            }
-        }
+        List<MarketFallbackResult> results = sweep(accounts);
 
         logSummary(results);
         slackNotificationService.notifyMarketFallbackResult(results);
@@ -68,37 +74,43 @@ public class MarketFallbackScheduler {
     public List<MarketFallbackResult> executeManually() {
         log.info("========== 미체결 주문 시장가 전환 수동 실행 ==========");
 
-        orderService.setDemoMode(kisProperties.isDemoMode());
-
-        List<StockPurchaseConfig> allStocks = getAllMarketFallbackStocks();
-        List<MarketFallbackResult> results = new ArrayList<>();
-
-        for (StockPurchaseConfig config : allStocks) {
-            MarketFallbackResult result = checkAndConvertToMarket(config);
-            if (result != null) {
-                results.add(result);
-            }
-        }
+        List<MarketFallbackResult> results = sweep(accountRegistry.getTradingAccounts());
 
         logSummary(results);
         return results;
     }
 
     /**
-     * 시장가 전환 대상 종목 목록 (주간 + 월간)
+     * 일일 점검 대상 계좌 (실시간 미체결 모니터는 기본 계좌만 감시하므로 활성화 시 기본 계좌 제외)
      */
-    private List<StockPurchaseConfig> getAllMarketFallbackStocks() {
+    private List<KisAccount> getUnmonitoredAccounts() {
+        if (!properties.getMonitor().isEnabled()) {
+            return accountRegistry.getTradingAccounts();
+        }
+        KisAccount monitored = accountRegistry.getDefault();
+        return accountRegistry.getTradingAccounts().stream()
+                .filter(account -> !account.equals(monitored))
+                .toList();
+    }
+
+    /**
+     * 계좌의 시장가 전환 대상 종목 목록 (주간 + 기본 계좌는 월간 포함)
+     */
+    private List<StockPurchaseConfig> getAllMarketFallbackStocks(KisAccount account) {
+        boolean defaultAccount = account.equals(accountRegistry.getDefault());
         List<StockPurchaseConfig> allStocks = new ArrayList<>();
 
-        for (StockPurchaseConfig config : properties.getStocks()) {
+        for (StockPurchaseConfig config : properties.getStocks(account.id(), defaultAccount)) {
             if (config.isEnabled() && config.isMarketFallback()) {
                 allStocks.add(config);
             }
         }
 
-        for (StockPurchaseConfig config : properties.getMonthlyStocks()) {
-            if (config.isEnabled() && config.isMarketFallback()) {
-                allStocks.add(config);
+        if (defaultAccount) {
+            for (StockPurchaseConfig config : properties.getMonthlyStocks()) {
+                if (config.isEnabled() && config.isMarketFallback()) {
+                    allStocks.add(config);
+                }
             }
         }
 
@@ -107,65 +119,99 @@ public class MarketFallbackScheduler {
 
     /**
      * 미체결 확인 및 시장가 전환
+     * 계좌/거래소별로 미체결을 한 번만 조회해 종목별로 묶고, 대상 주문을 동시에 취소/재주문
+     * (동시 실행 수: scheduler.purchase.concurrency, KIS 호출은 계좌별 속도 제한기를 거침)
      */
-    private MarketFallbackResult checkAndConvertToMarket(StockPurchaseConfig config) {
-        String symbol = config.getSymbol();
-        OverseasExchange exchange = parseExchange(config.getExchange());
-
-        try {
-            // 해당 종목의 미체결 주문 조회
-            List<OverseasUnfilledOrder> unfilledOrders = orderService.getUnfilledOrdersBySymbol(exchange, symbol);
-
-            // 매수 미체결만 필터링
-            List<OverseasUnfilledOrder> buyUnfilled = unfilledOrders.stream()
-                    .filter(OverseasUnfilledOrder::isBuyOrder)
-                    .filter(OverseasUnfilledOrder::hasUnfilledQuantity)
-                    .toList();
-
-            if (buyUnfilled.isEmpty()) {
-                log.info("{}: 미체결 매수 주문 없음", symbol);
-                return null;
-            }
-
-            log.info("{}: 미체결 매수 주문 {}건 발견", symbol, buyUnfilled.size());
-
-            // 각 미체결 주문 취소 후 시장가로 재주문
-            for (OverseasUnfilledOrder unfilled : buyUnfilled) {
-                log.info("{}: 주문번호 {} 취소 시도 (미체결 {}주)",
-                        symbol, unfilled.orderNumber(), unfilled.unfilledQuantity());
-
-                // 1. 기존 주문 취소
-                orderService.cancelOrder(unfilled);
-                log.info("{}: 주문 취소 완료", symbol);
-
-                // 2. 시장가(MOC)로 재주문
-                OverseasOrderRequest marketRequest = OverseasOrderRequest.builder()
-                        .exchange(exchange)
-                        .symbol(symbol)
-                        .quantity(unfilled.unfilledQuantity().intValue())
-                        .price(BigDecimal.ZERO)
-                        .orderType(OverseasOrderType.MARKET_ON_CLOSE)
-                        .build();
-
-                OverseasOrderResult newOrder = orderService.buy(marketRequest);
-                log.info("{}: 시장가 재주문 완료 - 새 주문번호: {}", symbol, newOrder.orderNumber());
-
-                return new MarketFallbackResult(
-                        symbol,
-                        true,
-                        unfilled.orderNumber(),
-                        newOrder.orderNumber(),
-                        unfilled.unfilledQuantity().intValue(),
-                        null
-                );
+    private List<MarketFallbackResult> sweep(List<KisAccount> accounts) {
+        List<SweepTarget> targets = new ArrayList<>();
+        for (KisAccount account : accounts) {
+            Map<OverseasExchange, Set<String>> symbolsByExchange = new LinkedHashMap<>();
+            for (StockPurchaseConfig config : getAllMarketFallbackStocks(account)) {
+                symbolsByExchange.computeIfAbsent(parseExchange(config.getExchange()), key -> new LinkedHashSet<>())
+                        .add(config.getSymbol());
             }
+            symbolsByExchange.forEach((exchange, symbols) -> targets.add(new SweepTarget(account, exchange, symbols)));
+        }
 
-        } catch (Exception e) {
-            log.error("{}: 시장가 전환 실패 - {}", symbol, e.getMessage());
-            return new MarketFallbackResult(symbol, false, null, null, 0, e.getMessage());
+        if (targets.isEmpty()) {
+            return new ArrayList<>();
         }
 
-        return null;
+        int concurrency = Math.max(1, properties.getConcurrency());
+        List<MarketFallbackResult> results = Flux.fromIterable(targets)
+                .flatMapSequential(target -> sweepExchange(target.account(), target.exchange(), target.symbols(),
+                        concurrency), concurrency)
+                .collectList()
+                .block();
+
+        return results != null ? new ArrayList<>(results) : new ArrayList<>();
+    }
+
+    /**
+     * 거래소 미체결 1회 조회 후 대상 종목의 매수 미체결을 시장가로 전환
+     */
+    private Flux<MarketFallbackResult> sweepExchange(KisAccount account, OverseasExchange exchange,
+                                                     Set<String> symbols, int concurrency) {
+        return orderService.getUnfilledOrdersAsync(account, exchange)
+                .flatMapMany(unfilledOrders -> {
+                    // 매수 미체결만 종목별로 묶기
+                    Map<String, List<OverseasUnfilledOrder>> buyUnfilledBySymbol = unfilledOrders.stream()
+                            .filter(order -> symbols.contains(order.symbol()))
+                            .filter(OverseasUnfilledOrder::isBuyOrder)
+                            .filter(OverseasUnfilledOrder::hasUnfilledQuantity)
+                            .collect(Collectors.groupingBy(OverseasUnfilledOrder::symbol));
+
+                    List<OverseasUnfilledOrder> targets = new ArrayList<>();
+                    for (String symbol : symbols) {
+                        List<OverseasUnfilledOrder> buyUnfilled = buyUnfilledBySymbol.getOrDefault(symbol, List.of());
+                        if (buyUnfilled.isEmpty()) {
+                            log.info("[{}] {}: 미체결 매수 주문 없음", account.id(), symbol);
+                        } else {
+                            log.info("[{}] {}: 미체결 매수 주문 {}건 발견", account.id(), symbol, buyUnfilled.size());
+                            targets.addAll(buyUnfilled);
+                        }
+                    }
+                    return Flux.fromIterable(targets);
+                })
+                .flatMapSequential(unfilled -> convertToMarket(account, exchange, unfilled), concurrency)
+                .onErrorResume(e -> {
+                    log.error("[{}] {}: 미체결 조회 실패 - {}", account.id(), exchange, e.getMessage());
+                    return Flux.fromIterable(symbols)
+                            .map(symbol -> new MarketFallbackResult(symbol, false, null, null, 0, e.getMessage()));
+                });
+    }
+
+    /**
+     * 미체결 주문 취소 후 시장가(MOC)로 재주문 (해외 주문은 정정으로 주문구분을 바꿀 수 없음)
+     */
+    private Mono<MarketFallbackResult> convertToMarket(KisAccount account, OverseasExchange exchange,
+                                                       OverseasUnfilledOrder unfilled) {
+        String symbol = unfilled.symbol();
+        int quantity = unfilled.unfilledQuantity().intValue();
+
+        OverseasOrderRequest marketRequest = OverseasOrderRequest.builder()
+                .exchange(exchange)
+                .symbol(symbol)
+                .quantity(quantity)
+                .price(BigDecimal.ZERO)
+                .orderType(OverseasOrderType.MARKET_ON_CLOSE)
+                .build();
+
+        log.info("[{}] {}: 주문번호 {} 취소 시도 (미체결 {}주)", account.id(), symbol, unfilled.orderNumber(), quantity);
+
+        return orderService.cancelOrderAsync(account, unfilled)
+                .doOnNext(cancelled -> log.info("{}: 주문번호 {} 취소 완료", symbol, unfilled.orderNumber()))
+                .then(orderService.buyAsync(account, marketRequest))
+                .map(newOrder -> {
+                    log.info("{}: 시장가 재주문 완료 - 새 주문번호: {}", symbol, newOrder.orderNumber());
+                    return new MarketFallbackResult(symbol, true, unfilled.orderNumber(),
+                            newOrder.orderNumber(), quantity, null);
+                })
+                .onErrorResume(e -> {
+                    log.error("{}: 시장가 전환 실패 - {}", symbol, e.getMessage());
+                    return Mono.just(new MarketFallbackResult(symbol, false, unfilled.orderNumber(),
+                            null, 0, e.getMessage()));
+                });
     }
 
     private OverseasExchange parseExchange(String exchange) {
@@ -200,6 +246,11 @@ public class MarketFallbackScheduler {
         log.info("==========================================");
     }
 
+    /**
+     * 계좌/거래소별 점검 대상
+     */
+    private record SweepTarget(KisAccount account, OverseasExchange exchange, Set<String> symbols) {}
+
     /**
      * 시장가 전환 결과
      */
@@ -1,5 +1,7 @@
 package com.stock.trade.scheduler;
 
+import com.stock.trade.account.KisAccount;
+import com.stock.trade.account.KisAccountRegistry;
 import com.stock.trade.config.KisProperties;
 import com.stock.trade.notification.SlackNotificationService;
 import com.stock.trade.overseas.*;
@@ -8,6 +10,7 @@ import com.stock.trade.scheduler.ScheduledPurchaseProperties.StockPurchaseConfig
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import reactor.core.scheduler.Scheduler;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -23,7 +26,8 @@ import java.util.List;
  * 로직:
  * 1. 기준 종목(QLD) 잔고 및 수익률 조회
  * 2. 수익률이 목표 이상이면 일부 매도
- * 3. 매도 금액으로 대상 종목(JEPQ) 매수
+ * 3. 매도 금액으로 대상 종목(JEPQ) 매수 (같은 시각 주간 매수와 매수가능 달러를 PurchaseCashLedger 로 나눠 사용)
+ * 리밸런싱은 기본 계좌에만 적용
  */
 @Slf4j
 @Service
@@ -33,10 +37,13 @@ public class MonthlyPurchaseScheduler extends AbstractPurchaseScheduler {
 
     public MonthlyPurchaseScheduler(ScheduledPurchaseProperties properties,
                                     KisProperties kisProperties,
+                                    KisAccountRegistry accountRegistry,
                                     OverseasOrderService orderService,
                                     OverseasStockService stockService,
+                                    Scheduler kisCallScheduler,
+                                    PurchaseCashLedger cashLedger,
                                     SlackNotificationService slackNotificationService) {
-        super(properties, kisProperties, orderService, stockService);
+        super(properties, kisProperties, accountRegistry, orderService, stockService, kisCallScheduler, cashLedger);
         this.slackNotificationService = slackNotificationService;
     }
 
@@ -84,21 +91,19 @@ public class MonthlyPurchaseScheduler extends AbstractPurchaseScheduler {
 
         log.info("========== {} 스케줄러 시작 ==========", getScheduleType());
         log.info("실행 시각: {}", LocalDateTime.now(ZoneId.of("Asia/Seoul")));
-        log.info("모드: {}", kisProperties.isDemoMode() ? "모의투자" : "실전투자");
+        KisAccount account = accountRegistry.getDefault();
+        log.info("계좌: {}", account);
         log.info("기준 종목: {} (수익률 {}% 이상 시 {}% 매도)",
                 config.getSourceSymbol(),
                 config.getTriggerProfitRate().multiply(BigDecimal.valueOf(100)),
                 config.getSellRate().multiply(BigDecimal.valueOf(100)));
         log.info("매수 대상: {}", config.getTargetSymbol());
 
-        orderService.setDemoMode(kisProperties.isDemoMode());
-        stockService.setDemoMode(kisProperties.isDemoMode());
-
         List<PurchaseResult> results = new ArrayList<>();
 
         try {
             // 1. 기준 종목 잔고 조회
-            OverseasStockBalance sourceBalance = stockService.getBalanceBySymbol(config.getSourceSymbol());
+            OverseasStockBalance sourceBalance = stockService.getBalanceBySymbol(account, config.getSourceSymbol());
 
             if (sourceBalance == null || !sourceBalance.hasPosition()) {
                 log.info("{} 보유 잔고 없음. 리밸런싱 스킵", config.getSourceSymbol());
@@ -151,7 +156,7 @@ public class MonthlyPurchaseScheduler extends AbstractPurchaseScheduler {
             }
 
             // 4. 매도 주문 실행
-            PurchaseResult sellResult = executeSell(config, sourceBalance, sellQuantity);
+            PurchaseResult sellResult = executeSell(account, config, sourceBalance, sellQuantity);
             results.add(sellResult);
 
             if (!sellResult.success()) {
@@ -164,7 +169,7 @@ public class MonthlyPurchaseScheduler extends AbstractPurchaseScheduler {
             BigDecimal sellAmount = sellResult.price().multiply(BigDecimal.valueOf(sellQuantity));
             log.info("매도 예상 금액: ${}", sellAmount);
 
-            PurchaseResult buyResult = executeBuy(config, sellAmount);
+            PurchaseResult buyResult = executeBuy(account, config, sellAmount);
             results.add(buyResult);
 
         } catch (Exception e) {
@@ -179,7 +184,7 @@ public class MonthlyPurchaseScheduler extends AbstractPurchaseScheduler {
     /**
      * 기준 종목 매도
      */
-    private PurchaseResult executeSell(RebalanceConfig config, OverseasStockBalance balance, int quantity) {
+    private PurchaseResult executeSell(KisAccount account, RebalanceConfig config, OverseasStockBalance balance, int quantity) {
         String symbol = config.getSourceSymbol();
         log.info("----- {} 매도 시작 ({}주) -----", symbol, quantity);
 
@@ -210,7 +215,7 @@ public class MonthlyPurchaseScheduler extends AbstractPurchaseScheduler {
                     .orderType(OverseasOrderType.LIMIT)
                     .build();
 
-            OverseasOrderResult orderResult = orderService.sell(request);
+            OverseasOrderResult orderResult = orderService.sellAsync(account, request).block();
 
             log.info("{} 매도 주문 성공 - 주문번호: {}, {}주 x ${}",
                     symbol, orderResult.orderNumber(), quantity, sellPrice);
@@ -227,15 +232,16 @@ public class MonthlyPurchaseScheduler extends AbstractPurchaseScheduler {
     /**
      * 대상 종목 매수
      */
-    private PurchaseResult executeBuy(RebalanceConfig config, BigDecimal budget) {
+    private PurchaseResult executeBuy(KisAccount account, RebalanceConfig config, BigDecimal budget) {
         String symbol = config.getTargetSymbol();
         log.info("----- {} 매수 시작 (예산: ${}) -----", symbol, budget);
 
+        BigDecimal reservedUsd = BigDecimal.ZERO;
         try {
             OverseasExchange exchange = parseExchange(config.getTargetExchange());
 
             // 현재가 조회
-            OverseasStockPrice price = stockService.getPrice(exchange, symbol);
+            OverseasStockPrice price = stockService.getPriceAsync(account, exchange.getCode(), symbol, null).block();
             BigDecimal currentPrice = price.currentPrice();
 
             if (currentPrice == null || currentPrice.compareTo(BigDecimal.ZERO) <= 0) {
@@ -253,14 +259,17 @@ public class MonthlyPurchaseScheduler extends AbstractPurchaseScheduler {
                     symbol, buyPrice, currentPrice,
                     config.getDiscountRate().multiply(BigDecimal.valueOf(100)));
 
-            // 매수 수량 계산
-            int quantity = budget.divide(buyPrice, 0, RoundingMode.DOWN).intValue();
-            log.info("{} 매수 수량: {}주 (${} / ${})", symbol, quantity, budget, buyPrice);
+            // 매수 수량 예약 (매도 금액과 남은 매수가능 달러 중 작은 값 기준)
+            openCashLedger(account, exchange, symbol, buyPrice).block();
+            int quantity = cashLedger.reserve(account, budget, buyPrice);
+            reservedUsd = buyPrice.multiply(BigDecimal.valueOf(quantity));
+            log.info("{} 매수 수량: {}주 (예산 ${}, 매수가능 잔액 ${} / ${})",
+                    symbol, quantity, budget, cashLedger.remaining(account), buyPrice);
 
             if (quantity <= 0) {
-                log.warn("{} 매수 가능 수량이 0입니다. 예산 부족", symbol);
+                log.warn("{} 매수 가능 수량이 0입니다. 예산 또는 잔액 부족", symbol);
                 return new PurchaseResult(symbol + "_BUY", false, null, buyPrice, 0,
-                        "매수 가능 수량 0 (예산: $" + budget + ")");
+                        "매수 가능 수량 0 (예산: $" + budget + ", 잔액: $" + cashLedger.remaining(account) + ")");
             }
 
             // 매수 주문
@@ -272,7 +281,7 @@ public class MonthlyPurchaseScheduler extends AbstractPurchaseScheduler {
                     .orderType(OverseasOrderType.LIMIT)
                     .build();
 
-            OverseasOrderResult orderResult = orderService.buy(request);
+            OverseasOrderResult orderResult = orderService.buyAsync(account, request).block();
 
             log.info("{} 매수 주문 성공 - 주문번호: {}, {}주 x ${}",
                     symbol, orderResult.orderNumber(), quantity, buyPrice);
@@ -281,6 +290,7 @@ public class MonthlyPurchaseScheduler extends AbstractPurchaseScheduler {
                     buyPrice, quantity, null);
 
         } catch (Exception e) {
+            cashLedger.release(account, reservedUsd);
             log.error("{} 매수 실패: {}", symbol, e.getMessage());
             return new PurchaseResult(symbol + "_BUY", false, null, null, 0, e.getMessage());
         }
@@ -0,0 +1,116 @@
+package com.stock.trade.scheduler;
+
+import com.stock.trade.account.KisAccount;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 정기 매수 계좌별 매수가능 달러 장부
+ *
+ * 매수가능금액은 계좌 단위인데 조회는 종목마다 하므로, 같은 잔액으로 여러 종목(주간/월간, 동시 실행)의 수량을 계산하면 중복 사용됨.
+ * 계좌별로 한 번 조회한 잔액을 기준으로 두고 주문마다 주문 금액을 차감.
+ * 기준은 warmup.plan-ttl 동안 유지 (이후 조회값에는 이미 낸 주문이 빠져 있어 덮어쓰지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PurchaseCashLedger {
+
+    private final ScheduledPurchaseProperties properties;
+
+    // 계좌 ID -> 남은 매수가능 달러
+    private final Map<String, Balance> balances = new ConcurrentHashMap<>();
+
+    /**
+     * 전체 기준 초기화 (워밍업 시작 시)
+     */
+    public void clear() {
+        balances.clear();
+    }
+
+    /**
+     * 유효한 기준이 있는지
+     */
+    public boolean isOpen(KisAccount account) {
+        return isValid(balances.get(account.id()), account);
+    }
+
+    /**
+     * 조회한 매수가능 달러로 기준 설정 (유효한 기준이 이미 있으면 유지)
+     */
+    public void open(KisAccount account, BigDecimal availableUsd) {
+        if (availableUsd == null) {
+            return;
+        }
+        balances.compute(account.id(), (id, current) -> {
+            if (isValid(current, account)) {
+                return current;
+            }
+            log.info("[{}] 매수가능 달러 기준: ${}", id, availableUsd);
+            return new Balance(availableUsd, account.isDemo(), System.nanoTime());
+        });
+    }
+
+    /**
+     * 남은 매수가능 달러 (기준이 없으면 null)
+     */
+    public BigDecimal remaining(KisAccount account) {
+        Balance balance = balances.get(account.id());
+        return balance != null && balance.demoMode() == account.isDemo() ? balance.remainingUsd() : null;
+    }
+
+    /**
+     * 예산 내에서 주문가격 기준 수량을 예약하고 잔액에서 차감
+     *
+     * @param budgetUsd  종목 예산 (남은 잔액과 비교해 작은 값 사용)
+     * @param orderPrice 주문가격
+     * @return 예약 수량 (기준이 없거나 잔액 부족 시 0)
+     */
+    public int reserve(KisAccount account, BigDecimal budgetUsd, BigDecimal orderPrice) {
+        if (orderPrice == null || orderPrice.compareTo(BigDecimal.ZERO) <= 0) {
+            return 0;
+        }
+        int[] reserved = new int[1];
+        balances.computeIfPresent(account.id(), (id, current) -> {
+            if (current.demoMode() != account.isDemo()) {
+                return current;
+            }
+            BigDecimal usable = budgetUsd.min(current.remainingUsd());
+            reserved[0] = Math.max(0, usable.divide(orderPrice, 0, RoundingMode.DOWN).intValue());
+            return current.add(orderPrice.multiply(BigDecimal.valueOf(reserved[0])).negate());
+        });
+        return reserved[0];
+    }
+
+    /**
+     * 예약 반환 (주문 실패 시)
+     */
+    public void release(KisAccount account, BigDecimal amount) {
+        balances.computeIfPresent(account.id(), (id, current) ->
+                current.demoMode() == account.isDemo() ? current.add(amount) : current);
+    }
+
+    private boolean isValid(Balance balance, KisAccount account) {
+        if (balance == null || balance.demoMode() != account.isDemo()) {
+            return false;
+        }
+        return System.nanoTime() - balance.openedNanos() <= properties.getWarmup().getPlanTtl().toNanos();
+    }
+
+    /**
+     * @param remainingUsd 남은 매수가능 달러
+     * @param demoMode     기준 설정 시 모드
+     * @param openedNanos  기준 설정 시각 (System.nanoTime)
+     */
+    private record Balance(BigDecimal remainingUsd, boolean demoMode, long openedNanos) {
+        Balance add(BigDecimal amount) {
+            return new Balance(remainingUsd.add(amount), demoMode, openedNanos);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.stock.trade.scheduler;
+
+import com.stock.trade.account.KisAccount;
+import com.stock.trade.account.KisAccountRegistry;
+import com.stock.trade.config.KisConnectionWarmer;
+import com.stock.trade.overseas.OverseasExchange;
+import com.stock.trade.overseas.OverseasPurchasableAmount;
+import com.stock.trade.overseas.OverseasStockPrice;
+import com.stock.trade.overseas.OverseasStockService;
+import com.stock.trade.scheduler.ScheduledPurchaseProperties.StockPurchaseConfig;
+import com.stock.trade.token.KisTokenManager;
+import com.stock.trade.websocket.KisRealtimeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 정기 매수 워밍업 스케줄러
+ * 매수 크론 몇 분 전에 실행하여 매수 시점의 네트워크 호출을 주문 전송만 남김
+ *
+ * 로직:
+ * 1. 액세스 토큰 확인 (만료 임박 시 갱신)
+ * 2. KIS 연결 풀에 HTTP 연결 미리 열기
+ * 3. 매수 종목 실시간 체결가 구독 (QuoteCache 갱신)
+ * 4. 환율/매수가능금액 조회 후 종목별 달러 예산 계산 (매수 계획), 계좌별 매수가능 달러는 PurchaseCashLedger 에 기록
+ * 토큰/매수 계획은 매매 대상 계좌별로 준비
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PurchaseWarmupScheduler {
+
+    private static final Duration CONNECTION_WARMUP_TIMEOUT = Duration.ofSeconds(10);
+
+    private final ScheduledPurchaseProperties properties;
+    private final KisAccountRegistry accountRegistry;
+    private final KisTokenManager tokenManager;
+    private final KisConnectionWarmer connectionWarmer;
+    private final KisRealtimeService realtimeService;
+    private final OverseasStockService stockService;
+    private final PurchaseCashLedger cashLedger;
+
+    // 계좌 ID:종목코드 -> 매수 계획
+    private final Map<String, PurchasePlan> plans = new ConcurrentHashMap<>();
+
+    /**
+     * 매주 월요일 오후 11시 25분 (KST) 실행 (주간 매수 5분 전)
+     */
+    @Scheduled(cron = "${scheduler.purchase.warmup-cron:0 25 23 * * MON}", zone = "Asia/Seoul")
+    public void execute() {
+        if (!properties.isEnabled() || !properties.getWarmup().isEnabled()) {
+            return;
+        }
+        warmUp();
+    }
+
+    /**
+     * 워밍업 실행 (단계별 실패는 로그만 남기고 다음 단계 진행)
+     */
+    public void warmUp() {
+        log.info("========== 정기 매수 워밍업 시작 ==========");
+        long startedNanos = System.nanoTime();
+
+        for (KisAccount account : accountRegistry.getTradingAccounts()) {
+            try {
+                tokenManager.getAccessToken(account);
+            } catch (Exception e) {
+                log.warn("[{}] 워밍업 토큰 확인 실패: {}", account.id(), e.getMessage());
+            }
+        }
+
+        try {
+            connectionWarmer.warmUp().block(CONNECTION_WARMUP_TIMEOUT);
+        } catch (Exception e) {
+            log.warn("워밍업 연결 열기 실패: {}", e.getMessage());
+        }
+
+        subscribePrices();
+
+        plans.clear();
+        cashLedger.clear();
+        for (KisAccount account : accountRegistry.getTradingAccounts()) {
+            for (StockPurchaseConfig config : stocksOf(account)) {
+                if (config.isEnabled() && config.isBudgetBased()) {
+                    preparePlan(account, config);
+                }
+            }
+        }
+
+        log.info("========== 정기 매수 워밍업 완료 - 계획 {}건, {}ms ==========",
+                plans.size(), (System.nanoTime() - startedNanos) / 1_000_000);
+    }
+
+    /**
+     * 유효한 매수 계획 조회 (없거나 만료/모드 불일치 시 empty)
+     */
+    public Optional<PurchasePlan> getPlan(KisAccount account, String symbol) {
+        PurchasePlan plan = plans.get(planKey(account, symbol));
+        if (plan == null || plan.demoMode() != account.isDemo()) {
+            return Optional.empty();
+        }
+        long ageNanos = System.nanoTime() - plan.preparedNanos();
+        if (ageNanos > properties.getWarmup().getPlanTtl().toNanos()) {
+            return Optional.empty();
+        }
+        return Optional.of(plan);
+    }
+
+    /**
+     * 매수 시점 현재가 최대 허용 지연 (워밍업 비활성화 시 null: 시장별 TTL)
+     */
+    public Duration getPriceMaxStaleness() {
+        return properties.getWarmup().isEnabled() ? properties.getWarmup().getPriceMaxStaleness() : null;
+    }
+
+    private void subscribePrices() {
+        try {
+            if (!realtimeService.isConnected()) {
+                realtimeService.start();
+            }
+            for (KisAccount account : accountRegistry.getTradingAccounts()) {
+                for (StockPurchaseConfig config : stocksOf(account)) {
+                    if (config.isEnabled()) {
+                        OverseasExchange exchange = parseExchange(config.getExchange());
+                        realtimeService.subscribeOverseasPrice(exchange.getCode(), config.getSymbol());
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.warn("워밍업 실시간 시세 구독 실패: {}", e.getMessage());
+        }
+    }
+
+    private List<StockPurchaseConfig> stocksOf(KisAccount account) {
+        return properties.getStocks(account.id(), account.equals(accountRegistry.getDefault()));
+    }
+
+    private static String planKey(KisAccount account, String symbol) {
+        return account.id() + ":" + symbol;
+    }
+
+    private void preparePlan(KisAccount account, StockPurchaseConfig config) {
+        String symbol = config.getSymbol();
+        try {
+            OverseasExchange exchange = parseExchange(config.getExchange());
+
+            // 현재가는 매수가능금액 조회용 + QuoteCache 기준값
+            OverseasStockPrice price = stockService.getPriceAsync(account, exchange.getCode(), symbol, Duration.ZERO)
+                    .block();
+            BigDecimal currentPrice = price.currentPrice();
+            if (currentPrice == null || currentPrice.compareTo(BigDecimal.ZERO) <= 0) {
+                log.warn("{} 워밍업 현재가 없음, 매수 계획 생략", symbol);
+                return;
+            }
+
+            OverseasPurchasableAmount purchasable = stockService.getPurchasableAmountAsync(account, exchange, symbol,
+                    currentPrice).block();
+            BigDecimal exchangeRate = purchasable.exchangeRate();
+            if (exchangeRate == null || exchangeRate.compareTo(BigDecimal.ZERO) <= 0) {
+                exchangeRate = properties.getDefaultExchangeRate();
+            }
+
+            BigDecimal availableUsd = purchasable.availableAmount();
+            BigDecimal budgetUsd = config.getBudgetKrw().divide(exchangeRate, 2, RoundingMode.DOWN);
+            PurchasePlan plan = new PurchasePlan(symbol, exchangeRate, availableUsd, budgetUsd,
+                    account.isDemo(), System.nanoTime());
+            plans.put(planKey(account, symbol), plan);
+            cashLedger.open(account, availableUsd);
+
+            log.info("[{}] {} 매수 계획 - 환율: {}, 예산: ${}, 잔액: ${} (현재가 ${})",
+                    account.id(), symbol, exchangeRate, budgetUsd, availableUsd, currentPrice);
+        } catch (Exception e) {
+            log.warn("[{}] {} 매수 계획 준비 실패: {}", account.id(), symbol, e.getMessage());
+        }
+    }
+
+    private OverseasExchange parseExchange(String exchange) {
+        try {
+            return OverseasExchange.valueOf(exchange.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return OverseasExchange.fromCode(exchange.toUpperCase());
+        }
+    }
+
+    /**
+     * 워밍업 시점에 계산한 매수 계획
+     * 수량은 주문 시점에 PurchaseCashLedger 에서 예약 (availableUsd 는 계좌 전체 잔액이라 종목별로 쓰면 중복 사용)
+     *
+     * @param symbol        종목코드
+     * @param exchangeRate  환율 (조회 실패 시 기본 환율)
+     * @param availableUsd  매수가능 달러 (조회 시점 계좌 잔액)
+     * @param budgetUsd     원화 예산의 달러 환산액
+     * @param demoMode      계획 작성 시 모드
+     * @param preparedNanos 작성 시각 (System.nanoTime)
+     */
+    public record PurchasePlan(
+            String symbol,
+            BigDecimal exchangeRate,
+            BigDecimal availableUsd,
+            BigDecimal budgetUsd,
+            boolean demoMode,
+            long preparedNanos
+    ) {
+    }
+}
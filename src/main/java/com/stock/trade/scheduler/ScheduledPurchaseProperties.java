@@ -6,8 +6,11 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 정기 매수 스케줄러 설정
@@ -28,6 +31,12 @@ public class ScheduledPurchaseProperties {
      */
     private List<StockPurchaseConfig> stocks = new ArrayList<>();
 
+    /**
+     * 추가 계좌별 주간 매수 종목 (키: external.kis.accounts 의 계좌 ID)
+     * 기본 계좌는 stocks 사용
+     */
+    private Map<String, AccountPurchaseConfig> accounts = new LinkedHashMap<>();
+
     /**
      * 월간 매수 종목 목록 (매달 첫번째 월요일)
      */
@@ -39,11 +48,108 @@ public class ScheduledPurchaseProperties {
      */
     private BigDecimal defaultExchangeRate = new BigDecimal("1450");
 
+    /**
+     * 종목 동시 매수 수 (KIS 호출은 속도 제한기를 거침, 1 이면 순차 실행)
+     */
+    private int concurrency = 4;
+
+    /**
+     * 종목별 주문 전 조회 제한 시간 (현재가/매수가능금액 조회, 초과 시 주문하지 않음. 주문 전송은 응답까지 기다림)
+     */
+    private Duration symbolTimeout = Duration.ofSeconds(30);
+
     /**
      * 월간 리밸런싱 설정
      */
     private RebalanceConfig rebalance = new RebalanceConfig();
 
+    /**
+     * 매수 전 워밍업 설정
+     */
+    private WarmupConfig warmup = new WarmupConfig();
+
+    /**
+     * 실시간 미체결 모니터 설정
+     */
+    private MonitorConfig monitor = new MonitorConfig();
+
+    /**
+     * 계좌의 주간 매수 종목
+     *
+     * @param accountId      계좌 ID
+     * @param defaultAccount 현재 모드의 기본 계좌 여부 (true 면 stocks)
+     */
+    public List<StockPurchaseConfig> getStocks(String accountId, boolean defaultAccount) {
+        if (defaultAccount) {
+            return stocks;
+        }
+        AccountPurchaseConfig config = accounts.get(accountId);
+        return config != null ? config.getStocks() : List.of();
+    }
+
+    /**
+     * 계좌별 매수 설정
+     */
+    @Getter
+    @Setter
+    public static class AccountPurchaseConfig {
+        /**
+         * 주간 매수 종목 목록
+         */
+        private List<StockPurchaseConfig> stocks = new ArrayList<>();
+    }
+
+    /**
+     * 실시간 미체결 모니터 설정
+     * 활성화 시 fallback-cron 일일 점검 대신 체결통보/실시간 시세로 미체결 매수를 추적
+     * (기본 계좌만 감시, 추가 계좌는 fallback-cron 점검 유지)
+     */
+    @Getter
+    @Setter
+    public static class MonitorConfig {
+        /**
+         * 모니터 활성화 여부
+         */
+        private boolean enabled = false;
+
+        /**
+         * 재주문 기준 괴리율 (현재가가 주문가보다 이 비율 이상 오르면 현재가로 재주문, 예: 0.03 = 3%)
+         */
+        private BigDecimal repriceDrift = new BigDecimal("0.03");
+
+        /**
+         * 종목별 최대 재주문 횟수 (초과 시 시장가 전환)
+         */
+        private int maxReprices = 2;
+
+        /**
+         * 장 마감 전 시장가 전환 시점
+         */
+        private Duration fallbackBeforeClose = Duration.ofHours(1);
+    }
+
+    /**
+     * 워밍업 설정 (실행 시각: scheduler.purchase.warmup-cron)
+     */
+    @Getter
+    @Setter
+    public static class WarmupConfig {
+        /**
+         * 워밍업 활성화 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 매수 계획 유효 시간 (초과 시 매수 시점에 다시 조회)
+         */
+        private Duration planTtl = Duration.ofMinutes(15);
+
+        /**
+         * 매수 시점 현재가 최대 허용 지연 (실시간 시세가 이 안에 갱신됐으면 REST 조회 생략)
+         */
+        private Duration priceMaxStaleness = Duration.ofMinutes(1);
+    }
+
     /**
      * 리밸런싱 설정
      */
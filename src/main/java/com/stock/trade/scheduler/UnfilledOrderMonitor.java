@@ -0,0 +1,531 @@
+package com.stock.trade.scheduler;
+
+import com.stock.trade.account.KisAccount;
+import com.stock.trade.account.KisAccountRegistry;
+import com.stock.trade.overseas.*;
+import com.stock.trade.scheduler.ScheduledPurchaseProperties.MonitorConfig;
+import com.stock.trade.scheduler.ScheduledPurchaseProperties.StockPurchaseConfig;
+import com.stock.trade.websocket.KisRealtimeService;
+import com.stock.trade.websocket.KisTrId;
+import com.stock.trade.websocket.KisWebSocketListener;
+import com.stock.trade.websocket.OverseasStockPriceListener;
+import com.stock.trade.websocket.RealtimeFrame;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 실시간 미체결 매수 모니터
+ * 체결통보(H0GSCNI0/H0GSCNI9)로 미체결 매수 주문을 추적하고, 실시간 시세(HDFSCNT0)와 마감 시각 기준으로 즉시 대응
+ *
+ * 로직:
+ * 1. 시작 시 거래소별 미체결 1회 조회로 추적 목록 초기화, 이후는 체결통보로만 갱신
+ * 2. 현재가가 주문가보다 repriceDrift 이상 오르면 현재가로 정정 (정정 불가 거래소는 취소 후 재주문, maxReprices 회까지)
+ * 3. 재주문 한도 초과 또는 마감 fallbackBeforeClose 전이면 취소 후 시장가(MOC) 전환
+ * 시장가 주문(전환 결과, 시작 시 조회한 MOC 등)은 추적만 하고 재주문/시장가 전환하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnfilledOrderMonitor implements KisWebSocketListener {
+
+    private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+    private static final LocalTime US_MARKET_CLOSE = LocalTime.of(16, 0);
+
+    private static final Set<String> NOTICE_TR_IDS = Set.of(
+            KisTrId.OVERSEAS_STOCK_CCNL_NOTICE,
+            KisTrId.OVERSEAS_STOCK_CCNL_NOTICE_DEMO
+    );
+
+    // 체결통보 + 실시간 시세
+    private static final Set<String> REALTIME_TR_IDS = Set.of(
+            KisTrId.OVERSEAS_STOCK_CCNL_NOTICE,
+            KisTrId.OVERSEAS_STOCK_CCNL_NOTICE_DEMO,
+            KisTrId.OVERSEAS_STOCK_DELAYED_CCNL
+    );
+
+    private final ScheduledPurchaseProperties properties;
+    private final KisAccountRegistry accountRegistry;
+    private final OverseasOrderService orderService;
+    private final TaskScheduler taskScheduler;
+
+    // KisRealtimeService 가 리스너 목록으로 이 빈을 주입받으므로 지연 조회
+    private final ObjectProvider<KisRealtimeService> realtimeService;
+
+    // 주문번호 -> 추적 중인 미체결 매수
+    private final ConcurrentMap<String, TrackedOrder> openOrders = new ConcurrentHashMap<>();
+
+    // 재주문 주문번호 -> 재주문 내역 (체결통보와 주문 응답 중 늦게 온 쪽에서 반영 후 제거)
+    private final ConcurrentMap<String, Replacement> pendingReplacements = new ConcurrentHashMap<>();
+
+    // 종목코드 -> 매수 설정 (시장가 전환 대상 종목)
+    private volatile Map<String, StockPurchaseConfig> targets = Map.of();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!isEnabled()) {
+            return;
+        }
+
+        Map<String, StockPurchaseConfig> configs = new HashMap<>();
+        for (StockPurchaseConfig config : properties.getStocks()) {
+            if (config.isEnabled() && config.isMarketFallback()) {
+                configs.put(config.getSymbol(), config);
+            }
+        }
+        for (StockPurchaseConfig config : properties.getMonthlyStocks()) {
+            if (config.isEnabled() && config.isMarketFallback()) {
+                configs.putIfAbsent(config.getSymbol(), config);
+            }
+        }
+        targets = Map.copyOf(configs);
+
+        if (targets.isEmpty()) {
+            log.info("미체결 모니터 대상 종목 없음");
+            return;
+        }
+
+        subscribe();
+        seed();
+    }
+
+    /**
+     * 추적 중인 미체결 매수 수
+     */
+    public int getOpenOrderCount() {
+        return openOrders.size();
+    }
+
+    /**
+     * 체결통보를 기다리는 재주문 수 (테스트용)
+     */
+    int getPendingReplacementCount() {
+        return pendingReplacements.size();
+    }
+
+    // ==================== KisWebSocketListener ====================
+
+    @Override
+    public Set<String> trIds() {
+        return REALTIME_TR_IDS;
+    }
+
+    @Override
+    public void onRealtimeFrame(RealtimeFrame frame) {
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        String trId = frame.trId();
+        try {
+            if (NOTICE_TR_IDS.contains(trId)) {
+                onFillNotice(frame.fields());
+            } else if (!openOrders.isEmpty()) {
+                onPrice(OverseasStockPriceListener.toSymbol(frame.field(0)), frame.decimalField(10));
+            }
+        } catch (Exception e) {
+            log.error("미체결 모니터 처리 오류 - TR_ID: {}", trId, e);
+        }
+    }
+
+    // ==================== 체결통보 ====================
+
+    /**
+     * 해외 체결통보
+     * 컬럼 순서:
+     * 0:CUST_ID, 1:ACNT_NO, 2:ODER_NO, 3:OODER_NO, 4:SELN_BYOV_CLS, 5:RCTF_CLS, 6:ODER_KIND2,
+     * 7:STCK_SHRN_ISCD, 8:CNTG_QTY, 9:CNTG_UNPR, 10:STCK_CNTG_HOUR, 11:RFUS_YN, 12:CNTG_YN,
+     * 13:ACPT_YN, 14:BRNC_NO, 15:ODER_QTY, ...
+     */
+    private void onFillNotice(String[] fields) {
+        String accountNumber = account().accountNumber();
+        if (accountNumber != null && !field(fields, 1).startsWith(accountNumber)) {
+            return;
+        }
+
+        String symbol = field(fields, 7);
+        if (!"02".equals(field(fields, 4)) || !targets.containsKey(symbol)) {
+            return;
+        }
+
+        String orderNumber = field(fields, 2);
+        String originalOrderNumber = field(fields, 3);
+        String correctionCode = field(fields, 5);     // 0:정상, 1:정정, 2:취소
+        boolean filled = "2".equals(field(fields, 12)); // 1:접수, 2:체결
+
+        if ("1".equals(field(fields, 11))) {
+            log.info("{}: 주문 거부 - 주문번호 {}", symbol, orderNumber);
+            untrack(orderNumber);
+            return;
+        }
+
+        if (filled) {
+            TrackedOrder order = openOrders.get(orderNumber);
+            if (order != null && order.remaining.addAndGet(-parseLong(field(fields, 8))) <= 0) {
+                log.info("{}: 주문번호 {} 전량 체결", symbol, orderNumber);
+                untrack(orderNumber);
+            }
+            return;
+        }
+
+        switch (correctionCode) {
+            case "2" -> untrack(originalOrderNumber);
+            case "1" -> {
+                TrackedOrder original = untrack(originalOrderNumber);
+                BigDecimal price = decimal(field(fields, 9));
+                long remaining = original != null ? original.remaining.get() : parseLong(field(fields, 15));
+                track(orderNumber, symbol, price, remaining,
+                        original != null ? original.repriceCount : 0,
+                        original != null ? original.orderType : orderTypeOf(price));
+            }
+            default -> {
+                BigDecimal price = decimal(field(fields, 9));
+                long quantity = parseLong(field(fields, 15));
+                track(orderNumber, symbol, price, quantity > 0 ? quantity : parseLong(field(fields, 8)),
+                        0, orderTypeOf(price));
+            }
+        }
+    }
+
+    // ==================== 실시간 시세 ====================
+
+    private void onPrice(String symbol, BigDecimal currentPrice) {
+        if (currentPrice.signum() <= 0) {
+            return;
+        }
+
+        MonitorConfig config = properties.getMonitor();
+        for (TrackedOrder order : openOrders.values()) {
+            if (!order.symbol.equals(symbol) || order.isMarket() || order.orderPrice.signum() <= 0) {
+                continue;
+            }
+
+            BigDecimal drift = currentPrice.subtract(order.orderPrice)
+                    .divide(order.orderPrice, 4, RoundingMode.HALF_UP);
+            if (drift.compareTo(config.getRepriceDrift()) < 0) {
+                continue;
+            }
+
+            if (order.repriceCount < config.getMaxReprices()) {
+                reprice(order, currentPrice.setScale(2, RoundingMode.DOWN), drift);
+            } else {
+                convertToMarket(order, "재주문 한도 초과 (괴리율 " + drift + ")");
+            }
+        }
+    }
+
+    // ==================== 주문 대응 ====================
+
+    /**
+     * 현재가 지정가로 재주문 (정정 가능 거래소는 정정, 아니면 취소 후 재주문)
+     */
+    private void reprice(TrackedOrder order, BigDecimal newPrice, BigDecimal drift) {
+        if (order.isMarket() || !order.inFlight.compareAndSet(false, true)) {
+            return;
+        }
+
+        log.info("{}: 주문번호 {} 재주문 - ${} → ${} (괴리율 {}, {}회차)",
+                order.symbol, order.orderNumber, order.orderPrice, newPrice, drift, order.repriceCount + 1);
+
+        OverseasExchange exchange = parseExchange(targets.get(order.symbol).getExchange());
+        int quantity = (int) order.remaining.get();
+
+        if (orderService.supportsAmend(exchange)) {
+            replace(order, orderService.amendOrderAsync(account(), exchange, order.symbol, order.orderNumber, quantity, newPrice),
+                    order.orderType, "정정");
+            return;
+        }
+
+        OverseasOrderRequest request = OverseasOrderRequest.builder()
+                .exchange(exchange)
+                .symbol(order.symbol)
+                .quantity(quantity)
+                .price(newPrice)
+                .orderType(OverseasOrderType.LIMIT)
+                .build();
+
+        replace(order, orderService.cancelOrderAsync(account(), exchange, order.symbol, order.orderNumber, quantity)
+                .then(orderService.buyAsync(account(), request)), OverseasOrderType.LIMIT, "재주문");
+    }
+
+    /**
+     * 취소 후 시장가(MOC) 전환 (주문구분은 정정으로 바꿀 수 없음)
+     */
+    private void convertToMarket(TrackedOrder order, String reason) {
+        if (order.isMarket() || !order.inFlight.compareAndSet(false, true)) {
+            return;
+        }
+
+        log.info("{}: 주문번호 {} 시장가 전환 - {}", order.symbol, order.orderNumber, reason);
+
+        OverseasExchange exchange = parseExchange(targets.get(order.symbol).getExchange());
+        int quantity = (int) order.remaining.get();
+
+        OverseasOrderRequest request = OverseasOrderRequest.builder()
+                .exchange(exchange)
+                .symbol(order.symbol)
+                .quantity(quantity)
+                .price(BigDecimal.ZERO)
+                .orderType(OverseasOrderType.MARKET_ON_CLOSE)
+                .build();
+
+        replace(order, orderService.cancelOrderAsync(account(), exchange, order.symbol, order.orderNumber, quantity)
+                .then(orderService.buyAsync(account(), request)), OverseasOrderType.MARKET_ON_CLOSE, "시장가 전환");
+    }
+
+    /**
+     * 재주문 응답 처리
+     * 새 주문의 체결통보가 응답보다 먼저 오면 이미 추적 중이므로 여기서 반영, 아니면 track 에서 반영
+     */
+    private void replace(TrackedOrder order, Mono<OverseasOrderResult> replacement,
+                         OverseasOrderType orderType, String action) {
+        Replacement next = new Replacement(order.repriceCount + 1, orderType);
+
+        replacement.subscribe(
+                result -> {
+                    untrack(order.orderNumber);
+                    String orderNumber = result.orderNumber();
+                    pendingReplacements.put(orderNumber, next);
+                    TrackedOrder replaced = openOrders.get(orderNumber);
+                    if (replaced != null) {
+                        if (pendingReplacements.remove(orderNumber, next)) {
+                            replaced.apply(next);
+                        }
+                    } else {
+                        // 체결통보 없이 끝난 주문(즉시 전량 체결 등)이 남지 않도록 장 마감 시 정리
+                        taskScheduler.schedule(() -> pendingReplacements.remove(orderNumber, next),
+                                nextMarketClose().toInstant());
+                    }
+                    log.info("{}: {} 완료 - 원주문 {} → 새 주문번호 {}",
+                            order.symbol, action, order.orderNumber, result.orderNumber());
+                },
+                e -> {
+                    order.inFlight.set(false);
+                    log.error("{}: {} 실패 - {}", order.symbol, action, e.getMessage());
+                });
+    }
+
+    // ==================== 추적 ====================
+
+    private void track(String orderNumber, String symbol, BigDecimal orderPrice, long quantity,
+                       int repriceCount, OverseasOrderType orderType) {
+        if (quantity <= 0) {
+            return;
+        }
+
+        TrackedOrder order = new TrackedOrder(orderNumber, symbol, orderPrice, quantity, repriceCount, orderType);
+        TrackedOrder previous = openOrders.putIfAbsent(orderNumber, order);
+        if (previous != null) {
+            return;
+        }
+        Replacement replacement = pendingReplacements.remove(orderNumber);
+        if (replacement != null) {
+            order.apply(replacement);
+        }
+
+        Instant close = nextMarketClose().toInstant();
+        Instant fallbackAt = close.minus(properties.getMonitor().getFallbackBeforeClose());
+        // 전환 시점 이후 접수된 지정가(재주문 등)는 즉시 전환하지 않음 - 전환 결과를 다시 전환하는 반복 방지
+        boolean fallback = !order.isMarket() && fallbackAt.isAfter(Instant.now());
+        if (fallback) {
+            order.fallbackTask = taskScheduler.schedule(
+                    () -> convertToMarket(order, "마감 " + properties.getMonitor().getFallbackBeforeClose().toMinutes() + "분 전"),
+                    fallbackAt);
+        }
+        order.expiryTask = taskScheduler.schedule(() -> {
+            if (openOrders.remove(orderNumber, order)) {
+                log.info("{}: 주문번호 {} 장 마감으로 추적 종료", symbol, orderNumber);
+            }
+        }, close);
+
+        log.info("{}: 미체결 매수 추적 - 주문번호 {}, {} ${} x {}주 (시장가 전환 {})",
+                symbol, orderNumber, order.orderType.getDescription(), orderPrice, quantity,
+                fallback ? fallbackAt : "없음");
+    }
+
+    private TrackedOrder untrack(String orderNumber) {
+        if (orderNumber == null || orderNumber.isEmpty()) {
+            return null;
+        }
+        TrackedOrder order = openOrders.remove(orderNumber);
+        if (order != null) {
+            order.cancelTasks();
+        }
+        return order;
+    }
+
+    private void subscribe() {
+        KisRealtimeService realtime = realtimeService.getObject();
+        if (!realtime.isConnected()) {
+            realtime.start();
+        }
+        if (!realtime.subscribeFillNotices()) {
+            log.warn("체결통보 미구독 - 미체결 모니터는 시작 시 조회한 주문만 추적합니다");
+        }
+        for (StockPurchaseConfig config : targets.values()) {
+            realtime.subscribeOverseasPrice(parseExchange(config.getExchange()).getCode(), config.getSymbol());
+        }
+    }
+
+    /**
+     * 거래소별 미체결 1회 조회로 추적 목록 초기화
+     */
+    private void seed() {
+        Set<OverseasExchange> exchanges = new LinkedHashSet<>();
+        targets.values().forEach(config -> exchanges.add(parseExchange(config.getExchange())));
+
+        Flux.fromIterable(exchanges)
+                .flatMap(exchange -> orderService.getUnfilledOrdersAsync(account(), exchange)
+                        .onErrorResume(e -> {
+                            log.warn("{}: 미체결 초기 조회 실패 - {}", exchange, e.getMessage());
+                            return Mono.empty();
+                        }))
+                .flatMapIterable(orders -> orders)
+                .filter(OverseasUnfilledOrder::isBuyOrder)
+                .filter(OverseasUnfilledOrder::hasUnfilledQuantity)
+                .filter(order -> targets.containsKey(order.symbol()))
+                .subscribe(order -> track(order.orderNumber(), order.symbol(), order.orderPrice(),
+                        order.unfilledQuantity(), 0, orderTypeOf(order.orderPrice())));
+    }
+
+    /**
+     * 다음 미국 정규장 마감 시각 (주말 제외, 휴장일 미반영)
+     */
+    private ZonedDateTime nextMarketClose() {
+        ZonedDateTime now = ZonedDateTime.now(NEW_YORK);
+        ZonedDateTime close = now.with(US_MARKET_CLOSE);
+        if (!now.isBefore(close)) {
+            close = close.plusDays(1);
+        }
+        while (close.getDayOfWeek() == DayOfWeek.SATURDAY || close.getDayOfWeek() == DayOfWeek.SUNDAY) {
+            close = close.plusDays(1);
+        }
+        return close;
+    }
+
+    private boolean isEnabled() {
+        return properties.isEnabled() && properties.getMonitor().isEnabled();
+    }
+
+    /**
+     * 모니터 대상 계좌 (체결통보를 구독하는 기본 계좌)
+     */
+    private KisAccount account() {
+        return accountRegistry.getDefault();
+    }
+
+    private OverseasExchange parseExchange(String exchange) {
+        try {
+            return OverseasExchange.valueOf(exchange.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return OverseasExchange.fromCode(exchange.toUpperCase());
+        }
+    }
+
+    /**
+     * 체결통보/미체결 조회에 주문구분이 없어 가격으로 판단 (시장가 주문은 주문단가 0)
+     */
+    private static OverseasOrderType orderTypeOf(BigDecimal orderPrice) {
+        return orderPrice == null || orderPrice.signum() <= 0 ? OverseasOrderType.MARKET_ON_CLOSE : OverseasOrderType.LIMIT;
+    }
+
+    private String field(String[] fields, int index) {
+        return (fields != null && index < fields.length) ? fields[index].trim() : "";
+    }
+
+    private BigDecimal decimal(String value) {
+        try {
+            return value.isEmpty() ? BigDecimal.ZERO : new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            return BigDecimal.ZERO;
+        }
+    }
+
+    private long parseLong(String value) {
+        try {
+            return value.isEmpty() ? 0L : Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    /**
+     * 추적 중인 미체결 매수
+     */
+    private static final class TrackedOrder {
+        private final String orderNumber;
+        private final String symbol;
+        private final BigDecimal orderPrice;
+        private final AtomicLong remaining;
+        private final AtomicBoolean inFlight = new AtomicBoolean(false);
+        private volatile int repriceCount;
+        private volatile OverseasOrderType orderType;
+        private volatile ScheduledFuture<?> fallbackTask;
+        private volatile ScheduledFuture<?> expiryTask;
+
+        private TrackedOrder(String orderNumber, String symbol, BigDecimal orderPrice, long quantity,
+                             int repriceCount, OverseasOrderType orderType) {
+            this.orderNumber = orderNumber;
+            this.symbol = symbol;
+            this.orderPrice = orderPrice != null ? orderPrice : BigDecimal.ZERO;
+            this.remaining = new AtomicLong(quantity);
+            this.repriceCount = repriceCount;
+            this.orderType = orderType;
+        }
+
+        private boolean isMarket() {
+            return orderType.isMarket();
+        }
+
+        /**
+         * 이 주문을 만든 재주문 내역 반영 (시장가 전환 결과면 예약된 전환 취소)
+         */
+        private void apply(Replacement replacement) {
+            repriceCount = replacement.repriceCount();
+            orderType = replacement.orderType();
+            if (isMarket() && fallbackTask != null) {
+                fallbackTask.cancel(false);
+            }
+        }
+
+        private void cancelTasks() {
+            if (fallbackTask != null) {
+                fallbackTask.cancel(false);
+            }
+            if (expiryTask != null) {
+                expiryTask.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * 재주문 내역
+     *
+     * @param repriceCount 누적 재주문 횟수
+     * @param orderType    새 주문 유형
+     */
+    private record Replacement(int repriceCount, OverseasOrderType orderType) {}
+}
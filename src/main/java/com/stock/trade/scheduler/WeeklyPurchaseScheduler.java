@@ -1,18 +1,20 @@
 package com.stock.trade.scheduler;
 
+import com.stock.trade.account.KisAccount;
+import com.stock.trade.account.KisAccountRegistry;
 import com.stock.trade.config.KisProperties;
 import com.stock.trade.notification.SlackNotificationService;
 import com.stock.trade.overseas.*;
+import com.stock.trade.scheduler.PurchaseWarmupScheduler.PurchasePlan;
 import com.stock.trade.scheduler.ScheduledPurchaseProperties.StockPurchaseConfig;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import reactor.core.scheduler.Scheduler;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.time.LocalDateTime;
-import java.time.ZoneId;
-import java.util.ArrayList;
+import java.time.Duration;
 import java.util.List;
 
 /**
@@ -20,23 +22,31 @@ import java.util.List;
  * 매주 월요일 미국 장 시작 시간에 실행
  *
  * 로직:
- * 1. 현재 계좌 달러 매수가능 잔액 조회
- * 2. 원화 예산 기준으로 몇 주 매수 가능한지 계산
+ * 1. 현재 계좌 달러 매수가능 잔액 조회 (계좌당 한 번, PurchaseCashLedger)
+ * 2. 원화 예산 기준으로 몇 주 매수 가능한지 계산 (남은 잔액에서 예약)
  * 3. 가능한 수량만큼 매수
+ *
+ * 추가 계좌는 scheduler.purchase.accounts.{계좌 ID}.stocks 종목을 해당 계좌로 매수
  */
 @Slf4j
 @Service
 public class WeeklyPurchaseScheduler extends AbstractPurchaseScheduler {
 
     private final SlackNotificationService slackNotificationService;
+    private final PurchaseWarmupScheduler warmupScheduler;
 
     public WeeklyPurchaseScheduler(ScheduledPurchaseProperties properties,
                                    KisProperties kisProperties,
+                                   KisAccountRegistry accountRegistry,
                                    OverseasOrderService orderService,
                                    OverseasStockService stockService,
-                                   SlackNotificationService slackNotificationService) {
-        super(properties, kisProperties, orderService, stockService);
+                                   Scheduler kisCallScheduler,
+                                   PurchaseCashLedger cashLedger,
+                                   SlackNotificationService slackNotificationService,
+                                   PurchaseWarmupScheduler warmupScheduler) {
+        super(properties, kisProperties, accountRegistry, orderService, stockService, kisCallScheduler, cashLedger);
         this.slackNotificationService = slackNotificationService;
+        this.warmupScheduler = warmupScheduler;
     }
 
     @Override
@@ -49,6 +59,23 @@ public class WeeklyPurchaseScheduler extends AbstractPurchaseScheduler {
         return properties.getStocks();
     }
 
+    @Override
+    protected List<StockPurchaseConfig> getStockConfigs(KisAccount account) {
+        return properties.getStocks(account.id(), account.equals(accountRegistry.getDefault()));
+    }
+
+    @Override
+    protected PurchaseResult purchase(KisAccount account, StockPurchaseConfig config) {
+        return config.isBudgetBased()
+                ? executeBudgetBasedPurchase(account, config)
+                : executeSinglePurchase(account, config);
+    }
+
+    @Override
+    protected Duration getPriceMaxStaleness() {
+        return warmupScheduler.getPriceMaxStaleness();
+    }
+
     /**
      * 매주 월요일 오후 11시 30분 (KST) 실행
      */
@@ -66,61 +93,23 @@ public class WeeklyPurchaseScheduler extends AbstractPurchaseScheduler {
         return executePurchase();
     }
 
-    @Override
-    protected List<PurchaseResult> executePurchase() {
-        if (!properties.isEnabled()) {
-            log.debug("정기 매수 스케줄러가 비활성화 상태입니다");
-            return List.of();
-        }
-
-        List<StockPurchaseConfig> stocks = getStockConfigs();
-        if (stocks.isEmpty()) {
-            log.debug("{} 매수 종목이 없습니다", getScheduleType());
-            return List.of();
-        }
-
-        log.info("========== {} 정기 매수 스케줄러 시작 ==========", getScheduleType());
-        log.info("실행 시각: {}", LocalDateTime.now(ZoneId.of("Asia/Seoul")));
-        log.info("모드: {}", kisProperties.isDemoMode() ? "모의투자" : "실전투자");
-
-        orderService.setDemoMode(kisProperties.isDemoMode());
-        stockService.setDemoMode(kisProperties.isDemoMode());
-
-        List<PurchaseResult> results = new ArrayList<>();
-
-        for (StockPurchaseConfig config : stocks) {
-            if (!config.isEnabled()) {
-                log.info("[{}] 종목 {} 스킵 (비활성화)", getScheduleType(), config.getSymbol());
-                continue;
-            }
-
-            PurchaseResult result;
-            if (config.isBudgetBased()) {
-                result = executeBudgetBasedPurchase(config);
-            } else {
-                result = executeSinglePurchase(config);
-            }
-            results.add(result);
-        }
-
-        logPurchaseSummary(results);
-        return results;
-    }
-
     /**
      * 원화 예산 기준 매수 실행
      */
-    private PurchaseResult executeBudgetBasedPurchase(StockPurchaseConfig config) {
+    private PurchaseResult executeBudgetBasedPurchase(KisAccount account, StockPurchaseConfig config) {
         String symbol = config.getSymbol();
         BigDecimal budgetKrw = config.getBudgetKrw();
 
-        log.info("----- {} 예산 기반 매수 시작 (예산: {}원) -----", symbol, budgetKrw);
+        log.info("----- [{}] {} 예산 기반 매수 시작 (예산: {}원) -----", account.id(), symbol, budgetKrw);
 
+        long deadlineNanos = preOrderDeadline();
+        BigDecimal reservedUsd = BigDecimal.ZERO;
         try {
             OverseasExchange exchange = parseExchange(config.getExchange());
 
-            // 1. 현재가 조회
-            OverseasStockPrice price = stockService.getPrice(exchange, symbol);
+            // 1. 현재가 조회 (워밍업 시 구독한 실시간 시세가 있으면 캐시 사용)
+            OverseasStockPrice price = awaitBeforeOrder(stockService.getPriceAsync(account, exchange.getCode(), symbol,
+                    getPriceMaxStaleness()), deadlineNanos);
             BigDecimal currentPrice = price.currentPrice();
 
             // 현재가 null 체크 (장외시간 또는 API 오류)
@@ -132,37 +121,26 @@ public class WeeklyPurchaseScheduler extends AbstractPurchaseScheduler {
 
             log.info("{} 현재가: ${}", symbol, currentPrice);
 
-            // 2. 매수가능금액 조회 (환율 정보 포함)
-            OverseasPurchasableAmount purchasable = stockService.getPurchasableAmount(exchange, symbol, currentPrice);
-            BigDecimal availableUsd = purchasable.availableAmount();
-            BigDecimal exchangeRate = purchasable.exchangeRate();
-
-            // 환율이 없으면 기본값 사용
-            if (exchangeRate == null || exchangeRate.compareTo(BigDecimal.ZERO) <= 0) {
-                exchangeRate = properties.getDefaultExchangeRate();
-                log.info("환율 정보 없음, 기본값 사용: {}", exchangeRate);
-            }
+            // 2~4. 워밍업 계획이 있으면 재사용, 없으면 매수가능금액 조회
+            PurchasePlan plan = warmupScheduler.getPlan(account, symbol)
+                    .orElseGet(() -> preparePlan(account, exchange, symbol, budgetKrw, currentPrice, deadlineNanos));
+            cashLedger.open(account, plan.availableUsd());
+            BigDecimal availableUsd = cashLedger.remaining(account);
+            BigDecimal budgetUsd = plan.budgetUsd();
 
-            log.info("{} 매수가능 달러: ${}, 환율: {}", symbol, availableUsd, exchangeRate);
-
-            // 3. 원화 예산을 달러로 환산
-            BigDecimal budgetUsd = budgetKrw.divide(exchangeRate, 2, RoundingMode.DOWN);
+            log.info("{} 매수가능 달러: ${} (다른 주문 예약 후), 환율: {}", symbol, availableUsd, plan.exchangeRate());
             log.info("예산 {}원 → ${}로 환산", budgetKrw, budgetUsd);
 
-            // 4. 실제 사용할 금액 (예산 vs 잔액 중 작은 값)
-            BigDecimal actualBudgetUsd = budgetUsd.min(availableUsd);
-            log.info("실제 사용 가능 금액: ${} (예산: ${}, 잔액: ${})",
-                    actualBudgetUsd, budgetUsd, availableUsd);
-
             // 5. 주문 가격 계산 (할인율 적용)
             BigDecimal orderPrice = calculateOrderPrice(currentPrice, config);
             log.info("{} 주문가격: ${} (할인율: {}%)",
                     symbol, orderPrice, config.getDiscountRate().multiply(BigDecimal.valueOf(100)));
 
-            // 6. 매수 가능 수량 계산 (정수)
-            int quantity = actualBudgetUsd.divide(orderPrice, 0, RoundingMode.DOWN).intValue();
+            // 6. 매수 가능 수량 예약 (예산과 남은 잔액 중 작은 값 기준, 정수)
+            int quantity = cashLedger.reserve(account, budgetUsd, orderPrice);
+            reservedUsd = orderPrice.multiply(BigDecimal.valueOf(quantity));
             log.info("{} 매수 가능 수량: {}주 (${} / ${})",
-                    symbol, quantity, actualBudgetUsd, orderPrice);
+                    symbol, quantity, budgetUsd.min(availableUsd), orderPrice);
 
             if (quantity <= 0) {
                 log.warn("{} 매수 가능 수량이 0입니다. 잔액 또는 예산 부족", symbol);
@@ -170,7 +148,7 @@ public class WeeklyPurchaseScheduler extends AbstractPurchaseScheduler {
                         "매수 가능 수량 0 (잔액: $" + availableUsd + ", 예산: $" + budgetUsd + ")");
             }
 
-            // 7. 주문 실행
+            // 7. 주문 실행 (제한 시간 없음: 전송된 주문은 결과를 받을 때까지 기다림)
             OverseasOrderRequest request = OverseasOrderRequest.builder()
                     .exchange(exchange)
                     .symbol(symbol)
@@ -179,7 +157,7 @@ public class WeeklyPurchaseScheduler extends AbstractPurchaseScheduler {
                     .orderType(parseOrderType(config.getOrderType()))
                     .build();
 
-            OverseasOrderResult orderResult = orderService.buy(request);
+            OverseasOrderResult orderResult = orderService.buyAsync(account, request).block();
 
             BigDecimal totalAmount = orderPrice.multiply(BigDecimal.valueOf(quantity));
             log.info("{} 매수 주문 성공 - 주문번호: {}, {}주 x ${} = ${}",
@@ -189,8 +167,29 @@ public class WeeklyPurchaseScheduler extends AbstractPurchaseScheduler {
                     orderPrice, quantity, null);
 
         } catch (Exception e) {
+            cashLedger.release(account, reservedUsd);
             log.error("{} 예산 기반 매수 실패: {}", symbol, e.getMessage());
             return new PurchaseResult(symbol, false, null, null, 0, e.getMessage());
         }
     }
+
+    /**
+     * 매수가능금액 조회 후 매수 계획 작성 (워밍업 계획이 없을 때)
+     */
+    private PurchasePlan preparePlan(KisAccount account, OverseasExchange exchange, String symbol,
+                                     BigDecimal budgetKrw, BigDecimal currentPrice, long deadlineNanos) {
+        OverseasPurchasableAmount purchasable = awaitBeforeOrder(
+                stockService.getPurchasableAmountAsync(account, exchange, symbol, currentPrice), deadlineNanos);
+        BigDecimal exchangeRate = purchasable.exchangeRate();
+
+        // 환율이 없으면 기본값 사용
+        if (exchangeRate == null || exchangeRate.compareTo(BigDecimal.ZERO) <= 0) {
+            exchangeRate = properties.getDefaultExchangeRate();
+            log.info("환율 정보 없음, 기본값 사용: {}", exchangeRate);
+        }
+
+        BigDecimal budgetUsd = budgetKrw.divide(exchangeRate, 2, RoundingMode.DOWN);
+        return new PurchasePlan(symbol, exchangeRate, purchasable.availableAmount(), budgetUsd,
+                account.isDemo(), System.nanoTime());
+    }
 }
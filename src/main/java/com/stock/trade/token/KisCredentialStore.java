@@ -0,0 +1,198 @@
+package com.stock.trade.token;
+
+import com.stock.trade.account.KisAccount;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * KIS 토큰/접속키 디스크 캐시
+ *
+ * - 파일: {directory}/{종류}-{계좌 ID}.bin, 내용은 AES-GCM 암호문 (키: passphrase 또는 App Secret 에서 PBKDF2 로 유도)
+ * - App Key 를 AAD 로 묶어 App Key 가 바뀌면 복호화 실패 → 캐시 없음으로 처리
+ * - 저장은 임시 파일에 쓴 뒤 rename (중간에 종료돼도 이전 파일 또는 새 파일만 남음)
+ * - 모든 실패는 로그만 남기고 무시 (캐시가 없으면 새로 발급)
+ */
+@Slf4j
+@Component
+public class KisCredentialStore {
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_BITS = 128;
+    private static final int KDF_ITERATIONS = 100_000;
+
+    private final KisTokenProperties.Cache cacheProperties;
+    private final SecureRandom random = new SecureRandom();
+
+    // 계좌별 유도 키 (PBKDF2 는 느리므로 한 번만 계산)
+    private final Map<String, SecretKey> keys = new ConcurrentHashMap<>();
+
+    public KisCredentialStore(KisTokenProperties tokenProperties) {
+        this.cacheProperties = tokenProperties.getCache();
+    }
+
+    /**
+     * 계좌의 저장된 값 조회
+     *
+     * @param account 계좌
+     * @param kind    종류 (예: token, ws-approval-key)
+     * @return 저장된 값 (없거나 복호화 실패 시 empty, 만료 여부는 호출자가 판단)
+     */
+    public Optional<StoredCredential> load(KisAccount account, String kind) {
+        if (!isUsable(account)) {
+            return Optional.empty();
+        }
+        Path file = fileOf(account, kind);
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+            if (buffer.get() != FORMAT_VERSION) {
+                log.warn("KIS 인증 캐시 형식 불일치, 무시: {}", file);
+                return Optional.empty();
+            }
+            byte[] iv = new byte[IV_LENGTH];
+            buffer.get(iv);
+            byte[] encrypted = new byte[buffer.remaining()];
+            buffer.get(encrypted);
+
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.DECRYPT_MODE, keyOf(account), new GCMParameterSpec(TAG_BITS, iv));
+            cipher.updateAAD(aadOf(account, kind));
+            ByteBuffer plain = ByteBuffer.wrap(cipher.doFinal(encrypted));
+
+            Instant expiresAt = Instant.ofEpochMilli(plain.getLong());
+            byte[] value = new byte[plain.remaining()];
+            plain.get(value);
+            return Optional.of(new StoredCredential(new String(value, StandardCharsets.UTF_8), expiresAt));
+        } catch (GeneralSecurityException e) {
+            // App Key/Secret 변경 또는 파일 손상
+            log.info("KIS 인증 캐시 복호화 실패, 새로 발급: {}", file);
+            return Optional.empty();
+        } catch (Exception e) {
+            log.warn("KIS 인증 캐시 읽기 실패 ({}): {}", file, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 계좌의 값 저장 (임시 파일 기록 후 원자적 교체)
+     *
+     * @param account   계좌
+     * @param kind      종류
+     * @param value     토큰/접속키
+     * @param expiresAt 만료 시각
+     */
+    public void save(KisAccount account, String kind, String value, Instant expiresAt) {
+        if (!isUsable(account)) {
+            return;
+        }
+        Path file = fileOf(account, kind);
+
+        try {
+            byte[] valueBytes = value.getBytes(StandardCharsets.UTF_8);
+            ByteBuffer plain = ByteBuffer.allocate(Long.BYTES + valueBytes.length);
+            plain.putLong(expiresAt.toEpochMilli()).put(valueBytes);
+
+            byte[] iv = new byte[IV_LENGTH];
+            random.nextBytes(iv);
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.ENCRYPT_MODE, keyOf(account), new GCMParameterSpec(TAG_BITS, iv));
+            cipher.updateAAD(aadOf(account, kind));
+            byte[] encrypted = cipher.doFinal(plain.array());
+
+            byte[] content = ByteBuffer.allocate(1 + IV_LENGTH + encrypted.length)
+                    .put(FORMAT_VERSION).put(iv).put(encrypted)
+                    .array();
+            writeAtomically(file, content);
+            log.debug("KIS 인증 캐시 저장: {}", file);
+        } catch (Exception e) {
+            log.warn("KIS 인증 캐시 저장 실패 ({}): {}", file, e.getMessage());
+        }
+    }
+
+    private boolean isUsable(KisAccount account) {
+        return cacheProperties.isEnabled()
+                && account.appKey() != null
+                && secretOf(account) != null;
+    }
+
+    private void writeAtomically(Path file, byte[] content) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+
+        Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+                Files.setPosixFilePermissions(temp, PosixFilePermissions.fromString("rw-------"));
+            }
+            Files.write(temp, content);
+            try {
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private Path fileOf(KisAccount account, String kind) {
+        return cacheProperties.getDirectory().resolve(kind + "-" + account.id() + ".bin");
+    }
+
+    private byte[] aadOf(KisAccount account, String kind) {
+        return (kind + "|" + account.mode().name() + "|" + account.appKey()).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private String secretOf(KisAccount account) {
+        String passphrase = cacheProperties.getPassphrase();
+        return passphrase != null && !passphrase.isBlank() ? passphrase : account.appSecret();
+    }
+
+    private SecretKey keyOf(KisAccount account) {
+        return keys.computeIfAbsent(account.id(), ignored -> {
+            try {
+                PBEKeySpec spec = new PBEKeySpec(secretOf(account).toCharArray(),
+                        account.appKey().getBytes(StandardCharsets.UTF_8), KDF_ITERATIONS, 256);
+                byte[] key = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256").generateSecret(spec).getEncoded();
+                spec.clearPassword();
+                return new SecretKeySpec(key, "AES");
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("KIS 인증 캐시 키 생성 실패", e);
+            }
+        });
+    }
+
+    /**
+     * 저장된 토큰/접속키
+     *
+     * @param value     토큰/접속키
+     * @param expiresAt 만료 시각
+     */
+    public record StoredCredential(String value, Instant expiresAt) {}
+}
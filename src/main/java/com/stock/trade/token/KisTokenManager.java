@@ -1,141 +1,216 @@
 package com.stock.trade.token;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.stock.trade.config.KisProperties;
-import lombok.RequiredArgsConstructor;
+import com.stock.trade.account.KisAccount;
+import com.stock.trade.account.KisAccountRegistry;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 
+/**
+ * KIS 액세스 토큰 / WebSocket 접속키 관리 (계좌별)
+ *
+ * - 계좌(App Key)마다 토큰/접속키를 따로 발급·갱신, 인자 없는 메서드는 현재 모드의 기본 계좌 기준
+ * - 발급 결과는 불변 Credential 로 만들어 AtomicReference 로 교체, 요청 경로는 락 없이 읽기만 함
+ * - 만료 판단은 단조 시계(System.nanoTime) 기준
+ * - 만료 refreshAhead 전에 백그라운드 스레드가 갱신 (토큰과 접속키는 각각 독립적으로 갱신)
+ * - 요청 스레드는 최초 발급 전이거나 백그라운드 갱신이 계속 실패해 만료 임박한 경우에만 발급을 기다림
+ * - 발급 결과는 KisCredentialStore 에 저장, 재시작 후 첫 요청은 아직 유효한 저장값을 사용
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class KisTokenManager {
 
-    private final KisProperties kisProperties;
+    private final KisAccountRegistry accountRegistry;
+    private final KisTokenProperties tokenProperties;
     private final WebClient kisWebClient;
+    private final Scheduler kisCallScheduler;
+    private final KisCredentialStore credentialStore;
 
-    // HTTP REST API 토큰
-    private String accessToken;
-    private LocalDateTime tokenExpireTime;
-    private final ReentrantLock tokenLock = new ReentrantLock();
+    // 만료 전 선제 갱신 스레드
+    private final ScheduledExecutorService refresher;
 
-    // WebSocket 접속키
-    private String wsApprovalKey;
-    private LocalDateTime wsApprovalKeyExpireTime;
-    private final ReentrantLock wsLock = new ReentrantLock();
+    // 계좌 ID -> 토큰/접속키
+    private final Map<String, AccountCredentials> credentials = new ConcurrentHashMap<>();
 
     private static final String TOKEN_PATH = "/oauth2/tokenP";
     private static final String WS_APPROVAL_PATH = "/oauth2/Approval";
-    private static final long TOKEN_EXPIRE_MARGIN_HOURS = 1;
+
+    // WebSocket 접속키는 24시간 유효
+    private static final Duration WS_APPROVAL_KEY_TTL = Duration.ofHours(24);
+
+    @Autowired
+    public KisTokenManager(KisAccountRegistry accountRegistry, KisTokenProperties tokenProperties,
+                           WebClient kisWebClient, Scheduler kisCallScheduler,
+                           KisCredentialStore credentialStore) {
+        this(accountRegistry, tokenProperties, kisWebClient, kisCallScheduler, credentialStore,
+                Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "kis-token-refresher");
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+    }
+
+    /**
+     * 갱신 스레드 지정 (테스트에서 예약 시점 확인/직접 실행용)
+     */
+    KisTokenManager(KisAccountRegistry accountRegistry, KisTokenProperties tokenProperties,
+                    WebClient kisWebClient, Scheduler kisCallScheduler,
+                    KisCredentialStore credentialStore, ScheduledExecutorService refresher) {
+        this.accountRegistry = accountRegistry;
+        this.tokenProperties = tokenProperties;
+        this.kisWebClient = kisWebClient;
+        this.kisCallScheduler = kisCallScheduler;
+        this.credentialStore = credentialStore;
+        this.refresher = refresher;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!tokenProperties.isIssueOnStartup()) {
+            return;
+        }
+        for (KisAccount account : accountRegistry.getTradingAccounts()) {
+            refresher.execute(() -> {
+                try {
+                    credentialsOf(account).token().get();
+                } catch (Exception e) {
+                    log.warn("시작 시 KIS 토큰 발급 실패 [{}] (요청 시 다시 발급): {}", account.id(), e.getMessage());
+                }
+            });
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        refresher.shutdownNow();
+    }
 
     // ==================== HTTP REST API 토큰 ====================
 
     /**
-     * 유효한 액세스 토큰 반환 (없거나 만료 임박 시 자동 갱신)
+     * 유효한 액세스 토큰 반환 (없거나 만료 임박 시 발급)
      */
     public String getAccessToken() {
-        if (isTokenValid()) {
-            return accessToken;
-        }
+        return getAccessToken(accountRegistry.getDefault());
+    }
 
-        tokenLock.lock();
-        try {
-            if (isTokenValid()) {
-                return accessToken;
-            }
-            refreshToken();
-            return accessToken;
-        } finally {
-            tokenLock.unlock();
-        }
+    /**
+     * 계좌의 유효한 액세스 토큰 반환 (없거나 만료 임박 시 발급)
+     */
+    public String getAccessToken(KisAccount account) {
+        return credentialsOf(account).token().get().value();
     }
 
     /**
      * 토큰 강제 갱신
      */
     public void forceRefresh() {
-        tokenLock.lock();
-        try {
-            refreshToken();
-        } finally {
-            tokenLock.unlock();
-        }
+        forceRefresh(accountRegistry.getDefault());
+    }
+
+    /**
+     * 계좌의 토큰 강제 갱신
+     */
+    public void forceRefresh(KisAccount account) {
+        credentialsOf(account).token().forceRefresh();
     }
 
     /**
      * Authorization 헤더 값 반환
      */
     public String getAuthorizationHeader() {
-        return "Bearer " + getAccessToken();
+        return getAuthorizationHeader(accountRegistry.getDefault());
     }
 
-    private boolean isTokenValid() {
-        if (accessToken == null || tokenExpireTime == null) {
-            return false;
-        }
-        return LocalDateTime.now().plusHours(TOKEN_EXPIRE_MARGIN_HOURS).isBefore(tokenExpireTime);
+    /**
+     * 계좌의 Authorization 헤더 값 반환
+     */
+    public String getAuthorizationHeader(KisAccount account) {
+        return credentialsOf(account).token().get().authorizationHeader();
+    }
+
+    /**
+     * Authorization 헤더 값 (비동기)
+     */
+    public Mono<String> getAuthorizationHeaderAsync() {
+        return Mono.defer(() -> getAuthorizationHeaderAsync(accountRegistry.getDefault()));
+    }
+
+    /**
+     * 계좌의 Authorization 헤더 값 (비동기)
+     * 토큰이 유효하면 즉시 반환, 발급이 필요하면 KIS 호출 실행기에서 발급 (이벤트 루프 차단 방지)
+     * 발급은 ReentrantLock 으로 직렬화하므로 가상 스레드 모드에서도 캐리어 스레드를 고정하지 않음
+     */
+    public Mono<String> getAuthorizationHeaderAsync(KisAccount account) {
+        return Mono.defer(() -> {
+            Credential current = credentialsOf(account).token().peekValid();
+            return current != null
+                    ? Mono.just(current.authorizationHeader())
+                    : Mono.fromCallable(() -> getAuthorizationHeader(account)).subscribeOn(kisCallScheduler);
+        });
     }
 
     // ==================== WebSocket 접속키 ====================
 
     /**
-     * 유효한 WebSocket 접속키 반환 (없거나 만료 임박 시 자동 갱신)
+     * 유효한 WebSocket 접속키 반환 (없거나 만료 임박 시 발급)
+     * WebSocket 연결은 하나이므로 기본 계좌 기준
      */
     public String getWsApprovalKey() {
-        if (isWsApprovalKeyValid()) {
-            return wsApprovalKey;
-        }
-
-        wsLock.lock();
-        try {
-            if (isWsApprovalKeyValid()) {
-                return wsApprovalKey;
-            }
-            refreshWsApprovalKey();
-            return wsApprovalKey;
-        } finally {
-            wsLock.unlock();
-        }
+        return credentialsOf(accountRegistry.getDefault()).wsApprovalKey().get().value();
     }
 
     /**
      * WebSocket 접속키 강제 갱신
      */
     public void forceRefreshWsApprovalKey() {
-        wsLock.lock();
-        try {
-            refreshWsApprovalKey();
-        } finally {
-            wsLock.unlock();
-        }
+        credentialsOf(accountRegistry.getDefault()).wsApprovalKey().forceRefresh();
     }
 
-    private boolean isWsApprovalKeyValid() {
-        if (wsApprovalKey == null || wsApprovalKeyExpireTime == null) {
-            return false;
-        }
-        return LocalDateTime.now().plusHours(TOKEN_EXPIRE_MARGIN_HOURS).isBefore(wsApprovalKeyExpireTime);
+    // ==================== 발급 ====================
+
+    private AccountCredentials credentialsOf(KisAccount account) {
+        return credentials.computeIfAbsent(account.id(), id -> new AccountCredentials(
+                new ManagedCredential("KIS 토큰 [" + id + "]", "token", account, () -> requestToken(account)),
+                new ManagedCredential("KIS WebSocket 접속키 [" + id + "]", "ws-approval-key", account,
+                        () -> requestWsApprovalKey(account))));
     }
 
-    private void refreshWsApprovalKey() {
-        log.info("KIS WebSocket 접속키 발급 요청 - URL: {}", WS_APPROVAL_PATH);
+    private Credential requestWsApprovalKey(KisAccount account) {
+        log.info("KIS WebSocket 접속키 발급 요청 [{}] - URL: {}", account.id(), WS_APPROVAL_PATH);
 
         Map<String, String> requestBody = Map.of(
                 "grant_type", "client_credentials",
-                "appkey", kisProperties.getEffectiveAppKey(),
-                "secretkey", kisProperties.getEffectiveAppSecret()
+                "appkey", account.appKey(),
+                "secretkey", account.appSecret()
         );
 
         try {
             WsApprovalResponse response = kisWebClient.post()
                     .uri(WS_APPROVAL_PATH)
+                    .attribute(KisAccount.ATTRIBUTE, account)
                     .contentType(MediaType.APPLICATION_JSON)
                     .accept(MediaType.TEXT_PLAIN)
                     .header("charset", "UTF-8")
@@ -145,10 +220,9 @@ public class KisTokenManager {
                     .block();
 
             if (response != null && response.approvalKey() != null) {
-                this.wsApprovalKey = response.approvalKey();
-                // WebSocket 접속키는 24시간 유효
-                this.wsApprovalKeyExpireTime = LocalDateTime.now().plusHours(24);
-                log.info("KIS WebSocket 접속키 발급 완료. 만료시간: {}", wsApprovalKeyExpireTime);
+                Credential credential = Credential.issued(response.approvalKey(), WS_APPROVAL_KEY_TTL);
+                log.info("KIS WebSocket 접속키 발급 완료. 만료시간: {}", credential.expireTime());
+                return credential;
             } else {
                 throw new KisTokenException("KIS WebSocket 접속키 발급 실패: 응답이 비어있습니다");
             }
@@ -161,18 +235,19 @@ public class KisTokenManager {
         }
     }
 
-    private void refreshToken() {
-        log.info("KIS 토큰 발급 요청 - URL: {}", TOKEN_PATH);
+    private Credential requestToken(KisAccount account) {
+        log.info("KIS 토큰 발급 요청 [{}] - URL: {}", account.id(), TOKEN_PATH);
 
         Map<String, String> requestBody = Map.of(
                 "grant_type", "client_credentials",
-                "appkey", kisProperties.getEffectiveAppKey(),
-                "appsecret", kisProperties.getEffectiveAppSecret()
+                "appkey", account.appKey(),
+                "appsecret", account.appSecret()
         );
 
         try {
             TokenResponse response = kisWebClient.post()
                     .uri(TOKEN_PATH)
+                    .attribute(KisAccount.ATTRIBUTE, account)
                     .contentType(MediaType.APPLICATION_JSON)
                     .accept(MediaType.TEXT_PLAIN)
                     .header("charset", "UTF-8")
@@ -182,9 +257,9 @@ public class KisTokenManager {
                     .block();
 
             if (response != null && response.accessToken() != null) {
-                this.accessToken = response.accessToken();
-                this.tokenExpireTime = LocalDateTime.now().plusSeconds(response.expiresIn());
-                log.info("KIS 토큰 발급 완료. 만료시간: {}", tokenExpireTime);
+                Credential credential = Credential.issued(response.accessToken(), Duration.ofSeconds(response.expiresIn()));
+                log.info("KIS 토큰 발급 완료. 만료시간: {}", credential.expireTime());
+                return credential;
             } else {
                 throw new KisTokenException("KIS 토큰 발급 실패: 응답이 비어있습니다");
             }
@@ -197,6 +272,173 @@ public class KisTokenManager {
         }
     }
 
+    // ==================== 발급 상태 ====================
+
+    /**
+     * 발급된 인증 값 (불변)
+     *
+     * @param value               토큰/접속키
+     * @param authorizationHeader Authorization 헤더 값 (발급 시 한 번만 생성)
+     * @param expiresAtNanos      만료 시각 (System.nanoTime 기준)
+     * @param expireTime          만료 시각 (로그용)
+     */
+    private record Credential(String value, String authorizationHeader, long expiresAtNanos,
+                              LocalDateTime expireTime) {
+
+        static Credential issued(String value, Duration ttl) {
+            return new Credential(value, "Bearer " + value, System.nanoTime() + ttl.toNanos(),
+                    LocalDateTime.now().plus(ttl));
+        }
+
+        // 저장된 만료 시각(벽시계)을 현재 단조 시계 기준으로 변환
+        static Credential restored(KisCredentialStore.StoredCredential stored) {
+            return issued(stored.value(), Duration.between(Instant.now(), stored.expiresAt()));
+        }
+
+        Instant expiresAt() {
+            return Instant.now().plus(remaining());
+        }
+
+        Duration remaining() {
+            return Duration.ofNanos(expiresAtNanos - System.nanoTime());
+        }
+
+        boolean isValid(Duration margin) {
+            return expiresAtNanos - System.nanoTime() > margin.toNanos();
+        }
+    }
+
+    /**
+     * 계좌 하나의 토큰/접속키
+     */
+    private record AccountCredentials(ManagedCredential token, ManagedCredential wsApprovalKey) {}
+
+    /**
+     * 인증 값 하나의 발급/선제 갱신 관리
+     * 읽기는 AtomicReference 만 보고, 발급은 lock 으로 직렬화
+     */
+    private final class ManagedCredential {
+
+        private final String name;
+        private final String kind;
+        private final KisAccount account;
+        private final Supplier<Credential> issuer;
+        private final AtomicReference<Credential> current = new AtomicReference<>();
+        private final ReentrantLock lock = new ReentrantLock();
+
+        // lock 보유 중에만 접근
+        private ScheduledFuture<?> refreshTask;
+        private int failures;
+        private boolean restoreAttempted;
+
+        private ManagedCredential(String name, String kind, KisAccount account, Supplier<Credential> issuer) {
+            this.name = name;
+            this.kind = kind;
+            this.account = account;
+            this.issuer = issuer;
+        }
+
+        /**
+         * 유효한 값 (없으면 null, 대기 없음)
+         */
+        Credential peekValid() {
+            Credential credential = current.get();
+            return credential != null && credential.isValid(tokenProperties.getExpiryMargin()) ? credential : null;
+        }
+
+        /**
+         * 유효한 값 반환, 없으면 발급 (이 경우에만 대기)
+         */
+        Credential get() {
+            Credential credential = peekValid();
+            if (credential != null) {
+                return credential;
+            }
+
+            lock.lock();
+            try {
+                credential = peekValid();
+                if (credential == null) {
+                    credential = restore();
+                }
+                return credential != null ? credential : issue();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void forceRefresh() {
+            lock.lock();
+            try {
+                issue();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private Credential issue() {
+            Credential credential = issuer.get();
+            current.set(credential);
+            failures = 0;
+            schedule(credential.remaining().minus(tokenProperties.getRefreshAhead()));
+            credentialStore.save(account, kind, credential.value(), credential.expiresAt());
+            return credential;
+        }
+
+        /**
+         * 저장된 값 복원 (프로세스당 한 번, 만료 임박이면 null)
+         */
+        private Credential restore() {
+            if (restoreAttempted) {
+                return null;
+            }
+            restoreAttempted = true;
+
+            Credential credential = credentialStore.load(account, kind)
+                    .map(Credential::restored)
+                    .filter(restored -> restored.isValid(tokenProperties.getExpiryMargin()))
+                    .orElse(null);
+            if (credential == null) {
+                return null;
+            }
+            current.set(credential);
+            schedule(credential.remaining().minus(tokenProperties.getRefreshAhead()));
+            log.info("{} 캐시에서 복원. 만료시간: {}", name, credential.expireTime());
+            return credential;
+        }
+
+        private void refreshInBackground() {
+            lock.lock();
+            try {
+                log.info("{} 만료 전 갱신", name);
+                issue();
+            } catch (Exception e) {
+                failures++;
+                Duration backoff = tokenProperties.getRetryMinBackoff().multipliedBy(1L << Math.min(failures - 1, 10));
+                if (backoff.compareTo(tokenProperties.getRetryMaxBackoff()) > 0) {
+                    backoff = tokenProperties.getRetryMaxBackoff();
+                }
+                log.warn("{} 백그라운드 갱신 실패 ({}회) - {}초 후 재시도: {}",
+                        name, failures, backoff.toSeconds(), e.getMessage());
+                schedule(backoff);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void schedule(Duration delay) {
+            if (refreshTask != null) {
+                refreshTask.cancel(false);
+            }
+            // 발급 직후 재발급은 KIS 1분당 1회 제한에 걸리므로 최소 간격 유지
+            Duration minDelay = tokenProperties.getRetryMinBackoff();
+            Duration effective = delay.compareTo(minDelay) < 0 ? minDelay : delay;
+            if (!refresher.isShutdown()) {
+                refreshTask = refresher.schedule(this::refreshInBackground, effective.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
     // ==================== Response Records ====================
 
     private record TokenResponse(
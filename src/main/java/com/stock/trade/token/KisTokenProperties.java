@@ -0,0 +1,71 @@
+package com.stock.trade.token;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * KIS 토큰/WebSocket 접속키 갱신 설정
+ * 요청 경로는 유효한 값을 바로 읽고, 갱신은 백그라운드에서 만료 전에 수행
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "external.kis.token")
+public class KisTokenProperties {
+
+    /**
+     * 시작 시 액세스 토큰 미리 발급
+     */
+    private boolean issueOnStartup = true;
+
+    /**
+     * 만료 이 시간 전부터는 유효하지 않은 것으로 간주 (요청 경로에서 동기 발급)
+     */
+    private Duration expiryMargin = Duration.ofHours(1);
+
+    /**
+     * 만료 이 시간 전에 백그라운드 갱신 (expiryMargin 보다 커야 요청 경로가 기다리지 않음)
+     */
+    private Duration refreshAhead = Duration.ofHours(2);
+
+    /**
+     * 백그라운드 갱신 실패 시 첫 재시도 간격 (KIS 토큰 발급은 1분당 1회 제한)
+     */
+    private Duration retryMinBackoff = Duration.ofMinutes(1);
+
+    /**
+     * 백그라운드 갱신 재시도 최대 간격
+     */
+    private Duration retryMaxBackoff = Duration.ofMinutes(10);
+
+    /**
+     * 발급 결과 디스크 캐시 설정
+     */
+    private Cache cache = new Cache();
+
+    /**
+     * 토큰/접속키 디스크 캐시
+     * 재시작 시 아직 유효한 값을 읽어 재발급 대기(및 1분당 1회 발급 제한)를 피함
+     */
+    @Getter
+    @Setter
+    public static class Cache {
+        /**
+         * 캐시 사용 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 캐시 디렉터리 (모드/종류별 파일 저장)
+         */
+        private Path directory = Path.of("data", "kis-credentials");
+
+        /**
+         * 암호화 키 문구 (미설정 시 현재 모드의 App Secret 사용)
+         */
+        private String passphrase;
+    }
+}
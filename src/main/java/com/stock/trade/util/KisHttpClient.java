@@ -22,11 +22,12 @@ public class KisHttpClient {
      * GET 요청
      */
     public <T> Mono<T> get(String uri, Map<String, String> headers, Class<T> responseType) {
-        return kisWebClient.get()
-                .uri(uri)
-                .headers(httpHeaders -> addHeaders(httpHeaders, headers))
-                .retrieve()
-                .bodyToMono(responseType);
+        return kisTokenManager.getAuthorizationHeaderAsync()
+                .flatMap(authorization -> kisWebClient.get()
+                        .uri(uri)
+                        .headers(httpHeaders -> addHeaders(httpHeaders, authorization, headers))
+                        .retrieve()
+                        .bodyToMono(responseType));
     }
 
     /**
@@ -34,29 +35,31 @@ public class KisHttpClient {
      */
     public <T> Mono<T> get(String uri, Map<String, String> queryParams,
                            Map<String, String> headers, Class<T> responseType) {
-        return kisWebClient.get()
-                .uri(uriBuilder -> {
-                    uriBuilder.path(uri);
-                    if (queryParams != null) {
-                        queryParams.forEach(uriBuilder::queryParam);
-                    }
-                    return uriBuilder.build();
-                })
-                .headers(httpHeaders -> addHeaders(httpHeaders, headers))
-                .retrieve()
-                .bodyToMono(responseType);
+        return kisTokenManager.getAuthorizationHeaderAsync()
+                .flatMap(authorization -> kisWebClient.get()
+                        .uri(uriBuilder -> {
+                            uriBuilder.path(uri);
+                            if (queryParams != null) {
+                                queryParams.forEach(uriBuilder::queryParam);
+                            }
+                            return uriBuilder.build();
+                        })
+                        .headers(httpHeaders -> addHeaders(httpHeaders, authorization, headers))
+                        .retrieve()
+                        .bodyToMono(responseType));
     }
 
     /**
      * POST 요청
      */
     public <T, R> Mono<T> post(String uri, R body, Map<String, String> headers, Class<T> responseType) {
-        return kisWebClient.post()
-                .uri(uri)
-                .headers(httpHeaders -> addHeaders(httpHeaders, headers))
-                .bodyValue(body)
-                .retrieve()
-                .bodyToMono(responseType);
+        return kisTokenManager.getAuthorizationHeaderAsync()
+                .flatMap(authorization -> kisWebClient.post()
+                        .uri(uri)
+                        .headers(httpHeaders -> addHeaders(httpHeaders, authorization, headers))
+                        .bodyValue(body)
+                        .retrieve()
+                        .bodyToMono(responseType));
     }
 
     /**
@@ -81,9 +84,9 @@ public class KisHttpClient {
         return post(uri, body, headers, responseType).block();
     }
 
-    private void addHeaders(HttpHeaders httpHeaders, Map<String, String> headers) {
+    private void addHeaders(HttpHeaders httpHeaders, String authorization, Map<String, String> headers) {
         // 기본 인증 헤더 추가
-        httpHeaders.set("authorization", kisTokenManager.getAuthorizationHeader());
+        httpHeaders.set("authorization", authorization);
         httpHeaders.set("appkey", kisProperties.getAppKey());
         httpHeaders.set("appsecret", kisProperties.getAppSecret());
 
@@ -0,0 +1,86 @@
+package com.stock.trade.util;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * KIS 연속조회 페이지
+ *
+ * - 응답 헤더 tr_cont 가 M/F 이면 다음 페이지 존재, D/E 이면 마지막 페이지
+ * - 다음 페이지 요청 시 요청 헤더 tr_cont=N, 응답 본문의 연속조회키(ctx_area_fk/nk)를 그대로 전달
+ *
+ * @param items     페이지 데이터
+ * @param trCont    응답 헤더 tr_cont
+ * @param ctxAreaFk 연속조회검색조건 (CTX_AREA_FK100/200)
+ * @param ctxAreaNk 연속조회키 (CTX_AREA_NK100/200)
+ */
+public record KisPage<T>(
+        List<T> items,
+        String trCont,
+        String ctxAreaFk,
+        String ctxAreaNk
+) {
+    public static final String TR_CONT_HEADER = "tr_cont";
+
+    /**
+     * 무한 연속조회 방지용 최대 페이지 수
+     */
+    public static final int MAX_PAGES = 100;
+
+    public KisPage {
+        items = items != null ? items : List.of();
+    }
+
+    /**
+     * 다음 페이지 존재 여부
+     */
+    public boolean hasNext() {
+        return "M".equals(trCont) || "F".equals(trCont);
+    }
+
+    /**
+     * 요청 헤더 tr_cont 값 (첫 페이지: 공백, 다음 페이지: N)
+     */
+    public static String trCont(KisPage<?> previous) {
+        return previous == null ? "" : "N";
+    }
+
+    /**
+     * 요청 연속조회검색조건 (첫 페이지: 공백)
+     */
+    public static String ctxAreaFk(KisPage<?> previous) {
+        return previous == null || previous.ctxAreaFk() == null ? "" : previous.ctxAreaFk();
+    }
+
+    /**
+     * 요청 연속조회키 (첫 페이지: 공백)
+     */
+    public static String ctxAreaNk(KisPage<?> previous) {
+        return previous == null || previous.ctxAreaNk() == null ? "" : previous.ctxAreaNk();
+    }
+
+    /**
+     * 연속조회를 따라가며 항목을 순서대로 발행
+     * 다음 페이지는 이전 페이지 항목을 모두 발행한 뒤에만 요청 (take 등으로 취소하면 더 요청하지 않음)
+     *
+     * @param fetcher 이전 페이지(첫 요청은 null) → 다음 페이지 조회
+     * @return 전체 페이지의 항목
+     */
+    public static <T> Flux<T> stream(Function<KisPage<T>, Mono<KisPage<T>>> fetcher) {
+        return Flux.defer(() -> pages(fetcher, null, 1));
+    }
+
+    private static <T> Flux<T> pages(Function<KisPage<T>, Mono<KisPage<T>>> fetcher, KisPage<T> previous, int pageNumber) {
+        return fetcher.apply(previous)
+                .flatMapMany(page -> {
+                    Flux<T> items = Flux.fromIterable(page.items());
+                    if (!page.hasNext() || pageNumber >= MAX_PAGES) {
+                        return items;
+                    }
+                    return items.concatWith(Flux.defer(() -> pages(fetcher, page, pageNumber + 1)));
+                });
+    }
+}
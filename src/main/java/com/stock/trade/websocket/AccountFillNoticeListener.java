@@ -0,0 +1,39 @@
+package com.stock.trade.websocket;
+
+import com.stock.trade.cache.AccountSnapshotCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * 체결통보 수신 시 잔고 스냅샷 무효화 리스너
+ * TR ID: H0STCNI0/H0STCNI9 (국내), H0GSCNI0/H0GSCNI9 (해외)
+ * 무효화에는 TR ID 만 사용 (본문 파싱은 UnfilledOrderMonitor)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountFillNoticeListener implements KisWebSocketListener {
+
+    private static final Set<String> NOTICE_TR_IDS = Set.of(
+            KisTrId.STOCK_CCNL_NOTICE,
+            KisTrId.STOCK_CCNL_NOTICE_DEMO,
+            KisTrId.OVERSEAS_STOCK_CCNL_NOTICE,
+            KisTrId.OVERSEAS_STOCK_CCNL_NOTICE_DEMO
+    );
+
+    private final AccountSnapshotCache accountSnapshotCache;
+
+    @Override
+    public Set<String> trIds() {
+        return NOTICE_TR_IDS;
+    }
+
+    @Override
+    public void onRealtimeBatch(RealtimeFrame frame) {
+        // 레코드 수와 관계없이 프레임당 한 번만 무효화
+        accountSnapshotCache.invalidate("체결통보 " + frame.trId());
+    }
+}
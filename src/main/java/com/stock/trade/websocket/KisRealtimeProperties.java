@@ -0,0 +1,75 @@
+package com.stock.trade.websocket;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * KIS 실시간 데이터 처리 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "external.kis.realtime")
+public class KisRealtimeProperties {
+
+    /**
+     * 종목별 워커 레인 설정
+     */
+    private Lanes lanes = new Lanes();
+
+    /**
+     * 워커 레인
+     * 수신 스레드는 프레임을 종목 해시로 고른 레인 대기열에 넣고 바로 다음 메시지를 읽음
+     * 같은 종목은 항상 같은 레인에서 처리되므로 종목별 순서는 유지
+     */
+    @Getter
+    @Setter
+    public static class Lanes {
+        /**
+         * 레인 사용 여부 (false: 수신 스레드에서 리스너 직접 호출)
+         */
+        private boolean enabled = true;
+
+        /**
+         * 레인 수 (0 이하: CPU 코어 수)
+         */
+        private int count = 0;
+
+        /**
+         * 레인별 대기열 최대 길이
+         */
+        private int queueCapacity = 1024;
+
+        /**
+         * 대기열이 가득 찼을 때 처리 방식 (체결통보는 별도 대기열로 설정과 관계없이 폐기하지 않음)
+         */
+        private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_OLDEST;
+
+        /**
+         * 실제 레인 수
+         */
+        public int getEffectiveCount() {
+            return count > 0 ? count : Runtime.getRuntime().availableProcessors();
+        }
+    }
+
+    /**
+     * 레인 대기열 초과 시 처리 방식
+     */
+    public enum OverflowPolicy {
+        /**
+         * 가장 오래된 프레임을 버리고 새 프레임 추가 (시세는 최신 값이 중요)
+         */
+        DROP_OLDEST,
+
+        /**
+         * 새 프레임 폐기
+         */
+        DROP_NEWEST,
+
+        /**
+         * 자리가 날 때까지 수신 스레드 대기 (유실 없음, 대신 소켓 읽기가 지연됨)
+         */
+        BLOCK
+    }
+}
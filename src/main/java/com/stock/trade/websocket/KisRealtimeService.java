@@ -1,8 +1,11 @@
 package com.stock.trade.websocket;
 
+import com.stock.trade.config.KisProperties;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -17,6 +20,7 @@ import java.util.List;
 public class KisRealtimeService {
 
     private final KisWebSocketClient webSocketClient;
+    private final KisProperties kisProperties;
     private final List<KisWebSocketListener> listeners;
 
     @PostConstruct
@@ -27,10 +31,23 @@ public class KisRealtimeService {
     }
 
     /**
-     * 실시간 서비스 시작 (WebSocket 연결)
+     * HTS ID 가 설정되어 있으면 기동 시 연결하고 체결통보 구독 (잔고 스냅샷 즉시 무효화용)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startOnReady() {
+        if (hasHtsId()) {
+            start();
+        }
+    }
+
+    /**
+     * 실시간 서비스 시작 (WebSocket 연결, HTS ID 설정 시 체결통보 구독)
      */
     public void start() {
         webSocketClient.connect();
+        if (hasHtsId()) {
+            subscribeFillNotices();
+        }
     }
 
     /**
@@ -111,6 +128,73 @@ public class KisRealtimeService {
         webSocketClient.unsubscribe(trId, htsId);
     }
 
+    /**
+     * 해외주식 실시간 체결통보 구독
+     *
+     * @param htsId  HTS ID
+     * @param isDemo 모의투자 여부
+     */
+    public void subscribeOverseasOrderNotice(String htsId, boolean isDemo) {
+        String trId = isDemo ? KisTrId.OVERSEAS_STOCK_CCNL_NOTICE_DEMO : KisTrId.OVERSEAS_STOCK_CCNL_NOTICE;
+        webSocketClient.subscribe(trId, htsId);
+    }
+
+    /**
+     * 해외주식 실시간 체결통보 구독 해제
+     *
+     * @param htsId  HTS ID
+     * @param isDemo 모의투자 여부
+     */
+    public void unsubscribeOverseasOrderNotice(String htsId, boolean isDemo) {
+        String trId = isDemo ? KisTrId.OVERSEAS_STOCK_CCNL_NOTICE_DEMO : KisTrId.OVERSEAS_STOCK_CCNL_NOTICE;
+        webSocketClient.unsubscribe(trId, htsId);
+    }
+
+    /**
+     * 설정된 HTS ID로 국내/해외 체결통보 구독 (현재 모드 기준)
+     *
+     * @return 구독 여부 (HTS ID 미설정 시 false)
+     */
+    public boolean subscribeFillNotices() {
+        String htsId = kisProperties.getHtsId();
+        if (!hasHtsId()) {
+            log.warn("HTS ID가 설정되지 않아 체결통보를 구독하지 않습니다. external.kis.hts-id 설정 필요");
+            return false;
+        }
+        subscribeOrderNotice(htsId, kisProperties.isDemoMode());
+        subscribeOverseasOrderNotice(htsId, kisProperties.isDemoMode());
+        return true;
+    }
+
+    private boolean hasHtsId() {
+        String htsId = kisProperties.getHtsId();
+        return htsId != null && !htsId.isBlank();
+    }
+
+    // ==================== 해외주식 체결가 ====================
+
+    /**
+     * 해외주식 실시간지연체결가 구독
+     *
+     * @param exchangeCode 거래소코드 (예: NAS)
+     * @param symbol       종목코드 (예: AAPL)
+     */
+    public void subscribeOverseasPrice(String exchangeCode, String symbol) {
+        webSocketClient.subscribe(KisTrId.OVERSEAS_STOCK_DELAYED_CCNL, overseasPriceKey(exchangeCode, symbol));
+    }
+
+    /**
+     * 해외주식 실시간지연체결가 구독 해제
+     */
+    public void unsubscribeOverseasPrice(String exchangeCode, String symbol) {
+        webSocketClient.unsubscribe(KisTrId.OVERSEAS_STOCK_DELAYED_CCNL, overseasPriceKey(exchangeCode, symbol));
+    }
+
+    // tr_key: D + 거래소코드 + 종목코드 (예: DNASAAPL)
+    private String overseasPriceKey(String exchangeCode, String symbol) {
+        return "D" + exchangeCode + symbol;
+    }
+
     // ==================== 지수 ====================
 
     /**
@@ -1,5 +1,7 @@
 package com.stock.trade.websocket;
 
+import java.util.Map;
+
 /**
  * KIS 실시간 데이터 TR ID 상수
  */
@@ -160,6 +162,27 @@ public final class KisTrId {
      */
     public static final String EXCD_TOKYO = "DTSE";
 
+    // ==================== TR 별 레코드 필드 수 ====================
+
+    // 데이터건수가 2 이상인 프레임을 레코드로 나눌 때 사용 (KIS 실시간 응답 명세 기준)
+    private static final Map<String, Integer> FIELD_COUNTS = Map.of(
+            STOCK_CCNL_TOTAL, 46,
+            STOCK_CCNL_KRX, 46,
+            STOCK_CCNL_NXT, 46,
+            STOCK_ASKING_PRICE_KRX, 59,
+            PROGRAM_TRADE_KRX, 11,
+            OVERSEAS_STOCK_DELAYED_CCNL, 26
+    );
+
+    /**
+     * 레코드당 필드 수
+     * @param trId TR ID
+     * @return 필드 수 (등록되지 않은 TR 이면 0)
+     */
+    public static int fieldCount(String trId) {
+        return FIELD_COUNTS.getOrDefault(trId, 0);
+    }
+
     /**
      * 해외주식 tr_key 생성 헬퍼
      * @param exchangePrefix 거래소 접두사 (예: DNAS)
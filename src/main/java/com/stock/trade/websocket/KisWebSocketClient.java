@@ -5,6 +5,7 @@ import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
 import com.stock.trade.config.KisProperties;
 import com.stock.trade.token.KisTokenManager;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -15,13 +16,19 @@ import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.client.standard.StandardWebSocketClient;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
 
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
 import java.io.IOException;
 import java.net.URI;
-import java.util.List;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Slf4j
 @Component
@@ -35,11 +42,23 @@ public class KisWebSocketClient extends TextWebSocketHandler {
     private final AtomicBoolean isConnected = new AtomicBoolean(false);
     private final AtomicBoolean isConnecting = new AtomicBoolean(false);
 
+    // 연결/종료 직렬화 (연결 대기 중 가상 스레드가 캐리어 스레드를 고정하지 않도록 synchronized 대신 사용)
+    private final ReentrantLock connectionLock = new ReentrantLock();
+
     // 구독 중인 종목 관리 (TR_ID -> Set<종목코드>)
     private final ConcurrentMap<String, Set<String>> subscriptions = new ConcurrentHashMap<>();
 
-    // 메시지 리스너
-    private final List<KisWebSocketListener> listeners = new CopyOnWriteArrayList<>();
+    // 체결통보 복호화 키 (TR_ID -> AES256 key/iv, 구독 응답으로 수신)
+    private final ConcurrentMap<String, SecretKeys> secretKeys = new ConcurrentHashMap<>();
+
+    // 메시지 리스너 (TR ID 별 라우팅 테이블)
+    private final RealtimeRouter router = new RealtimeRouter();
+
+    // 실시간 데이터 파서 (메시지는 세션 스레드에서 순서대로 처리되므로 하나를 재사용)
+    private final RealtimeFrame frame = new RealtimeFrame();
+
+    // 종목별 워커 레인 (비활성화 시 null, 수신 스레드에서 직접 처리)
+    private final RealtimeLanes lanes;
 
     // 재연결 스케줄러
     private final ScheduledExecutorService reconnectScheduler = Executors.newSingleThreadScheduledExecutor();
@@ -47,16 +66,29 @@ public class KisWebSocketClient extends TextWebSocketHandler {
     private static final int MAX_RECONNECT_ATTEMPTS = 10;
     private int reconnectAttempts = 0;
 
-    public KisWebSocketClient(KisProperties kisProperties, KisTokenManager tokenManager, ObjectMapper objectMapper) {
+    public KisWebSocketClient(KisProperties kisProperties, KisTokenManager tokenManager, ObjectMapper objectMapper,
+                              KisRealtimeProperties realtimeProperties, MeterRegistry meterRegistry) {
         this.kisProperties = kisProperties;
         this.tokenManager = tokenManager;
         this.objectMapper = objectMapper;
+        this.lanes = realtimeProperties.getLanes().isEnabled()
+                ? new RealtimeLanes(realtimeProperties.getLanes(), meterRegistry, this::dispatch)
+                : null;
     }
 
     /**
      * WebSocket 연결
      */
-    public synchronized void connect() {
+    public void connect() {
+        connectionLock.lock();
+        try {
+            doConnect();
+        } finally {
+            connectionLock.unlock();
+        }
+    }
+
+    private void doConnect() {
         if (isConnected.get() || isConnecting.get()) {
             log.info("WebSocket 이미 연결되어 있거나 연결 중입니다.");
             return;
@@ -93,17 +125,22 @@ public class KisWebSocketClient extends TextWebSocketHandler {
     /**
      * WebSocket 연결 종료
      */
-    public synchronized void disconnect() {
-        if (session != null && session.isOpen()) {
-            try {
-                session.close(CloseStatus.NORMAL);
-                log.info("KIS WebSocket 연결 종료");
-            } catch (IOException e) {
-                log.error("WebSocket 종료 중 오류", e);
+    public void disconnect() {
+        connectionLock.lock();
+        try {
+            if (session != null && session.isOpen()) {
+                try {
+                    session.close(CloseStatus.NORMAL);
+                    log.info("KIS WebSocket 연결 종료");
+                } catch (IOException e) {
+                    log.error("WebSocket 종료 중 오류", e);
+                }
             }
+            isConnected.set(false);
+            subscriptions.clear();
+        } finally {
+            connectionLock.unlock();
         }
-        isConnected.set(false);
-        subscriptions.clear();
     }
 
     /**
@@ -118,6 +155,13 @@ public class KisWebSocketClient extends TextWebSocketHandler {
             connect();
         }
 
+        // 이미 구독 중이면 재전송하지 않음 (재연결 시에는 resubscribeAll 로 복구)
+        Set<String> keys = subscriptions.get(trId);
+        if (keys != null && keys.contains(trKey) && isConnected()) {
+            log.debug("이미 구독 중 - TR_ID: {}, 종목코드: {}", trId, trKey);
+            return;
+        }
+
         sendSubscriptionMessage(trId, trKey, "1");
         subscriptions.computeIfAbsent(trId, k -> ConcurrentHashMap.newKeySet()).add(trKey);
         log.info("실시간 구독 요청 - TR_ID: {}, 종목코드: {}", trId, trKey);
@@ -144,17 +188,17 @@ public class KisWebSocketClient extends TextWebSocketHandler {
     }
 
     /**
-     * 리스너 등록
+     * 리스너 등록 (리스너의 trIds/symbols 로 수신 대상 결정)
      */
     public void addListener(KisWebSocketListener listener) {
-        listeners.add(listener);
+        router.add(listener);
     }
 
     /**
      * 리스너 해제
      */
     public void removeListener(KisWebSocketListener listener) {
-        listeners.remove(listener);
+        router.remove(listener);
     }
 
     /**
@@ -259,36 +303,75 @@ public class KisWebSocketClient extends TextWebSocketHandler {
 
             log.info("구독 응답 - TR_ID: {}, 코드: {}, 메시지: {}", trId, msgCode, msg);
 
-            // 리스너에게 알림
-            for (KisWebSocketListener listener : listeners) {
+            JsonNode output = node.path("body").path("output");
+            if (output.hasNonNull("key") && output.hasNonNull("iv")) {
+                secretKeys.put(trId, new SecretKeys(output.path("key").asText(), output.path("iv").asText()));
+            }
+
+            // 해당 TR 리스너에게 알림
+            for (KisWebSocketListener listener : router.route(trId).subscribers()) {
                 listener.onSubscriptionResponse(trId, msgCode, msg);
             }
         }
     }
 
     private void handleRealtimeData(String payload) {
-        // 실시간 데이터는 '|' 또는 '^' 로 구분
-        // 형식: 암호화여부|TR_ID|데이터건수|데이터
-        String[] parts = payload.split("\\|");
-
-        if (parts.length < 4) {
+        // 형식: 암호화여부|TR_ID|데이터건수|데이터 ('^' 구분 필드)
+        if (!frame.reset(payload)) {
             log.warn("잘못된 실시간 데이터 형식: {}", payload);
             return;
         }
 
-        String encrypted = parts[0];
-        String trId = parts[1];
-        String dataCount = parts[2];
-        String data = parts[3];
+        String trId = frame.trId();
+        log.debug("실시간 데이터 - 암호화: {}, TR_ID: {}, 건수: {}", frame.isEncrypted(), trId, frame.declaredRecordCount());
+
+        if (router.route(trId).subscribers().length == 0) {
+            return;
+        }
+
+        // 레인 사용 시 복호화/파싱/리스너 호출은 레인 스레드에서 (수신 스레드는 바로 다음 메시지 읽기)
+        if (lanes != null) {
+            lanes.submit(frame, payload);
+        } else {
+            dispatch(frame);
+        }
+    }
 
-        log.debug("실시간 데이터 - 암호화: {}, TR_ID: {}, 건수: {}", encrypted, trId, dataCount);
+    /**
+     * 복호화 후 TR/종목 리스너에게 전달 (레인 스레드 또는 수신 스레드)
+     */
+    private void dispatch(RealtimeFrame frame) {
+        String trId = frame.trId();
+        if (frame.isEncrypted()) {
+            SecretKeys keys = secretKeys.get(trId);
+            if (keys == null) {
+                log.warn("복호화 키 없음 - TR_ID: {}", trId);
+                return;
+            }
+            frame.replaceData(keys.decrypt(frame.data()));
+        }
+
+        if (frame.recordCount() != Math.max(frame.declaredRecordCount(), 1)) {
+            log.warn("데이터건수와 필드 수 불일치, 한 레코드로 처리 - TR_ID: {}, 건수: {}, 필드 수: {}",
+                    trId, frame.declaredRecordCount(), frame.fieldCount());
+        }
 
-        // 데이터 파싱 ('^'로 구분된 필드들)
-        String[] fields = data.split("\\^");
+        RealtimeRouter.Route route = router.route(trId);
 
-        // 리스너에게 알림
-        for (KisWebSocketListener listener : listeners) {
-            listener.onRealtimeData(trId, fields);
+        // TR 전체 리스너 (리스너마다 첫 레코드부터)
+        for (KisWebSocketListener listener : route.listeners()) {
+            frame.select(0);
+            listener.onRealtimeBatch(frame);
+        }
+
+        // 종목 리스너 (레코드 첫 필드가 종목코드)
+        if (route.hasSymbolListeners()) {
+            for (int i = 0; i < frame.recordCount(); i++) {
+                frame.select(i);
+                for (KisWebSocketListener listener : route.symbolListeners(frame.field(0))) {
+                    listener.onRealtimeFrame(frame);
+                }
+            }
         }
     }
 
@@ -313,9 +396,30 @@ public class KisWebSocketClient extends TextWebSocketHandler {
         reconnectScheduler.schedule(this::connect, RECONNECT_DELAY_SECONDS, TimeUnit.SECONDS);
     }
 
+    /**
+     * 체결통보 AES256-CBC 복호화 키
+     */
+    private record SecretKeys(String key, String iv) {
+
+        String decrypt(String base64) {
+            try {
+                Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
+                cipher.init(Cipher.DECRYPT_MODE,
+                        new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), "AES"),
+                        new IvParameterSpec(iv.getBytes(StandardCharsets.UTF_8)));
+                return new String(cipher.doFinal(Base64.getDecoder().decode(base64)), StandardCharsets.UTF_8);
+            } catch (GeneralSecurityException | IllegalArgumentException e) {
+                throw new IllegalStateException("실시간 데이터 복호화 실패: " + e.getMessage(), e);
+            }
+        }
+    }
+
     @PreDestroy
     public void destroy() {
         disconnect();
         reconnectScheduler.shutdown();
+        if (lanes != null) {
+            lanes.shutdown();
+        }
     }
 }
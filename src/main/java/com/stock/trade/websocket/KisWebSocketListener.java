@@ -1,10 +1,32 @@
 package com.stock.trade.websocket;
 
+import java.util.Set;
+
 /**
  * KIS WebSocket 실시간 데이터 리스너 인터페이스
+ * 수신 대상은 trIds/symbols 로 선언하고, 클라이언트는 선언한 TR/종목의 데이터만 전달
  */
 public interface KisWebSocketListener {
 
+    /**
+     * 수신할 TR ID (등록 시 한 번 읽음)
+     *
+     * @return TR ID 목록 (비어 있으면 모든 TR 수신)
+     */
+    default Set<String> trIds() {
+        return Set.of();
+    }
+
+    /**
+     * 수신할 종목 (등록 시 한 번 읽음, 레코드 첫 필드 기준 - 예: 005930, DNASAAPL)
+     * 종목을 선언하면 onRealtimeBatch 대신 해당 종목 레코드마다 onRealtimeFrame 호출
+     *
+     * @return 종목 목록 (비어 있으면 모든 종목 수신)
+     */
+    default Set<String> symbols() {
+        return Set.of();
+    }
+
     /**
      * 구독 응답 수신 시 호출
      *
@@ -16,12 +38,39 @@ public interface KisWebSocketListener {
     }
 
     /**
-     * 실시간 데이터 수신 시 호출
+     * 실시간 데이터 수신 시 호출 (필드 배열)
+     * onRealtimeFrame 을 재정의하지 않은 리스너만 호출됨
      *
      * @param trId   TR ID
      * @param fields 데이터 필드 배열 ('^' 구분자로 분리된 값들)
      */
-    void onRealtimeData(String trId, String[] fields);
+    default void onRealtimeData(String trId, String[] fields) {
+    }
+
+    /**
+     * 실시간 데이터 수신 시 호출 (프레임의 현재 레코드)
+     * 체결가처럼 수신량이 많은 TR 은 이 메서드를 재정의해 필드 String 생성 없이 파싱
+     * 프레임은 다음 메시지에서 재사용되므로 콜백 밖으로 보관하지 말 것
+     *
+     * @param frame 실시간 데이터 프레임
+     */
+    default void onRealtimeFrame(RealtimeFrame frame) {
+        onRealtimeData(frame.trId(), frame.fields());
+    }
+
+    /**
+     * 실시간 데이터 수신 시 호출 (프레임 전체 레코드)
+     * 거래가 많은 종목은 여러 체결을 한 프레임(데이터건수 > 1)으로 보내므로 레코드마다 onRealtimeFrame 호출
+     * 레코드를 묶어서 처리하려면 이 메서드를 재정의하고 frame.select 로 레코드를 이동
+     *
+     * @param frame 첫 레코드가 선택된 실시간 데이터 프레임
+     */
+    default void onRealtimeBatch(RealtimeFrame frame) {
+        for (int i = 0; i < frame.recordCount(); i++) {
+            frame.select(i);
+            onRealtimeFrame(frame);
+        }
+    }
 
     /**
      * 연결 종료 시 호출
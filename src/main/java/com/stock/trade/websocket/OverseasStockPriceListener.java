@@ -1,25 +1,50 @@
 package com.stock.trade.websocket;
 
+import com.stock.trade.cache.QuoteCache;
+import com.stock.trade.overseas.OverseasStockPrice;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * 해외주식 실시간 시세 리스너
  * TR ID: HDFSCNT0 (해외주식 실시간지연체결가)
+ * 수신한 체결가는 QuoteCache 에도 반영 (OverseasStockService.getPrice 가 REST 대신 사용)
  */
 @Slf4j
+@Component
 public class OverseasStockPriceListener implements KisWebSocketListener {
 
+    // 실시간 종목코드(RSYM) 접두사 (예: DNASAAPL → AAPL)
+    private static final Pattern REALTIME_SYMBOL_PREFIX =
+            Pattern.compile("^[DR](NAS|NYS|AMS|BAQ|BAY|BAA|HKS|SHS|SZS|TSE|HSX|HNX)(?=.)");
+
     // 최신 시세 데이터 저장
     private final ConcurrentMap<String, OverseasRealtimePrice> latestPrices = new ConcurrentHashMap<>();
 
+    // 시세 캐시 (단독 사용 시 null)
+    private final QuoteCache quoteCache;
+
     // 콜백
     private Consumer<OverseasRealtimePrice> onPriceUpdate;
 
+    public OverseasStockPriceListener() {
+        this(null);
+    }
+
+    @Autowired
+    public OverseasStockPriceListener(QuoteCache quoteCache) {
+        this.quoteCache = quoteCache;
+    }
+
     /**
      * 시세 업데이트 콜백 설정
      */
@@ -42,21 +67,21 @@ public class OverseasStockPriceListener implements KisWebSocketListener {
     }
 
     @Override
-    public void onSubscriptionResponse(String trId, String msgCode, String message) {
-        if (KisTrId.OVERSEAS_STOCK_DELAYED_CCNL.equals(trId)) {
-            log.info("해외주식 실시간 구독 응답 - 코드: {}, 메시지: {}", msgCode, message);
-        }
+    public Set<String> trIds() {
+        return Set.of(KisTrId.OVERSEAS_STOCK_DELAYED_CCNL);
     }
 
     @Override
-    public void onRealtimeData(String trId, String[] fields) {
-        if (!KisTrId.OVERSEAS_STOCK_DELAYED_CCNL.equals(trId)) {
-            return;
-        }
+    public void onSubscriptionResponse(String trId, String msgCode, String message) {
+        log.info("해외주식 실시간 구독 응답 - 코드: {}, 메시지: {}", msgCode, message);
+    }
 
+    @Override
+    public void onRealtimeFrame(RealtimeFrame frame) {
         try {
-            OverseasRealtimePrice price = parsePrice(fields);
+            OverseasRealtimePrice price = parsePrice(frame);
             latestPrices.put(price.symbol(), price);
+            updateQuoteCache(price);
 
             log.info("해외주식 실시간 시세 - 종목: {}, 현재가: ${}, 등락율: {}%, 거래량: {}",
                     price.symbol(), price.currentPrice(), price.changeRate(), price.volume());
@@ -69,7 +94,27 @@ public class OverseasStockPriceListener implements KisWebSocketListener {
         }
     }
 
-    private OverseasRealtimePrice parsePrice(String[] fields) {
+    private void updateQuoteCache(OverseasRealtimePrice price) {
+        if (quoteCache == null || price.currentPrice().signum() <= 0) {
+            return;
+        }
+        // 거래소 접두사가 없으면 어느 거래소 시세인지 알 수 없으므로 캐시하지 않음
+        Matcher matcher = REALTIME_SYMBOL_PREFIX.matcher(price.symbol());
+        if (!matcher.find()) {
+            return;
+        }
+        quoteCache.update(QuoteCache.overseasKey(matcher.group(1), price.symbol().substring(matcher.end())),
+                OverseasStockPrice.class, price::toStockPrice);
+    }
+
+    /**
+     * 실시간 종목코드에서 거래소 접두사 제거 (예: DNASAAPL → AAPL)
+     */
+    public static String toSymbol(String realtimeSymbol) {
+        return REALTIME_SYMBOL_PREFIX.matcher(realtimeSymbol).replaceFirst("");
+    }
+
+    private OverseasRealtimePrice parsePrice(RealtimeFrame frame) {
         // 컬럼 순서:
         // 0:SYMB, 1:ZDIV, 2:TYMD, 3:XYMD, 4:XHMS, 5:KYMD, 6:KHMS,
         // 7:OPEN, 8:HIGH, 9:LOW, 10:LAST, 11:SIGN, 12:DIFF, 13:RATE,
@@ -77,57 +122,29 @@ public class OverseasStockPriceListener implements KisWebSocketListener {
         // 21:BIVL, 22:ASVL, 23:STRN, 24:MTYP
 
         return new OverseasRealtimePrice(
-                getField(fields, 0),                              // symbol
-                parseIntSafe(getField(fields, 1)),               // decimalPlaces
-                getField(fields, 3),                              // localDate
-                getField(fields, 4),                              // localTime
-                getField(fields, 5),                              // koreaDate
-                getField(fields, 6),                              // koreaTime
-                parseBigDecimalSafe(getField(fields, 7)),        // open
-                parseBigDecimalSafe(getField(fields, 8)),        // high
-                parseBigDecimalSafe(getField(fields, 9)),        // low
-                parseBigDecimalSafe(getField(fields, 10)),       // currentPrice
-                getField(fields, 11),                             // changeSign
-                parseBigDecimalSafe(getField(fields, 12)),       // change
-                parseBigDecimalSafe(getField(fields, 13)),       // changeRate
-                parseBigDecimalSafe(getField(fields, 14)),       // bidPrice
-                parseBigDecimalSafe(getField(fields, 15)),       // askPrice
-                parseLongSafe(getField(fields, 19)),             // volume
-                parseBigDecimalSafe(getField(fields, 20)),       // tradingAmount
-                parseLongSafe(getField(fields, 18)),             // contractVolume
-                parseBigDecimalSafe(getField(fields, 23)),       // contractStrength
-                getField(fields, 24)                              // marketType
+                frame.field(0),                    // symbol
+                (int) frame.longField(1),          // decimalPlaces
+                frame.field(3),                    // localDate
+                frame.field(4),                    // localTime
+                frame.field(5),                    // koreaDate
+                frame.field(6),                    // koreaTime
+                frame.decimalField(7),             // open
+                frame.decimalField(8),             // high
+                frame.decimalField(9),             // low
+                frame.decimalField(10),            // currentPrice
+                frame.field(11),                   // changeSign
+                frame.decimalField(12),            // change
+                frame.decimalField(13),            // changeRate
+                frame.decimalField(14),            // bidPrice
+                frame.decimalField(15),            // askPrice
+                frame.longField(19),               // volume
+                frame.decimalField(20),            // tradingAmount
+                frame.longField(18),               // contractVolume
+                frame.decimalField(23),            // contractStrength
+                frame.field(24)                    // marketType
         );
     }
 
-    private String getField(String[] fields, int index) {
-        return (fields != null && index < fields.length) ? fields[index] : "";
-    }
-
-    private BigDecimal parseBigDecimalSafe(String value) {
-        try {
-            return (value != null && !value.isEmpty()) ? new BigDecimal(value) : BigDecimal.ZERO;
-        } catch (NumberFormatException e) {
-            return BigDecimal.ZERO;
-        }
-    }
-
-    private Long parseLongSafe(String value) {
-        try {
-            return (value != null && !value.isEmpty()) ? Long.parseLong(value) : 0L;
-        } catch (NumberFormatException e) {
-            return 0L;
-        }
-    }
-
-    private Integer parseIntSafe(String value) {
-        try {
-            return (value != null && !value.isEmpty()) ? Integer.parseInt(value) : 0;
-        } catch (NumberFormatException e) {
-            return 0;
-        }
-    }
-
     /**
      * 해외주식 실시간 시세 데이터
      */
@@ -160,5 +177,32 @@ public class OverseasStockPriceListener implements KisWebSocketListener {
         public boolean isDown() {
             return "4".equals(changeSign) || "5".equals(changeSign);
         }
+
+        /**
+         * 현재가 조회 DTO 로 변환
+         * 실시간 체결에 없는 항목(전일거래량, 매수가능여부 등)은 기존 REST 응답 값 유지
+         *
+         * @param base 기존 현재가 (없으면 null)
+         */
+        public OverseasStockPrice toStockPrice(OverseasStockPrice base) {
+            return new OverseasStockPrice(
+                    base != null ? base.realtimeSymbol() : null,
+                    decimalPlaces,
+                    base != null ? base.previousClose() : estimatePreviousClose(),
+                    base != null ? base.previousVolume() : null,
+                    currentPrice,
+                    changeSign,
+                    change,
+                    changeRate,
+                    volume,
+                    tradingAmount,
+                    base != null ? base.tradable() : null
+            );
+        }
+
+        private BigDecimal estimatePreviousClose() {
+            BigDecimal diff = change.abs();
+            return isDown() ? currentPrice.add(diff) : currentPrice.subtract(diff);
+        }
     }
 }
@@ -0,0 +1,420 @@
+package com.stock.trade.websocket;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * KIS 실시간 데이터 프레임 (커서 기반 파서)
+ * 형식: 암호화여부|TR_ID|데이터건수|필드^필드^...
+ *
+ * - 구분자 위치만 int 배열에 기록하고 필드별 String 을 만들지 않음
+ * - 숫자 필드는 원문 문자에서 바로 파싱 (지수 표기 등 예외 형식만 String 변환 후 기존 파서 사용)
+ * - TR ID 는 이전에 본 값과 문자 단위로 비교해 같은 String 인스턴스를 재사용
+ * - 데이터건수가 2 이상이면 TR 별 필드 수(KisTrId.fieldCount)로 레코드를 나누고 select 로 레코드 이동
+ * - 인스턴스를 재사용하므로 스레드 안전하지 않음. 리스너는 콜백 안에서만 사용하고 보관하지 않아야 함
+ */
+public final class RealtimeFrame {
+
+    private static final int MAX_CACHED_TR_IDS = 64;
+    private static final long MAX_EXACT_DOUBLE = 1L << 53;
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18
+    };
+
+    private String payload;
+    private boolean encrypted;
+    private String trId;
+    private int declaredRecordCount;
+
+    // 필드 원문 (암호화 프레임은 복호화 결과로 교체)
+    private String data;
+    private int dataStart;
+
+    private int[] starts = new int[64];
+    private int[] ends = new int[64];
+    private int totalFieldCount;
+    private String[] fieldArray;
+
+    // 레코드 구성 (fieldCount 는 레코드당 필드 수, recordBase 는 현재 레코드의 첫 필드 위치)
+    private int recordCount;
+    private int fieldCount;
+    private int recordIndex;
+    private int recordBase;
+
+    private String[] trIdCache = new String[8];
+    private int trIdCacheSize;
+
+    // parseDecimal 결과 (할당 없이 두 값을 돌려주기 위한 작업 영역)
+    private long parsedUnscaled;
+    private int parsedScale;
+
+    /**
+     * 새 프레임 읽기
+     *
+     * @param payload WebSocket 텍스트 메시지
+     * @return 형식이 올바르면 true
+     */
+    public boolean reset(String payload) {
+        this.payload = payload;
+        this.fieldArray = null;
+        this.fieldCount = 0;
+        this.recordCount = 0;
+
+        int first = payload.indexOf('|');
+        int second = first < 0 ? -1 : payload.indexOf('|', first + 1);
+        int third = second < 0 ? -1 : payload.indexOf('|', second + 1);
+        if (third < 0) {
+            return false;
+        }
+
+        encrypted = first == 1 && payload.charAt(0) == '1';
+        trId = internTrId(payload, first + 1, second);
+        declaredRecordCount = (int) parseLong(payload, second + 1, third);
+        indexFields(payload, third + 1);
+        return true;
+    }
+
+    /**
+     * 복호화한 데이터로 필드 재색인 (암호화 프레임)
+     */
+    public void replaceData(String decrypted) {
+        fieldArray = null;
+        indexFields(decrypted, 0);
+    }
+
+    public boolean isEncrypted() {
+        return encrypted;
+    }
+
+    public String trId() {
+        return trId;
+    }
+
+    /**
+     * 헤더의 데이터건수
+     */
+    public int declaredRecordCount() {
+        return declaredRecordCount;
+    }
+
+    /**
+     * 나눈 레코드 수 (필드 수가 데이터건수와 맞지 않으면 1, 전체를 한 레코드로 취급)
+     */
+    public int recordCount() {
+        return recordCount;
+    }
+
+    /**
+     * 현재 레코드 위치 (0부터)
+     */
+    public int recordIndex() {
+        return recordIndex;
+    }
+
+    /**
+     * 레코드 이동 (이후 필드 접근은 해당 레코드 기준)
+     *
+     * @param index 레코드 위치 (0 ~ recordCount - 1)
+     */
+    public void select(int index) {
+        if (index < 0 || index >= recordCount) {
+            throw new IndexOutOfBoundsException("레코드 위치 " + index + " / " + recordCount);
+        }
+        if (index != recordIndex) {
+            recordIndex = index;
+            recordBase = index * fieldCount;
+            fieldArray = null;
+        }
+    }
+
+    /**
+     * 필드 원문 (암호화 프레임은 replaceData 전이면 암호문, 후이면 복호화한 평문)
+     */
+    public String data() {
+        return data.substring(dataStart);
+    }
+
+    /**
+     * 현재 레코드의 필드 수
+     */
+    public int fieldCount() {
+        return fieldCount;
+    }
+
+    // ==================== 필드 접근 ====================
+
+    /**
+     * 필드 문자열 (앞뒤 공백 제거, 범위 밖이면 빈 문자열)
+     * 새 String 을 만들므로 종목코드처럼 보관할 값에만 사용
+     */
+    public String field(int index) {
+        if (index >= fieldCount) {
+            return "";
+        }
+        int start = trimStart(starts[recordBase + index], ends[recordBase + index]);
+        int end = trimEnd(start, ends[recordBase + index]);
+        return data.substring(start, end);
+    }
+
+    /**
+     * 필드가 주어진 값과 같은지 (앞뒤 공백 제거 후 비교, 할당 없음)
+     */
+    public boolean fieldEquals(int index, String value) {
+        if (index >= fieldCount) {
+            return value.isEmpty();
+        }
+        int start = trimStart(starts[recordBase + index], ends[recordBase + index]);
+        int end = trimEnd(start, ends[recordBase + index]);
+        return end - start == value.length() && data.regionMatches(start, value, 0, value.length());
+    }
+
+    /**
+     * field(index).hashCode() 와 같은 값 (String 생성 없음, 레인 분배용)
+     */
+    public int fieldHash(int index) {
+        if (index >= fieldCount) {
+            return 0;
+        }
+        int start = trimStart(starts[recordBase + index], ends[recordBase + index]);
+        int end = trimEnd(start, ends[recordBase + index]);
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + data.charAt(i);
+        }
+        return hash;
+    }
+
+    /**
+     * 정수 필드 (비었거나 형식 오류면 0)
+     */
+    public long longField(int index) {
+        return index < fieldCount ? parseLong(data, starts[recordBase + index], ends[recordBase + index]) : 0L;
+    }
+
+    /**
+     * 실수 필드 (비었거나 형식 오류면 0.0)
+     */
+    public double doubleField(int index) {
+        if (index >= fieldCount) {
+            return 0.0;
+        }
+        if (parseDecimal(starts[recordBase + index], ends[recordBase + index])
+                && parsedUnscaled < MAX_EXACT_DOUBLE && parsedUnscaled > -MAX_EXACT_DOUBLE) {
+            // 두 값 모두 double 로 정확히 표현되므로 나눗셈 결과는 Double.parseDouble 과 같음
+            return parsedUnscaled / POWERS_OF_TEN[parsedScale];
+        }
+        try {
+            return Double.parseDouble(field(index));
+        } catch (NumberFormatException e) {
+            return 0.0;
+        }
+    }
+
+    /**
+     * 소수 필드 (비었거나 형식 오류면 0, 원문 소수 자릿수 유지)
+     */
+    public BigDecimal decimalField(int index) {
+        if (index >= fieldCount) {
+            return BigDecimal.ZERO;
+        }
+        if (parseDecimal(starts[recordBase + index], ends[recordBase + index])) {
+            return BigDecimal.valueOf(parsedUnscaled, parsedScale);
+        }
+        String value = field(index);
+        try {
+            return value.isEmpty() ? BigDecimal.ZERO : new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            return BigDecimal.ZERO;
+        }
+    }
+
+    /**
+     * 현재 레코드의 필드 배열 (String[] 기반 리스너 호환용, 레코드당 한 번만 생성)
+     * 기존 split("\\^") 결과와 같도록 끝의 빈 필드는 제외
+     */
+    public String[] fields() {
+        if (fieldArray == null) {
+            int count = fieldCount;
+            while (count > 1 && starts[recordBase + count - 1] == ends[recordBase + count - 1]) {
+                count--;
+            }
+            String[] array = new String[count];
+            for (int i = 0; i < count; i++) {
+                array[i] = data.substring(starts[recordBase + i], ends[recordBase + i]);
+            }
+            fieldArray = array;
+        }
+        return fieldArray;
+    }
+
+    @Override
+    public String toString() {
+        return payload;
+    }
+
+    // ==================== Private Methods ====================
+
+    private void indexFields(String source, int from) {
+        data = source;
+        dataStart = from;
+
+        int count = 0;
+        int start = from;
+        int length = source.length();
+        for (int i = from; i <= length; i++) {
+            if (i == length || source.charAt(i) == '^') {
+                if (count == starts.length) {
+                    starts = Arrays.copyOf(starts, count * 2);
+                    ends = Arrays.copyOf(ends, count * 2);
+                }
+                starts[count] = start;
+                ends[count] = i;
+                count++;
+                start = i + 1;
+            }
+        }
+        totalFieldCount = count;
+        layoutRecords();
+    }
+
+    /**
+     * 레코드당 필드 수 결정
+     * TR 별 필드 수를 알면 그 값으로, 모르면 전체 필드 수를 데이터건수로 나눈 값으로 나눔
+     * 둘 다 맞지 않으면 기존처럼 전체를 한 레코드로 취급
+     */
+    private void layoutRecords() {
+        int declared = declaredRecordCount;
+        int perRecord = totalFieldCount;
+        if (declared > 1) {
+            int known = KisTrId.fieldCount(trId);
+            if (known > 0 && (long) known * declared <= totalFieldCount) {
+                perRecord = known;
+            } else if (totalFieldCount % declared == 0) {
+                perRecord = totalFieldCount / declared;
+            } else {
+                declared = 1;
+            }
+        } else {
+            declared = 1;
+        }
+
+        recordCount = declared;
+        fieldCount = perRecord;
+        recordIndex = 0;
+        recordBase = 0;
+    }
+
+    private String internTrId(String source, int start, int end) {
+        int length = end - start;
+        for (int i = 0; i < trIdCacheSize; i++) {
+            String cached = trIdCache[i];
+            if (cached.length() == length && source.regionMatches(start, cached, 0, length)) {
+                return cached;
+            }
+        }
+
+        String value = source.substring(start, end);
+        if (trIdCacheSize < MAX_CACHED_TR_IDS) {
+            if (trIdCacheSize == trIdCache.length) {
+                trIdCache = Arrays.copyOf(trIdCache, trIdCacheSize * 2);
+            }
+            trIdCache[trIdCacheSize++] = value;
+        }
+        return value;
+    }
+
+    /**
+     * [부호]숫자 형식만 허용 (Long.parseLong 과 같은 범위), 그 외는 0
+     */
+    private static long parseLong(String source, int start, int end) {
+        while (start < end && source.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && source.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return 0L;
+        }
+
+        boolean negative = false;
+        char sign = source.charAt(start);
+        if (sign == '-' || sign == '+') {
+            negative = sign == '-';
+            if (++start == end) {
+                return 0L;
+            }
+        }
+
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = source.charAt(i) - '0';
+            if (digit < 0 || digit > 9 || value > (Long.MAX_VALUE - digit) / 10) {
+                return 0L;
+            }
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * [부호]숫자[.숫자] 형식을 parsedUnscaled/parsedScale 로 파싱
+     *
+     * @return 이 형식이 아니거나 18자리를 넘으면 false (호출자가 String 파서로 처리)
+     */
+    private boolean parseDecimal(int start, int end) {
+        start = trimStart(start, end);
+        end = trimEnd(start, end);
+        if (start == end) {
+            return false;
+        }
+
+        boolean negative = false;
+        char sign = data.charAt(start);
+        if (sign == '-' || sign == '+') {
+            negative = sign == '-';
+            start++;
+        }
+
+        long unscaled = 0;
+        int digits = 0;
+        int scale = -1;
+        for (int i = start; i < end; i++) {
+            char c = data.charAt(i);
+            if (c == '.' && scale < 0) {
+                scale = 0;
+                continue;
+            }
+            if (c < '0' || c > '9' || digits == 18) {
+                return false;
+            }
+            unscaled = unscaled * 10 + (c - '0');
+            digits++;
+            if (scale >= 0) {
+                scale++;
+            }
+        }
+        if (digits == 0) {
+            return false;
+        }
+
+        parsedUnscaled = negative ? -unscaled : unscaled;
+        parsedScale = Math.max(scale, 0);
+        return true;
+    }
+
+    private int trimStart(int start, int end) {
+        while (start < end && data.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    private int trimEnd(int start, int end) {
+        while (end > start && data.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+}
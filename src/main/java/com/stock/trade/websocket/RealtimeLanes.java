@@ -0,0 +1,193 @@
+package com.stock.trade.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 실시간 프레임 워커 레인
+ *
+ * - 수신 스레드는 첫 레코드의 종목(첫 필드) 해시로 레인을 골라 원문만 넣고 반환
+ * - 레인마다 전용 스레드와 RealtimeFrame 을 두고 원문을 다시 읽어 처리 (수신 스레드의 프레임은 공유하지 않음)
+ * - 체결통보(암호화 프레임)는 TR ID 로 레인을 고르고 레인의 별도 통보 대기열에 넣음
+ *   (시세 대기열 초과 정책과 무관하게 버리지 않으며, 워커는 통보를 먼저 처리)
+ * 지표 (lane 태그): kis.realtime.lane.lag (수신 ~ 처리 시작), kis.realtime.lane.depth, kis.realtime.lane.dropped
+ */
+@Slf4j
+final class RealtimeLanes {
+
+    private final KisRealtimeProperties.OverflowPolicy overflowPolicy;
+    private final Lane[] lanes;
+    private final ExecutorService workers;
+
+    RealtimeLanes(KisRealtimeProperties.Lanes config, MeterRegistry meterRegistry, Consumer<RealtimeFrame> handler) {
+        this.overflowPolicy = config.getOverflowPolicy();
+        this.lanes = new Lane[config.getEffectiveCount()];
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(lanes.length, runnable -> {
+            Thread thread = new Thread(runnable, "kis-realtime-" + threadIndex.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        for (int i = 0; i < lanes.length; i++) {
+            Lane lane = new Lane(i, Math.max(1, config.getQueueCapacity()), meterRegistry);
+            lanes[i] = lane;
+            workers.execute(() -> lane.run(handler));
+        }
+        log.info("실시간 워커 레인 시작 - 레인: {}개, 대기열: {}, 초과 시: {}",
+                lanes.length, config.getQueueCapacity(), overflowPolicy);
+    }
+
+    /**
+     * 프레임을 레인에 넣음
+     *
+     * @param frame   수신 스레드에서 reset 한 프레임 (레인 선택에만 사용)
+     * @param payload 원문
+     * @return 레인 추가 여부 (초과 정책으로 폐기되면 false)
+     */
+    boolean submit(RealtimeFrame frame, String payload) {
+        int hash = frame.isEncrypted() ? frame.trId().hashCode() : frame.fieldHash(0);
+        Lane lane = lanes[Math.floorMod(hash ^ (hash >>> 16), lanes.length)];
+        Tick tick = new Tick(payload, System.nanoTime());
+
+        if (frame.isEncrypted()) {
+            lane.offerNotice(tick);
+            return true;
+        }
+        return lane.offer(tick, overflowPolicy);
+    }
+
+    int size() {
+        return lanes.length;
+    }
+
+    void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private record Tick(String payload, long receivedNanos) {}
+
+    private static final class Lane {
+
+        private final int index;
+        private final BlockingQueue<Tick> queue;
+        private final BlockingQueue<Tick> notices = new LinkedBlockingQueue<>();
+        // 두 대기열에 넣은 건수만큼 허가 (DROP_OLDEST 로 폐기된 건은 워커가 빈 대기열을 보고 넘어감)
+        private final Semaphore available = new Semaphore(0);
+        private final Timer lag;
+        private final Counter dropped;
+
+        // 대기열 초과 경고는 대기열이 빌 때까지 한 번만
+        private volatile boolean overflowing;
+
+        Lane(int index, int capacity, MeterRegistry meterRegistry) {
+            this.index = index;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+
+            String laneTag = String.valueOf(index);
+            this.lag = Timer.builder("kis.realtime.lane.lag")
+                    .description("실시간 프레임 수신부터 리스너 처리 시작까지")
+                    .tag("lane", laneTag)
+                    .register(meterRegistry);
+            this.dropped = Counter.builder("kis.realtime.lane.dropped")
+                    .description("레인 대기열 초과로 폐기된 실시간 프레임 수")
+                    .tag("lane", laneTag)
+                    .register(meterRegistry);
+            Gauge.builder("kis.realtime.lane.depth", this, lane -> lane.queue.size() + lane.notices.size())
+                    .description("레인 대기열 길이")
+                    .tag("lane", laneTag)
+                    .register(meterRegistry);
+        }
+
+        void offerNotice(Tick tick) {
+            notices.add(tick);
+            available.release();
+        }
+
+        boolean offer(Tick tick, KisRealtimeProperties.OverflowPolicy policy) {
+            if (queue.offer(tick)) {
+                available.release();
+                return true;
+            }
+
+            switch (policy) {
+                case BLOCK -> {
+                    try {
+                        queue.put(tick);
+                        available.release();
+                        return true;
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                case DROP_OLDEST -> {
+                    while (!queue.offer(tick)) {
+                        if (queue.poll() != null) {
+                            onDropped(policy);
+                        }
+                    }
+                    available.release();
+                    return true;
+                }
+                case DROP_NEWEST -> {
+                }
+            }
+            onDropped(policy);
+            return false;
+        }
+
+        void run(Consumer<RealtimeFrame> handler) {
+            RealtimeFrame frame = new RealtimeFrame();
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    available.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                Tick tick = notices.poll();
+                if (tick == null) {
+                    tick = queue.poll();
+                }
+                if (tick == null) {
+                    continue;
+                }
+
+                lag.record(System.nanoTime() - tick.receivedNanos(), TimeUnit.NANOSECONDS);
+                try {
+                    if (frame.reset(tick.payload())) {
+                        handler.accept(frame);
+                    }
+                } catch (Exception e) {
+                    log.error("실시간 데이터 처리 중 오류 - 레인: {}", index, e);
+                }
+
+                if (overflowing && queue.isEmpty()) {
+                    overflowing = false;
+                }
+            }
+        }
+
+        private void onDropped(KisRealtimeProperties.OverflowPolicy policy) {
+            dropped.increment();
+            if (!overflowing) {
+                overflowing = true;
+                log.warn("실시간 레인 {} 대기열 가득 참 ({}건) - {} 로 프레임 폐기 시작", index, queue.size(), policy);
+            }
+        }
+    }
+}
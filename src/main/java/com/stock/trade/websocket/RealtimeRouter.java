@@ -0,0 +1,110 @@
+package com.stock.trade.websocket;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 실시간 데이터 리스너 라우팅 테이블
+ *
+ * - 리스너가 선언한 TR ID/종목(KisWebSocketListener.trIds, symbols)으로 TR ID -> 리스너 배열을 미리 구성
+ * - 등록/해제 시에만 테이블을 새로 만들어 교체하고, 수신 스레드는 잠금 없이 조회만 함
+ * - TR ID 를 선언하지 않은 리스너는 모든 TR 에 포함 (등록 순서 유지)
+ */
+final class RealtimeRouter {
+
+    private static final KisWebSocketListener[] NONE = new KisWebSocketListener[0];
+
+    private final List<KisWebSocketListener> registered = new ArrayList<>();
+    private volatile Table table = new Table(Map.of(), Route.EMPTY);
+
+    synchronized void add(KisWebSocketListener listener) {
+        registered.add(listener);
+        rebuild();
+    }
+
+    synchronized void remove(KisWebSocketListener listener) {
+        if (registered.remove(listener)) {
+            rebuild();
+        }
+    }
+
+    /**
+     * TR ID 의 수신 대상 (선언된 리스너가 없으면 TR ID 를 선언하지 않은 리스너만)
+     */
+    Route route(String trId) {
+        Table current = table;
+        Route route = current.routes().get(trId);
+        return route != null ? route : current.fallback();
+    }
+
+    // ==================== Private Methods ====================
+
+    private void rebuild() {
+        Set<String> trIds = new LinkedHashSet<>();
+        for (KisWebSocketListener listener : registered) {
+            trIds.addAll(listener.trIds());
+        }
+
+        Map<String, Route> routes = new HashMap<>();
+        for (String trId : trIds) {
+            routes.put(trId, buildRoute(trId));
+        }
+        table = new Table(Map.copyOf(routes), buildRoute(null));
+    }
+
+    private Route buildRoute(String trId) {
+        List<KisWebSocketListener> subscribers = new ArrayList<>();
+        List<KisWebSocketListener> listeners = new ArrayList<>();
+        Map<String, List<KisWebSocketListener>> bySymbol = new HashMap<>();
+
+        for (KisWebSocketListener listener : registered) {
+            Set<String> declared = listener.trIds();
+            if (!declared.isEmpty() && (trId == null || !declared.contains(trId))) {
+                continue;
+            }
+            subscribers.add(listener);
+
+            Set<String> symbols = listener.symbols();
+            if (symbols.isEmpty()) {
+                listeners.add(listener);
+            } else {
+                for (String symbol : symbols) {
+                    bySymbol.computeIfAbsent(symbol, k -> new ArrayList<>()).add(listener);
+                }
+            }
+        }
+
+        Map<String, KisWebSocketListener[]> symbolTable = new HashMap<>();
+        bySymbol.forEach((symbol, list) -> symbolTable.put(symbol, list.toArray(NONE)));
+        return new Route(subscribers.toArray(NONE), listeners.toArray(NONE), Map.copyOf(symbolTable));
+    }
+
+    private record Table(Map<String, Route> routes, Route fallback) {
+    }
+
+    /**
+     * TR ID 하나의 수신 대상
+     *
+     * @param subscribers 구독 응답을 받을 전체 리스너
+     * @param listeners   TR 의 모든 레코드를 받는 리스너
+     * @param bySymbol    종목(레코드 첫 필드) -> 해당 종목 레코드만 받는 리스너
+     */
+    record Route(KisWebSocketListener[] subscribers,
+                 KisWebSocketListener[] listeners,
+                 Map<String, KisWebSocketListener[]> bySymbol) {
+
+        static final Route EMPTY = new Route(NONE, NONE, Map.of());
+
+        boolean hasSymbolListeners() {
+            return !bySymbol.isEmpty();
+        }
+
+        KisWebSocketListener[] symbolListeners(String symbol) {
+            return bySymbol.getOrDefault(symbol, NONE);
+        }
+    }
+}
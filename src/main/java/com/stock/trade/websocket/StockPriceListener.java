@@ -1,38 +1,51 @@
 package com.stock.trade.websocket;
 
+import com.stock.trade.cache.QuoteCache;
+import com.stock.trade.domestic.DomesticStockPrice;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
+import java.util.Set;
+
 /**
  * 실시간 주식 체결가 리스너
  * TR ID: H0UNCNT0 (실시간 체결가 통합)
+ * 수신한 체결가는 QuoteCache 에도 반영 (DomesticStockService.getPrice 가 REST 대신 사용)
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class StockPriceListener implements KisWebSocketListener {
 
+    private final QuoteCache quoteCache;
+
+    @Override
+    public Set<String> trIds() {
+        return Set.of(KisTrId.STOCK_CCNL_TOTAL, KisTrId.STOCK_CCNL_KRX);
+    }
+
     @Override
     public void onSubscriptionResponse(String trId, String msgCode, String message) {
         log.info("[구독 응답] TR_ID: {}, 코드: {}, 메시지: {}", trId, msgCode, message);
     }
 
     @Override
-    public void onRealtimeData(String trId, String[] fields) {
-        // 실시간 체결가 데이터만 처리
-        if (!KisTrId.STOCK_CCNL_TOTAL.equals(trId) &&
-            !KisTrId.STOCK_CCNL_KRX.equals(trId)) {
+    public void onRealtimeFrame(RealtimeFrame frame) {
+        if (frame.fieldCount() < 15) {
+            log.warn("체결가 데이터 필드 부족: {}", frame.fieldCount());
             return;
         }
 
-        if (fields.length < 15) {
-            log.warn("체결가 데이터 필드 부족: {}", fields.length);
-            return;
-        }
-
-        StockPrice price = parseStockPrice(fields);
+        StockPrice price = parseStockPrice(frame);
         log.info("[실시간 체결] 종목: {}, 현재가: {}, 등락률: {}%, 거래량: {}",
                 price.stockCode(), price.currentPrice(), price.changeRate(), price.volume());
 
+        if (price.currentPrice() > 0) {
+            quoteCache.update(QuoteCache.domesticKey(price.stockCode()), DomesticStockPrice.class, price::toStockPrice);
+        }
+
         // TODO: 실제 비즈니스 로직 구현
         // - 가격 알림
         // - 데이터베이스 저장
@@ -44,39 +57,24 @@ public class StockPriceListener implements KisWebSocketListener {
         log.error("[체결가 리스너 오류]", error);
     }
 
-    private StockPrice parseStockPrice(String[] fields) {
+    // 숫자 필드는 프레임 원문에서 바로 파싱 (형식 오류는 0)
+    private StockPrice parseStockPrice(RealtimeFrame frame) {
         return new StockPrice(
-                fields[0],  // 종목코드
-                fields[1],  // 체결시간
-                parseLong(fields[2]),   // 현재가
-                fields[3],  // 전일대비부호
-                parseLong(fields[4]),   // 전일대비
-                parseDouble(fields[5]), // 전일대비율
-                parseLong(fields[7]),   // 시가
-                parseLong(fields[8]),   // 고가
-                parseLong(fields[9]),   // 저가
-                parseLong(fields[12]),  // 체결량
-                parseLong(fields[13]),  // 누적거래량
-                parseLong(fields[14])   // 누적거래대금
+                frame.field(0),            // 종목코드
+                frame.field(1),            // 체결시간
+                frame.longField(2),        // 현재가
+                frame.field(3),            // 전일대비부호
+                frame.longField(4),        // 전일대비
+                frame.doubleField(5),      // 전일대비율
+                frame.longField(7),        // 시가
+                frame.longField(8),        // 고가
+                frame.longField(9),        // 저가
+                frame.longField(12),       // 체결량
+                frame.longField(13),       // 누적거래량
+                frame.longField(14)        // 누적거래대금
         );
     }
 
-    private long parseLong(String value) {
-        try {
-            return Long.parseLong(value.trim());
-        } catch (NumberFormatException e) {
-            return 0L;
-        }
-    }
-
-    private double parseDouble(String value) {
-        try {
-            return Double.parseDouble(value.trim());
-        } catch (NumberFormatException e) {
-            return 0.0;
-        }
-    }
-
     /**
      * 실시간 체결가 데이터
      */
@@ -94,5 +92,31 @@ public class StockPriceListener implements KisWebSocketListener {
             long accumulatedVolume, // 누적거래량
             long accumulatedAmount  // 누적거래대금
     ) {
+        /**
+         * 현재가 조회 DTO 로 변환
+         * 실시간 체결에 없는 항목(PER, 52주 최고가 등)은 기존 REST 응답 값 유지
+         *
+         * @param base 기존 현재가 (없으면 null)
+         */
+        public DomesticStockPrice toStockPrice(DomesticStockPrice base) {
+            return new DomesticStockPrice(
+                    BigDecimal.valueOf(currentPrice),
+                    BigDecimal.valueOf(priceChange),
+                    changeSign,
+                    BigDecimal.valueOf(changeRate),
+                    accumulatedVolume,
+                    BigDecimal.valueOf(accumulatedAmount),
+                    BigDecimal.valueOf(openPrice),
+                    BigDecimal.valueOf(highPrice),
+                    BigDecimal.valueOf(lowPrice),
+                    base != null ? base.upperLimitPrice() : null,
+                    base != null ? base.lowerLimitPrice() : null,
+                    base != null ? base.per() : null,
+                    base != null ? base.pbr() : null,
+                    base != null ? base.marketCap() : null,
+                    base != null ? base.week52High() : null,
+                    base != null ? base.week52Low() : null
+            );
+        }
     }
 }
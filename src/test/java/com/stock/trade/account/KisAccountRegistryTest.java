@@ -0,0 +1,109 @@
+package com.stock.trade.account;
+
+import com.stock.trade.config.KisMode;
+import com.stock.trade.config.KisProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KisAccountRegistryTest {
+
+    private KisProperties kisProperties;
+    private KisAccountProperties accountProperties;
+
+    @BeforeEach
+    void setUp() {
+        kisProperties = new KisProperties();
+        kisProperties.setAppKey("real-key");
+        kisProperties.setAppSecret("real-secret");
+        kisProperties.setAccountNumber("11111111");
+        kisProperties.setAccountProductCode("01");
+        kisProperties.setDemoAppKey("demo-key");
+        kisProperties.setDemoAppSecret("demo-secret");
+        kisProperties.setDemoAccountNumber("50160641");
+        kisProperties.setDemoAccountProductCode("01");
+        accountProperties = new KisAccountProperties();
+    }
+
+    @Test
+    @DisplayName("기본 계좌 먼저, 이후 설정 순서로 매매 대상 계좌 등록 (비활성 계좌 제외)")
+    void tradingAccounts_defaultFirstThenConfigured() {
+        // given
+        kisProperties.setDemoMode(false);
+        accountProperties.getAccounts().add(config("isa", true));
+        accountProperties.getAccounts().add(config("pension", false));
+        accountProperties.getAccounts().getLast().setEnabled(false);
+
+        // when
+        KisAccountRegistry registry = new KisAccountRegistry(kisProperties, accountProperties);
+
+        // then
+        assertThat(registry.getTradingAccounts()).extracting(KisAccount::id).containsExactly("real", "isa");
+        assertThat(registry.getDefault().accountNumber()).isEqualTo("11111111");
+        assertThat(registry.getPrimary(KisMode.DEMO).appKey()).isEqualTo("demo-key");
+        assertThat(registry.get("isa").mode()).isEqualTo(KisMode.DEMO);
+        assertThat(registry.find("pension")).isEmpty();
+        assertThat(registry.isMultiAccount()).isTrue();
+    }
+
+    @Test
+    @DisplayName("요청 계좌 ID 가 비어 있으면 현재 모드의 기본 계좌, 모르는 ID 는 실패")
+    void resolve() {
+        // given
+        KisAccountRegistry registry = new KisAccountRegistry(kisProperties, accountProperties);
+
+        // when & then
+        assertThat(registry.resolve(null).id()).isEqualTo("demo");
+        assertThat(registry.resolve(" ").id()).isEqualTo("demo");
+        assertThat(registry.resolve("real").mode()).isEqualTo(KisMode.REAL);
+        assertThatThrownBy(() -> registry.resolve("unknown"))
+                .isInstanceOf(KisAccountRegistry.KisAccountException.class)
+                .hasMessageContaining("unknown");
+    }
+
+    @Test
+    @DisplayName("추가 계좌 ID 가 비어 있으면 시작 실패")
+    void rejectsBlankId() {
+        for (String id : Arrays.asList(null, "", " ")) {
+            // given
+            accountProperties.setAccounts(new ArrayList<>(Arrays.asList(config(id, false))));
+
+            // when & then
+            assertThatThrownBy(() -> new KisAccountRegistry(kisProperties, accountProperties))
+                    .isInstanceOf(KisAccountRegistry.KisAccountException.class)
+                    .hasMessageContaining("계좌 ID가 비어 있습니다");
+        }
+    }
+
+    @Test
+    @DisplayName("추가 계좌 ID 가 중복되거나 기본 계좌 ID(real/demo)와 같으면 시작 실패")
+    void rejectsDuplicateId() {
+        for (String duplicate : List.of("isa", "real", "demo")) {
+            // given
+            accountProperties.setAccounts(new ArrayList<>(List.of(config("isa", false), config(duplicate, false))));
+
+            // when & then
+            assertThatThrownBy(() -> new KisAccountRegistry(kisProperties, accountProperties))
+                    .isInstanceOf(KisAccountRegistry.KisAccountException.class)
+                    .hasMessageContaining("중복된 계좌 ID: " + duplicate);
+        }
+    }
+
+    private static KisAccountProperties.AccountConfig config(String id, boolean demoMode) {
+        KisAccountProperties.AccountConfig config = new KisAccountProperties.AccountConfig();
+        config.setId(id);
+        config.setDemoMode(demoMode);
+        config.setAppKey(id + "-key");
+        config.setAppSecret(id + "-secret");
+        config.setAccountNumber("22222222");
+        config.setAccountProductCode("01");
+        return config;
+    }
+}
@@ -0,0 +1,84 @@
+package com.stock.trade.api;
+
+import com.stock.trade.account.KisAccount;
+import com.stock.trade.account.KisAccountRegistry;
+import com.stock.trade.cache.AccountSnapshotCache;
+import com.stock.trade.config.KisMode;
+import com.stock.trade.domestic.DomesticOrderService;
+import com.stock.trade.domestic.DomesticStockService;
+import com.stock.trade.support.RecordingExchangeFunction;
+import com.stock.trade.token.KisTokenManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class DomesticStockControllerTest {
+
+    private static final KisAccount ACCOUNT =
+            new KisAccount("demo", KisMode.DEMO, "key", "secret", "50160641", "01", "hts");
+
+    private RecordingExchangeFunction kisServer;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        kisServer = new RecordingExchangeFunction(
+                "{\"rt_cd\":\"0\",\"msg_cd\":\"APBK0013\",\"msg1\":\"주문 전송 완료\","
+                        + "\"output\":{\"KRX_FWDG_ORD_ORGNO\":\"91252\",\"ODNO\":\"0000002\",\"ORD_TMD\":\"091500\"}}");
+
+        KisTokenManager tokenManager = mock(KisTokenManager.class);
+        when(tokenManager.getAuthorizationHeaderAsync(any(KisAccount.class))).thenReturn(Mono.just("Bearer token"));
+        KisAccountRegistry accountRegistry = mock(KisAccountRegistry.class);
+        when(accountRegistry.resolve(any())).thenReturn(ACCOUNT);
+
+        DomesticOrderService orderService = new DomesticOrderService(accountRegistry, tokenManager,
+                kisServer.webClient(), mock(AccountSnapshotCache.class));
+        mockMvc = MockMvcBuilders.standaloneSetup(
+                new DomesticStockController(mock(DomesticStockService.class), orderService, accountRegistry))
+                .build();
+    }
+
+    @Test
+    @DisplayName("POST /order/amend - 수량/주문구분 생략 시 잔량 전부 지정가 정정")
+    void amendOrder_defaultsToAllRemainingLimit() throws Exception {
+        // when
+        mockMvc.perform(post("/api/domestic/order/amend")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"orderNumber\":\"0000001\",\"price\":70500}"))
+                // then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ODNO").value("0000002"));
+
+        assertThat(kisServer.lastBody())
+                .containsEntry("RVSE_CNCL_DVSN_CD", "01")
+                .containsEntry("ORGN_ODNO", "0000001")
+                .containsEntry("ORD_DVSN", "00")
+                .containsEntry("ORD_QTY", "0")
+                .containsEntry("ORD_UNPR", "70500")
+                .containsEntry("QTY_ALL_ORD_YN", "Y");
+    }
+
+    @Test
+    @DisplayName("POST /order/amend - 단가 없는 지정가 정정은 KIS 요청 없이 실패")
+    void amendOrder_limitWithoutPrice() {
+        // when & then
+        assertThatThrownBy(() -> mockMvc.perform(post("/api/domestic/order/amend")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"orderNumber\":\"0000001\",\"quantity\":5,\"orderType\":\"LIMIT\"}")))
+                .hasRootCauseInstanceOf(DomesticOrderService.DomesticOrderException.class);
+        assertThat(kisServer.requests()).isEmpty();
+    }
+}
@@ -0,0 +1,100 @@
+package com.stock.trade.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccountSnapshotCacheTest {
+
+    private AccountSnapshotCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new AccountSnapshotCache(new AccountSnapshotCacheProperties(), new SimpleMeterRegistry());
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("TTL 이내 재조회는 스냅샷 재사용, 종목코드 색인 제공")
+    void get_reusesSnapshot() {
+        // when
+        AccountSnapshot<String> first = load();
+        AccountSnapshot<String> second = load();
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(second.find("AAPL")).isEqualTo("AAPL");
+        assertThat(second.find("TSLA")).isNull();
+    }
+
+    @Test
+    @DisplayName("주문/체결통보 무효화 후에는 새로 조회")
+    void invalidate_forcesReload() {
+        // given
+        load();
+
+        // when
+        cache.invalidate("주문");
+        AccountSnapshot<String> reloaded = load();
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(reloaded.version()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화되면 결과를 저장하지 않음")
+    void get_invalidatedDuringLoadNotStored() {
+        // when
+        cache.get("balance", () -> {
+            loads.incrementAndGet();
+            cache.invalidate("체결통보");
+            return List.of("AAPL");
+        }, Function.identity());
+        load();
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("비동기 조회도 동기 조회와 같은 스냅샷을 공유")
+    void getAsync_sharesSnapshotWithSyncGet() {
+        // given
+        AccountSnapshot<String> first = load();
+
+        // when
+        AccountSnapshot<String> cached = cache.<String>getAsync("balance", () -> {
+            loads.incrementAndGet();
+            return Mono.just(List.of("AAPL"));
+        }, Function.identity()).block();
+        cache.invalidate("주문");
+        AccountSnapshot<String> reloaded = cache.<String>getAsync("balance", () -> {
+            loads.incrementAndGet();
+            return Mono.just(List.of("TSLA"));
+        }, Function.identity()).block();
+
+        // then
+        assertThat(cached).isSameAs(first);
+        assertThat(reloaded.find("TSLA")).isEqualTo("TSLA");
+        assertThat(load()).isSameAs(reloaded);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    private AccountSnapshot<String> load() {
+        return cache.get("balance", () -> {
+            loads.incrementAndGet();
+            return List.of("AAPL", "NVDA");
+        }, Function.identity());
+    }
+}
@@ -0,0 +1,124 @@
+package com.stock.trade.cache;
+
+import com.stock.trade.config.KisMode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KisRequestCoalescerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private KisRequestCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new KisRequestCoalescer(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 동일 요청은 한 번만 호출하고 결과 공유")
+    void execute_concurrentIdenticalCallsShareResult() throws Exception {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() ->
+                coalescer.execute(KisMode.REAL, "HHDFS00000300", "NAS:AAPL", () -> {
+                    calls.incrementAndGet();
+                    started.countDown();
+                    await(release);
+                    return "price";
+                }));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        CompletableFuture<String> follower = CompletableFuture.supplyAsync(() ->
+                coalescer.execute(KisMode.REAL, "HHDFS00000300", "NAS:AAPL", () -> {
+                    calls.incrementAndGet();
+                    return "other";
+                }));
+        while (meterRegistry.counter("kis.request.coalesced", "tr_id", "HHDFS00000300").count() < 1) {
+            Thread.sleep(10);
+        }
+        release.countDown();
+
+        // then
+        assertThat(leader.get(1, TimeUnit.SECONDS)).isEqualTo("price");
+        assertThat(follower.get(1, TimeUnit.SECONDS)).isEqualTo("price");
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(coalescer.getInFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("모드나 파라미터가 다르면 별도 호출")
+    void execute_differentKeysNotCoalesced() {
+        // when
+        String real = coalescer.execute(KisMode.REAL, "TTTS3012R", "NASD:USD", () -> "real");
+        String demo = coalescer.execute(KisMode.DEMO, "TTTS3012R", "NASD:USD", () -> "demo");
+
+        // then
+        assertThat(real).isEqualTo("real");
+        assertThat(demo).isEqualTo("demo");
+        assertThat(meterRegistry.counter("kis.request.coalesced", "tr_id", "TTTS3012R").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("호출 실패 시 예외 전파 후 다음 요청은 새로 호출")
+    void execute_failureNotCached() {
+        // when & then
+        assertThatThrownBy(() -> coalescer.execute(KisMode.REAL, "TTTC2101R", "", () -> {
+            throw new IllegalStateException("실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(coalescer.execute(KisMode.REAL, "TTTC2101R", "", () -> "ok")).isEqualTo("ok");
+    }
+
+    @Test
+    @DisplayName("비동기 호출도 진행 중인 동일 요청을 공유하고, 한 구독자 취소가 다른 구독자에 영향 없음")
+    void executeAsync_sharesInFlightCall() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        Sinks.One<String> response = Sinks.one();
+
+        Mono<String> leader = coalescer.executeAsync(KisMode.REAL, "HHDFS00000300", "NAS:AAPL", () -> {
+            calls.incrementAndGet();
+            return response.asMono();
+        });
+        Mono<String> follower = coalescer.executeAsync(KisMode.REAL, "HHDFS00000300", "NAS:AAPL", () -> {
+            calls.incrementAndGet();
+            return Mono.just("other");
+        });
+
+        // when
+        CompletableFuture<String> leaderResult = leader.toFuture();
+        CompletableFuture<String> followerResult = follower.toFuture();
+        leaderResult.cancel(true);
+        response.tryEmitValue("price");
+
+        // then
+        assertThat(followerResult.join()).isEqualTo("price");
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(coalescer.getInFlightCount()).isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.stock.trade.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuoteCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private QuoteCacheProperties properties;
+    private QuoteCache quoteCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new QuoteCacheProperties();
+        properties.setMaxSize(2);
+        properties.setDefaultTtl(Duration.ofMinutes(1));
+        quoteCache = new QuoteCache(properties, meterRegistry);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("TTL 이내 재조회는 캐시 적중")
+    void get_hitWithinTtl() {
+        // when
+        String first = get("AAPL", null);
+        String second = get("AAPL", null);
+
+        // then
+        assertThat(first).isEqualTo("rest-1");
+        assertThat(second).isEqualTo("rest-1");
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(count("hit")).isEqualTo(1);
+        assertThat(count("miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("호출별 최대 허용 지연을 넘으면 REST 재조회")
+    void get_staleByMaxStaleness() {
+        // given
+        get("AAPL", null);
+
+        // when
+        String refreshed = get("AAPL", Duration.ZERO);
+
+        // then
+        assertThat(refreshed).isEqualTo("rest-2");
+        assertThat(count("stale")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실시간 체결로 갱신된 시세는 REST 없이 반환")
+    void update_tickServedWithoutRest() {
+        // when
+        quoteCache.update(QuoteCache.overseasKey("NAS", "AAPL"), String.class, previous -> "tick");
+
+        // then
+        assertThat(get("AAPL", null)).isEqualTo("tick");
+        assertThat(loads.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 종목이라도 거래소가 다르면 별도 시세")
+    void update_keyedByExchange() {
+        // given
+        quoteCache.update(QuoteCache.overseasKey("NAS", "AAPL"), String.class, previous -> "tick");
+
+        // when
+        String dayMarket = quoteCache.get(QuoteCache.overseasKey("BAQ", "AAPL"), QuoteMarket.US, String.class, null,
+                () -> "rest-" + loads.incrementAndGet());
+
+        // then
+        assertThat(dayMarket).isEqualTo("rest-1");
+        assertThat(get("AAPL", null)).isEqualTo("tick");
+    }
+
+    @Test
+    @DisplayName("최대 크기 초과 시 가장 오래 사용하지 않은 종목 제거")
+    void put_evictsLeastRecentlyUsed() {
+        // given
+        get("AAPL", null);
+        get("TSLA", null);
+        get("AAPL", null);
+
+        // when
+        get("NVDA", null);
+
+        // then
+        assertThat(quoteCache.size()).isEqualTo(2);
+        get("AAPL", null);
+        assertThat(loads.get()).isEqualTo(3);
+        get("TSLA", null);
+        assertThat(loads.get()).isEqualTo(4);
+    }
+
+    private String get(String symbol, Duration maxStaleness) {
+        return quoteCache.get(QuoteCache.overseasKey("NAS", symbol), QuoteMarket.US, String.class, maxStaleness,
+                () -> "rest-" + loads.incrementAndGet());
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter("quote.cache.requests", "market", "us", "result", result).count();
+    }
+}
@@ -0,0 +1,73 @@
+package com.stock.trade.config;
+
+import com.stock.trade.account.KisAccount;
+import com.stock.trade.ratelimit.KisRateLimitFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class WebClientConfigTest {
+
+    private static final KisAccount REAL =
+            new KisAccount("real", KisMode.REAL, "key", "secret", "11111111", "01", "hts");
+    private static final KisAccount DEMO =
+            new KisAccount("demo", KisMode.DEMO, "key", "secret", "50160641", "01", "hts");
+    private static final String PATH = "/uapi/overseas-price/v1/quotations/price?EXCD=NAS&SYMB=AAPL";
+
+    private KisProperties kisProperties;
+    private ExchangeFilterFunction accountRoutingFilter;
+
+    @BeforeEach
+    void setUp() {
+        kisProperties = new KisProperties();
+        kisProperties.setDemoMode(false);
+        accountRoutingFilter = new WebClientConfig(kisProperties, new KisHttpProperties(),
+                mock(KisRateLimitFilter.class)).accountRoutingFilter();
+    }
+
+    @Test
+    @DisplayName("기본 모드와 다른 모드의 계좌 요청은 해당 모드 서버로 주소만 바꿈")
+    void accountRoutingFilter_rewritesHostForOtherMode() {
+        // when
+        URI sent = exchange(request(DEMO));
+
+        // then
+        assertThat(sent).isEqualTo(URI.create("https://openapivts.koreainvestment.com:29443" + PATH));
+    }
+
+    @Test
+    @DisplayName("기본 모드 계좌나 계좌 없는 요청은 주소 그대로")
+    void accountRoutingFilter_keepsDefaultMode() {
+        // when & then
+        assertThat(exchange(request(REAL))).isEqualTo(URI.create(kisProperties.getBaseUrl() + PATH));
+        assertThat(exchange(ClientRequest.create(HttpMethod.GET, URI.create(kisProperties.getBaseUrl() + PATH)).build()))
+                .isEqualTo(URI.create(kisProperties.getBaseUrl() + PATH));
+    }
+
+    private ClientRequest request(KisAccount account) {
+        return ClientRequest.create(HttpMethod.GET, URI.create(kisProperties.getBaseUrl() + PATH))
+                .attribute(KisAccount.ATTRIBUTE, account)
+                .build();
+    }
+
+    private URI exchange(ClientRequest request) {
+        AtomicReference<URI> sent = new AtomicReference<>();
+        accountRoutingFilter.filter(request, filtered -> {
+            sent.set(filtered.url());
+            return Mono.just(ClientResponse.create(HttpStatus.OK).build());
+        }).block();
+        return sent.get();
+    }
+}
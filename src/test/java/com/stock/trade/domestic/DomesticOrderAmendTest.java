@@ -0,0 +1,102 @@
+package com.stock.trade.domestic;
+
+import com.stock.trade.account.KisAccount;
+import com.stock.trade.account.KisAccountRegistry;
+import com.stock.trade.cache.AccountSnapshotCache;
+import com.stock.trade.config.KisMode;
+import com.stock.trade.support.RecordingExchangeFunction;
+import com.stock.trade.token.KisTokenManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DomesticOrderAmendTest {
+
+    private static final KisAccount ACCOUNT =
+            new KisAccount("demo", KisMode.DEMO, "key", "secret", "50160641", "01", "hts");
+
+    private RecordingExchangeFunction kisServer;
+    private DomesticOrderService orderService;
+
+    @BeforeEach
+    void setUp() {
+        kisServer = new RecordingExchangeFunction(
+                "{\"rt_cd\":\"0\",\"msg_cd\":\"APBK0013\",\"msg1\":\"주문 전송 완료\","
+                        + "\"output\":{\"KRX_FWDG_ORD_ORGNO\":\"91252\",\"ODNO\":\"0000002\",\"ORD_TMD\":\"091500\"}}");
+
+        KisTokenManager tokenManager = mock(KisTokenManager.class);
+        when(tokenManager.getAuthorizationHeaderAsync(any(KisAccount.class))).thenReturn(Mono.just("Bearer token"));
+
+        orderService = new DomesticOrderService(mock(KisAccountRegistry.class), tokenManager,
+                kisServer.webClient(), mock(AccountSnapshotCache.class));
+    }
+
+    @Test
+    @DisplayName("일부 수량 지정가 정정은 ORD_QTY 와 QTY_ALL_ORD_YN=N 으로 보냄")
+    void amendOrderAsync_partialLimit() {
+        // when
+        DomesticOrderResult result = orderService.amendOrderAsync(ACCOUNT, "0000001", 3,
+                DomesticOrderType.LIMIT, new BigDecimal("70000")).block();
+
+        // then
+        assertThat(result.orderNumber()).isEqualTo("0000002");
+        assertThat(kisServer.lastRequest().url().getPath()).isEqualTo("/uapi/domestic-stock/v1/trading/order-rvsecncl");
+        assertThat(kisServer.lastRequest().headers().getFirst("tr_id")).isEqualTo("VTTC0803U");
+        assertThat(kisServer.lastBody())
+                .containsEntry("RVSE_CNCL_DVSN_CD", "01")
+                .containsEntry("ORGN_ODNO", "0000001")
+                .containsEntry("ORD_DVSN", "00")
+                .containsEntry("ORD_QTY", "3")
+                .containsEntry("ORD_UNPR", "70000")
+                .containsEntry("QTY_ALL_ORD_YN", "N");
+    }
+
+    @Test
+    @DisplayName("잔량 전부 시장가 정정은 ORD_QTY=0, QTY_ALL_ORD_YN=Y, 단가 0 으로 보냄")
+    void amendOrderAsync_allRemainingToMarket() {
+        // when
+        orderService.amendOrderAsync(ACCOUNT, "0000001", 0, DomesticOrderType.MARKET, null).block();
+
+        // then
+        assertThat(kisServer.lastBody())
+                .containsEntry("RVSE_CNCL_DVSN_CD", "01")
+                .containsEntry("ORD_DVSN", "01")
+                .containsEntry("ORD_QTY", "0")
+                .containsEntry("ORD_UNPR", "0")
+                .containsEntry("QTY_ALL_ORD_YN", "Y");
+    }
+
+    @Test
+    @DisplayName("단가 없는 지정가 정정은 요청 없이 실패")
+    void amendOrderAsync_limitWithoutPrice() {
+        // when & then
+        assertThatThrownBy(() -> orderService.amendOrderAsync(ACCOUNT, "0000001", 0,
+                DomesticOrderType.LIMIT, null).block())
+                .isInstanceOf(DomesticOrderService.DomesticOrderException.class)
+                .hasMessageContaining("지정가 정정은 단가가 필요합니다");
+        assertThat(kisServer.requests()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("원주문번호가 없으면 요청 없이 실패")
+    void amendOrderAsync_rejectsBlankOrderNumber() {
+        for (String orderNumber : Arrays.asList(null, "", " ")) {
+            // when & then
+            assertThatThrownBy(() -> orderService.amendOrderAsync(ACCOUNT, orderNumber, 0,
+                    DomesticOrderType.MARKET, null).block())
+                    .isInstanceOf(DomesticOrderService.DomesticOrderException.class)
+                    .hasMessageContaining("원주문번호");
+        }
+        assertThat(kisServer.requests()).isEmpty();
+    }
+}
@@ -0,0 +1,38 @@
+package com.stock.trade.notification;
+
+import com.stock.trade.notification.SlackMessageQueue.QueuedMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlackMessageQueueTest {
+
+    @Test
+    @DisplayName("최대 길이보다 긴 알림은 줄 단위로 나눔")
+    void split_byLine() {
+        // when
+        List<QueuedMessage> chunks = SlackMessageQueue.split(List.of(new QueuedMessage("aaaa\nbbbb\ncc", 1L)), 5);
+
+        // then
+        assertThat(chunks).extracting(QueuedMessage::text).containsExactly("aaaa", "bbbb", "cc");
+        assertThat(chunks).extracting(QueuedMessage::enqueuedNanos).containsOnly(1L);
+    }
+
+    @Test
+    @DisplayName("줄 하나가 최대 길이보다 길면 길이로 자르고, 짧은 알림은 그대로 둠")
+    void split_longLine() {
+        // given
+        QueuedMessage shortMessage = new QueuedMessage("ok", 2L);
+
+        // when
+        List<QueuedMessage> chunks = SlackMessageQueue.split(
+                List.of(new QueuedMessage("abcdefghij", 1L), shortMessage), 4);
+
+        // then
+        assertThat(chunks).extracting(QueuedMessage::text).containsExactly("abcd", "efgh", "ij", "ok");
+        assertThat(chunks.get(3)).isSameAs(shortMessage);
+    }
+}
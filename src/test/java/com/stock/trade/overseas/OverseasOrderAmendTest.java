@@ -0,0 +1,106 @@
+package com.stock.trade.overseas;
+
+import com.stock.trade.account.KisAccount;
+import com.stock.trade.account.KisAccountRegistry;
+import com.stock.trade.cache.AccountSnapshotCache;
+import com.stock.trade.config.KisMode;
+import com.stock.trade.support.RecordingExchangeFunction;
+import com.stock.trade.token.KisTokenManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OverseasOrderAmendTest {
+
+    private static final KisAccount ACCOUNT =
+            new KisAccount("demo", KisMode.DEMO, "key", "secret", "50160641", "01", "hts");
+
+    private RecordingExchangeFunction kisServer;
+    private OverseasOrderService orderService;
+
+    @BeforeEach
+    void setUp() {
+        kisServer = new RecordingExchangeFunction(
+                "{\"rt_cd\":\"0\",\"msg_cd\":\"APBK0013\",\"msg1\":\"주문 전송 완료\","
+                        + "\"output\":{\"KRX_FWDG_ORD_ORGNO\":\"01790\",\"ODNO\":\"0000002\",\"ORD_TMD\":\"231500\"}}");
+
+        KisTokenManager tokenManager = mock(KisTokenManager.class);
+        when(tokenManager.getAuthorizationHeaderAsync(any(KisAccount.class))).thenReturn(Mono.just("Bearer token"));
+
+        orderService = new OverseasOrderService(mock(KisAccountRegistry.class), tokenManager,
+                kisServer.webClient(), mock(AccountSnapshotCache.class));
+    }
+
+    @Test
+    @DisplayName("정정 요청은 정정취소 API 로 RVSE_CNCL_DVSN_CD=01, 수량, 단가를 보냄")
+    void amendOrderAsync_sendsAmendBody() {
+        // when
+        OverseasOrderResult result = orderService.amendOrderAsync(ACCOUNT, OverseasExchange.NASDAQ, "AAPL",
+                "0000001", 5, new BigDecimal("101.50")).block();
+
+        // then
+        assertThat(result.orderNumber()).isEqualTo("0000002");
+        assertThat(kisServer.lastRequest().url().getPath()).isEqualTo("/uapi/overseas-stock/v1/trading/order-rvsecncl");
+        assertThat(kisServer.lastRequest().headers().getFirst("tr_id")).isEqualTo("VTTT1004U");
+
+        Map<String, String> body = kisServer.lastBody();
+        assertThat(body).containsEntry("RVSE_CNCL_DVSN_CD", "01")
+                .containsEntry("ORGN_ODNO", "0000001")
+                .containsEntry("OVRS_EXCG_CD", "NASD")
+                .containsEntry("PDNO", "AAPL")
+                .containsEntry("ORD_QTY", "5")
+                .containsEntry("OVRS_ORD_UNPR", "101.50")
+                .containsEntry("CANO", "50160641")
+                .containsEntry("ACNT_PRDT_CD", "01");
+    }
+
+    @Test
+    @DisplayName("상해/심천은 정정을 지원하지 않아 요청 없이 실패")
+    void amendOrderAsync_rejectsUnsupportedExchange() {
+        for (OverseasExchange exchange : List.of(OverseasExchange.SHANGHAI, OverseasExchange.SHENZHEN)) {
+            // when & then
+            assertThat(orderService.supportsAmend(exchange)).isFalse();
+            assertThatThrownBy(() -> orderService.amendOrderAsync(ACCOUNT, exchange, "600519",
+                    "0000001", 100, new BigDecimal("10.00")).block())
+                    .isInstanceOf(OverseasOrderService.OverseasOrderException.class)
+                    .hasMessageContaining("정정 주문을 지원하지 않습니다");
+        }
+        assertThat(kisServer.requests()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("원주문번호가 없으면 요청 없이 실패")
+    void amendOrderAsync_rejectsBlankOrderNumber() {
+        for (String orderNumber : Arrays.asList(null, "", " ")) {
+            // when & then
+            assertThatThrownBy(() -> orderService.amendOrderAsync(ACCOUNT, OverseasExchange.NASDAQ, "AAPL",
+                    orderNumber, 5, new BigDecimal("101.50")).block())
+                    .isInstanceOf(OverseasOrderService.OverseasOrderException.class)
+                    .hasMessageContaining("원주문번호");
+        }
+        assertThat(kisServer.requests()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("정정단가가 0 이하면 요청 없이 실패")
+    void amendOrderAsync_rejectsNonPositivePrice() {
+        // when & then
+        assertThatThrownBy(() -> orderService.amendOrderAsync(ACCOUNT, OverseasExchange.NASDAQ, "AAPL",
+                "0000001", 5, BigDecimal.ZERO).block())
+                .isInstanceOf(OverseasOrderService.OverseasOrderException.class)
+                .hasMessageContaining("정정단가");
+        assertThat(kisServer.requests()).isEmpty();
+    }
+}
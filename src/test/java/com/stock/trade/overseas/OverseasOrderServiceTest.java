@@ -1,5 +1,8 @@
 package com.stock.trade.overseas;
 
+import com.stock.trade.account.KisAccount;
+import com.stock.trade.account.KisAccountRegistry;
+import com.stock.trade.config.KisMode;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,11 +17,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 @Slf4j
 @SpringBootTest(
         properties = {
-                "external.kis.app-key=PS5XcF36fhCCfcKiAKgiW36TQ13khqQbH46E",
-                "external.kis.app-secret=/09BAcePrZyaA/PfQk+1bepz5VVraE512c2c7Srce+p8Xn1ipKSBDTTTqfsXgXS2TY3sMyFrEfLwvrISgEsNb3NPDU/Rv++smhTresoyQuLJmPzNT1+zTBA9Bp7pR3gk6oN1e6iczlmXe2TWYP1imjJabT/5/Q/GHhrfTk4U6xpyS2INh2g=",
-                "external.kis.base-url=https://openapivts.koreainvestment.com:29443",  // 모의투자 서버
-                "external.kis.account-number=50160641",
-                "external.kis.account-product-code=01"
+                "external.kis.demo-app-key=PS5XcF36fhCCfcKiAKgiW36TQ13khqQbH46E",
+                "external.kis.demo-app-secret=/09BAcePrZyaA/PfQk+1bepz5VVraE512c2c7Srce+p8Xn1ipKSBDTTTqfsXgXS2TY3sMyFrEfLwvrISgEsNb3NPDU/Rv++smhTresoyQuLJmPzNT1+zTBA9Bp7pR3gk6oN1e6iczlmXe2TWYP1imjJabT/5/Q/GHhrfTk4U6xpyS2INh2g=",
+                "external.kis.demo-account-number=50160641",
+                "external.kis.demo-account-product-code=01"
         }
 )
 class OverseasOrderServiceTest {
@@ -29,10 +31,15 @@ class OverseasOrderServiceTest {
     @Autowired
     private OverseasStockService stockService;
 
+    @Autowired
+    private KisAccountRegistry accountRegistry;
+
+    private KisAccount account;
+
     @BeforeEach
     void setUp() {
-        // 모의투자 모드 설정
-        orderService.setDemoMode(true);
+        // 모의투자 기본 계좌
+        account = accountRegistry.getPrimary(KisMode.DEMO);
     }
 
     @Test
@@ -55,7 +62,7 @@ class OverseasOrderServiceTest {
         log.info("주문유형: {}", request.getOrderType().getDescription());
 
         // when
-        OverseasOrderResult result = orderService.buy(request);
+        OverseasOrderResult result = orderService.buyAsync(account, request).block();
 
         // then
         assertThat(result).isNotNull();
@@ -73,12 +80,13 @@ class OverseasOrderServiceTest {
         log.info("===== AAPL 매수 주문 (간편 버전) =====");
 
         // when
-        OverseasOrderResult result = orderService.buy(
-                OverseasExchange.NASDAQ,
-                "AAPL",
-                1,
-                new BigDecimal("145.00")
-        );
+        OverseasOrderResult result = orderService.buyAsync(account, OverseasOrderRequest.builder()
+                .exchange(OverseasExchange.NASDAQ)
+                .symbol("AAPL")
+                .quantity(1)
+                .price(new BigDecimal("145.00"))
+                .orderType(OverseasOrderType.LIMIT)
+                .build()).block();
 
         // then
         assertThat(result).isNotNull();
@@ -92,12 +100,13 @@ class OverseasOrderServiceTest {
         log.info("===== TSLA 매수 주문 테스트 =====");
 
         // when
-        OverseasOrderResult result = orderService.buy(
-                OverseasExchange.NASDAQ,
-                "TSLA",
-                1,
-                new BigDecimal("250.00")
-        );
+        OverseasOrderResult result = orderService.buyAsync(account, OverseasOrderRequest.builder()
+                .exchange(OverseasExchange.NASDAQ)
+                .symbol("TSLA")
+                .quantity(1)
+                .price(new BigDecimal("250.00"))
+                .orderType(OverseasOrderType.LIMIT)
+                .build()).block();
 
         // then
         assertThat(result).isNotNull();
@@ -111,7 +120,7 @@ class OverseasOrderServiceTest {
         log.info("===== 현재가 조회 후 매수 주문 =====");
 
         // 1. 현재가 조회
-        OverseasStockPrice price = stockService.getPrice(OverseasExchange.NASDAQ, "NVDA");
+        OverseasStockPrice price = stockService.getPriceAsync(account, OverseasExchange.NASDAQ.getCode(), "NVDA", null).block();
         log.info("NVDA 현재가: ${}", price.currentPrice());
 
         // 2. 현재가 기준 -5% 가격으로 지정가 매수
@@ -121,12 +130,13 @@ class OverseasOrderServiceTest {
         log.info("주문가격 (현재가 -5%): ${}", orderPrice);
 
         // 3. 매수 주문
-        OverseasOrderResult result = orderService.buy(
-                OverseasExchange.NASDAQ,
-                "NVDA",
-                1,
-                orderPrice
-        );
+        OverseasOrderResult result = orderService.buyAsync(account, OverseasOrderRequest.builder()
+                .exchange(OverseasExchange.NASDAQ)
+                .symbol("NVDA")
+                .quantity(1)
+                .price(orderPrice)
+                .orderType(OverseasOrderType.LIMIT)
+                .build()).block();
 
         // then
         assertThat(result).isNotNull();
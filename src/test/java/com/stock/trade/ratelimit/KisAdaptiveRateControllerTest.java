@@ -0,0 +1,131 @@
+package com.stock.trade.ratelimit;
+
+import com.stock.trade.config.KisMode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.within;
+
+class KisAdaptiveRateControllerTest {
+
+    private KisRateLimiter rateLimiter;
+    private KisAdaptiveRateController controller;
+
+    @BeforeEach
+    void setUp() {
+        KisRateLimitProperties properties = new KisRateLimitProperties();
+        properties.setReal(new KisRateLimitProperties.Budget(10, 10, 0, 2, 12));
+        properties.getAdaptive().setAdditiveIncrease(0.5);
+        properties.getAdaptive().setMultiplicativeDecrease(0.5);
+        properties.getAdaptive().setDecreaseCooldown(Duration.ofMinutes(1));
+        properties.getAdaptive().setServerErrorBurst(2);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        rateLimiter = new KisRateLimiter(properties, meterRegistry);
+        controller = new KisAdaptiveRateController(properties, rateLimiter, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        rateLimiter.destroy();
+    }
+
+    @Test
+    @DisplayName("성공 응답마다 가산 증가, 상한에서 멈춤")
+    void onSuccess_additiveIncreaseUntilMax() {
+        // when
+        controller.onSuccess(KisMode.REAL);
+        controller.onSuccess(KisMode.REAL);
+
+        // then
+        assertThat(rateLimiter.getPermitsPerSecond(KisMode.REAL)).isCloseTo(11.0, within(0.001));
+
+        for (int i = 0; i < 10; i++) {
+            controller.onSuccess(KisMode.REAL);
+        }
+        assertThat(rateLimiter.getPermitsPerSecond(KisMode.REAL)).isCloseTo(12.0, within(0.001));
+    }
+
+    @Test
+    @DisplayName("유량 제한 시 승산 감소, 쿨다운 동안 재감소 없음")
+    void onThrottled_multiplicativeDecreaseWithCooldown() {
+        // when
+        controller.onThrottled(KisMode.REAL, "EGW00201");
+        controller.onThrottled(KisMode.REAL, "EGW00201");
+
+        // then
+        assertThat(rateLimiter.getPermitsPerSecond(KisMode.REAL)).isCloseTo(5.0, within(0.001));
+        assertThat(rateLimiter.getPermitsPerSecond(KisMode.DEMO)).isCloseTo(2.0, within(0.001));
+    }
+
+    @Test
+    @DisplayName("연속 5xx 는 임계치 도달 시에만 감소")
+    void onServerError_decreaseOnlyOnBurst() {
+        // when & then
+        controller.onServerError(KisMode.REAL, 500);
+        assertThat(rateLimiter.getPermitsPerSecond(KisMode.REAL)).isCloseTo(10.0, within(0.001));
+
+        controller.onServerError(KisMode.REAL, 500);
+        assertThat(rateLimiter.getPermitsPerSecond(KisMode.REAL)).isCloseTo(5.0, within(0.001));
+    }
+
+    @Test
+    @DisplayName("동시 성공 응답이 있어도 유량 제한 감소가 덮어써지지 않음")
+    void onThrottled_notOverwrittenByConcurrentSuccess() throws Exception {
+        // given
+        KisRateLimitProperties properties = new KisRateLimitProperties();
+        properties.setReal(new KisRateLimitProperties.Budget(10, 10, 0, 2, 100));
+        properties.getAdaptive().setAdditiveIncrease(0.001);
+        properties.getAdaptive().setMultiplicativeDecrease(0.5);
+        properties.getAdaptive().setDecreaseCooldown(Duration.ofMinutes(1));
+        KisRateLimiter limiter = new KisRateLimiter(properties, new SimpleMeterRegistry());
+        KisAdaptiveRateController concurrent =
+                new KisAdaptiveRateController(properties, limiter, new SimpleMeterRegistry());
+
+        int threads = 8;
+        int successesPerThread = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < successesPerThread; i++) {
+                    concurrent.onSuccess(KisMode.REAL);
+                }
+                return null;
+            }));
+        }
+        futures.add(executor.submit(() -> {
+            start.await();
+            concurrent.onThrottled(KisMode.REAL, "EGW00201");
+            return null;
+        }));
+        start.countDown();
+        for (Future<?> future : futures) {
+            assertThatCode(() -> future.get(10, TimeUnit.SECONDS)).doesNotThrowAnyException();
+        }
+        executor.shutdown();
+
+        // then - 감소가 어느 시점에 반영돼도 10 * 0.5 + 전체 증가분(4.0) 이하
+        double increases = threads * successesPerThread * 0.001;
+        assertThat(limiter.getPermitsPerSecond(KisMode.REAL)).isLessThanOrEqualTo(5.0 + increases + 0.001);
+        limiter.destroy();
+    }
+}
@@ -0,0 +1,149 @@
+package com.stock.trade.ratelimit;
+
+import com.stock.trade.config.KisMode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Slf4j
+class KisRateLimiterTest {
+
+    private KisRateLimitProperties properties;
+    private KisRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new KisRateLimitProperties();
+        properties.setDemo(new KisRateLimitProperties.Budget(2, 2));
+        properties.setMaxQueueSize(2);
+        properties.setMaxWait(Duration.ofSeconds(5));
+        rateLimiter = new KisRateLimiter(properties, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        rateLimiter.destroy();
+    }
+
+    @Test
+    @DisplayName("버킷 용량 이내 요청은 즉시 허가")
+    void acquire_withinBurst() {
+        // when & then
+        rateLimiter.acquire(KisMode.DEMO, "VTTS3012R").block(Duration.ofMillis(100));
+        rateLimiter.acquire(KisMode.DEMO, "VTTS3012R").block(Duration.ofMillis(100));
+
+        assertThat(rateLimiter.getQueueDepth(KisMode.DEMO)).isZero();
+    }
+
+    @Test
+    @DisplayName("토큰 소진 시 대기열에서 순서대로 허가")
+    void acquire_queuedUntilRefill() {
+        // given - 버킷 소진
+        rateLimiter.acquire(KisMode.DEMO, null).block();
+        rateLimiter.acquire(KisMode.DEMO, null).block();
+
+        // when
+        long start = System.nanoTime();
+        CompletableFuture<Void> first = rateLimiter.acquire(KisMode.DEMO, null).toFuture();
+        CompletableFuture<Void> second = rateLimiter.acquire(KisMode.DEMO, null).toFuture();
+
+        // then
+        assertThat(rateLimiter.getQueueDepth(KisMode.DEMO)).isEqualTo(2);
+        first.join();
+        second.join();
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+        log.info("대기 후 허가까지 {}ms", elapsedMillis);
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(800);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 즉시 실패")
+    void acquire_queueFull() {
+        // given - 버킷 소진 + 대기열 가득
+        rateLimiter.acquire(KisMode.DEMO, null).block();
+        rateLimiter.acquire(KisMode.DEMO, null).block();
+        rateLimiter.acquire(KisMode.DEMO, null).subscribe();
+        rateLimiter.acquire(KisMode.DEMO, null).subscribe();
+
+        // when & then
+        assertThatThrownBy(() -> rateLimiter.acquire(KisMode.DEMO, null).block())
+                .isInstanceOf(KisRateLimiter.KisRateLimitException.class);
+    }
+
+    @Test
+    @DisplayName("실전/모의 예산은 서로 독립")
+    void acquire_modesAreIndependent() {
+        // given - 모의투자 버킷 소진
+        rateLimiter.acquire(KisMode.DEMO, null).block();
+        rateLimiter.acquire(KisMode.DEMO, null).block();
+
+        // when & then - 실전투자는 즉시 허가
+        rateLimiter.acquire(KisMode.REAL, null).block(Duration.ofMillis(100));
+        assertThat(rateLimiter.getQueueDepth(KisMode.REAL)).isZero();
+    }
+
+    @Test
+    @DisplayName("토큰 소진 시 주문 요청이 먼저 대기 중인 시세 조회보다 먼저 허가")
+    void acquire_orderOvertakesQuote() {
+        // given - 버킷 소진 후 시세 조회가 먼저 대기
+        rateLimiter.acquire(KisMode.DEMO, null).block();
+        rateLimiter.acquire(KisMode.DEMO, null).block();
+        CompletableFuture<Void> quote = rateLimiter.acquire(KisMode.DEMO, "HHDFS00000300").toFuture();
+
+        // when
+        CompletableFuture<Void> order = rateLimiter.acquire(KisMode.DEMO, "VTTT1002U").toFuture();
+
+        // then
+        assertThat(rateLimiter.getQueueDepth(KisMode.DEMO, KisRequestPriority.QUOTE)).isEqualTo(1);
+        order.join();
+        assertThat(quote).isNotDone();
+        quote.join();
+    }
+
+    @Test
+    @DisplayName("시세 조회 대기열은 우선순위별 설정에 따라 폐기")
+    void acquire_quoteLaneShed() {
+        // given
+        KisRateLimitProperties.Lane quoteLane = new KisRateLimitProperties.Lane();
+        quoteLane.setMaxQueueSize(0);
+        properties.getLanes().put(KisRequestPriority.QUOTE, quoteLane);
+        rateLimiter.acquire(KisMode.DEMO, null).block();
+        rateLimiter.acquire(KisMode.DEMO, null).block();
+
+        // when & then - 시세 조회는 즉시 거절, 주문은 대기 후 허가
+        assertThatThrownBy(() -> rateLimiter.acquire(KisMode.DEMO, "HHDFS00000300").block())
+                .isInstanceOf(KisRateLimiter.KisRateLimitException.class);
+        rateLimiter.acquire(KisMode.DEMO, "VTTT1002U").block(Duration.ofSeconds(2));
+    }
+
+    @Test
+    @DisplayName("TR ID 형태로 우선순위 분류")
+    void priority_classifiedByTrId() {
+        assertThat(properties.getPriority("TTTT1002U")).isEqualTo(KisRequestPriority.ORDER);
+        assertThat(properties.getPriority("VTTS3012R")).isEqualTo(KisRequestPriority.ACCOUNT);
+        assertThat(properties.getPriority("HHDFS00000300")).isEqualTo(KisRequestPriority.QUOTE);
+        assertThat(properties.getPriority(null)).isEqualTo(KisRequestPriority.ORDER);
+    }
+
+    @Test
+    @DisplayName("모의투자 TR ID는 실전 TR ID 가중치를 따름")
+    void weight_demoTrIdFallsBackToRealTrId() {
+        // given
+        properties.getTrIdWeights().put("TTTS3012R", 3);
+
+        // when & then
+        assertThat(properties.getWeight("TTTS3012R")).isEqualTo(3);
+        assertThat(properties.getWeight("VTTS3012R")).isEqualTo(3);
+        assertThat(properties.getWeight("HHDFS00000300")).isEqualTo(1);
+        assertThat(properties.getWeight(null)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,166 @@
+package com.stock.trade.scheduler;
+
+import com.stock.trade.account.KisAccount;
+import com.stock.trade.account.KisAccountRegistry;
+import com.stock.trade.config.KisMode;
+import com.stock.trade.notification.SlackNotificationService;
+import com.stock.trade.overseas.OverseasExchange;
+import com.stock.trade.overseas.OverseasOrderRequest;
+import com.stock.trade.overseas.OverseasOrderResult;
+import com.stock.trade.overseas.OverseasOrderService;
+import com.stock.trade.overseas.OverseasOrderType;
+import com.stock.trade.overseas.OverseasUnfilledOrder;
+import com.stock.trade.scheduler.MarketFallbackScheduler.MarketFallbackResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MarketFallbackSchedulerTest {
+
+    private static final KisAccount ACCOUNT =
+            new KisAccount("demo", KisMode.DEMO, "key", "secret", "50160641", "01", "hts");
+    private static final KisAccount EXTRA =
+            new KisAccount("extra", KisMode.DEMO, "key2", "secret2", "50160642", "01", "hts");
+
+    private ScheduledPurchaseProperties properties;
+    private KisAccountRegistry accountRegistry;
+    private OverseasOrderService orderService;
+    private SlackNotificationService slackNotificationService;
+    private MarketFallbackScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ScheduledPurchaseProperties();
+        properties.setEnabled(true);
+        properties.setStocks(List.of(stock("NASDAQ", "QLD"), stock("NASDAQ", "TQQQ"), stock("AMEX", "SPY")));
+
+        accountRegistry = mock(KisAccountRegistry.class);
+        when(accountRegistry.getDefault()).thenReturn(ACCOUNT);
+        when(accountRegistry.getTradingAccounts()).thenReturn(List.of(ACCOUNT));
+
+        orderService = mock(OverseasOrderService.class);
+        when(orderService.cancelOrderAsync(any(KisAccount.class), any(OverseasUnfilledOrder.class)))
+                .thenAnswer(invocation -> Mono.just(new OverseasOrderResult("",
+                        invocation.<OverseasUnfilledOrder>getArgument(1).orderNumber(), "")));
+        when(orderService.buyAsync(any(KisAccount.class), any(OverseasOrderRequest.class)))
+                .thenReturn(Mono.just(new OverseasOrderResult("", "9000", "")));
+
+        slackNotificationService = mock(SlackNotificationService.class);
+        scheduler = new MarketFallbackScheduler(properties, accountRegistry, orderService, slackNotificationService);
+    }
+
+    @Test
+    @DisplayName("계좌/거래소당 미체결 1회 조회 후 대상 매수 주문을 모두 시장가로 전환")
+    void executeManually_convertsEveryEligibleBuy() {
+        // given
+        when(orderService.getUnfilledOrdersAsync(ACCOUNT, OverseasExchange.NASDAQ)).thenReturn(Mono.just(List.of(
+                unfilled("0001", "QLD", "02", 5),
+                unfilled("0002", "QLD", "02", 3),
+                unfilled("0003", "TQQQ", "02", 2),
+                unfilled("0004", "QLD", "01", 1),
+                unfilled("0005", "TQQQ", "02", 0),
+                unfilled("0006", "NVDA", "02", 1))));
+        when(orderService.getUnfilledOrdersAsync(ACCOUNT, OverseasExchange.AMEX)).thenReturn(Mono.just(List.of()));
+
+        // when
+        List<MarketFallbackResult> results = scheduler.executeManually();
+
+        // then
+        verify(orderService, times(1)).getUnfilledOrdersAsync(ACCOUNT, OverseasExchange.NASDAQ);
+        verify(orderService, times(1)).getUnfilledOrdersAsync(ACCOUNT, OverseasExchange.AMEX);
+        assertThat(results).extracting(MarketFallbackResult::cancelledOrderNumber)
+                .containsExactly("0001", "0002", "0003");
+        assertThat(results).allMatch(MarketFallbackResult::success);
+
+        ArgumentCaptor<OverseasOrderRequest> requests = ArgumentCaptor.forClass(OverseasOrderRequest.class);
+        verify(orderService, times(3)).buyAsync(eq(ACCOUNT), requests.capture());
+        assertThat(requests.getAllValues()).extracting(OverseasOrderRequest::getOrderType)
+                .containsOnly(OverseasOrderType.MARKET_ON_CLOSE);
+        assertThat(requests.getAllValues()).extracting(OverseasOrderRequest::getQuantity)
+                .containsExactly(5, 3, 2);
+    }
+
+    @Test
+    @DisplayName("거래소 미체결 조회 실패 시 해당 거래소 종목마다 실패 결과")
+    void executeManually_lookupFailureFailsEverySymbol() {
+        // given
+        when(orderService.getUnfilledOrdersAsync(ACCOUNT, OverseasExchange.NASDAQ))
+                .thenReturn(Mono.error(new IllegalStateException("조회 실패")));
+        when(orderService.getUnfilledOrdersAsync(ACCOUNT, OverseasExchange.AMEX)).thenReturn(Mono.just(List.of()));
+
+        // when
+        List<MarketFallbackResult> results = scheduler.executeManually();
+
+        // then
+        assertThat(results).extracting(MarketFallbackResult::symbol).containsExactly("QLD", "TQQQ");
+        assertThat(results).noneMatch(MarketFallbackResult::success);
+        assertThat(results).extracting(MarketFallbackResult::errorMessage).containsOnly("조회 실패");
+        verify(orderService, never()).cancelOrderAsync(any(KisAccount.class), any(OverseasUnfilledOrder.class));
+    }
+
+    @Test
+    @DisplayName("실시간 미체결 모니터 활성화 시 기본 계좌만 제외하고 추가 계좌는 일일 점검")
+    void execute_sweepsAccountsNotMonitored() {
+        // given
+        properties.getMonitor().setEnabled(true);
+        ScheduledPurchaseProperties.AccountPurchaseConfig extraConfig =
+                new ScheduledPurchaseProperties.AccountPurchaseConfig();
+        extraConfig.setStocks(List.of(stock("NASDAQ", "QLD")));
+        properties.setAccounts(Map.of(EXTRA.id(), extraConfig));
+        when(accountRegistry.getTradingAccounts()).thenReturn(List.of(ACCOUNT, EXTRA));
+        when(orderService.getUnfilledOrdersAsync(EXTRA, OverseasExchange.NASDAQ))
+                .thenReturn(Mono.just(List.of(unfilled("0001", "QLD", "02", 5))));
+
+        // when
+        scheduler.execute();
+
+        // then
+        verify(orderService, never()).getUnfilledOrdersAsync(eq(ACCOUNT), any(OverseasExchange.class));
+        verify(orderService).getUnfilledOrdersAsync(EXTRA, OverseasExchange.NASDAQ);
+        verify(orderService).buyAsync(eq(EXTRA), any(OverseasOrderRequest.class));
+        verify(slackNotificationService).notifyMarketFallbackResult(anyList());
+    }
+
+    @Test
+    @DisplayName("실시간 미체결 모니터가 모든 매매 계좌를 감시하면 일일 점검 생략")
+    void execute_skipsWhenMonitorCoversAllAccounts() {
+        // given
+        properties.getMonitor().setEnabled(true);
+
+        // when
+        scheduler.execute();
+
+        // then
+        verify(orderService, never()).getUnfilledOrdersAsync(any(KisAccount.class), any(OverseasExchange.class));
+        verify(slackNotificationService, never()).notifyMarketFallbackResult(anyList());
+    }
+
+    private static ScheduledPurchaseProperties.StockPurchaseConfig stock(String exchange, String symbol) {
+        ScheduledPurchaseProperties.StockPurchaseConfig config = new ScheduledPurchaseProperties.StockPurchaseConfig();
+        config.setExchange(exchange);
+        config.setSymbol(symbol);
+        return config;
+    }
+
+    private static OverseasUnfilledOrder unfilled(String orderNumber, String symbol, String sellBuyCode,
+                                                  long unfilledQuantity) {
+        return new OverseasUnfilledOrder(orderNumber, "", symbol, symbol, sellBuyCode, unfilledQuantity, 0L,
+                unfilledQuantity, new BigDecimal("100.00"), "NASD", "20261016", "230000");
+    }
+}
@@ -0,0 +1,76 @@
+package com.stock.trade.scheduler;
+
+import com.stock.trade.account.KisAccount;
+import com.stock.trade.config.KisMode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PurchaseCashLedgerTest {
+
+    private static final KisAccount ACCOUNT =
+            new KisAccount("demo", KisMode.DEMO, "key", "secret", "50160641", "01", null);
+
+    private PurchaseCashLedger ledger;
+
+    @BeforeEach
+    void setUp() {
+        ledger = new PurchaseCashLedger(new ScheduledPurchaseProperties());
+    }
+
+    @Test
+    @DisplayName("같은 계좌의 종목들은 한 번 조회한 잔액을 나눠 사용")
+    void reserve_sharesAvailableCash() {
+        // given
+        ledger.open(ACCOUNT, new BigDecimal("300"));
+
+        // when
+        int first = ledger.reserve(ACCOUNT, new BigDecimal("200"), new BigDecimal("90"));
+        int second = ledger.reserve(ACCOUNT, new BigDecimal("200"), new BigDecimal("50"));
+
+        // then
+        assertThat(first).isEqualTo(2);
+        assertThat(second).isEqualTo(2);
+        assertThat(ledger.remaining(ACCOUNT)).isEqualByComparingTo("20");
+    }
+
+    @Test
+    @DisplayName("기준이 유효하면 이후 조회값으로 덮어쓰지 않음")
+    void open_keepsExistingBalance() {
+        // given
+        ledger.open(ACCOUNT, new BigDecimal("300"));
+        ledger.reserve(ACCOUNT, new BigDecimal("300"), new BigDecimal("100"));
+
+        // when
+        ledger.open(ACCOUNT, new BigDecimal("300"));
+
+        // then
+        assertThat(ledger.remaining(ACCOUNT)).isEqualByComparingTo("0");
+        assertThat(ledger.reserve(ACCOUNT, new BigDecimal("300"), new BigDecimal("100"))).isZero();
+    }
+
+    @Test
+    @DisplayName("주문 실패 시 예약 금액 반환")
+    void release_restoresReservation() {
+        // given
+        ledger.open(ACCOUNT, new BigDecimal("100"));
+        int quantity = ledger.reserve(ACCOUNT, new BigDecimal("100"), new BigDecimal("30"));
+
+        // when
+        ledger.release(ACCOUNT, new BigDecimal("30").multiply(BigDecimal.valueOf(quantity)));
+
+        // then
+        assertThat(ledger.remaining(ACCOUNT)).isEqualByComparingTo("100");
+    }
+
+    @Test
+    @DisplayName("기준이 없으면 예약하지 않음")
+    void reserve_withoutBalance() {
+        assertThat(ledger.reserve(ACCOUNT, new BigDecimal("100"), new BigDecimal("10"))).isZero();
+        assertThat(ledger.isOpen(ACCOUNT)).isFalse();
+    }
+}
@@ -0,0 +1,226 @@
+package com.stock.trade.scheduler;
+
+import com.stock.trade.account.KisAccount;
+import com.stock.trade.account.KisAccountRegistry;
+import com.stock.trade.config.KisMode;
+import com.stock.trade.overseas.OverseasExchange;
+import com.stock.trade.overseas.OverseasOrderRequest;
+import com.stock.trade.overseas.OverseasOrderResult;
+import com.stock.trade.overseas.OverseasOrderService;
+import com.stock.trade.overseas.OverseasOrderType;
+import com.stock.trade.websocket.KisRealtimeService;
+import com.stock.trade.websocket.RealtimeFrame;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.TaskScheduler;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UnfilledOrderMonitorTest {
+
+    private static final KisAccount ACCOUNT =
+            new KisAccount("demo", KisMode.DEMO, "key", "secret", "50160641", "01", "hts");
+
+    private ScheduledPurchaseProperties properties;
+    private OverseasOrderService orderService;
+    private List<ScheduledTask> scheduled;
+    private UnfilledOrderMonitor monitor;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        properties = new ScheduledPurchaseProperties();
+        properties.setEnabled(true);
+        properties.getMonitor().setEnabled(true);
+        properties.getMonitor().setFallbackBeforeClose(Duration.ofMillis(1));
+        ScheduledPurchaseProperties.StockPurchaseConfig config = new ScheduledPurchaseProperties.StockPurchaseConfig();
+        config.setExchange("NASDAQ");
+        config.setSymbol("QLD");
+        properties.setStocks(List.of(config));
+
+        KisAccountRegistry accountRegistry = mock(KisAccountRegistry.class);
+        when(accountRegistry.getDefault()).thenReturn(ACCOUNT);
+
+        orderService = mock(OverseasOrderService.class);
+        when(orderService.getUnfilledOrdersAsync(any(KisAccount.class), any(OverseasExchange.class)))
+                .thenReturn(Mono.just(List.of()));
+
+        scheduled = new ArrayList<>();
+        TaskScheduler taskScheduler = mock(TaskScheduler.class);
+        when(taskScheduler.schedule(any(Runnable.class), any(Instant.class))).thenAnswer(invocation -> {
+            scheduled.add(new ScheduledTask(invocation.getArgument(0), invocation.getArgument(1)));
+            return mock(ScheduledFuture.class);
+        });
+
+        ObjectProvider<KisRealtimeService> realtimeService = mock(ObjectProvider.class);
+        when(realtimeService.getObject()).thenReturn(mock(KisRealtimeService.class));
+
+        monitor = new UnfilledOrderMonitor(properties, accountRegistry, orderService, taskScheduler, realtimeService);
+        monitor.start();
+    }
+
+    @Test
+    @DisplayName("접수 통보로 추적을 시작하고 시장가 전환/마감 정리를 예약")
+    void receipt_tracksOrder() {
+        // when
+        notice("0001", "", "0", "100.00", "0", "1", "10");
+
+        // then
+        assertThat(monitor.getOpenOrderCount()).isEqualTo(1);
+        assertThat(scheduled).hasSize(2);
+        assertThat(scheduled.get(0).at()).isBefore(scheduled.get(1).at());
+    }
+
+    @Test
+    @DisplayName("부분 체결은 잔량만 줄이고 전량 체결 시 추적 종료")
+    void fill_untracksWhenFullyFilled() {
+        // given
+        notice("0001", "", "0", "100.00", "0", "1", "10");
+
+        // when
+        notice("0001", "", "0", "100.00", "4", "2", "10");
+        int afterPartial = monitor.getOpenOrderCount();
+        notice("0001", "", "0", "100.00", "6", "2", "10");
+
+        // then
+        assertThat(afterPartial).isEqualTo(1);
+        assertThat(monitor.getOpenOrderCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("정정 통보는 원주문을 새 주문번호로 교체")
+    void amend_replacesOriginal() {
+        // given
+        notice("0001", "", "0", "100.00", "0", "1", "10");
+
+        // when
+        notice("0002", "0001", "1", "103.00", "0", "1", "10");
+
+        // then
+        assertThat(monitor.getOpenOrderCount()).isEqualTo(1);
+        assertThat(scheduled).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("취소 통보는 원주문 추적 종료")
+    void cancel_untracksOriginal() {
+        // given
+        notice("0001", "", "0", "100.00", "0", "1", "10");
+
+        // when
+        notice("0003", "0001", "2", "0", "0", "1", "10");
+
+        // then
+        assertThat(monitor.getOpenOrderCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("시장가 전환은 주문당 한 번, 전환된 MOC 주문은 다시 전환/재주문하지 않음")
+    void fallback_convertsOncePerOrder() {
+        // given
+        when(orderService.cancelOrderAsync(any(KisAccount.class), any(OverseasExchange.class), anyString(), anyString(), anyInt()))
+                .thenReturn(Mono.just(new OverseasOrderResult("", "0001", "")));
+        when(orderService.buyAsync(any(KisAccount.class), any(OverseasOrderRequest.class)))
+                .thenReturn(Mono.just(new OverseasOrderResult("", "0002", "")));
+        notice("0001", "", "0", "100.00", "0", "1", "10");
+        Runnable fallback = scheduled.get(0).task();
+
+        // when
+        fallback.run();
+        fallback.run();
+        notice("0002", "", "0", "0", "0", "1", "10");
+        price("120.0000");
+
+        // then
+        ArgumentCaptor<OverseasOrderRequest> request = ArgumentCaptor.forClass(OverseasOrderRequest.class);
+        verify(orderService, times(1)).buyAsync(eq(ACCOUNT), request.capture());
+        assertThat(request.getValue().getOrderType()).isEqualTo(OverseasOrderType.MARKET_ON_CLOSE);
+        verify(orderService, never()).amendOrderAsync(any(KisAccount.class), any(OverseasExchange.class),
+                anyString(), anyString(), anyInt(), any(BigDecimal.class));
+        assertThat(monitor.getOpenOrderCount()).isEqualTo(1);
+        assertThat(monitor.getPendingReplacementCount()).isZero();
+        // 원주문 전환/마감 2건 + 주문 응답이 먼저 와 예약한 재주문 내역 정리 1건 + MOC 마감 정리 1건 (MOC 전환 예약 없음)
+        assertThat(scheduled).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("재주문 체결통보가 주문 응답보다 먼저 와도 재주문 내역을 남기지 않음")
+    void replacement_noticeBeforeReply() {
+        // given
+        Sinks.One<OverseasOrderResult> reply = Sinks.one();
+        when(orderService.cancelOrderAsync(any(KisAccount.class), any(OverseasExchange.class), anyString(), anyString(), anyInt()))
+                .thenReturn(Mono.just(new OverseasOrderResult("", "0001", "")));
+        when(orderService.buyAsync(any(KisAccount.class), any(OverseasOrderRequest.class)))
+                .thenReturn(reply.asMono());
+        notice("0001", "", "0", "100.00", "0", "1", "10");
+        scheduled.get(0).task().run();
+
+        // when
+        notice("0002", "", "0", "0", "0", "1", "10");
+        reply.tryEmitValue(new OverseasOrderResult("", "0002", ""));
+
+        // then
+        assertThat(monitor.getPendingReplacementCount()).isZero();
+        assertThat(monitor.getOpenOrderCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("시장가 전환 시점 이후 추적한 주문은 전환을 예약하지 않음")
+    void track_afterFallbackTime() {
+        // given
+        properties.getMonitor().setFallbackBeforeClose(Duration.ofDays(7));
+
+        // when
+        notice("0001", "", "0", "100.00", "0", "1", "10");
+
+        // then
+        assertThat(monitor.getOpenOrderCount()).isEqualTo(1);
+        assertThat(scheduled).hasSize(1);
+    }
+
+    /**
+     * 해외 체결통보 (복호화 후 필드)
+     */
+    private void notice(String orderNumber, String originalOrderNumber, String correctionCode, String price,
+                        String filledQuantity, String filled, String orderQuantity) {
+        String[] fields = {"hts", "5016064101", orderNumber, originalOrderNumber, "02", correctionCode, "00",
+                "QLD", filledQuantity, price, "093000", "0", filled, "Y", "001", orderQuantity};
+        RealtimeFrame frame = new RealtimeFrame();
+        frame.reset("0|H0GSCNI9|001|" + String.join("^", fields));
+        monitor.onRealtimeFrame(frame);
+    }
+
+    /**
+     * 해외 실시간 체결가 (10: 현재가)
+     */
+    private void price(String currentPrice) {
+        String[] fields = {"DNASQLD", "4", "20261016", "20261016", "093000", "20261016", "223000",
+                "100.0000", "121.0000", "99.0000", currentPrice};
+        RealtimeFrame frame = new RealtimeFrame();
+        frame.reset("0|HDFSCNT0|001|" + String.join("^", fields));
+        monitor.onRealtimeFrame(frame);
+    }
+
+    private record ScheduledTask(Runnable task, Instant at) {}
+}
@@ -0,0 +1,93 @@
+package com.stock.trade.support;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.mock.http.client.reactive.MockClientHttpRequest;
+import org.springframework.web.reactive.function.BodyInserter;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * KIS 서버 대역 (WebClient 요청과 본문을 기록하고 고정 JSON 으로 응답)
+ */
+public class RecordingExchangeFunction implements ExchangeFunction {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final String responseBody;
+    private final List<ClientRequest> requests = new CopyOnWriteArrayList<>();
+    private final List<String> bodies = new CopyOnWriteArrayList<>();
+
+    public RecordingExchangeFunction(String responseBody) {
+        this.responseBody = responseBody;
+    }
+
+    public WebClient webClient() {
+        return WebClient.builder().exchangeFunction(this).build();
+    }
+
+    @Override
+    public Mono<ClientResponse> exchange(ClientRequest request) {
+        MockClientHttpRequest captured = new MockClientHttpRequest(request.method(), request.url());
+        return request.body().insert(captured, new WriterContext())
+                .then(Mono.defer(captured::getBodyAsString))
+                .defaultIfEmpty("")
+                .map(body -> {
+                    requests.add(request);
+                    bodies.add(body);
+                    return ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body(responseBody)
+                            .build();
+                });
+    }
+
+    public List<ClientRequest> requests() {
+        return requests;
+    }
+
+    public ClientRequest lastRequest() {
+        return requests.getLast();
+    }
+
+    /**
+     * 마지막 요청의 JSON 본문
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, String> lastBody() {
+        return OBJECT_MAPPER.readValue(bodies.getLast(), Map.class);
+    }
+
+    private static final class WriterContext implements BodyInserter.Context {
+
+        private final ExchangeStrategies strategies = ExchangeStrategies.withDefaults();
+
+        @Override
+        public List<HttpMessageWriter<?>> messageWriters() {
+            return strategies.messageWriters();
+        }
+
+        @Override
+        public Optional<ServerHttpRequest> serverRequest() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Map<String, Object> hints() {
+            return Map.of();
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.stock.trade.token;
+
+import com.stock.trade.account.KisAccount;
+import com.stock.trade.config.KisMode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KisCredentialStoreTest {
+
+    private static final KisAccount ACCOUNT =
+            new KisAccount("real", KisMode.REAL, "key", "secret", "12345678", "01", "hts");
+    private static final Instant EXPIRES_AT = Instant.now().plus(20, ChronoUnit.HOURS).truncatedTo(ChronoUnit.MILLIS);
+
+    @TempDir
+    Path directory;
+
+    private KisTokenProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new KisTokenProperties();
+        properties.getCache().setDirectory(directory);
+    }
+
+    @Test
+    @DisplayName("저장한 값과 만료 시각을 그대로 읽음")
+    void saveAndLoad_roundTrip() throws IOException {
+        // given
+        newStore().save(ACCOUNT, "token", "token-1", EXPIRES_AT);
+
+        // when - 재시작 후 새 인스턴스로 읽기
+        Optional<KisCredentialStore.StoredCredential> loaded = newStore().load(ACCOUNT, "token");
+
+        // then
+        assertThat(loaded).contains(new KisCredentialStore.StoredCredential("token-1", EXPIRES_AT));
+        byte[] content = Files.readAllBytes(directory.resolve("token-real.bin"));
+        assertThat(new String(content, StandardCharsets.ISO_8859_1)).doesNotContain("token-1");
+    }
+
+    @Test
+    @DisplayName("종류가 다르면 따로 저장")
+    void load_separatedByKind() {
+        // given
+        KisCredentialStore store = newStore();
+        store.save(ACCOUNT, "token", "token-1", EXPIRES_AT);
+
+        // when & then
+        assertThat(store.load(ACCOUNT, "ws-approval-key")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("App Key 가 바뀌면 저장된 값을 쓰지 않음")
+    void load_rejectsChangedAppKey() {
+        // given
+        newStore().save(ACCOUNT, "token", "token-1", EXPIRES_AT);
+        KisAccount rotated = new KisAccount("real", KisMode.REAL, "new-key", "secret", "12345678", "01", "hts");
+
+        // when & then
+        assertThat(newStore().load(rotated, "token")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 계좌 ID 라도 실전/모의가 바뀌면 저장된 값을 쓰지 않음")
+    void load_rejectsChangedMode() {
+        // given
+        newStore().save(ACCOUNT, "token", "token-1", EXPIRES_AT);
+        KisAccount demo = new KisAccount("real", KisMode.DEMO, "key", "secret", "12345678", "01", "hts");
+
+        // when & then
+        assertThat(newStore().load(demo, "token")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("passphrase 가 바뀌면 저장된 값을 쓰지 않음")
+    void load_rejectsChangedPassphrase() {
+        // given
+        properties.getCache().setPassphrase("first");
+        newStore().save(ACCOUNT, "token", "token-1", EXPIRES_AT);
+        properties.getCache().setPassphrase("second");
+
+        // when & then
+        assertThat(newStore().load(ACCOUNT, "token")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("손상되거나 잘린 파일은 캐시 없음으로 처리")
+    void load_ignoresCorruptFile() throws IOException {
+        // given
+        newStore().save(ACCOUNT, "token", "token-1", EXPIRES_AT);
+        Path file = directory.resolve("token-real.bin");
+        byte[] content = Files.readAllBytes(file);
+
+        // when & then - 암호문 변조
+        byte[] tampered = content.clone();
+        tampered[tampered.length - 1] ^= 1;
+        Files.write(file, tampered);
+        assertThat(newStore().load(ACCOUNT, "token")).isEmpty();
+
+        // when & then - 중간에서 잘림
+        Files.write(file, Arrays.copyOf(content, 5));
+        assertThat(newStore().load(ACCOUNT, "token")).isEmpty();
+
+        // when & then - 빈 파일
+        Files.write(file, new byte[0]);
+        assertThat(newStore().load(ACCOUNT, "token")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("만료된 값도 읽기는 하고 만료 판단은 호출자에 맡김")
+    void load_returnsExpiredEntryAsStored() {
+        // given
+        Instant expired = Instant.now().minus(1, ChronoUnit.HOURS).truncatedTo(ChronoUnit.MILLIS);
+        newStore().save(ACCOUNT, "token", "token-1", expired);
+
+        // when & then
+        assertThat(newStore().load(ACCOUNT, "token")).map(KisCredentialStore.StoredCredential::expiresAt)
+                .contains(expired);
+    }
+
+    @Test
+    @DisplayName("저장 후 임시 파일이 남지 않고 덮어쓰면 마지막 값만 남음")
+    void save_leavesNoTempFile() throws IOException {
+        // given
+        KisCredentialStore store = newStore();
+
+        // when
+        store.save(ACCOUNT, "token", "token-1", EXPIRES_AT);
+        store.save(ACCOUNT, "token", "token-2", EXPIRES_AT);
+
+        // then
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files.map(path -> path.getFileName().toString())).containsExactly("token-real.bin");
+        }
+        assertThat(store.load(ACCOUNT, "token")).map(KisCredentialStore.StoredCredential::value).contains("token-2");
+    }
+
+    @Test
+    @DisplayName("캐시를 끄면 파일을 만들지 않음")
+    void save_disabled() throws IOException {
+        // given
+        properties.getCache().setEnabled(false);
+        KisCredentialStore store = newStore();
+
+        // when
+        store.save(ACCOUNT, "token", "token-1", EXPIRES_AT);
+
+        // then
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files).isEmpty();
+        }
+        assertThat(store.load(ACCOUNT, "token")).isEmpty();
+    }
+
+    private KisCredentialStore newStore() {
+        return new KisCredentialStore(properties);
+    }
+}
@@ -0,0 +1,231 @@
+package com.stock.trade.token;
+
+import com.stock.trade.account.KisAccount;
+import com.stock.trade.account.KisAccountRegistry;
+import com.stock.trade.config.KisMode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class KisTokenManagerTest {
+
+    private static final KisAccount ACCOUNT =
+            new KisAccount("real", KisMode.REAL, "key", "secret", "12345678", "01", "hts");
+
+    private final AtomicInteger tokenIssues = new AtomicInteger();
+    private final AtomicInteger approvalIssues = new AtomicInteger();
+    private volatile boolean tokenFailing;
+    private volatile CountDownLatch tokenRequested;
+    private volatile CountDownLatch tokenGate;
+
+    private KisTokenProperties properties;
+    private KisCredentialStore credentialStore;
+    private List<ScheduledRefresh> scheduled;
+    private KisTokenManager tokenManager;
+
+    @BeforeEach
+    void setUp() {
+        properties = new KisTokenProperties();
+        credentialStore = mock(KisCredentialStore.class);
+
+        KisAccountRegistry accountRegistry = mock(KisAccountRegistry.class);
+        when(accountRegistry.getDefault()).thenReturn(ACCOUNT);
+
+        // 갱신 예약은 실행하지 않고 기록만 (테스트가 직접 실행)
+        scheduled = new CopyOnWriteArrayList<>();
+        ScheduledExecutorService refresher = mock(ScheduledExecutorService.class);
+        when(refresher.schedule(any(Runnable.class), anyLong(), any(TimeUnit.class))).thenAnswer(invocation -> {
+            TimeUnit unit = invocation.getArgument(2);
+            scheduled.add(new ScheduledRefresh(invocation.getArgument(0),
+                    Duration.of(invocation.<Long>getArgument(1), unit.toChronoUnit())));
+            return mock(ScheduledFuture.class);
+        });
+
+        WebClient kisWebClient = WebClient.builder().exchangeFunction(this::kisServer).build();
+        tokenManager = new KisTokenManager(accountRegistry, properties, kisWebClient, Schedulers.immediate(),
+                credentialStore, refresher);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tokenManager.destroy();
+    }
+
+    @Test
+    @DisplayName("발급 시 만료 refreshAhead 전으로 갱신 예약")
+    void issue_schedulesRefreshAheadOfExpiry() {
+        // when
+        String token = tokenManager.getAccessToken();
+
+        // then
+        assertThat(token).isEqualTo("token-1");
+        assertThat(scheduled).hasSize(1);
+        assertThat(scheduled.getFirst().delay().toMillis())
+                .isCloseTo(Duration.ofSeconds(86400).minus(properties.getRefreshAhead()).toMillis(), within(5_000L));
+    }
+
+    @Test
+    @DisplayName("남은 시간이 refreshAhead 보다 짧아도 갱신은 retryMinBackoff 이후로 예약")
+    void issue_refreshNotBeforeMinBackoff() {
+        // given
+        properties.setRefreshAhead(Duration.ofHours(25));
+
+        // when
+        tokenManager.getAccessToken();
+
+        // then
+        assertThat(scheduled.getFirst().delay()).isEqualTo(properties.getRetryMinBackoff());
+    }
+
+    @Test
+    @DisplayName("백그라운드 갱신 실패 시 retryMinBackoff 부터 두 배씩, retryMaxBackoff 에서 멈춤")
+    void refreshFailure_backoffClamped() {
+        // given
+        tokenManager.getAccessToken();
+        tokenFailing = true;
+
+        // when
+        for (int i = 0; i < 6; i++) {
+            scheduled.getLast().task().run();
+        }
+
+        // then
+        assertThat(scheduled.subList(1, scheduled.size())).extracting(ScheduledRefresh::delay).containsExactly(
+                Duration.ofMinutes(1), Duration.ofMinutes(2), Duration.ofMinutes(4), Duration.ofMinutes(8),
+                Duration.ofMinutes(10), Duration.ofMinutes(10));
+        assertThat(tokenManager.getAccessToken()).isEqualTo("token-1");
+    }
+
+    @Test
+    @DisplayName("토큰이 유효하면 백그라운드 갱신이 발급 중이어도 요청 스레드는 기다리지 않음")
+    void readers_doNotBlockDuringRefresh() throws Exception {
+        // given
+        tokenManager.getAccessToken();
+        tokenRequested = new CountDownLatch(1);
+        tokenGate = new CountDownLatch(1);
+        Thread refreshing = new Thread(scheduled.getFirst().task());
+        refreshing.start();
+        assertThat(tokenRequested.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        String duringRefresh = CompletableFuture.supplyAsync(tokenManager::getAccessToken).get(1, TimeUnit.SECONDS);
+        String header = tokenManager.getAuthorizationHeaderAsync(ACCOUNT).block(Duration.ofSeconds(1));
+        tokenGate.countDown();
+        refreshing.join(5_000);
+
+        // then
+        assertThat(duringRefresh).isEqualTo("token-1");
+        assertThat(header).isEqualTo("Bearer token-1");
+        assertThat(tokenManager.getAccessToken()).isEqualTo("token-2");
+    }
+
+    @Test
+    @DisplayName("액세스 토큰과 WebSocket 접속키는 각자 갱신")
+    void tokenAndApprovalKey_refreshIndependently() {
+        // given
+        tokenManager.getAccessToken();
+        tokenManager.getWsApprovalKey();
+        ScheduledRefresh tokenRefresh = scheduled.get(0);
+        ScheduledRefresh approvalKeyRefresh = scheduled.get(1);
+
+        // when
+        tokenRefresh.task().run();
+
+        // then
+        assertThat(tokenManager.getAccessToken()).isEqualTo("token-2");
+        assertThat(tokenManager.getWsApprovalKey()).isEqualTo("approval-1");
+        assertThat(approvalIssues).hasValue(1);
+
+        // when - 토큰 발급이 실패해도 접속키 갱신은 진행
+        tokenFailing = true;
+        approvalKeyRefresh.task().run();
+
+        // then
+        assertThat(tokenManager.getWsApprovalKey()).isEqualTo("approval-2");
+        assertThat(tokenIssues).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("저장된 토큰이 유효하면 발급 없이 복원하고, 만료 임박이면 새로 발급해 저장")
+    void restore_usesStoredCredentialUntilExpiryMargin() {
+        // given
+        when(credentialStore.load(ACCOUNT, "token")).thenReturn(Optional.of(
+                new KisCredentialStore.StoredCredential("stored", Instant.now().plus(Duration.ofHours(10)))));
+        when(credentialStore.load(ACCOUNT, "ws-approval-key")).thenReturn(Optional.of(
+                new KisCredentialStore.StoredCredential("stored-key", Instant.now().plus(Duration.ofMinutes(30)))));
+
+        // when
+        String token = tokenManager.getAccessToken();
+        String approvalKey = tokenManager.getWsApprovalKey();
+
+        // then
+        assertThat(token).isEqualTo("stored");
+        assertThat(tokenIssues).hasValue(0);
+        assertThat(approvalKey).isEqualTo("approval-1");
+        verify(credentialStore).save(eq(ACCOUNT), eq("ws-approval-key"), eq("approval-1"), any(Instant.class));
+        verify(credentialStore, never()).save(eq(ACCOUNT), eq("token"), any(), any());
+    }
+
+    /**
+     * KIS 발급 서버 대역
+     */
+    private Mono<ClientResponse> kisServer(ClientRequest request) {
+        return Mono.fromCallable(() -> {
+            if (request.url().getPath().equals("/oauth2/Approval")) {
+                return json("{\"approval_key\":\"approval-" + approvalIssues.incrementAndGet() + "\"}");
+            }
+
+            CountDownLatch requested = tokenRequested;
+            CountDownLatch gate = tokenGate;
+            if (requested != null && gate != null) {
+                requested.countDown();
+                gate.await();
+            }
+            if (tokenFailing) {
+                return ClientResponse.create(HttpStatus.FORBIDDEN).build();
+            }
+            return json("{\"access_token\":\"token-" + tokenIssues.incrementAndGet()
+                    + "\",\"token_type\":\"Bearer\",\"expires_in\":86400}");
+        });
+    }
+
+    private static ClientResponse json(String body) {
+        return ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build();
+    }
+
+    private record ScheduledRefresh(Runnable task, Duration delay) {}
+}
@@ -0,0 +1,88 @@
+package com.stock.trade.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KisPageTest {
+
+    @Test
+    @DisplayName("tr_cont 가 M 이면 연속조회키로 다음 페이지 요청")
+    void stream_followsContinuation() {
+        // given
+        List<String> requests = new ArrayList<>();
+
+        // when
+        List<String> items = KisPage.<String>stream(previous -> {
+            requests.add(KisPage.trCont(previous) + "/" + KisPage.ctxAreaNk(previous));
+            if (previous == null) {
+                return Mono.just(new KisPage<>(List.of("AAPL", "TSLA"), "M", "FK1", "NK1"));
+            }
+            return Mono.just(new KisPage<>(List.of("NVDA"), "D", "FK2", "NK2"));
+        }).collectList().block();
+
+        // then
+        assertThat(items).containsExactly("AAPL", "TSLA", "NVDA");
+        assertThat(requests).containsExactly("/", "N/NK1");
+    }
+
+    @Test
+    @DisplayName("다음 페이지는 구독 수요가 있을 때만 요청")
+    void stream_pagesLazily() {
+        // given
+        List<String> fetched = new ArrayList<>();
+        List<String> received = new ArrayList<>();
+
+        // when - 1건만 요청
+        KisPage.<String>stream(previous -> fetch(fetched, previous)).subscribe(new BaseSubscriber<>() {
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) {
+                request(1);
+            }
+
+            @Override
+            protected void hookOnNext(String value) {
+                received.add(value);
+            }
+        });
+
+        // then - 첫 페이지 항목이 남아 있으므로 다음 페이지 미요청
+        assertThat(received).containsExactly("P1-A");
+        assertThat(fetched).containsExactly("/");
+    }
+
+    @Test
+    @DisplayName("take 로 필요한 만큼만 받으면 그 항목이 있는 페이지까지만 요청")
+    void stream_stopsAfterTake() {
+        // given
+        List<String> fetched = new ArrayList<>();
+
+        // when - 페이지당 2건, 3건만 사용
+        List<String> items = KisPage.<String>stream(previous -> fetch(fetched, previous))
+                .take(3)
+                .collectList()
+                .block();
+
+        // then - 첫 페이지, 두 번째 페이지만 요청하고 세 번째는 요청하지 않음
+        assertThat(items).containsExactly("P1-A", "P1-B", "P2-A");
+        assertThat(fetched).containsExactly("/", "N/NK1");
+    }
+
+    /**
+     * 구독 시점에 요청 기록 (실제 HTTP 호출처럼 구독해야 조회), 항상 다음 페이지 있음
+     */
+    private static Mono<KisPage<String>> fetch(List<String> fetched, KisPage<String> previous) {
+        return Mono.fromSupplier(() -> {
+            fetched.add(KisPage.trCont(previous) + "/" + KisPage.ctxAreaNk(previous));
+            int page = fetched.size();
+            return new KisPage<>(List.of("P" + page + "-A", "P" + page + "-B"), "M", "FK" + page, "NK" + page);
+        });
+    }
+}
@@ -0,0 +1,144 @@
+package com.stock.trade.websocket;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RealtimeFrameTest {
+
+    private static final String TICK = "0|H0UNCNT0|001|005930^093015^71500^2^500^0.70^71000^71200^71800^70900^71500^71400^120^8123456^580123456789";
+
+    @Test
+    @DisplayName("헤더와 필드를 String 분리 없이 읽음")
+    void reset_parsesHeaderAndFields() {
+        // given
+        RealtimeFrame frame = new RealtimeFrame();
+
+        // when
+        boolean valid = frame.reset(TICK);
+
+        // then
+        assertThat(valid).isTrue();
+        assertThat(frame.isEncrypted()).isFalse();
+        assertThat(frame.trId()).isEqualTo(KisTrId.STOCK_CCNL_TOTAL);
+        assertThat(frame.recordCount()).isEqualTo(1);
+        assertThat(frame.fieldCount()).isEqualTo(15);
+        assertThat(frame.field(0)).isEqualTo("005930");
+        assertThat(frame.fieldEquals(3, "2")).isTrue();
+        assertThat(frame.longField(2)).isEqualTo(71500L);
+        assertThat(frame.longField(14)).isEqualTo(580123456789L);
+        assertThat(frame.doubleField(5)).isEqualTo(0.70);
+    }
+
+    @Test
+    @DisplayName("숫자 파싱 결과는 기존 parseLong/parseDouble/BigDecimal 과 같음")
+    void numberFields_matchStringParsers() {
+        // given
+        RealtimeFrame frame = new RealtimeFrame();
+        frame.reset("0|HDFSCNT0|1| 12 ^-3.25^187.1200^^abc^1.5E3^+7^-");
+
+        // then
+        assertThat(frame.longField(0)).isEqualTo(12L);
+        assertThat(frame.doubleField(1)).isEqualTo(Double.parseDouble("-3.25"));
+        assertThat(frame.decimalField(2)).isEqualTo(new BigDecimal("187.1200"));
+        assertThat(frame.longField(3)).isZero();
+        assertThat(frame.decimalField(3)).isEqualTo(BigDecimal.ZERO);
+        assertThat(frame.longField(4)).isZero();
+        assertThat(frame.doubleField(5)).isEqualTo(1500.0);
+        assertThat(frame.decimalField(5)).isEqualTo(new BigDecimal("1.5E3"));
+        assertThat(frame.longField(6)).isEqualTo(7L);
+        assertThat(frame.longField(7)).isZero();
+        assertThat(frame.longField(99)).isZero();
+    }
+
+    @Test
+    @DisplayName("재사용 시 TR ID 인스턴스를 재사용하고 필드 배열은 split 결과와 같음")
+    void reset_reusesTrIdAndMatchesSplit() {
+        // given
+        RealtimeFrame frame = new RealtimeFrame();
+        frame.reset(TICK);
+        String firstTrId = frame.trId();
+
+        // when
+        frame.reset("0|H0UNCNT0|001|000660^093016^^");
+
+        // then
+        assertThat(frame.trId()).isSameAs(firstTrId);
+        assertThat(frame.fields()).containsExactly("000660^093016^^".split("\\^"));
+    }
+
+    @Test
+    @DisplayName("데이터건수가 2 이상이면 TR 별 필드 수로 레코드를 나눔")
+    void reset_splitsRecordsByKnownFieldCount() {
+        // given
+        RealtimeFrame frame = new RealtimeFrame();
+        String first = "DNASAAPL" + "^1".repeat(25);
+        String second = "DNASTSLA" + "^2".repeat(25);
+
+        // when
+        frame.reset("0|HDFSCNT0|002|" + first + "^" + second);
+
+        // then
+        assertThat(frame.recordCount()).isEqualTo(2);
+        assertThat(frame.fieldCount()).isEqualTo(KisTrId.fieldCount(KisTrId.OVERSEAS_STOCK_DELAYED_CCNL));
+        assertThat(frame.field(0)).isEqualTo("DNASAAPL");
+        assertThat(frame.fields()).containsExactly(first.split("\\^"));
+
+        frame.select(1);
+        assertThat(frame.field(0)).isEqualTo("DNASTSLA");
+        assertThat(frame.longField(25)).isEqualTo(2L);
+        assertThat(frame.longField(26)).isZero();
+        assertThat(frame.fields()).containsExactly(second.split("\\^"));
+    }
+
+    @Test
+    @DisplayName("필드 수를 모르는 TR 은 데이터건수로 나누고, 나누어떨어지지 않으면 한 레코드로 취급")
+    void reset_splitsUnknownTrByDeclaredCount() {
+        // given
+        RealtimeFrame frame = new RealtimeFrame();
+
+        // when & then
+        frame.reset("0|H0UPCNT0|003|0001^10^0002^20^0003^30");
+        assertThat(frame.recordCount()).isEqualTo(3);
+        frame.select(2);
+        assertThat(frame.field(0)).isEqualTo("0003");
+        assertThat(frame.longField(1)).isEqualTo(30L);
+
+        frame.reset("0|H0UPCNT0|002|0001^10^0002");
+        assertThat(frame.recordCount()).isEqualTo(1);
+        assertThat(frame.declaredRecordCount()).isEqualTo(2);
+        assertThat(frame.fieldCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("기본 onRealtimeBatch 는 레코드마다 onRealtimeData 호출")
+    void onRealtimeBatch_deliversEveryRecord() {
+        // given
+        RealtimeFrame frame = new RealtimeFrame();
+        frame.reset("0|H0UPCNT0|002|0001^10^0002^20");
+        List<String> received = new ArrayList<>();
+        KisWebSocketListener listener = new KisWebSocketListener() {
+            @Override
+            public void onRealtimeData(String trId, String[] fields) {
+                received.add(trId + ":" + String.join(",", fields));
+            }
+        };
+
+        // when
+        listener.onRealtimeBatch(frame);
+
+        // then
+        assertThat(received).containsExactly("H0UPCNT0:0001,10", "H0UPCNT0:0002,20");
+    }
+
+    @Test
+    @DisplayName("구분자가 부족하면 잘못된 형식")
+    void reset_rejectsMalformed() {
+        assertThat(new RealtimeFrame().reset("0|H0UNCNT0|001")).isFalse();
+    }
+}
@@ -0,0 +1,138 @@
+package com.stock.trade.websocket;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RealtimeLanesTest {
+
+    @Test
+    @DisplayName("같은 종목은 같은 레인에서 수신 순서대로 처리")
+    void submit_keepsOrderPerSymbol() throws InterruptedException {
+        // given
+        Map<String, List<Long>> received = new ConcurrentHashMap<>();
+        Map<String, String> threads = new ConcurrentHashMap<>();
+        CountDownLatch done = new CountDownLatch(300);
+        RealtimeLanes lanes = new RealtimeLanes(config(4, 1000, KisRealtimeProperties.OverflowPolicy.BLOCK),
+                new SimpleMeterRegistry(), frame -> {
+                    String symbol = frame.field(0);
+                    received.computeIfAbsent(symbol, k -> new CopyOnWriteArrayList<>()).add(frame.longField(1));
+                    threads.merge(symbol, Thread.currentThread().getName(),
+                            (previous, current) -> previous.equals(current) ? previous : "moved");
+                    done.countDown();
+                });
+
+        // when
+        RealtimeFrame frame = new RealtimeFrame();
+        for (int seq = 0; seq < 100; seq++) {
+            for (String symbol : List.of("005930", "000660", "035420")) {
+                String payload = "0|H0UNCNT0|001|" + symbol + "^" + seq;
+                frame.reset(payload);
+                lanes.submit(frame, payload);
+            }
+        }
+
+        // then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        lanes.shutdown();
+        for (List<Long> sequence : received.values()) {
+            assertThat(sequence).isSorted().hasSize(100);
+        }
+        assertThat(threads.values()).doesNotContain("moved");
+    }
+
+    @Test
+    @DisplayName("DROP_NEWEST 는 대기열이 가득 차면 새 시세를 폐기하고, 체결통보는 폐기하지 않음")
+    void submit_dropsNewestWhenFull() throws InterruptedException {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RealtimeLanes lanes = new RealtimeLanes(config(1, 1, KisRealtimeProperties.OverflowPolicy.DROP_NEWEST),
+                meterRegistry, frame -> {
+                    started.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+        RealtimeFrame frame = new RealtimeFrame();
+
+        // when
+        assertThat(submit(lanes, frame, "0|H0UNCNT0|001|005930^1")).isTrue();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(submit(lanes, frame, "0|H0UNCNT0|001|005930^2")).isTrue();
+        boolean dropped = !submit(lanes, frame, "0|H0UNCNT0|001|005930^3");
+        release.countDown();
+
+        // then
+        assertThat(dropped).isTrue();
+        assertThat(meterRegistry.get("kis.realtime.lane.dropped").counter().count()).isEqualTo(1.0);
+        assertThat(submit(lanes, frame, "1|H0GSCNI0|001|cipher")).isTrue();
+        lanes.shutdown();
+    }
+
+    @Test
+    @DisplayName("DROP_OLDEST 로 시세가 밀려나도 먼저 들어온 체결통보는 폐기하지 않고 먼저 처리")
+    void submit_keepsNoticeWhenDroppingOldest() throws InterruptedException {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        List<String> trIds = new CopyOnWriteArrayList<>();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch noticed = new CountDownLatch(1);
+        RealtimeLanes lanes = new RealtimeLanes(config(1, 2, KisRealtimeProperties.OverflowPolicy.DROP_OLDEST),
+                meterRegistry, frame -> {
+                    trIds.add(frame.trId());
+                    if (frame.isEncrypted()) {
+                        noticed.countDown();
+                    }
+                    started.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+        RealtimeFrame frame = new RealtimeFrame();
+
+        // when
+        submit(lanes, frame, "0|HDFSCNT0|001|DNASAAPL^0");
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(submit(lanes, frame, "1|H0GSCNI0|001|cipher")).isTrue();
+        for (int seq = 1; seq <= 10; seq++) {
+            assertThat(submit(lanes, frame, "0|HDFSCNT0|001|DNASAAPL^" + seq)).isTrue();
+        }
+        release.countDown();
+
+        // then
+        assertThat(noticed.await(5, TimeUnit.SECONDS)).isTrue();
+        lanes.shutdown();
+        assertThat(trIds.get(1)).isEqualTo("H0GSCNI0");
+        assertThat(meterRegistry.get("kis.realtime.lane.dropped").counter().count()).isEqualTo(8.0);
+    }
+
+    private static boolean submit(RealtimeLanes lanes, RealtimeFrame frame, String payload) {
+        frame.reset(payload);
+        return lanes.submit(frame, payload);
+    }
+
+    private static KisRealtimeProperties.Lanes config(int count, int capacity,
+                                                      KisRealtimeProperties.OverflowPolicy policy) {
+        KisRealtimeProperties.Lanes config = new KisRealtimeProperties.Lanes();
+        config.setCount(count);
+        config.setQueueCapacity(capacity);
+        config.setOverflowPolicy(policy);
+        return config;
+    }
+}
@@ -0,0 +1,79 @@
+package com.stock.trade.websocket;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RealtimeRouterTest {
+
+    @Test
+    @DisplayName("TR ID 를 선언한 리스너는 해당 TR 만, 선언하지 않은 리스너는 모든 TR 수신")
+    void route_byTrId() {
+        // given
+        RealtimeRouter router = new RealtimeRouter();
+        KisWebSocketListener domestic = listener(Set.of(KisTrId.STOCK_CCNL_TOTAL), Set.of());
+        KisWebSocketListener all = listener(Set.of(), Set.of());
+        KisWebSocketListener overseas = listener(Set.of(KisTrId.OVERSEAS_STOCK_DELAYED_CCNL), Set.of());
+
+        // when
+        router.add(domestic);
+        router.add(all);
+        router.add(overseas);
+
+        // then
+        assertThat(router.route(KisTrId.STOCK_CCNL_TOTAL).listeners()).containsExactly(domestic, all);
+        assertThat(router.route(KisTrId.OVERSEAS_STOCK_DELAYED_CCNL).listeners()).containsExactly(all, overseas);
+        assertThat(router.route(KisTrId.INDEX_CCNL).listeners()).containsExactly(all);
+    }
+
+    @Test
+    @DisplayName("종목을 선언한 리스너는 종목 테이블로만 조회")
+    void route_bySymbol() {
+        // given
+        RealtimeRouter router = new RealtimeRouter();
+        KisWebSocketListener aapl = listener(Set.of(KisTrId.OVERSEAS_STOCK_DELAYED_CCNL), Set.of("DNASAAPL"));
+        router.add(aapl);
+
+        // when
+        RealtimeRouter.Route route = router.route(KisTrId.OVERSEAS_STOCK_DELAYED_CCNL);
+
+        // then
+        assertThat(route.listeners()).isEmpty();
+        assertThat(route.subscribers()).containsExactly(aapl);
+        assertThat(route.hasSymbolListeners()).isTrue();
+        assertThat(route.symbolListeners("DNASAAPL")).containsExactly(aapl);
+        assertThat(route.symbolListeners("DNASTSLA")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("리스너 해제 시 테이블에서 제외")
+    void remove_rebuildsTable() {
+        // given
+        RealtimeRouter router = new RealtimeRouter();
+        KisWebSocketListener domestic = listener(Set.of(KisTrId.STOCK_CCNL_TOTAL), Set.of());
+        router.add(domestic);
+
+        // when
+        router.remove(domestic);
+
+        // then
+        assertThat(router.route(KisTrId.STOCK_CCNL_TOTAL).subscribers()).isEmpty();
+    }
+
+    private static KisWebSocketListener listener(Set<String> trIds, Set<String> symbols) {
+        return new KisWebSocketListener() {
+            @Override
+            public Set<String> trIds() {
+                return trIds;
+            }
+
+            @Override
+            public Set<String> symbols() {
+                return symbols;
+            }
+        };
+    }
+}